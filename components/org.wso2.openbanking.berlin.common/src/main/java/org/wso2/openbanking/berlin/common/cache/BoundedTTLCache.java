@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A node local, size bounded cache which evicts entries after a fixed time to live. When the cache is full the
+ * least recently accessed entry is evicted. Hit, miss and eviction counts are recorded for monitoring purposes.
+ *
+ * @param <K> cache key type
+ * @param <V> cache value type
+ */
+public class BoundedTTLCache<K, V> {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final Map<K, CacheEntry<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Creates a cache with the provided bounds.
+     *
+     * @param maxEntries       maximum number of entries held by the cache
+     * @param timeToLiveMillis time in milliseconds an entry is kept after it is added
+     */
+    public BoundedTTLCache(int maxEntries, long timeToLiveMillis) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum cache entries should be a positive value");
+        }
+        if (timeToLiveMillis <= 0) {
+            throw new IllegalArgumentException("Cache time to live should be a positive value");
+        }
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+
+                if (size() > BoundedTTLCache.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key if present and not expired.
+     *
+     * @param key cache key
+     * @return cached value or null if the key is not cached or expired
+     */
+    public V get(K key) {
+
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            if (entry.isExpired(currentTimeMillis())) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Adds a value to the cache replacing any existing value for the key.
+     *
+     * @param key   cache key
+     * @param value value to be cached
+     */
+    public void put(K key, V value) {
+
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, currentTimeMillis() + timeToLiveMillis));
+        }
+    }
+
+    /**
+     * Removes the value of the key from the cache.
+     *
+     * @param key cache key
+     */
+    public void remove(K key) {
+
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     */
+    public void clear() {
+
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes all the expired entries from the cache.
+     */
+    public void removeExpiredEntries() {
+
+        long now = currentTimeMillis();
+        synchronized (entries) {
+            Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxEntries() {
+
+        return maxEntries;
+    }
+
+    public long getTimeToLiveMillis() {
+
+        return timeToLiveMillis;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    /**
+     * Returns the current time used to calculate entry expiry. Exposed to be overridden in tests.
+     *
+     * @return current time in milliseconds
+     */
+    protected long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Holder for a cached value and its expiry time.
+     *
+     * @param <V> cache value type
+     */
+    private static class CacheEntry<V> {
+
+        private final V value;
+        private final long expiryTimeMillis;
+
+        CacheEntry(V value, long expiryTimeMillis) {
+
+            this.value = value;
+            this.expiryTimeMillis = expiryTimeMillis;
+        }
+
+        boolean isExpired(long now) {
+
+            return now >= expiryTimeMillis;
+        }
+    }
+}
@@ -45,32 +45,59 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
 /**
  * Config parser for Berlin toolkit.
+ *
+ * <p>The configuration file is parsed into an immutable configuration snapshot which is published through a
+ * volatile reference, so that the getters only read final fields of the current snapshot. The file is checked for
+ * changes periodically and a changed file is parsed into a new snapshot which replaces the current one as a whole.
+ * Components which are initialised from the configuration at start-up keep their initial values until restart.
+ * Components which keep data derived from the configuration register a reload listener to discard it once the
+ * configuration is reloaded.</p>
  */
 public class CommonConfigParser {
 
     // To enable attempted thread-safety using double-check locking
     private static final Object lock = new Object();
     private static final Log log = LogFactory.getLog(CommonConfigParser.class);
+    private static final int DEFAULT_CONFIG_RELOAD_INTERVAL_SECONDS = 30;
 
     private static volatile CommonConfigParser parser;
     private static String configFilePath;
-    private SecretResolver secretResolver;
-    private OMElement rootElement;
 
-    private static final Map<String, Object> configuration = new HashMap<>();
-    private static final Map<String, String> consentMgtConfigs = new HashMap<>();
+    private final File configFile;
+    private final Object reloadLock = new Object();
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile CommonConfigSnapshot snapshot;
+    private long configFileLastModified;
+    private long configFileLength;
 
     /**
      * Private Constructor of config parser.
      */
     private CommonConfigParser() {
 
-        buildConfiguration();
+        this(getConfigFile());
+    }
+
+    /**
+     * Constructor of config parser reading the given configuration file.
+     *
+     * @param configFile configuration file
+     */
+    CommonConfigParser(File configFile) {
+
+        this.configFile = configFile;
+        this.configFileLastModified = configFile.lastModified();
+        this.configFileLength = configFile.length();
+        this.snapshot = buildConfiguration(configFile);
     }
 
     /**
@@ -83,7 +110,9 @@ public class CommonConfigParser {
         if (parser == null) {
             synchronized (lock) {
                 if (parser == null) {
-                    parser = new CommonConfigParser();
+                    CommonConfigParser commonConfigParser = new CommonConfigParser();
+                    commonConfigParser.scheduleConfigReload();
+                    parser = commonConfigParser;
                 }
             }
         }
@@ -103,37 +132,122 @@ public class CommonConfigParser {
     }
 
     /**
-     * Method to read the configuration as a model and put them in the configuration map.
+     * Parses the configuration file again and replaces the current configuration. The current configuration is
+     * retained if the file cannot be parsed.
+     *
+     * @return true if the configuration was reloaded
      */
-    private void buildConfiguration() {
-
-        InputStream inStream = null;
+    public boolean reload() {
 
-        try {
-            if (configFilePath != null) {
-                File openBankingConfigXml = new File(configFilePath);
-                if (openBankingConfigXml.exists()) {
-                    inStream = new FileInputStream(openBankingConfigXml);
-                }
-            } else {
-                File openBankingConfigXml = new File(CarbonUtils.getCarbonConfigDirPath(),
-                        CommonConstants.OB_CONFIG_FILE);
-                if (openBankingConfigXml.exists()) {
-                    inStream = new FileInputStream(openBankingConfigXml);
+        synchronized (reloadLock) {
+            configFileLastModified = configFile.lastModified();
+            configFileLength = configFile.length();
+            try {
+                snapshot = buildConfiguration(configFile);
+            } catch (RuntimeException e) {
+                log.error("Error while reloading the configuration from " + configFile.getPath()
+                        + ". The previous configuration is retained", e);
+                return false;
+            }
+            log.info("Reloaded the configuration from " + configFile.getPath());
+            for (Runnable reloadListener : reloadListeners) {
+                try {
+                    reloadListener.run();
+                } catch (RuntimeException e) {
+                    log.error("Error while notifying a listener of the configuration reload", e);
                 }
             }
-            if (inStream == null) {
-                String message = ErrorConstants.CONFIG_NOT_FOUND + configFilePath;
-                log.error(message);
-                throw new FileNotFoundException(message);
+            return true;
+        }
+    }
+
+    /**
+     * Registers a listener which is notified after every successful reload of the configuration.
+     *
+     * @param reloadListener listener to run after the configuration is reloaded
+     */
+    public void addReloadListener(Runnable reloadListener) {
+
+        reloadListeners.add(reloadListener);
+    }
+
+    /**
+     * Reloads the configuration if the configuration file has changed since it was last read.
+     *
+     * @return true if the configuration was reloaded
+     */
+    public boolean reloadIfModified() {
+
+        synchronized (reloadLock) {
+            if (configFile.lastModified() == configFileLastModified && configFile.length() == configFileLength) {
+                return false;
             }
+            return reload();
+        }
+    }
+
+    /**
+     * Schedules the periodic check for changes of the configuration file.
+     */
+    private void scheduleConfigReload() {
+
+        int intervalSeconds = getConfigReloadIntervalSeconds();
+        if (intervalSeconds <= 0) {
+            log.debug("Reloading the configuration on file change is disabled");
+            return;
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "berlin-config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reloadIfModified, intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method to resolve the configuration file.
+     *
+     * @return configuration file
+     */
+    private static File getConfigFile() {
+
+        File openBankingConfigXml;
+        if (configFilePath != null) {
+            openBankingConfigXml = new File(configFilePath);
+        } else {
+            openBankingConfigXml = new File(CarbonUtils.getCarbonConfigDirPath(), CommonConstants.OB_CONFIG_FILE);
+        }
+        if (!openBankingConfigXml.exists()) {
+            String message = ErrorConstants.CONFIG_NOT_FOUND + configFilePath;
+            log.error(message);
+            throw new OpenBankingRuntimeException(ErrorConstants.CONFIGURATION_BUILD_ERROR,
+                    new FileNotFoundException(message));
+        }
+        return openBankingConfigXml;
+    }
+
+    /**
+     * Method to read the configuration file as a configuration snapshot.
+     *
+     * @param configFile configuration file
+     * @return configuration snapshot
+     */
+    private static CommonConfigSnapshot buildConfiguration(File configFile) {
+
+        InputStream inStream = null;
+
+        try {
+            inStream = new FileInputStream(configFile);
             StAXOMBuilder builder = new StAXOMBuilder(inStream);
             builder.setDoDebug(false);
-            rootElement = builder.getDocumentElement();
-            Stack<String> nameStack = new Stack<>();
-            secretResolver = SecretResolverFactory.create(rootElement, true);
-            readChildElements(rootElement, nameStack);
-            buildConsentManagementConfigs();
+            OMElement rootElement = builder.getDocumentElement();
+            // The whole tree is built before the stream is closed, so that it is never built by request threads
+            rootElement.build();
+            Map<String, Object> configuration = new HashMap<>();
+            SecretResolver secretResolver = SecretResolverFactory.create(rootElement, true);
+            readChildElements(rootElement, new Stack<>(), configuration, secretResolver);
+            return new CommonConfigSnapshot(rootElement, configuration, buildConsentManagementConfigs(rootElement));
         } catch (IOException | XMLStreamException | OMException e) {
             throw new OpenBankingRuntimeException(ErrorConstants.CONFIGURATION_BUILD_ERROR,
                     e);
@@ -155,7 +269,7 @@ public class CommonConfigParser {
      */
     public Map<String, Object> getConfiguration() {
 
-        return configuration;
+        return snapshot.getConfiguration();
     }
 
     /**
@@ -165,16 +279,19 @@ public class CommonConfigParser {
      */
     public Map<String, String> getConsentMgtConfigs() {
 
-        return consentMgtConfigs;
+        return snapshot.getConsentMgtConfigs();
     }
 
     /**
      * Method to read text configs from xml recursively when root element is given.
      *
-     * @param serverConfig XML root element object
-     * @param nameStack    stack of config names
+     * @param serverConfig   XML root element object
+     * @param nameStack      stack of config names
+     * @param configuration  config map to fill
+     * @param secretResolver resolver of the encrypted configs
      */
-    private void readChildElements(OMElement serverConfig, Stack<String> nameStack) {
+    private static void readChildElements(OMElement serverConfig, Stack<String> nameStack,
+                                          Map<String, Object> configuration, SecretResolver secretResolver) {
 
         for (Iterator childElements = serverConfig.getChildElements(); childElements.hasNext(); ) {
             OMElement element = (OMElement) childElements.next();
@@ -204,7 +321,7 @@ public class CommonConfigParser {
                     }
                 }
             }
-            readChildElements(element, nameStack);
+            readChildElements(element, nameStack, configuration, secretResolver);
             nameStack.pop();
         }
     }
@@ -215,7 +332,7 @@ public class CommonConfigParser {
      * @param element root element as a object
      * @return availability of text in the config
      */
-    private boolean elementHasText(OMElement element) {
+    private static boolean elementHasText(OMElement element) {
 
         String text = element.getText();
         return text != null && text.trim().length() != 0;
@@ -227,7 +344,7 @@ public class CommonConfigParser {
      * @param nameStack Stack of strings with names
      * @return key as a String
      */
-    private String getKey(Stack<String> nameStack) {
+    private static String getKey(Stack<String> nameStack) {
 
         StringBuilder key = new StringBuilder();
         for (int index = 0; index < nameStack.size(); index++) {
@@ -244,7 +361,7 @@ public class CommonConfigParser {
      * @param text String that may require modification
      * @return modified string
      */
-    private String replaceSystemProperty(String text) {
+    private static String replaceSystemProperty(String text) {
 
         int indexOfStartingChars = -1;
         int indexOfClosingBrace;
@@ -270,8 +387,9 @@ public class CommonConfigParser {
         return textBuilder.toString();
     }
 
-    private void buildConsentManagementConfigs() {
+    private static Map<String, String> buildConsentManagementConfigs(OMElement rootElement) {
 
+        Map<String, String> consentMgtConfigs = new HashMap<>();
         OMElement consentMgtElement = rootElement.getFirstChildWithName(
                 new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME, CommonConstants.CONSENT_MGT_CONFIG_TAG));
 
@@ -286,18 +404,21 @@ public class CommonConfigParser {
                 consentMgtConfigs.put(parameterTypeName, parameterValues);
             }
         }
-
+        return consentMgtConfigs;
     }
 
     /**
-     * Returns the element with the provided local part.
+     * Returns a copy of the element with the provided local part. The elements of the configuration snapshot are
+     * shared by all threads, so that only copies are handed out.
      *
      * @param localPart local part name
-     * @return Corresponding OMElement
+     * @return Copy of the corresponding OMElement, or null if the element is not configured
      */
     public OMElement getConfigElement(String localPart) {
 
-        return rootElement.getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME, localPart));
+        OMElement configElement = snapshot.getRootElement().getFirstChildWithName(
+                new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME, localPart));
+        return configElement == null ? null : configElement.cloneOMElement();
     }
 
     /**
@@ -307,28 +428,7 @@ public class CommonConfigParser {
      */
     public List<Map<String, String>> getSupportedScaMethods() {
 
-        List<Map<String, String>> supportedScaMethodsList = new ArrayList<>();
-
-        Iterator iterator = getConfigElement(CommonConstants.CONSENT_MGT_CONFIG_TAG)
-                .getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME,
-                        CommonConstants.SCA_CONFIG_TAG))
-                .getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME,
-                        CommonConstants.SUPPORTED_SCA_METHODS_CONFIG_TAG))
-                .getChildElements();
-
-        while (iterator.hasNext()) {
-            Map<String, String> singleMethod = new HashMap<>();
-            OMElement element = (OMElement) iterator.next();
-            Iterator subElements = element.getChildElements();
-
-            while (subElements.hasNext()) {
-                OMElement subElement = (OMElement) subElements.next();
-                singleMethod.put(subElement.getLocalName(), subElement.getText());
-            }
-            supportedScaMethodsList.add(singleMethod);
-        }
-
-        return supportedScaMethodsList;
+        return snapshot.getSupportedScaMethods();
     }
 
     /**
@@ -338,33 +438,11 @@ public class CommonConfigParser {
      */
     public List<Map<String, String>> getSupportedScaApproaches() {
 
-        List<Map<String, String>> supportedScaApproachesList = new ArrayList<>();
-
-        Iterator iterator = getConfigElement(CommonConstants.CONSENT_MGT_CONFIG_TAG)
-                .getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME,
-                        CommonConstants.SCA_CONFIG_TAG))
-                .getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME,
-                        CommonConstants.SUPPORTED_SCA_APPROACHES_CONFIG_TAG))
-                .getChildElements();
-
-        while (iterator.hasNext()) {
-            Map<String, String> singleMethod = new HashMap<>();
-            OMElement element = (OMElement) iterator.next();
-            Iterator subElements = element.getChildElements();
-
-            while (subElements.hasNext()) {
-                OMElement subElement = (OMElement) subElements.next();
-                singleMethod.put(subElement.getLocalName(), subElement.getText());
-            }
-            supportedScaApproachesList.add(singleMethod);
-        }
-
-        return supportedScaApproachesList;
+        return snapshot.getSupportedScaApproaches();
     }
 
     public boolean isScaRequired() {
-        return Boolean.parseBoolean((String) getConfiguration()
-                .get(CommonConstants.SCA_REQUIRED));
+        return snapshot.isScaRequired();
     }
 
     public String getOauthMetadataEndpoint() {
@@ -372,57 +450,48 @@ public class CommonConfigParser {
     }
 
     public boolean isFrequencyPerDayThrottlingEnabled() {
-        return Boolean.parseBoolean((String) getConfiguration().get(CommonConstants.FREQ_PER_DAY_ENABLED));
+        return snapshot.isFrequencyPerDayThrottlingEnabled();
     }
 
     public int getConfiguredMinimumFreqPerDay() {
-        return getConfiguration().get(CommonConstants.FREQ_PER_DAY_CONFIG_VALUE) == null ? 4 :
-                Integer.parseInt((String) getConfiguration().get(CommonConstants.FREQ_PER_DAY_CONFIG_VALUE));
+        return snapshot.getInteger(CommonConstants.FREQ_PER_DAY_CONFIG_VALUE, 4);
     }
 
     public boolean isValidUntilDateCapEnabled() {
-        return getConfiguration().get(CommonConstants.VALID_UNTIL_DATE_CAP_ENABLED) != null
-                && Boolean.parseBoolean((String) getConfiguration().get(CommonConstants.VALID_UNTIL_DATE_CAP_ENABLED));
+        return snapshot.isValidUntilDateCapEnabled();
     }
 
     public int validUntilDaysCap() {
-        return Integer.parseInt(getConfiguration().get(CommonConstants.VALID_UNTIL_DAYS).toString());
+        return snapshot.getInteger(CommonConstants.VALID_UNTIL_DAYS, 0);
     }
 
     public String getApiVersion(String consentType) {
+        Map<String, Object> configuration = getConfiguration();
         if (ConsentTypeEnum.ACCOUNTS.toString().equals(consentType)) {
-            return getConfiguration().get(CommonConstants.AIS_API_VERSION).toString();
+            return configuration.get(CommonConstants.AIS_API_VERSION).toString();
         }
 
         if (ConsentTypeEnum.PAYMENTS.toString().equals(consentType)
                 || ConsentTypeEnum.BULK_PAYMENTS.toString().equals(consentType)
                 || ConsentTypeEnum.PERIODIC_PAYMENTS.toString().equals(consentType)) {
-            return getConfiguration().get(CommonConstants.PIS_API_VERSION).toString();
+            return configuration.get(CommonConstants.PIS_API_VERSION).toString();
         }
 
         if (ConsentTypeEnum.FUNDS_CONFIRMATION.toString().equals(consentType)) {
-            return getConfiguration().get(CommonConstants.PIIS_API_VERSION).toString();
+            return configuration.get(CommonConstants.PIIS_API_VERSION).toString();
         }
 
         return "";
     }
 
     public String getMaxFuturePaymentDays() {
-        return (getConfiguration().get(CommonConstants.MAX_FUTURE_PAYMENT_DAYS) == null) ? "" :
-                (String) getConfiguration().get(CommonConstants.MAX_FUTURE_PAYMENT_DAYS);
+        Object maxFuturePaymentDays = getConfiguration().get(CommonConstants.MAX_FUTURE_PAYMENT_DAYS);
+        return maxFuturePaymentDays == null ? "" : (String) maxFuturePaymentDays;
     }
 
     public List<String> getSupportedAccountReferenceTypes() {
 
-        Object supportedAccountReferenceTypes =
-                getConfiguration().get(CommonConstants.SUPPORTED_ACCOUNT_REFERENCE_TYPES_PATH);
-        List<String> accountReferenceTypes = new ArrayList<>();
-        if (supportedAccountReferenceTypes instanceof ArrayList) {
-            accountReferenceTypes.addAll((ArrayList) supportedAccountReferenceTypes);
-        } else if (supportedAccountReferenceTypes instanceof String) {
-            accountReferenceTypes.add((String) supportedAccountReferenceTypes);
-        }
-        return accountReferenceTypes;
+        return snapshot.getSupportedAccountReferenceTypes();
     }
 
     /**
@@ -432,42 +501,35 @@ public class CommonConfigParser {
      */
     public List<String> getSupportedCodeChallengeMethods() {
 
-        Object supportedCodeChallengeMethods =
-                getConfiguration().get(CommonConstants.SUPPORTED_CODE_CHALLENGE_METHODS);
-        List<String> codeChallengeMethods = new ArrayList<>();
-        if (supportedCodeChallengeMethods instanceof ArrayList) {
-            codeChallengeMethods.addAll((ArrayList) supportedCodeChallengeMethods);
-        } else if (supportedCodeChallengeMethods instanceof String) {
-            codeChallengeMethods.add((String) supportedCodeChallengeMethods);
-        }
-        return codeChallengeMethods;
+        return snapshot.getSupportedCodeChallengeMethods();
     }
 
     public boolean isAccountIdValidationEnabled() {
-        return Boolean.parseBoolean((String) getConfiguration().get(CommonConstants.IS_ACCOUNT_ID_VALIDATION_ENABLED));
+        return snapshot.isAccountIdValidationEnabled();
     }
 
 
     public boolean isAccountIdValidationEnabledForCofConsent() {
-        return Boolean.parseBoolean((String) getConfiguration()
-                .get(CommonConstants.IS_ACCOUNT_ID_VALIDATION_ENABLED_FOR_COF_CONSENT));
+        return snapshot.isAccountIdValidationEnabledForCofConsent();
     }
 
     public String getShareableAccountsRetrieveEndpoint() {
-        if (getConfiguration().get(CommonConstants.SHAREABLE_ACCOUNTS_RETRIEVAL_ENDPOINT) == null) {
+        Object endpoint = getConfiguration().get(CommonConstants.SHAREABLE_ACCOUNTS_RETRIEVAL_ENDPOINT);
+        if (endpoint == null) {
             log.error("Shareable accounts retrieve endpoint is not set");
             return "";
         } else {
-            return ((String) getConfiguration().get(CommonConstants.SHAREABLE_ACCOUNTS_RETRIEVAL_ENDPOINT)).trim();
+            return ((String) endpoint).trim();
         }
     }
 
     public String getPayableAccountsRetrieveEndpoint() {
-        if (getConfiguration().get(CommonConstants.PAYABLE_ACCOUNTS_RETRIEVAL_ENDPOINT) == null) {
+        Object endpoint = getConfiguration().get(CommonConstants.PAYABLE_ACCOUNTS_RETRIEVAL_ENDPOINT);
+        if (endpoint == null) {
             log.error("Payable accounts retrieve endpoint is not set");
             return "";
         } else {
-            return ((String) getConfiguration().get(CommonConstants.PAYABLE_ACCOUNTS_RETRIEVAL_ENDPOINT)).trim();
+            return ((String) endpoint).trim();
         }
     }
 
@@ -482,32 +544,423 @@ public class CommonConfigParser {
     }
 
     public boolean isMultipleRecurringConsentEnabled() {
-        return Boolean.parseBoolean((String) getConfiguration()
-                .get(CommonConstants.MULTIPLE_RECURRING_CONSENT_ENABLED));
+        return snapshot.isMultipleRecurringConsentEnabled();
     }
 
     public List<String> getSupportedHashAlgorithms() {
 
-        Object supportedHashAlgorithms = getConfiguration().get(CommonConstants.SUPPORTED_HASH_ALGORITHMS);
-        List<String> supportedHashAlgorithmsList = new ArrayList<>();
-        if (supportedHashAlgorithms instanceof ArrayList) {
-            supportedHashAlgorithmsList.addAll((ArrayList) supportedHashAlgorithms);
-        } else if (supportedHashAlgorithms instanceof String) {
-            supportedHashAlgorithmsList.add((String) supportedHashAlgorithms);
-        }
-        return supportedHashAlgorithmsList;
+        return snapshot.getSupportedHashAlgorithms();
     }
 
     public List<String> getSupportedSignatureAlgorithms() {
 
-        Object supportedSignatureAlgorithms = getConfiguration().get(CommonConstants.SUPPORTED_SIGNATURE_ALGORITHMS);
-        List<String> supportedSignatureAlgorithmsList = new ArrayList<>();
-        if (supportedSignatureAlgorithms instanceof ArrayList) {
-            supportedSignatureAlgorithmsList.addAll((ArrayList) supportedSignatureAlgorithms);
-        } else if (supportedSignatureAlgorithms instanceof String) {
-            supportedSignatureAlgorithmsList.add((String) supportedSignatureAlgorithms);
-        }
-        return supportedSignatureAlgorithmsList;
+        return snapshot.getSupportedSignatureAlgorithms();
+    }
+
+    /**
+     * Returns the maximum number of parsed signing certificates kept in the gateway signing certificate cache.
+     *
+     * @return maximum cache entries, defaults to 1000
+     */
+    public int getSigningCertificateCacheMaxEntries() {
+
+        return snapshot.getInteger(CommonConstants.SIGNING_CERT_CACHE_MAX_ENTRIES, 1000);
+    }
+
+    /**
+     * Returns the time in minutes a parsed signing certificate is kept in the gateway signing certificate cache.
+     *
+     * @return cache expiry in minutes, defaults to 60
+     */
+    public int getSigningCertificateCacheExpiryMinutes() {
+
+        return snapshot.getInteger(CommonConstants.SIGNING_CERT_CACHE_EXPIRY_MINUTES, 60);
+    }
+
+    /**
+     * Returns the maximum number of certificate revocation statuses kept in the gateway revocation status cache.
+     *
+     * @return maximum cache entries, defaults to 1000
+     */
+    public int getRevocationStatusCacheMaxEntries() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_MAX_ENTRIES, 1000);
+    }
+
+    /**
+     * Returns the time in minutes after which a cached valid revocation status is refreshed.
+     *
+     * @return expiry in minutes, defaults to 60
+     */
+    public int getRevocationStatusCacheValidStatusExpiryMinutes() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_VALID_EXPIRY_MINUTES, 60);
+    }
+
+    /**
+     * Returns the time in minutes after which a cached revoked or failed revocation status is refreshed.
+     *
+     * @return expiry in minutes, defaults to 5
+     */
+    public int getRevocationStatusCacheRevokedStatusExpiryMinutes() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_REVOKED_EXPIRY_MINUTES, 5);
+    }
+
+    /**
+     * Returns the time in minutes an expired revocation status can still be served while it is being refreshed.
+     *
+     * @return maximum staleness in minutes, defaults to 60
+     */
+    public int getRevocationStatusCacheMaxStaleMinutes() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_MAX_STALE_MINUTES, 60);
+    }
+
+    /**
+     * Returns the time in seconds a request waits for the revocation check of a certificate which is not cached.
+     *
+     * @return lookup timeout in seconds, defaults to 10
+     */
+    public int getRevocationStatusCacheLookupTimeoutSeconds() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_LOOKUP_TIMEOUT_SECONDS, 10);
+    }
+
+    /**
+     * Returns the number of background workers performing certificate revocation checks.
+     *
+     * @return number of workers, defaults to 4
+     */
+    public int getRevocationStatusCacheRefreshWorkerCount() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_REFRESH_WORKERS, 4);
+    }
+
+    /**
+     * Returns the time during which the revocation status of a certificate is not checked again after the
+     * responder could not determine it.
+     *
+     * @return backoff in seconds, defaults to 30
+     */
+    public int getRevocationStatusCacheUnknownStatusBackoffSeconds() {
+
+        return snapshot.getInteger(CommonConstants.REVOCATION_STATUS_CACHE_UNKNOWN_STATUS_BACKOFF_SECONDS, 30);
+    }
+
+    /**
+     * Returns the maximum number of pooled connections of the gateway consent status update client.
+     *
+     * @return maximum connections, defaults to 20
+     */
+    public int getConsentStatusUpdateMaxConnections() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_MAX_CONNECTIONS, 20);
+    }
+
+    /**
+     * Returns the maximum number of pooled connections per route of the gateway consent status update client.
+     *
+     * @return maximum connections per route, defaults to 10
+     */
+    public int getConsentStatusUpdateMaxConnectionsPerRoute() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_MAX_CONNECTIONS_PER_ROUTE, 10);
+    }
+
+    /**
+     * Returns the time in seconds to wait for a connection to the consent status update endpoint.
+     *
+     * @return connect timeout in seconds, defaults to 5
+     */
+    public int getConsentStatusUpdateConnectTimeoutSeconds() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_CONNECT_TIMEOUT_SECONDS, 5);
+    }
+
+    /**
+     * Returns the time in seconds to wait for the response of the consent status update endpoint.
+     *
+     * @return socket timeout in seconds, defaults to 10
+     */
+    public int getConsentStatusUpdateSocketTimeoutSeconds() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_SOCKET_TIMEOUT_SECONDS, 10);
+    }
+
+    /**
+     * Returns the maximum number of consent status updates waiting to be sent. Further updates are spilled to disk.
+     *
+     * @return queue size, defaults to 1000
+     */
+    public int getConsentStatusUpdateQueueSize() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_QUEUE_SIZE, 1000);
+    }
+
+    /**
+     * Returns the number of background workers sending consent status updates.
+     *
+     * @return number of workers, defaults to 2
+     */
+    public int getConsentStatusUpdateWorkerCount() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_WORKER_COUNT, 2);
+    }
+
+    /**
+     * Returns the number of times a failed consent status update is retried before it is spilled to disk.
+     *
+     * @return maximum retry count, defaults to 5
+     */
+    public int getConsentStatusUpdateMaxRetryCount() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_MAX_RETRY_COUNT, 5);
+    }
+
+    /**
+     * Returns the delay in seconds before the first retry of a failed consent status update. The delay is doubled
+     * on every further retry.
+     *
+     * @return retry delay in seconds, defaults to 2
+     */
+    public int getConsentStatusUpdateInitialRetryDelaySeconds() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_INITIAL_RETRY_DELAY_SECONDS, 2);
+    }
+
+    /**
+     * Returns the interval in seconds at which pending consent status updates are sent again.
+     *
+     * @return replay interval in seconds, defaults to 60
+     */
+    public int getConsentStatusUpdateSpillReplayIntervalSeconds() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_UPDATE_SPILL_REPLAY_INTERVAL_SECONDS, 60);
+    }
+
+    /**
+     * Returns the journal file of the consent status updates which are not yet delivered.
+     *
+     * @return journal file path, or null if the default file in the data directory of the server is used
+     */
+    public String getConsentStatusUpdateSpillFile() {
+
+        Object spillFile = getConfiguration().get(CommonConstants.CONSENT_STATUS_UPDATE_SPILL_FILE);
+        return spillFile == null ? null : ((String) spillFile).trim();
+    }
+
+    /**
+     * Returns the interval in seconds at which the configuration file is checked for changes. A changed file is
+     * reloaded without a restart.
+     *
+     * @return reload interval in seconds, defaults to 30. Reloading is disabled if the interval is not positive
+     */
+    public int getConfigReloadIntervalSeconds() {
+
+        return snapshot.getInteger(CommonConstants.CONFIG_RELOAD_INTERVAL_SECONDS,
+                DEFAULT_CONFIG_RELOAD_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Returns the time in seconds a validated idempotent request is kept in the idempotency cache, so that retries
+     * of the request are answered without the idempotency key lookup and the consent read. The consent status
+     * returned for a retry can be stale for at most this time. Only read by the identity server.
+     *
+     * @return cache expiry in seconds, defaults to 0. The cache is disabled if the expiry is not positive
+     */
+    public int getIdempotencyCacheExpirySeconds() {
+
+        return snapshot.getInteger(CommonConstants.IDEMPOTENCY_CACHE_EXPIRY_SECONDS, 0);
+    }
+
+    /**
+     * Returns the maximum number of validated idempotent requests kept in the idempotency cache.
+     *
+     * @return maximum cache entries, defaults to 1000
+     */
+    public int getIdempotencyCacheMaxEntries() {
+
+        return snapshot.getInteger(CommonConstants.IDEMPOTENCY_CACHE_MAX_ENTRIES, 1000);
+    }
+
+    /**
+     * Returns the maximum number of parsed consent receipts kept in the receipt cache.
+     *
+     * @return maximum cache entries, defaults to 1000
+     */
+    public int getReceiptCacheMaxEntries() {
+
+        return snapshot.getInteger(CommonConstants.RECEIPT_CACHE_MAX_ENTRIES, 1000);
+    }
+
+    /**
+     * Returns the time in seconds a parsed consent receipt is kept in the receipt cache.
+     *
+     * @return cache expiry in seconds, defaults to 900
+     */
+    public int getReceiptCacheExpirySeconds() {
+
+        return snapshot.getInteger(CommonConstants.RECEIPT_CACHE_EXPIRY_SECONDS, 900);
+    }
+
+    /**
+     * Returns whether consent status transitions of the consent validation, i.e. expiring a consent, are written
+     * behind the validation response through a local journal instead of within the validation.
+     *
+     * @return true if the status write behind is enabled, defaults to false
+     */
+    public boolean isConsentStatusWriteBehindEnabled() {
+
+        Object enabled = getConfiguration().get(CommonConstants.CONSENT_STATUS_WRITE_BEHIND_ENABLED);
+        return enabled != null && Boolean.parseBoolean(((String) enabled).trim());
+    }
+
+    /**
+     * Returns the interval in milliseconds at which consent status transitions written behind are flushed to the
+     * database.
+     *
+     * @return flush interval in milliseconds, defaults to 1000
+     */
+    public int getConsentStatusWriteBehindFlushIntervalMillis() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS, 1000);
+    }
+
+    /**
+     * Returns the maximum number of consent status transitions written to the database in one flush.
+     *
+     * @return maximum batch size, defaults to 100
+     */
+    public int getConsentStatusWriteBehindMaxBatchSize() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_STATUS_WRITE_BEHIND_MAX_BATCH_SIZE, 100);
+    }
+
+    /**
+     * Returns the journal file of the consent status transitions which are not yet written to the database.
+     *
+     * @return journal file path, or null if not configured, in which case the journal is kept in the data directory
+     * of the server
+     */
+    public String getConsentStatusWriteBehindJournalFile() {
+
+        Object journalFile = getConfiguration().get(CommonConstants.CONSENT_STATUS_WRITE_BEHIND_JOURNAL_FILE);
+        return journalFile == null ? null : ((String) journalFile).trim();
+    }
+
+    /**
+     * Returns whether expired account consents are expired by a scheduled background sweep, in addition to being
+     * expired when they are used.
+     *
+     * @return true if the expiry sweeper is enabled, defaults to false
+     */
+    public boolean isConsentExpirySweeperEnabled() {
+
+        Object enabled = getConfiguration().get(CommonConstants.CONSENT_EXPIRY_SWEEPER_ENABLED);
+        return enabled != null && Boolean.parseBoolean(((String) enabled).trim());
+    }
+
+    /**
+     * Returns the interval in minutes between two runs of the consent expiry sweeper.
+     *
+     * @return sweep interval in minutes, defaults to 60
+     */
+    public int getConsentExpirySweeperIntervalMinutes() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_EXPIRY_SWEEPER_INTERVAL_MINUTES, 60);
+    }
+
+    /**
+     * Returns the number of valid consents the consent expiry sweeper reads and expires in one batch.
+     *
+     * @return batch size, defaults to 100
+     */
+    public int getConsentExpirySweeperBatchSize() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_EXPIRY_SWEEPER_BATCH_SIZE, 100);
+    }
+
+    /**
+     * Returns the pause in milliseconds between two batches of the consent expiry sweeper.
+     *
+     * @return batch delay in milliseconds, defaults to 1000
+     */
+    public int getConsentExpirySweeperBatchDelayMillis() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_EXPIRY_SWEEPER_BATCH_DELAY_MILLIS, 1000);
+    }
+
+    /**
+     * Returns the maximum number of valid consents the consent expiry sweeper reads in one run.
+     *
+     * @return maximum consents per run, defaults to 10000
+     */
+    public int getConsentExpirySweeperMaxConsentsPerRun() {
+
+        return snapshot.getInteger(CommonConstants.CONSENT_EXPIRY_SWEEPER_MAX_CONSENTS_PER_RUN, 10000);
+    }
+
+    /**
+     * Returns the maximum number of pooled connections of the client which calls the bank backend during the
+     * consent authorisation.
+     *
+     * @return maximum connections, defaults to 20
+     */
+    public int getBackendHttpClientMaxConnections() {
+
+        return snapshot.getInteger(CommonConstants.BACKEND_HTTP_CLIENT_MAX_CONNECTIONS, 20);
+    }
+
+    /**
+     * Returns the maximum number of pooled connections per route of the client which calls the bank backend.
+     *
+     * @return maximum connections per route, defaults to 10
+     */
+    public int getBackendHttpClientMaxConnectionsPerRoute() {
+
+        return snapshot.getInteger(CommonConstants.BACKEND_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE, 10);
+    }
+
+    /**
+     * Returns the time in seconds to wait for a connection to the bank backend.
+     *
+     * @return connect timeout in seconds, defaults to 5
+     */
+    public int getBackendHttpClientConnectTimeoutSeconds() {
+
+        return snapshot.getInteger(CommonConstants.BACKEND_HTTP_CLIENT_CONNECT_TIMEOUT_SECONDS, 5);
+    }
+
+    /**
+     * Returns the time in seconds to wait for the response of the bank backend.
+     *
+     * @return socket timeout in seconds, defaults to 10
+     */
+    public int getBackendHttpClientSocketTimeoutSeconds() {
+
+        return snapshot.getInteger(CommonConstants.BACKEND_HTTP_CLIENT_SOCKET_TIMEOUT_SECONDS, 10);
+    }
+
+    /**
+     * Returns the time in seconds the accounts retrieved from the bank backend for a PSU are cached, so that
+     * further consent pages of the PSU are rendered without calling the bank backend again.
+     *
+     * @return cache expiry in seconds, defaults to 0. The cache is disabled if the expiry is not positive
+     */
+    public int getAccountListCacheExpirySeconds() {
+
+        return snapshot.getInteger(CommonConstants.ACCOUNT_LIST_CACHE_EXPIRY_SECONDS, 0);
+    }
+
+    /**
+     * Returns the maximum number of account lists kept in the account list cache.
+     *
+     * @return maximum cache entries, defaults to 1000
+     */
+    public int getAccountListCacheMaxEntries() {
+
+        return snapshot.getInteger(CommonConstants.ACCOUNT_LIST_CACHE_MAX_ENTRIES, 1000);
     }
 
     @Generated(message = "Skipped from tests because this method reads config from open-banking.xml")
@@ -539,7 +992,6 @@ public class CommonConfigParser {
 
     public boolean isPaymentDebtorAccountCurrencyValidationEnabled() {
 
-        return Boolean.parseBoolean((String) getConfiguration()
-                .get(CommonConstants.IS_PAYMENT_DEBTOR_ACCOUNT_CURRENCY_VALIDATION_ENABLED));
+        return snapshot.isPaymentDebtorAccountCurrencyValidationEnabled();
     }
 }
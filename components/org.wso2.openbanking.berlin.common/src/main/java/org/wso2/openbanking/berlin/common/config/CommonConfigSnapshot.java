@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.config;
+
+import org.apache.axiom.om.OMElement;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.QName;
+
+/**
+ * Immutable snapshot of the Berlin toolkit configuration.
+ *
+ * <p>A snapshot is built once per parse of the configuration file. The configurations which are read on the request
+ * path are resolved to typed values when the snapshot is built, and all the maps and lists held by the snapshot are
+ * unmodifiable, so that a snapshot can be read by any number of threads without synchronisation. Numeric
+ * configurations are parsed once per snapshot when they are first read, and a value which is not a number is
+ * replaced by the default value of the configuration.</p>
+ */
+final class CommonConfigSnapshot {
+
+    private static final Log log = LogFactory.getLog(CommonConfigSnapshot.class);
+
+    private final OMElement rootElement;
+    private final Map<String, Object> configuration;
+    private final Map<String, String> consentMgtConfigs;
+    private final Map<String, Integer> integerConfigs = new ConcurrentHashMap<>();
+
+    private final List<Map<String, String>> supportedScaMethods;
+    private final List<Map<String, String>> supportedScaApproaches;
+    private final List<String> supportedAccountReferenceTypes;
+    private final List<String> supportedCodeChallengeMethods;
+    private final List<String> supportedHashAlgorithms;
+    private final List<String> supportedSignatureAlgorithms;
+    private final boolean scaRequired;
+    private final boolean frequencyPerDayThrottlingEnabled;
+    private final boolean validUntilDateCapEnabled;
+    private final boolean accountIdValidationEnabled;
+    private final boolean accountIdValidationEnabledForCofConsent;
+    private final boolean multipleRecurringConsentEnabled;
+    private final boolean paymentDebtorAccountCurrencyValidationEnabled;
+
+    CommonConfigSnapshot(OMElement rootElement, Map<String, Object> configuration,
+                         Map<String, String> consentMgtConfigs) {
+
+        this.rootElement = rootElement;
+        this.configuration = Collections.unmodifiableMap(toUnmodifiableValues(configuration));
+        this.consentMgtConfigs = Collections.unmodifiableMap(new HashMap<>(consentMgtConfigs));
+
+        this.supportedScaMethods = readScaConfigs(CommonConstants.SUPPORTED_SCA_METHODS_CONFIG_TAG);
+        this.supportedScaApproaches = readScaConfigs(CommonConstants.SUPPORTED_SCA_APPROACHES_CONFIG_TAG);
+        this.supportedAccountReferenceTypes = getList(CommonConstants.SUPPORTED_ACCOUNT_REFERENCE_TYPES_PATH);
+        this.supportedCodeChallengeMethods = getList(CommonConstants.SUPPORTED_CODE_CHALLENGE_METHODS);
+        this.supportedHashAlgorithms = getList(CommonConstants.SUPPORTED_HASH_ALGORITHMS);
+        this.supportedSignatureAlgorithms = getList(CommonConstants.SUPPORTED_SIGNATURE_ALGORITHMS);
+        this.scaRequired = getBoolean(CommonConstants.SCA_REQUIRED);
+        this.frequencyPerDayThrottlingEnabled = getBoolean(CommonConstants.FREQ_PER_DAY_ENABLED);
+        this.validUntilDateCapEnabled = getBoolean(CommonConstants.VALID_UNTIL_DATE_CAP_ENABLED);
+        this.accountIdValidationEnabled = getBoolean(CommonConstants.IS_ACCOUNT_ID_VALIDATION_ENABLED);
+        this.accountIdValidationEnabledForCofConsent =
+                getBoolean(CommonConstants.IS_ACCOUNT_ID_VALIDATION_ENABLED_FOR_COF_CONSENT);
+        this.multipleRecurringConsentEnabled = getBoolean(CommonConstants.MULTIPLE_RECURRING_CONSENT_ENABLED);
+        this.paymentDebtorAccountCurrencyValidationEnabled =
+                getBoolean(CommonConstants.IS_PAYMENT_DEBTOR_ACCOUNT_CURRENCY_VALIDATION_ENABLED);
+    }
+
+    OMElement getRootElement() {
+
+        return rootElement;
+    }
+
+    Map<String, Object> getConfiguration() {
+
+        return configuration;
+    }
+
+    Map<String, String> getConsentMgtConfigs() {
+
+        return consentMgtConfigs;
+    }
+
+    List<Map<String, String>> getSupportedScaMethods() {
+
+        return supportedScaMethods;
+    }
+
+    List<Map<String, String>> getSupportedScaApproaches() {
+
+        return supportedScaApproaches;
+    }
+
+    List<String> getSupportedAccountReferenceTypes() {
+
+        return supportedAccountReferenceTypes;
+    }
+
+    List<String> getSupportedCodeChallengeMethods() {
+
+        return supportedCodeChallengeMethods;
+    }
+
+    List<String> getSupportedHashAlgorithms() {
+
+        return supportedHashAlgorithms;
+    }
+
+    List<String> getSupportedSignatureAlgorithms() {
+
+        return supportedSignatureAlgorithms;
+    }
+
+    boolean isScaRequired() {
+
+        return scaRequired;
+    }
+
+    boolean isFrequencyPerDayThrottlingEnabled() {
+
+        return frequencyPerDayThrottlingEnabled;
+    }
+
+    boolean isValidUntilDateCapEnabled() {
+
+        return validUntilDateCapEnabled;
+    }
+
+    boolean isAccountIdValidationEnabled() {
+
+        return accountIdValidationEnabled;
+    }
+
+    boolean isAccountIdValidationEnabledForCofConsent() {
+
+        return accountIdValidationEnabledForCofConsent;
+    }
+
+    boolean isMultipleRecurringConsentEnabled() {
+
+        return multipleRecurringConsentEnabled;
+    }
+
+    boolean isPaymentDebtorAccountCurrencyValidationEnabled() {
+
+        return paymentDebtorAccountCurrencyValidationEnabled;
+    }
+
+    /**
+     * Returns the numeric value of the given configuration.
+     *
+     * @param key          configuration key
+     * @param defaultValue value used if the configuration is not present or is not a number
+     * @return configured value or the default value
+     */
+    int getInteger(String key, int defaultValue) {
+
+        return integerConfigs.computeIfAbsent(key, configKey -> {
+            Object value = configuration.get(configKey);
+            if (!(value instanceof String)) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                log.warn("Configuration " + configKey + " is not a number. Using the default value " + defaultValue);
+                return defaultValue;
+            }
+        });
+    }
+
+    private boolean getBoolean(String key) {
+
+        return Boolean.parseBoolean((String) configuration.get(key));
+    }
+
+    private List<String> getList(String key) {
+
+        Object value = configuration.get(key);
+        if (value instanceof List) {
+            List<String> values = new ArrayList<>();
+            for (Object listValue : (List) value) {
+                values.add((String) listValue);
+            }
+            return Collections.unmodifiableList(values);
+        } else if (value instanceof String) {
+            return Collections.singletonList((String) value);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Reads the configurations of each SCA method or approach under the given tag of the SCA configuration.
+     *
+     * @param configTag SupportedSCAMethods or SupportedSCAApproaches
+     * @return list of configurations, empty if the SCA configuration is not present
+     */
+    private List<Map<String, String>> readScaConfigs(String configTag) {
+
+        OMElement scaElement = getChild(getChild(getChild(rootElement, CommonConstants.CONSENT_MGT_CONFIG_TAG),
+                CommonConstants.SCA_CONFIG_TAG), configTag);
+        if (scaElement == null) {
+            return Collections.emptyList();
+        }
+
+        List<Map<String, String>> scaConfigs = new ArrayList<>();
+        Iterator iterator = scaElement.getChildElements();
+        while (iterator.hasNext()) {
+            Map<String, String> scaConfig = new HashMap<>();
+            OMElement element = (OMElement) iterator.next();
+            Iterator subElements = element.getChildElements();
+
+            while (subElements.hasNext()) {
+                OMElement subElement = (OMElement) subElements.next();
+                scaConfig.put(subElement.getLocalName(), subElement.getText());
+            }
+            scaConfigs.add(Collections.unmodifiableMap(scaConfig));
+        }
+        return Collections.unmodifiableList(scaConfigs);
+    }
+
+    private static OMElement getChild(OMElement element, String localPart) {
+
+        return element == null ? null
+                : element.getFirstChildWithName(new QName(CommonConstants.OB_BERLIN_CONFIG_QNAME, localPart));
+    }
+
+    private static Map<String, Object> toUnmodifiableValues(Map<String, Object> configuration) {
+
+        Map<String, Object> unmodifiableConfiguration = new HashMap<>();
+        for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                value = Collections.unmodifiableList(new ArrayList<>((List<?>) value));
+            }
+            unmodifiableConfiguration.put(entry.getKey(), value);
+        }
+        return unmodifiableConfiguration;
+    }
+}
@@ -74,6 +74,40 @@ public class CommonConstants {
             ".Algorithm";
     public static final String SUPPORTED_SIGNATURE_ALGORITHMS = "Gateway.SignatureVerification" +
             ".SupportedSignatureAlgorithms.Algorithm";
+    public static final String SIGNING_CERT_CACHE_MAX_ENTRIES = "Gateway.SignatureVerification" +
+            ".SigningCertificateCache.MaxEntries";
+    public static final String SIGNING_CERT_CACHE_EXPIRY_MINUTES = "Gateway.SignatureVerification" +
+            ".SigningCertificateCache.ExpiryMinutes";
+    public static final String REVOCATION_STATUS_CACHE_MAX_ENTRIES = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.MaxEntries";
+    public static final String REVOCATION_STATUS_CACHE_VALID_EXPIRY_MINUTES = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.ValidStatusExpiryMinutes";
+    public static final String REVOCATION_STATUS_CACHE_REVOKED_EXPIRY_MINUTES = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.RevokedStatusExpiryMinutes";
+    public static final String REVOCATION_STATUS_CACHE_MAX_STALE_MINUTES = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.MaxStaleMinutes";
+    public static final String REVOCATION_STATUS_CACHE_LOOKUP_TIMEOUT_SECONDS = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.LookupTimeoutSeconds";
+    public static final String REVOCATION_STATUS_CACHE_REFRESH_WORKERS = "Gateway.SignatureVerification" +
+            ".RevocationStatusCache.RefreshWorkerCount";
+    public static final String REVOCATION_STATUS_CACHE_UNKNOWN_STATUS_BACKOFF_SECONDS =
+            "Gateway.SignatureVerification.RevocationStatusCache.UnknownStatusBackoffSeconds";
+    public static final String CONSENT_STATUS_UPDATE_MAX_CONNECTIONS = "Gateway.ConsentStatusUpdate.MaxConnections";
+    public static final String CONSENT_STATUS_UPDATE_MAX_CONNECTIONS_PER_ROUTE = "Gateway.ConsentStatusUpdate" +
+            ".MaxConnectionsPerRoute";
+    public static final String CONSENT_STATUS_UPDATE_CONNECT_TIMEOUT_SECONDS = "Gateway.ConsentStatusUpdate" +
+            ".ConnectTimeoutSeconds";
+    public static final String CONSENT_STATUS_UPDATE_SOCKET_TIMEOUT_SECONDS = "Gateway.ConsentStatusUpdate" +
+            ".SocketTimeoutSeconds";
+    public static final String CONSENT_STATUS_UPDATE_QUEUE_SIZE = "Gateway.ConsentStatusUpdate.QueueSize";
+    public static final String CONSENT_STATUS_UPDATE_WORKER_COUNT = "Gateway.ConsentStatusUpdate.WorkerCount";
+    public static final String CONSENT_STATUS_UPDATE_MAX_RETRY_COUNT = "Gateway.ConsentStatusUpdate.MaxRetryCount";
+    public static final String CONSENT_STATUS_UPDATE_INITIAL_RETRY_DELAY_SECONDS = "Gateway.ConsentStatusUpdate" +
+            ".InitialRetryDelaySeconds";
+    public static final String CONSENT_STATUS_UPDATE_SPILL_FILE = "Gateway.ConsentStatusUpdate.SpillFile";
+    public static final String CONSENT_STATUS_UPDATE_SPILL_REPLAY_INTERVAL_SECONDS = "Gateway.ConsentStatusUpdate" +
+            ".SpillReplayIntervalSeconds";
+    public static final String CONFIG_RELOAD_INTERVAL_SECONDS = "ConfigReload.IntervalSeconds";
 
     public static final String SCA_APPROACH_KEY = "SCA-Approach";
     public static final String SCA_METHODS_KEY = "SCA-Methods";
@@ -88,6 +122,37 @@ public class CommonConstants {
 
     public static final String IDEMPOTENCY_ALLOWED_TIME = "ConsentManagement.Idempotency" +
             ".AllowedDuration";
+    public static final String IDEMPOTENCY_CACHE_EXPIRY_SECONDS = "ConsentManagement.Idempotency" +
+            ".CacheExpirySeconds";
+    public static final String IDEMPOTENCY_CACHE_MAX_ENTRIES = "ConsentManagement.Idempotency.CacheMaxEntries";
+    public static final String RECEIPT_CACHE_MAX_ENTRIES = "ConsentManagement.ReceiptCache.MaxEntries";
+    public static final String RECEIPT_CACHE_EXPIRY_SECONDS = "ConsentManagement.ReceiptCache.ExpirySeconds";
+    public static final String CONSENT_STATUS_WRITE_BEHIND_ENABLED = "ConsentManagement.StatusWriteBehind.Enabled";
+    public static final String CONSENT_STATUS_WRITE_BEHIND_FLUSH_INTERVAL_MILLIS = "ConsentManagement" +
+            ".StatusWriteBehind.FlushIntervalMillis";
+    public static final String CONSENT_STATUS_WRITE_BEHIND_MAX_BATCH_SIZE = "ConsentManagement.StatusWriteBehind" +
+            ".MaxBatchSize";
+    public static final String CONSENT_STATUS_WRITE_BEHIND_JOURNAL_FILE = "ConsentManagement.StatusWriteBehind" +
+            ".JournalFile";
+    public static final String CONSENT_EXPIRY_SWEEPER_ENABLED = "ConsentManagement.ExpirySweeper.Enabled";
+    public static final String CONSENT_EXPIRY_SWEEPER_INTERVAL_MINUTES = "ConsentManagement.ExpirySweeper" +
+            ".IntervalMinutes";
+    public static final String CONSENT_EXPIRY_SWEEPER_BATCH_SIZE = "ConsentManagement.ExpirySweeper.BatchSize";
+    public static final String CONSENT_EXPIRY_SWEEPER_BATCH_DELAY_MILLIS = "ConsentManagement.ExpirySweeper" +
+            ".BatchDelayMillis";
+    public static final String CONSENT_EXPIRY_SWEEPER_MAX_CONSENTS_PER_RUN = "ConsentManagement.ExpirySweeper" +
+            ".MaxConsentsPerRun";
+    public static final String BACKEND_HTTP_CLIENT_MAX_CONNECTIONS = "ConsentManagement.BackendHttpClient" +
+            ".MaxConnections";
+    public static final String BACKEND_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE = "ConsentManagement.BackendHttpClient" +
+            ".MaxConnectionsPerRoute";
+    public static final String BACKEND_HTTP_CLIENT_CONNECT_TIMEOUT_SECONDS = "ConsentManagement.BackendHttpClient" +
+            ".ConnectTimeoutSeconds";
+    public static final String BACKEND_HTTP_CLIENT_SOCKET_TIMEOUT_SECONDS = "ConsentManagement.BackendHttpClient" +
+            ".SocketTimeoutSeconds";
+    public static final String ACCOUNT_LIST_CACHE_EXPIRY_SECONDS = "ConsentManagement.AccountListCache" +
+            ".ExpirySeconds";
+    public static final String ACCOUNT_LIST_CACHE_MAX_ENTRIES = "ConsentManagement.AccountListCache.MaxEntries";
     public static final String DELIMITER = ":";
 
     public static final String ORG_ID_VALIDATION_REGEX = "KeyManager.OrgIdValidationRegex";
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered Berlin error response holding a single TPP message without a path. The JSON surrounding the text of
+ * the message is rendered once per category and code, so that an error response is written by splicing in the
+ * escaped text instead of building and serialising a JSON object for every rejected request.
+ *
+ * <p>The rendered response is semantically equivalent JSON to the response constructed by
+ * {@link ErrorUtil#constructBerlinError(String, TPPMessage.CategoryEnum, TPPMessage.CodeEnum, String)} with a blank
+ * path, i.e. both parse to the same JSON object although the field order and the escaping of the text may differ.
+ * A null code or text is omitted from the message, as it is by the JSON serialiser.</p>
+ */
+public final class BerlinErrorTemplate {
+
+    private static final String TPP_MESSAGES_PREFIX = "{\"tppMessages\":[{\"category\":\"";
+    private static final String CODE_PREFIX = "\",\"code\":\"";
+    private static final String TEXT_PREFIX = ",\"text\":\"";
+    private static final String TPP_MESSAGES_SUFFIX = "}]}";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private static final Map<TPPMessage.CategoryEnum, Map<TPPMessage.CodeEnum, BerlinErrorTemplate>> TEMPLATES;
+    private static final Map<TPPMessage.CategoryEnum, BerlinErrorTemplate> TEMPLATES_WITHOUT_CODE;
+
+    static {
+        Map<TPPMessage.CategoryEnum, Map<TPPMessage.CodeEnum, BerlinErrorTemplate>> templates =
+                new EnumMap<>(TPPMessage.CategoryEnum.class);
+        Map<TPPMessage.CategoryEnum, BerlinErrorTemplate> templatesWithoutCode =
+                new EnumMap<>(TPPMessage.CategoryEnum.class);
+        for (TPPMessage.CategoryEnum category : TPPMessage.CategoryEnum.values()) {
+            Map<TPPMessage.CodeEnum, BerlinErrorTemplate> categoryTemplates = new EnumMap<>(TPPMessage.CodeEnum.class);
+            for (TPPMessage.CodeEnum code : TPPMessage.CodeEnum.values()) {
+                categoryTemplates.put(code, new BerlinErrorTemplate(TPP_MESSAGES_PREFIX + category + CODE_PREFIX
+                        + code + "\""));
+            }
+            templates.put(category, Collections.unmodifiableMap(categoryTemplates));
+            templatesWithoutCode.put(category, new BerlinErrorTemplate(TPP_MESSAGES_PREFIX + category + "\""));
+        }
+        TEMPLATES = Collections.unmodifiableMap(templates);
+        TEMPLATES_WITHOUT_CODE = Collections.unmodifiableMap(templatesWithoutCode);
+    }
+
+    private final String textPrefix;
+    private final byte[] textPrefixBytes;
+    private final String withoutText;
+    private final byte[] withoutTextBytes;
+
+    private BerlinErrorTemplate(String messageHead) {
+
+        this.textPrefix = messageHead + TEXT_PREFIX;
+        this.textPrefixBytes = textPrefix.getBytes(StandardCharsets.UTF_8);
+        this.withoutText = messageHead + TPP_MESSAGES_SUFFIX;
+        this.withoutTextBytes = withoutText.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the template of the given error category and code.
+     *
+     * @param category error category, ERROR or WARNING
+     * @param code error code, or null if the message has no code
+     * @return the template of the error
+     */
+    public static BerlinErrorTemplate of(TPPMessage.CategoryEnum category, TPPMessage.CodeEnum code) {
+
+        if (code == null) {
+            return TEMPLATES_WITHOUT_CODE.get(category);
+        }
+        return TEMPLATES.get(category).get(code);
+    }
+
+    /**
+     * Renders the error response with the given text.
+     *
+     * @param text error text, or null if the message has no text
+     * @return the error response as a JSON string
+     */
+    public String render(String text) {
+
+        if (text == null) {
+            return withoutText;
+        }
+        StringBuilder errorResponse = new StringBuilder(textPrefix.length() + text.length() + 8);
+        errorResponse.append(textPrefix);
+        appendEscaped(errorResponse, text);
+        return errorResponse.append('"').append(TPP_MESSAGES_SUFFIX).toString();
+    }
+
+    /**
+     * Renders the error response with the given text as UTF-8 bytes. Errors with a fixed text should be rendered
+     * once and the bytes reused.
+     *
+     * @param text error text, or null if the message has no text
+     * @return the error response as UTF-8 encoded JSON
+     */
+    public byte[] renderBytes(String text) {
+
+        if (text == null) {
+            return withoutTextBytes.clone();
+        }
+        StringBuilder escapedText = new StringBuilder(text.length() + 8);
+        appendEscaped(escapedText, text);
+        escapedText.append('"').append(TPP_MESSAGES_SUFFIX);
+        byte[] textBytes = escapedText.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] errorResponse = new byte[textPrefixBytes.length + textBytes.length];
+        System.arraycopy(textPrefixBytes, 0, errorResponse, 0, textPrefixBytes.length);
+        System.arraycopy(textBytes, 0, errorResponse, textPrefixBytes.length, textBytes.length);
+        return errorResponse;
+    }
+
+    private static void appendEscaped(StringBuilder builder, String text) {
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+    }
+}
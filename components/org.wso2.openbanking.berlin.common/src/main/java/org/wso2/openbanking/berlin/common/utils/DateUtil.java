@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date handling of the Berlin date fields such as validUntil, lastActionDate and requestedExecutionDate.
+ *
+ * <p>Berlin dates are ISO dates in UTC. The formatters are immutable and shared by all threads. The current UTC day
+ * and its ISO string are cached until the day ends, so that requests which only need today's date do not compute
+ * the calendar date from the clock or format it again.</p>
+ */
+public class DateUtil {
+
+    public static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    public static final DateTimeFormatter HTTP_DATE_FORMATTER = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private static final long SECONDS_PER_DAY = TimeUnit.DAYS.toSeconds(1);
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+    private static volatile CurrentDay currentDay = new CurrentDay(System.currentTimeMillis());
+
+    /**
+     * Returns the current UTC date.
+     *
+     * @return current date
+     */
+    public static LocalDate getCurrentDate() {
+
+        return getCurrentDay(System.currentTimeMillis()).date;
+    }
+
+    /**
+     * Returns the current UTC date as an ISO date string.
+     *
+     * @return current date in yyyy-MM-dd format
+     */
+    public static String getCurrentDateString() {
+
+        return getCurrentDay(System.currentTimeMillis()).formattedDate;
+    }
+
+    /**
+     * Returns the UTC date of an epoch second.
+     *
+     * @param epochSeconds seconds since the epoch
+     * @return the UTC date
+     */
+    public static LocalDate toDate(long epochSeconds) {
+
+        return LocalDate.ofEpochDay(Math.floorDiv(epochSeconds, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Formats the UTC date of an epoch second as an ISO date string.
+     *
+     * @param epochSeconds seconds since the epoch
+     * @return the UTC date in yyyy-MM-dd format
+     */
+    public static String formatDate(long epochSeconds) {
+
+        CurrentDay day = getCurrentDay(System.currentTimeMillis());
+        if (day.contains(TimeUnit.SECONDS.toMillis(epochSeconds))) {
+            return day.formattedDate;
+        }
+        return toDate(epochSeconds).format(ISO_DATE_FORMATTER);
+    }
+
+    /**
+     * Formats a date as an ISO date string.
+     *
+     * @param date date to format
+     * @return the date in yyyy-MM-dd format
+     */
+    public static String formatDate(LocalDate date) {
+
+        return date.format(ISO_DATE_FORMATTER);
+    }
+
+    /**
+     * Returns the epoch second at which a date starts in UTC.
+     *
+     * @param date date
+     * @return seconds since the epoch at the start of the date
+     */
+    public static long toEpochSeconds(LocalDate date) {
+
+        return date.toEpochDay() * SECONDS_PER_DAY;
+    }
+
+    /**
+     * Parses an HTTP date such as the created time of a request.
+     *
+     * @param httpDate date in RFC 1123 format
+     * @return the parsed date time
+     */
+    public static OffsetDateTime parseHttpDate(String httpDate) {
+
+        return OffsetDateTime.parse(httpDate, HTTP_DATE_FORMATTER);
+    }
+
+    /**
+     * Parses an ISO date such as the validUntil date of a consent.
+     *
+     * @param date date in yyyy-MM-dd format
+     * @return the parsed date
+     * @throws DateTimeParseException thrown if the date is not an ISO date
+     */
+    public static LocalDate parseDate(String date) {
+
+        return LocalDate.parse(date, ISO_DATE_FORMATTER);
+    }
+
+    /**
+     * Returns the cached current day, replacing it once the cached day has ended. The cached day is only replaced
+     * by a later day, so that a thread reading the clock just before midnight does not move the cached day back
+     * after another thread has moved it forward.
+     *
+     * @param currentTimeMillis current time in milliseconds
+     * @return the current day
+     */
+    static CurrentDay getCurrentDay(long currentTimeMillis) {
+
+        CurrentDay day = currentDay;
+        if (day.contains(currentTimeMillis)) {
+            return day;
+        }
+        CurrentDay newDay = new CurrentDay(currentTimeMillis);
+        synchronized (DateUtil.class) {
+            if (newDay.startMillis > currentDay.startMillis) {
+                currentDay = newDay;
+            }
+        }
+        return newDay;
+    }
+
+    /**
+     * Replaces the cached current day regardless of the cached day. Used by tests.
+     *
+     * @param currentTimeMillis time in milliseconds of the day to cache
+     */
+    static void resetCurrentDay(long currentTimeMillis) {
+
+        currentDay = new CurrentDay(currentTimeMillis);
+    }
+
+    /**
+     * A UTC day, its ISO string and its bounds in epoch milliseconds.
+     */
+    static class CurrentDay {
+
+        private final LocalDate date;
+        private final String formattedDate;
+        private final long startMillis;
+        private final long endMillis;
+
+        CurrentDay(long currentTimeMillis) {
+
+            long epochDay = Math.floorDiv(currentTimeMillis, MILLIS_PER_DAY);
+            this.date = LocalDate.ofEpochDay(epochDay);
+            this.formattedDate = date.format(ISO_DATE_FORMATTER);
+            this.startMillis = epochDay * MILLIS_PER_DAY;
+            this.endMillis = startMillis + MILLIS_PER_DAY;
+        }
+
+        boolean contains(long timeMillis) {
+
+            return timeMillis >= startMillis && timeMillis < endMillis;
+        }
+
+        LocalDate getDate() {
+
+            return date;
+        }
+
+        String getFormattedDate() {
+
+            return formattedDate;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.openbanking.berlin.common.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import net.minidev.json.JSONObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -25,6 +26,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.models.TPPMessages;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -100,4 +102,23 @@ public class ErrorUtil {
 
         return CommonUtil.convertObjectToJson(tppMessages);
     }
+
+    /**
+     * Used to construct an error using a set of errors, serialised directly to UTF-8 encoded JSON.
+     *
+     * @param tppErrorMessages a list of TPPMessage error objects
+     * @return a set of errors constructed as UTF-8 encoded JSON
+     */
+    public static byte[] constructBerlinErrorBytes(List<TPPMessage> tppErrorMessages) {
+
+        TPPMessages tppMessages = new TPPMessages();
+        tppMessages.setTppMessages(tppErrorMessages);
+
+        try {
+            return JsonMapperUtil.toJsonBytes(tppMessages);
+        } catch (JsonProcessingException e) {
+            log.error("Error while serialising the error response", e);
+        }
+        return "{}".getBytes(StandardCharsets.UTF_8);
+    }
 }
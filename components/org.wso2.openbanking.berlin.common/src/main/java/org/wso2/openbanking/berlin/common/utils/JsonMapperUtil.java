@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Shared JSON mapping facility of the toolkit.
+ *
+ * <p>A single ObjectMapper is shared by all threads, since a configured mapper is thread safe and expensive to
+ * create. Objects are converted to json-smart objects by streaming the serialised tokens of the object straight into
+ * the JSONObject, and are written to bytes directly, so that no intermediate JSON string is built and parsed
+ * again.</p>
+ */
+public class JsonMapperUtil {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Returns the shared ObjectMapper. The mapper must not be reconfigured.
+     *
+     * @return shared ObjectMapper
+     */
+    public static ObjectMapper getObjectMapper() {
+
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Converts an object to a json-smart JSONObject. Nested objects and arrays are converted to JSONObject and
+     * JSONArray, and numbers to the types json-smart parses them to.
+     *
+     * @param object object to convert, which must serialise to a JSON object
+     * @return the object as a JSONObject
+     * @throws IOException if the object cannot be serialised or does not serialise to a JSON object
+     */
+    public static JSONObject toJSONObject(Object object) throws IOException {
+
+        TokenBuffer tokenBuffer = new TokenBuffer(OBJECT_MAPPER, false);
+        OBJECT_MAPPER.writeValue(tokenBuffer, object);
+        try (JsonParser parser = tokenBuffer.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Object of type " + object.getClass().getName()
+                        + " is not serialised to a JSON object");
+            }
+            return readObject(parser);
+        }
+    }
+
+    /**
+     * Serialises an object to UTF-8 encoded JSON.
+     *
+     * @param object object to serialise
+     * @return the JSON as UTF-8 bytes
+     * @throws JsonProcessingException if the object cannot be serialised
+     */
+    public static byte[] toJsonBytes(Object object) throws JsonProcessingException {
+
+        return OBJECT_MAPPER.writeValueAsBytes(object);
+    }
+
+    /**
+     * Compares two JSON documents structurally. Object members are compared regardless of their order and
+     * whitespace is ignored.
+     *
+     * @param jsonString1 first JSON document
+     * @param jsonString2 second JSON document
+     * @return true if both documents have the same structure and values
+     * @throws IOException if a document is not valid JSON
+     */
+    public static boolean isJsonEquivalent(String jsonString1, String jsonString2) throws IOException {
+
+        return OBJECT_MAPPER.readTree(jsonString1).equals(OBJECT_MAPPER.readTree(jsonString2));
+    }
+
+    private static JSONObject readObject(JsonParser parser) throws IOException {
+
+        JSONObject jsonObject = new JSONObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            jsonObject.put(fieldName, readValue(parser));
+        }
+        return jsonObject;
+    }
+
+    private static JSONArray readArray(JsonParser parser) throws IOException {
+
+        JSONArray jsonArray = new JSONArray();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            jsonArray.add(readValue(parser));
+        }
+        return jsonArray;
+    }
+
+    private static Object readValue(JsonParser parser) throws IOException {
+
+        switch (parser.getCurrentToken()) {
+            case START_OBJECT:
+                return readObject(parser);
+            case START_ARRAY:
+                return readArray(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return readInteger(parser);
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_EMBEDDED_OBJECT:
+                // Binary values are buffered as is and are written as base64 text
+                Object embeddedObject = parser.getEmbeddedObject();
+                return embeddedObject instanceof byte[]
+                        ? Base64Variants.getDefaultVariant().encode((byte[]) embeddedObject)
+                        : String.valueOf(embeddedObject);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads an integer as the smallest of Integer, Long and BigInteger which holds the value, as json-smart does.
+     */
+    private static Object readInteger(JsonParser parser) throws IOException {
+
+        switch (parser.getNumberType()) {
+            case INT:
+                return parser.getIntValue();
+            case LONG:
+                long longValue = parser.getLongValue();
+                return longValue == (int) longValue ? (Object) (int) longValue : (Object) longValue;
+            default:
+                BigInteger value = parser.getBigIntegerValue();
+                if (value.bitLength() < Integer.SIZE) {
+                    return value.intValue();
+                } else if (value.bitLength() < Long.SIZE) {
+                    return value.longValue();
+                }
+                return value;
+        }
+    }
+}
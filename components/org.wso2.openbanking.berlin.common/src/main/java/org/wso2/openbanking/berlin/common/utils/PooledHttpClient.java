@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContexts;
+import org.wso2.carbon.base.ServerConfiguration;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Long-lived HTTP client whose connections are pooled and kept alive with a limit per route.
+ *
+ * <p>Every request is bounded by the given connect and socket timeouts, including the time spent waiting for a
+ * pooled connection. The client created with {@link #create(int, int, int, int)} uses the same TLS setup as the
+ * clients of the accelerator, i.e. the trust store configured in carbon.xml, the hostname verification policy given
+ * with the httpclient.hostnameVerifier system property and TLSv1.2.</p>
+ */
+public class PooledHttpClient {
+
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static final String[] SUPPORTED_HTTP_PROTOCOLS = {"TLSv1.2"};
+    private static final String HOSTNAME_VERIFIER = "httpclient.hostnameVerifier";
+    private static final String ALLOW_ALL = "AllowAll";
+    private static final String STRICT = "Strict";
+    private static final String TRUST_STORE_LOCATION = "Security.TrustStore.Location";
+    private static final String TRUST_STORE_PASSWORD = "Security.TrustStore.Password";
+    private static final String TRUST_STORE_TYPE = "Security.TrustStore.Type";
+    private static final String DEFAULT_TRUST_STORE_TYPE = "JKS";
+    private static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 60;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    public PooledHttpClient(SSLConnectionSocketFactory sslConnectionSocketFactory, int maxConnections,
+                            int maxConnectionsPerRoute, int connectTimeoutMillis, int socketTimeoutMillis) {
+
+        connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register(HTTP, PlainConnectionSocketFactory.getSocketFactory())
+                        .register(HTTPS, sslConnectionSocketFactory)
+                        .build());
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectTimeoutMillis)
+                .setSocketTimeout(socketTimeoutMillis)
+                .build();
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Creates a pooled client which uses the TLS setup configured for the server.
+     *
+     * @param maxConnections         maximum number of pooled connections
+     * @param maxConnectionsPerRoute maximum number of pooled connections per route
+     * @param connectTimeoutMillis   connect and connection request timeout in milliseconds
+     * @param socketTimeoutMillis    socket timeout in milliseconds
+     * @return the pooled client
+     * @throws OpenBankingException thrown if the configured trust store cannot be loaded
+     */
+    public static PooledHttpClient create(int maxConnections, int maxConnectionsPerRoute, int connectTimeoutMillis,
+                                          int socketTimeoutMillis) throws OpenBankingException {
+
+        return new PooledHttpClient(createSSLConnectionSocketFactory(), maxConnections, maxConnectionsPerRoute,
+                connectTimeoutMillis, socketTimeoutMillis);
+    }
+
+    public CloseableHttpClient getHttpClient() {
+
+        return httpClient;
+    }
+
+    /**
+     * Returns the current usage of the connection pool.
+     *
+     * @return leased, available and pending connections of the pool
+     */
+    public PoolStats getPoolStats() {
+
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Creates the SSL socket factory from the trust store configured in carbon.xml and the hostname verification
+     * policy of the server.
+     *
+     * @return SSL socket factory
+     * @throws OpenBankingException thrown if the trust store cannot be loaded
+     */
+    @SuppressWarnings("deprecation")
+    private static SSLConnectionSocketFactory createSSLConnectionSocketFactory() throws OpenBankingException {
+
+        ServerConfiguration serverConfiguration = ServerConfiguration.getInstance();
+        String trustStoreLocation = serverConfiguration.getFirstProperty(TRUST_STORE_LOCATION);
+        if (trustStoreLocation == null) {
+            throw new OpenBankingException("Trust store location is not configured for the server");
+        }
+        String trustStoreType = serverConfiguration.getFirstProperty(TRUST_STORE_TYPE);
+        String trustStorePassword = serverConfiguration.getFirstProperty(TRUST_STORE_PASSWORD);
+
+        SSLContext sslContext;
+        try (InputStream trustStoreStream = new FileInputStream(trustStoreLocation)) {
+            KeyStore trustStore = KeyStore.getInstance(trustStoreType != null ? trustStoreType :
+                    DEFAULT_TRUST_STORE_TYPE);
+            trustStore.load(trustStoreStream, trustStorePassword != null ? trustStorePassword.toCharArray() : null);
+            sslContext = SSLContexts.custom().loadTrustMaterial(trustStore, null).build();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new OpenBankingException("Unable to load the trust store configured for the server", e);
+        }
+
+        X509HostnameVerifier hostnameVerifier;
+        String hostnameVerificationOption = System.getProperty(HOSTNAME_VERIFIER);
+        if (ALLOW_ALL.equalsIgnoreCase(hostnameVerificationOption)) {
+            hostnameVerifier = SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER;
+        } else if (STRICT.equalsIgnoreCase(hostnameVerificationOption)) {
+            hostnameVerifier = SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+        } else {
+            hostnameVerifier = SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER;
+        }
+        return new SSLConnectionSocketFactory(sslContext, SUPPORTED_HTTP_PROTOCOLS, null, hostnameVerifier);
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import com.wso2.openbanking.accelerator.common.config.OpenBankingConfigParser;
+import org.wso2.openbanking.berlin.common.enums.Psd2RoleEnum;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of the PSD2 roles allowed by the configured scopes. The policy is built once from the allowed scopes
+ * of the open banking configuration and is rebuilt only when the configured scopes change, instead of collecting the
+ * roles of all scopes on every certificate validation.
+ *
+ * <p>Known PSD2 roles are held as an EnumSet, which is backed by a single bit mask. Roles that are not defined in
+ * Psd2RoleEnum are kept in a separate set so that any role present in the configuration is still honoured.</p>
+ */
+public class Psd2RolePolicy {
+
+    private static final Map<String, Psd2RoleEnum> ROLES_BY_VALUE;
+
+    static {
+        Map<String, Psd2RoleEnum> rolesByValue = new HashMap<>();
+        for (Psd2RoleEnum role : Psd2RoleEnum.values()) {
+            rolesByValue.put(role.toString(), role);
+        }
+        ROLES_BY_VALUE = Collections.unmodifiableMap(rolesByValue);
+    }
+
+    private static volatile Psd2RolePolicy psd2RolePolicy;
+
+    private final Map<String, List<String>> allowedScopes;
+    private final EnumSet<Psd2RoleEnum> allowedRoles;
+    private final Set<String> allowedCustomRoles;
+
+    Psd2RolePolicy(Map<String, List<String>> allowedScopes) {
+
+        EnumSet<Psd2RoleEnum> roles = EnumSet.noneOf(Psd2RoleEnum.class);
+        Set<String> customRoles = new HashSet<>();
+        if (allowedScopes != null) {
+            for (List<String> scopeRoles : allowedScopes.values()) {
+                if (scopeRoles == null) {
+                    continue;
+                }
+                for (String role : scopeRoles) {
+                    Psd2RoleEnum psd2Role = ROLES_BY_VALUE.get(role);
+                    if (psd2Role != null) {
+                        roles.add(psd2Role);
+                    } else if (role != null) {
+                        customRoles.add(role);
+                    }
+                }
+            }
+        }
+        this.allowedScopes = allowedScopes;
+        this.allowedRoles = roles;
+        this.allowedCustomRoles = Collections.unmodifiableSet(customRoles);
+    }
+
+    /**
+     * Returns the role policy of the current open banking configuration. The policy is rebuilt if the allowed scopes
+     * have changed since it was built.
+     *
+     * @return Psd2RolePolicy object
+     */
+    public static Psd2RolePolicy getInstance() {
+
+        Map<String, List<String>> allowedScopes = OpenBankingConfigParser.getInstance().getAllowedScopes();
+        Psd2RolePolicy currentPolicy = psd2RolePolicy;
+        if (currentPolicy == null || !currentPolicy.isBuiltFrom(allowedScopes)) {
+            currentPolicy = new Psd2RolePolicy(allowedScopes);
+            psd2RolePolicy = currentPolicy;
+        }
+        return currentPolicy;
+    }
+
+    /**
+     * Checks whether all the provided roles are allowed by the configured scopes.
+     *
+     * @param roles PSD2 roles of a certificate
+     * @return true if all the roles are allowed, false otherwise or if the roles are not available
+     */
+    public boolean isAllowed(Collection<String> roles) {
+
+        if (roles == null) {
+            return false;
+        }
+        for (String role : roles) {
+            Psd2RoleEnum psd2Role = ROLES_BY_VALUE.get(role);
+            if (psd2Role != null ? !allowedRoles.contains(psd2Role) : !allowedCustomRoles.contains(role)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the allowed PSD2 roles defined in Psd2RoleEnum.
+     *
+     * @return a copy of the allowed roles
+     */
+    public Set<Psd2RoleEnum> getAllowedRoles() {
+
+        return EnumSet.copyOf(allowedRoles);
+    }
+
+    private boolean isBuiltFrom(Map<String, List<String>> scopes) {
+
+        // Identity check first since the configuration returns the same scopes until it is reloaded
+        return allowedScopes == scopes || (allowedScopes != null && allowedScopes.equals(scopes));
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+import org.wso2.openbanking.berlin.common.enums.ScaApproachEnum;
+import org.wso2.openbanking.berlin.common.models.ScaApproach;
+import org.wso2.openbanking.berlin.common.models.ScaMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable SCA resolution table of the configured SCA methods and approaches. The configured methods and approaches
+ * are mapped once, and the SCA approach and methods of every combination of the TPP-Redirect-Preferred header and
+ * the SCA requirement are resolved when the table is built, so that selecting the SCA approach of a request is a
+ * single lookup instead of a scan of the configuration. The table is rebuilt only when the configured SCA methods or
+ * approaches change.
+ *
+ * <p>The ScaApproach and ScaMethod objects held by the table are shared by all requests and must not be modified.</p>
+ */
+public class ScaResolutionTable {
+
+    // Resolutions are indexed by the TPP-Redirect-Preferred header (true, false or not sent) and the SCA requirement
+    private static final int REDIRECT_PREFERRED = 0;
+    private static final int DECOUPLED_PREFERRED = 2;
+    private static final int NO_PREFERENCE = 4;
+    private static final int SCA_NOT_REQUIRED = 1;
+
+    private static volatile ScaResolutionTable scaResolutionTable;
+
+    private final List<Map<String, String>> scaMethodConfigs;
+    private final List<Map<String, String>> scaApproachConfigs;
+    private final List<ScaMethod> supportedScaMethods;
+    private final List<ScaApproach> supportedScaApproaches;
+    private final Map<ScaApproachEnum, ScaMethod> scaMethodsByApproach;
+    private final Map<ScaApproachEnum, ScaApproach> scaApproachesByApproach;
+    private final ScaMethod defaultScaMethod;
+    private final ScaApproach defaultScaApproach;
+    private final List<Map<String, Object>> resolutions;
+
+    ScaResolutionTable(List<Map<String, String>> scaMethodConfigs, List<Map<String, String>> scaApproachConfigs) {
+
+        this.scaMethodConfigs = scaMethodConfigs;
+        this.scaApproachConfigs = scaApproachConfigs;
+        this.supportedScaMethods = Collections.unmodifiableList(toScaMethods(scaMethodConfigs));
+        this.supportedScaApproaches = Collections.unmodifiableList(toScaApproaches(scaApproachConfigs));
+
+        // The first configured method or approach is selected when several match, as in a scan of the configuration
+        Map<ScaApproachEnum, ScaMethod> methodsByApproach = new EnumMap<>(ScaApproachEnum.class);
+        ScaMethod defaultMethod = null;
+        for (ScaMethod scaMethod : supportedScaMethods) {
+            if (scaMethod.getMappedApproach() != null) {
+                methodsByApproach.putIfAbsent(scaMethod.getMappedApproach(), scaMethod);
+            }
+            if (defaultMethod == null && scaMethod.isDefault()) {
+                defaultMethod = scaMethod;
+            }
+        }
+        Map<ScaApproachEnum, ScaApproach> approachesByApproach = new EnumMap<>(ScaApproachEnum.class);
+        ScaApproach defaultApproach = null;
+        for (ScaApproach scaApproach : supportedScaApproaches) {
+            if (scaApproach.getApproach() != null) {
+                approachesByApproach.putIfAbsent(scaApproach.getApproach(), scaApproach);
+            }
+            if (defaultApproach == null && scaApproach.isDefault()) {
+                defaultApproach = scaApproach;
+            }
+        }
+        this.scaMethodsByApproach = Collections.unmodifiableMap(methodsByApproach);
+        this.scaApproachesByApproach = Collections.unmodifiableMap(approachesByApproach);
+        this.defaultScaMethod = defaultMethod;
+        this.defaultScaApproach = defaultApproach;
+
+        List<Map<String, Object>> resolvedScaElements = new ArrayList<>();
+        resolvedScaElements.add(resolve(Boolean.TRUE, true));
+        resolvedScaElements.add(resolve(Boolean.TRUE, false));
+        resolvedScaElements.add(resolve(Boolean.FALSE, true));
+        resolvedScaElements.add(resolve(Boolean.FALSE, false));
+        resolvedScaElements.add(resolve(null, true));
+        resolvedScaElements.add(resolve(null, false));
+        this.resolutions = Collections.unmodifiableList(resolvedScaElements);
+    }
+
+    /**
+     * Returns the SCA resolution table of the current configuration. The table is rebuilt if the configured SCA
+     * methods or approaches have changed since it was built.
+     *
+     * @return ScaResolutionTable object
+     */
+    public static ScaResolutionTable getInstance() {
+
+        CommonConfigParser configParser = CommonConfigParser.getInstance();
+        List<Map<String, String>> scaMethodConfigs = configParser.getSupportedScaMethods();
+        List<Map<String, String>> scaApproachConfigs = configParser.getSupportedScaApproaches();
+        ScaResolutionTable currentTable = scaResolutionTable;
+        if (currentTable == null || !currentTable.isBuiltFrom(scaMethodConfigs, scaApproachConfigs)) {
+            currentTable = new ScaResolutionTable(scaMethodConfigs, scaApproachConfigs);
+            scaResolutionTable = currentTable;
+        }
+        return currentTable;
+    }
+
+    /**
+     * Returns the resolved SCA approach and methods.
+     *
+     * @param isTppRedirectPreferred TPP-Redirect-Preferred header, null if the header is not sent
+     * @param isScaRequired          to know if SCA is required or not
+     * @return unmodifiable map of the SCA approach and the unmodifiable list of SCA methods
+     */
+    public Map<String, Object> getScaApproachAndMethods(Boolean isTppRedirectPreferred, boolean isScaRequired) {
+
+        int index;
+        if (Boolean.TRUE.equals(isTppRedirectPreferred)) {
+            index = REDIRECT_PREFERRED;
+        } else if (Boolean.FALSE.equals(isTppRedirectPreferred)) {
+            index = DECOUPLED_PREFERRED;
+        } else {
+            index = NO_PREFERENCE;
+        }
+        return resolutions.get(isScaRequired ? index : index + SCA_NOT_REQUIRED);
+    }
+
+    public List<ScaMethod> getSupportedScaMethods() {
+
+        return supportedScaMethods;
+    }
+
+    public List<ScaApproach> getSupportedScaApproaches() {
+
+        return supportedScaApproaches;
+    }
+
+    /**
+     * Gets the first configured SCA approach of the given approach.
+     *
+     * @param scaApproachEnum the SCA approach to find
+     * @return found SCA approach, null if the approach is not supported
+     */
+    public ScaApproach getScaApproach(ScaApproachEnum scaApproachEnum) {
+
+        return scaApproachEnum == null ? null : scaApproachesByApproach.get(scaApproachEnum);
+    }
+
+    /**
+     * Gets the first configured SCA method mapped to the given approach.
+     *
+     * @param scaApproachEnum the mapped approach of the SCA method to find
+     * @return found SCA method, null if no method is mapped to the approach
+     */
+    public ScaMethod getScaMethod(ScaApproachEnum scaApproachEnum) {
+
+        return scaApproachEnum == null ? null : scaMethodsByApproach.get(scaApproachEnum);
+    }
+
+    public ScaApproach getDefaultScaApproach() {
+
+        return defaultScaApproach;
+    }
+
+    public ScaMethod getDefaultScaMethod() {
+
+        return defaultScaMethod;
+    }
+
+    private Map<String, Object> resolve(Boolean isTppRedirectPreferred, boolean isScaRequired) {
+
+        ScaApproach currentScaApproach = new ScaApproach();
+        List<ScaMethod> currentScaMethods = Collections.emptyList();
+
+        if (Boolean.TRUE.equals(isTppRedirectPreferred)) {
+            currentScaApproach = getScaApproach(ScaApproachEnum.REDIRECT);
+            if (isScaRequired) {
+                currentScaMethods = Collections.singletonList(getScaMethod(ScaApproachEnum.REDIRECT));
+            }
+        } else if (Boolean.FALSE.equals(isTppRedirectPreferred)) {
+            currentScaApproach = getScaApproach(ScaApproachEnum.DECOUPLED);
+            if (isScaRequired) {
+                currentScaMethods = Collections.singletonList(getScaMethod(ScaApproachEnum.DECOUPLED));
+            }
+        } else {
+            // When TPP-Redirect-Preferred header is not sent
+            if (isScaRequired) {
+                if (supportedScaMethods.size() == 1) {
+                    // If SCA is required and there is only a single supported SCA method, it becomes the selected
+                    // SCA method and the mapped approach of the SCA method becomes the SCA approach
+                    currentScaApproach = getScaApproach(supportedScaMethods.get(0).getMappedApproach());
+                    currentScaMethods = supportedScaMethods;
+                } else if (defaultScaMethod != null) {
+                    // If a default SCA method is configured then that becomes the SCA approach and method
+                    currentScaApproach = defaultScaApproach;
+                    currentScaMethods = Collections.singletonList(defaultScaMethod);
+                } else {
+                    // Approach not finalised and the TPP/PSU will be given the choice to select
+                    currentScaMethods = supportedScaMethods;
+                }
+            } else {
+                currentScaApproach = defaultScaApproach;
+            }
+        }
+
+        Map<String, Object> scaApproachAndMethods = new HashMap<>();
+        scaApproachAndMethods.put(CommonConstants.SCA_APPROACH_KEY, currentScaApproach);
+        scaApproachAndMethods.put(CommonConstants.SCA_METHODS_KEY, currentScaMethods);
+        return Collections.unmodifiableMap(scaApproachAndMethods);
+    }
+
+    private boolean isBuiltFrom(List<Map<String, String>> methodConfigs, List<Map<String, String>> approachConfigs) {
+
+        // Identity check first since the configuration returns the same lists until it is reloaded
+        return (scaMethodConfigs == methodConfigs || (scaMethodConfigs != null
+                && scaMethodConfigs.equals(methodConfigs)))
+                && (scaApproachConfigs == approachConfigs || (scaApproachConfigs != null
+                && scaApproachConfigs.equals(approachConfigs)));
+    }
+
+    private static List<ScaMethod> toScaMethods(List<Map<String, String>> scaMethodConfigs) {
+
+        List<ScaMethod> scaMethods = new ArrayList<>();
+        if (scaMethodConfigs == null) {
+            return scaMethods;
+        }
+        for (Map<String, String> supportedScaMethod : scaMethodConfigs) {
+            ScaMethod scaMethod = new ScaMethod();
+
+            scaMethod.setAuthenticationType(supportedScaMethod.get(CommonConstants.SCA_TYPE));
+            scaMethod.setAuthenticationVersion(supportedScaMethod.get(CommonConstants.SCA_VERSION));
+            scaMethod.setAuthenticationMethodId(supportedScaMethod.get(CommonConstants.SCA_ID));
+            scaMethod.setName(supportedScaMethod.get(CommonConstants.SCA_NAME));
+            scaMethod.setMappedApproach(ScaApproachEnum.fromValue(supportedScaMethod
+                    .get(CommonConstants.SCA_MAPPED_APPROACH)));
+            scaMethod.setDescription(supportedScaMethod.get(CommonConstants.SCA_DESCRIPTION));
+            scaMethod.setDefault(Boolean.parseBoolean(supportedScaMethod.get(CommonConstants.SCA_DEFAULT)));
+
+            scaMethods.add(scaMethod);
+        }
+        return scaMethods;
+    }
+
+    private static List<ScaApproach> toScaApproaches(List<Map<String, String>> scaApproachConfigs) {
+
+        List<ScaApproach> scaApproaches = new ArrayList<>();
+        if (scaApproachConfigs == null) {
+            return scaApproaches;
+        }
+        for (Map<String, String> supportedScaApproach : scaApproachConfigs) {
+            ScaApproach scaApproach = new ScaApproach();
+
+            scaApproach.setApproach(ScaApproachEnum.fromValue(supportedScaApproach.get(CommonConstants.SCA_NAME)));
+            scaApproach.setDefault(Boolean.parseBoolean(supportedScaApproach.get(CommonConstants.SCA_DEFAULT)));
+
+            scaApproaches.add(scaApproach);
+        }
+        return scaApproaches;
+    }
+}
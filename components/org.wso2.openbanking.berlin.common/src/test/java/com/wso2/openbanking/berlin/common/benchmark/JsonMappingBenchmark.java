@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.common.models.TPPMessages;
+import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
+import org.wso2.openbanking.berlin.common.utils.JsonMapperUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the shared JSON mapping of JsonMapperUtil with the previous implementation of
+ * CommonUtil.convertObjectToJson and CommonUtil.isJSONPayloadSimilar, which created a new ObjectMapper per call and
+ * serialised the object to a string before parsing it again.
+ *
+ * <p>Run with the test classpath of the common module, e.g.
+ * {@code java -cp <test-classpath> org.openjdk.jmh.Main JsonMappingBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    private static final String PAYLOAD = "{\"instructedAmount\": {\"currency\": \"EUR\", \"amount\": \"123.50\"}, " +
+            "\"debtorAccount\": {\"iban\": \"DE12345678901234567890\"}, \"creditorName\": \"Merchant123\", " +
+            "\"creditorAccount\": {\"iban\": \"DE98765432109876543210\"}, " +
+            "\"remittanceInformationUnstructured\": \"Ref Number Merchant\"}";
+    private static final String REORDERED_PAYLOAD = "{\"creditorName\":\"Merchant123\"," +
+            "\"remittanceInformationUnstructured\":\"Ref Number Merchant\"," +
+            "\"creditorAccount\":{\"iban\":\"DE98765432109876543210\"}," +
+            "\"debtorAccount\":{\"iban\":\"DE12345678901234567890\"}," +
+            "\"instructedAmount\":{\"amount\":\"123.50\",\"currency\":\"EUR\"}}";
+
+    private final TPPMessages tppMessages = new TPPMessages();
+
+    public JsonMappingBenchmark() {
+
+        List<TPPMessage> tppMessageList = new ArrayList<>();
+        tppMessageList.add(ErrorUtil.constructTPPMessage("instructedAmount.currency", TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.FORMAT_ERROR, "Value 'EURO' for currency does not match the required pattern"));
+        tppMessageList.add(ErrorUtil.constructTPPMessage(null, TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.PARAMETER_NOT_CONSISTENT, "Query parameter 'dateFrom' is invalid"));
+        tppMessages.setTppMessages(tppMessageList);
+    }
+
+    @Benchmark
+    public JSONObject sharedMapperToJSONObject() throws Exception {
+
+        return JsonMapperUtil.toJSONObject(tppMessages);
+    }
+
+    @Benchmark
+    public JSONObject newMapperStringRoundTrip() throws Exception {
+
+        String jsonString = new ObjectMapper().writeValueAsString(tppMessages);
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(jsonString);
+    }
+
+    @Benchmark
+    public byte[] sharedMapperToJsonBytes() throws Exception {
+
+        return JsonMapperUtil.toJsonBytes(tppMessages);
+    }
+
+    @Benchmark
+    public byte[] newMapperJSONObjectToBytes() throws Exception {
+
+        String jsonString = new ObjectMapper().writeValueAsString(tppMessages);
+        return new JSONParser(JSONParser.MODE_PERMISSIVE).parse(jsonString).toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean sharedMapperJsonComparison() throws Exception {
+
+        return JsonMapperUtil.isJsonEquivalent(PAYLOAD, REORDERED_PAYLOAD);
+    }
+
+    @Benchmark
+    public boolean newMapperJsonComparison() throws Exception {
+
+        return new ObjectMapper().readTree(PAYLOAD).equals(new ObjectMapper().readTree(REORDERED_PAYLOAD));
+    }
+}
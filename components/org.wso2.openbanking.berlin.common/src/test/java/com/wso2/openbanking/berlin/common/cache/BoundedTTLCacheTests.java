@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * This contains unit tests for BoundedTTLCache class.
+ */
+public class BoundedTTLCacheTests {
+
+    @Test
+    public void testGetAndPut() {
+
+        BoundedTTLCache<String, String> cache = new BoundedTTLCache<>(10, 60000);
+
+        Assert.assertNull(cache.get("key1"));
+        cache.put("key1", "value1");
+        Assert.assertEquals(cache.get("key1"), "value1");
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+
+        BoundedTTLCache<String, String> cache = new BoundedTTLCache<>(2, 60000);
+
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        // Access key1 so that key2 becomes the least recently used entry
+        cache.get("key1");
+        cache.put("key3", "value3");
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertNull(cache.get("key2"));
+        Assert.assertEquals(cache.get("key1"), "value1");
+        Assert.assertEquals(cache.get("key3"), "value3");
+    }
+
+    @Test
+    public void testExpiredEntryIsEvicted() {
+
+        MutableClockCache<String, String> cache = new MutableClockCache<>(10, 1000);
+
+        cache.put("key1", "value1");
+        cache.now = 999;
+        Assert.assertEquals(cache.get("key1"), "value1");
+        cache.now = 1000;
+        Assert.assertNull(cache.get("key1"));
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testRemoveExpiredEntries() {
+
+        MutableClockCache<String, String> cache = new MutableClockCache<>(10, 1000);
+
+        cache.put("key1", "value1");
+        cache.now = 500;
+        cache.put("key2", "value2");
+        cache.now = 1200;
+        cache.removeExpiredEntries();
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertEquals(cache.get("key2"), "value2");
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+
+        BoundedTTLCache<String, String> cache = new BoundedTTLCache<>(10, 60000);
+
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        cache.remove("key1");
+        Assert.assertNull(cache.get("key1"));
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidMaxEntries() {
+
+        new BoundedTTLCache<String, String>(0, 60000);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidTimeToLive() {
+
+        new BoundedTTLCache<String, String>(10, 0);
+    }
+
+    /**
+     * Cache with a controllable clock.
+     */
+    private static class MutableClockCache<K, V> extends BoundedTTLCache<K, V> {
+
+        private long now = 0;
+
+        MutableClockCache(int maxEntries, long timeToLiveMillis) {
+
+            super(maxEntries, timeToLiveMillis);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+
+            return now;
+        }
+    }
+}
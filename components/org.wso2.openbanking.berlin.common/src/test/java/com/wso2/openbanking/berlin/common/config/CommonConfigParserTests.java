@@ -21,18 +21,30 @@ package org.wso2.openbanking.berlin.common.config;
 import com.wso2.openbanking.accelerator.common.config.OpenBankingConfigParser;
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingRuntimeException;
 import com.wso2.openbanking.accelerator.common.util.CarbonUtils;
+import org.apache.axiom.om.OMElement;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
 import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.common.util.CommonTestUtil;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @PrepareForTest({OpenBankingConfigParser.class})
 @PowerMockIgnore({"jdk.internal.reflect.*"})
@@ -224,4 +236,153 @@ public class CommonConfigParserTests extends PowerMockTestCase {
         Assert.assertNotNull(commonConfigParser.getPayableAccountsRetrieveEndpoint(),
                 "http://localhost:9763/api/openbanking/backend/sharable-accounts");
     }
+
+    @Test (priority = 18)
+    public void testReloadUnderConcurrentReaders() throws Exception {
+
+        String originalConfig = readTestConfig();
+        // The SCA requirement and the frequency per day are changed together, so a reader seeing one of them
+        // without the other would have read a partially reloaded configuration
+        String modifiedConfig = originalConfig.replace("<Required>true</Required>", "<Required>false</Required>")
+                .replace("<Frequency>4</Frequency>", "<Frequency>2</Frequency>");
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, originalConfig.getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> readerError = new AtomicReference<>();
+        AtomicLong readCount = new AtomicLong();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        Map<String, Object> configuration = commonConfigParser.getConfiguration();
+                        boolean scaRequired = Boolean.parseBoolean((String) configuration
+                                .get(CommonConstants.SCA_REQUIRED));
+                        Assert.assertEquals(configuration.get(CommonConstants.FREQ_PER_DAY_CONFIG_VALUE),
+                                scaRequired ? "4" : "2");
+                        Assert.assertEquals(commonConfigParser.getSupportedScaMethods().size(), 2);
+                        Assert.assertEquals(commonConfigParser.getSupportedScaApproaches().get(0).get("Name"),
+                                "REDIRECT");
+                        readCount.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    readerError.compareAndSet(null, e);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        while (readCount.get() == 0 && readerError.get() == null) {
+            Thread.sleep(1);
+        }
+        long lastModified = configFile.toFile().lastModified();
+        for (int i = 1; i <= 50; i++) {
+            Files.write(configFile, (i % 2 == 1 ? modifiedConfig : originalConfig)
+                    .getBytes(StandardCharsets.UTF_8));
+            // Moves the modification time forward since the file system may not record sub-second changes
+            Assert.assertTrue(configFile.toFile().setLastModified(lastModified + i * 1000L));
+            Assert.assertTrue(commonConfigParser.reloadIfModified());
+        }
+        Files.write(configFile, modifiedConfig.getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(configFile.toFile().setLastModified(lastModified + 51 * 1000L));
+        Assert.assertTrue(commonConfigParser.reloadIfModified());
+
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        Files.delete(configFile);
+
+        Assert.assertNull(readerError.get());
+        Assert.assertTrue(readCount.get() > 0);
+        Assert.assertFalse(commonConfigParser.isScaRequired());
+        Assert.assertEquals(commonConfigParser.getConfiguredMinimumFreqPerDay(), 2);
+    }
+
+    @Test (priority = 19)
+    public void testReloadIfModifiedSkipsUnchangedFile() throws IOException {
+
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, readTestConfig().getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+
+        Assert.assertFalse(commonConfigParser.reloadIfModified());
+        Files.delete(configFile);
+    }
+
+    @Test (priority = 20)
+    public void testFailedReloadRetainsConfiguration() throws IOException {
+
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, readTestConfig().getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+
+        Files.write(configFile, "<Server".getBytes(StandardCharsets.UTF_8));
+        Assert.assertFalse(commonConfigParser.reload());
+        Files.delete(configFile);
+
+        Assert.assertTrue(commonConfigParser.isScaRequired());
+        Assert.assertEquals(commonConfigParser.getSupportedScaMethods().get(0).get("Type"), "SMS_OTP");
+    }
+
+    @Test (priority = 21)
+    public void testNonNumericConfigurationFallsBackToDefault() throws IOException {
+
+        String config = readTestConfig().replace("<Frequency>4</Frequency>", "<Frequency>four</Frequency>")
+                .replace("<Gateway>", "<ConfigReload><IntervalSeconds>thirty</IntervalSeconds></ConfigReload>" +
+                        "<Gateway>");
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, config.getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+        Files.delete(configFile);
+
+        Assert.assertEquals(commonConfigParser.getConfiguredMinimumFreqPerDay(), 4);
+        Assert.assertEquals(commonConfigParser.getConfigReloadIntervalSeconds(), 30);
+        Assert.assertEquals(commonConfigParser.validUntilDaysCap(), 0);
+    }
+
+    @Test (priority = 22)
+    public void testConfigElementIsCopied() throws IOException {
+
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, readTestConfig().getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+        Files.delete(configFile);
+
+        OMElement gatewayElement = commonConfigParser.getConfigElement("Gateway");
+        gatewayElement.getFirstElement().detach();
+
+        Assert.assertNotNull(commonConfigParser.getConfigElement("Gateway").getFirstElement());
+        Assert.assertNull(commonConfigParser.getConfigElement("Unknown"));
+    }
+
+    @Test (priority = 23)
+    public void testReloadListenersAreNotifiedAfterReload() throws IOException {
+
+        Path configFile = Files.createTempFile("open-banking-berlin", ".xml");
+        Files.write(configFile, readTestConfig().getBytes(StandardCharsets.UTF_8));
+        CommonConfigParser commonConfigParser = new CommonConfigParser(configFile.toFile());
+        AtomicInteger reloadCount = new AtomicInteger();
+        commonConfigParser.addReloadListener(() -> {
+            throw new IllegalStateException("Failing listener");
+        });
+        commonConfigParser.addReloadListener(reloadCount::incrementAndGet);
+
+        Assert.assertTrue(commonConfigParser.reload());
+        Assert.assertEquals(reloadCount.get(), 1);
+
+        Files.write(configFile, "<Server".getBytes(StandardCharsets.UTF_8));
+        Assert.assertFalse(commonConfigParser.reload());
+        Files.delete(configFile);
+        Assert.assertEquals(reloadCount.get(), 1);
+    }
+
+    private String readTestConfig() throws IOException {
+
+        return new String(Files.readAllBytes(Paths.get(absolutePathForTestResources, "open-banking-berlin.xml")),
+                StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This contains unit tests for BerlinErrorTemplate class.
+ */
+public class BerlinErrorTemplateTests {
+
+    @DataProvider(name = "errorTexts")
+    public Object[][] getErrorTexts() {
+
+        return new Object[][]{
+                {"Token is not valid"},
+                {"Header parameter 'X-Request-ID' is required on path \"/consents\""},
+                {"Line\nbreak\tand back\\slash with \u0001 control character"},
+                {"Zahlung f\u00fcr \u00dcberweisung abgelehnt \u20ac"},
+                {""}
+        };
+    }
+
+    @Test(dataProvider = "errorTexts")
+    public void testRenderedErrorMatchesConstructedError(String text) throws ParseException {
+
+        for (TPPMessage.CodeEnum code : TPPMessage.CodeEnum.values()) {
+            JSONObject constructedError = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR, code,
+                    text);
+            BerlinErrorTemplate template = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR, code);
+
+            Assert.assertEquals(parse(template.render(text)), constructedError);
+            Assert.assertEquals(parse(new String(template.renderBytes(text), StandardCharsets.UTF_8)),
+                    constructedError);
+        }
+    }
+
+    @Test
+    public void testRenderedWarningMatchesConstructedWarning() throws ParseException {
+
+        JSONObject constructedWarning = ErrorUtil.constructBerlinError(null, TPPMessage.CategoryEnum.WARNING,
+                TPPMessage.CodeEnum.FORMAT_ERROR, "sampleText");
+
+        Assert.assertEquals(parse(BerlinErrorTemplate.of(TPPMessage.CategoryEnum.WARNING,
+                TPPMessage.CodeEnum.FORMAT_ERROR).render("sampleText")), constructedWarning);
+    }
+
+    @Test
+    public void testNullCodeAndTextAreOmitted() throws ParseException {
+
+        String errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR, null).render(null);
+        JSONObject tppMessage = (JSONObject) ((JSONArray) parse(errorResponse).get("tppMessages")).get(0);
+
+        Assert.assertEquals(parse(errorResponse), ErrorUtil.constructBerlinError("",
+                TPPMessage.CategoryEnum.ERROR, null, null));
+        Assert.assertEquals(tppMessage.get("category"), TPPMessage.CategoryEnum.ERROR.toString());
+        Assert.assertFalse(tppMessage.containsKey("code"));
+        Assert.assertFalse(tppMessage.containsKey("text"));
+    }
+
+    @Test
+    public void testCodeValueIsRendered() throws ParseException {
+
+        String errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.SERVICE_INVALID_405).render("Method not allowed");
+        JSONObject tppMessage = (JSONObject) ((JSONArray) parse(errorResponse).get("tppMessages")).get(0);
+
+        Assert.assertEquals(tppMessage.get("code"), "SERVICE_INVALID");
+    }
+
+    private static JSONObject parse(String json) throws ParseException {
+
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json);
+    }
+}
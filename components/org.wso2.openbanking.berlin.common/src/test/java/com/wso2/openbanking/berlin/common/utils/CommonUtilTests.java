@@ -185,6 +185,51 @@ public class CommonUtilTests {
         Assert.assertEquals(currentScaMethods.size(), 0);
     }
 
+    @Test
+    public void testScaApproachAndMethodsAreResolvedOnce() {
+
+        Map<String, Object> scaApproachAndMethods = CommonUtil.getScaApproachAndMethods(null, true);
+
+        Assert.assertSame(CommonUtil.getScaApproachAndMethods(null, true), scaApproachAndMethods);
+        Assert.assertSame(scaApproachAndMethods.get(CommonConstants.SCA_APPROACH_KEY),
+                CommonUtil.getDefaultScaApproach());
+        Assert.assertSame(((List<ScaMethod>) scaApproachAndMethods.get(CommonConstants.SCA_METHODS_KEY)).get(0),
+                CommonUtil.getScaMethod(ScaApproachEnum.REDIRECT));
+        Assert.assertSame(CommonUtil.getScaApproach(ScaApproachEnum.DECOUPLED),
+                CommonUtil.getSupportedScaApproaches().get(1));
+        Assert.assertNull(CommonUtil.getScaMethod(ScaApproachEnum.EMBEDDED));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testResolvedScaMethodsCannotBeModified() {
+
+        Map<String, Object> scaApproachAndMethods = CommonUtil.getScaApproachAndMethods(true, true);
+
+        ((List<ScaMethod>) scaApproachAndMethods.get(CommonConstants.SCA_METHODS_KEY)).add(new ScaMethod());
+    }
+
+    @Test
+    public void testScaResolutionTableIsRebuiltWhenConfigurationChanges() {
+
+        Map<String, Object> scaApproachAndMethods = CommonUtil.getScaApproachAndMethods(null, true);
+
+        // Only the decoupled SCA method is configured after a configuration reload
+        List<Map<String, String>> reloadedScaMethods = new ArrayList<>(supportedScaMethods.subList(1, 2));
+        Mockito.doReturn(reloadedScaMethods).when(commonConfigParserMock).getSupportedScaMethods();
+
+        Map<String, Object> reloadedScaApproachAndMethods = CommonUtil.getScaApproachAndMethods(null, true);
+        ScaApproach currentScaApproach = (ScaApproach) reloadedScaApproachAndMethods
+                .get(CommonConstants.SCA_APPROACH_KEY);
+        List<ScaMethod> currentScaMethods = (List<ScaMethod>) reloadedScaApproachAndMethods
+                .get(CommonConstants.SCA_METHODS_KEY);
+
+        Assert.assertNotSame(reloadedScaApproachAndMethods, scaApproachAndMethods);
+        Assert.assertEquals(currentScaApproach.getApproach(), ScaApproachEnum.DECOUPLED);
+        Assert.assertEquals(currentScaMethods.size(), 1);
+        Assert.assertEquals(currentScaMethods.get(0).getAuthenticationMethodId(), "push-otp");
+        Assert.assertNull(CommonUtil.getScaMethod(ScaApproachEnum.REDIRECT));
+    }
+
     @Test
     public void testConvertObjectToJson() {
 
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This contains unit tests for DateUtil class.
+ */
+public class DateUtilTests {
+
+    @Test
+    public void testCurrentDate() {
+
+        Assert.assertEquals(DateUtil.getCurrentDate(), LocalDate.now(ZoneOffset.UTC));
+        Assert.assertEquals(DateUtil.getCurrentDateString(), LocalDate.now(ZoneOffset.UTC).toString());
+    }
+
+    @Test
+    public void testCurrentDayIsCachedUntilTheDayEnds() {
+
+        long dayStartMillis = TimeUnit.SECONDS.toMillis(DateUtil.toEpochSeconds(LocalDate.parse("2025-03-01")));
+        long dayMillis = TimeUnit.DAYS.toMillis(1);
+        DateUtil.resetCurrentDay(dayStartMillis);
+
+        try {
+            DateUtil.CurrentDay day = DateUtil.getCurrentDay(dayStartMillis);
+            Assert.assertEquals(day.getFormattedDate(), "2025-03-01");
+            Assert.assertSame(DateUtil.getCurrentDay(dayStartMillis + dayMillis - 1), day);
+
+            DateUtil.CurrentDay nextDay = DateUtil.getCurrentDay(dayStartMillis + dayMillis);
+            Assert.assertNotSame(nextDay, day);
+            Assert.assertEquals(nextDay.getDate(), LocalDate.parse("2025-03-02"));
+            Assert.assertEquals(nextDay.getFormattedDate(), "2025-03-02");
+
+            // A clock reading of the previous day is answered but does not move the cached day back
+            Assert.assertEquals(DateUtil.getCurrentDay(dayStartMillis + dayMillis - 1).getFormattedDate(),
+                    "2025-03-01");
+            Assert.assertSame(DateUtil.getCurrentDay(dayStartMillis + dayMillis), nextDay);
+        } finally {
+            // Restore the current day for the other tests
+            DateUtil.resetCurrentDay(System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    public void testEpochSecondConversions() {
+
+        Assert.assertEquals(DateUtil.toEpochSeconds(LocalDate.parse("2021-12-31")), 1640908800);
+        Assert.assertEquals(DateUtil.toDate(1640908800), LocalDate.parse("2021-12-31"));
+        Assert.assertEquals(DateUtil.toDate(1640995199), LocalDate.parse("2021-12-31"));
+        Assert.assertEquals(DateUtil.toDate(-1), LocalDate.parse("1969-12-31"));
+    }
+
+    @Test
+    public void testFormatDate() {
+
+        Assert.assertEquals(DateUtil.formatDate(1677628800), "2023-03-01");
+        Assert.assertEquals(DateUtil.formatDate(LocalDate.parse("9999-12-31")), "9999-12-31");
+        Assert.assertEquals(DateUtil.formatDate(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())),
+                DateUtil.getCurrentDateString());
+    }
+
+    @Test
+    public void testParseDate() {
+
+        Assert.assertEquals(DateUtil.parseDate("2024-02-29"), LocalDate.of(2024, 2, 29));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void testParseInvalidDate() {
+
+        DateUtil.parseDate("2023-02-29T10:15:30Z");
+    }
+
+    @Test
+    public void testParseHttpDate() {
+
+        ZonedDateTime expected = ZonedDateTime.of(2021, 12, 31, 10, 15, 30, 0, ZoneOffset.UTC);
+        Assert.assertEquals(DateUtil.parseHttpDate("Fri, 31 Dec 2021 10:15:30 GMT").toInstant(),
+                expected.toInstant());
+    }
+}
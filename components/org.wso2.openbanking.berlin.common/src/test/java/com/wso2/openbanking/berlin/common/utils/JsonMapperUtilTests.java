@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.common.models.TPPMessages;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This contains unit tests for JsonMapperUtil class.
+ */
+public class JsonMapperUtilTests {
+
+    @Test
+    public void testToJSONObjectMatchesParsedJson() throws IOException, ParseException {
+
+        TPPMessages tppMessages = getTppMessages();
+
+        JSONObject tppMessagesObject = JsonMapperUtil.toJSONObject(tppMessages);
+
+        Assert.assertEquals(tppMessagesObject, parse(JsonMapperUtil.getObjectMapper()
+                .writeValueAsString(tppMessages)));
+        JSONArray tppMessagesArray = (JSONArray) tppMessagesObject.get("tppMessages");
+        Assert.assertEquals(((JSONObject) tppMessagesArray.get(0)).get("path"), "samplePath");
+        Assert.assertFalse(((JSONObject) tppMessagesArray.get(1)).containsKey("path"));
+    }
+
+    @Test
+    public void testToJSONObjectNumberTypes() throws IOException, ParseException {
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("int", 12);
+        values.put("smallLong", 12L);
+        values.put("long", Long.MAX_VALUE);
+        values.put("bigInteger", BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(2));
+        values.put("double", 123.5);
+        values.put("list", Arrays.asList(1, "two", null, true));
+
+        JSONObject valuesObject = JsonMapperUtil.toJSONObject(values);
+
+        Assert.assertEquals(valuesObject, parse(JsonMapperUtil.getObjectMapper().writeValueAsString(values)));
+        Assert.assertEquals(valuesObject.get("smallLong"), 12);
+        Assert.assertEquals(valuesObject.get("long"), Long.MAX_VALUE);
+        Assert.assertTrue(valuesObject.get("list") instanceof JSONArray);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testToJSONObjectWithArray() throws IOException {
+
+        JsonMapperUtil.toJSONObject(Arrays.asList("a", "b"));
+    }
+
+    @Test
+    public void testToJsonBytes() throws IOException {
+
+        TPPMessages tppMessages = getTppMessages();
+
+        Assert.assertEquals(new String(JsonMapperUtil.toJsonBytes(tppMessages), StandardCharsets.UTF_8),
+                JsonMapperUtil.getObjectMapper().writeValueAsString(tppMessages));
+        Assert.assertEquals(new String(ErrorUtil.constructBerlinErrorBytes(tppMessages.getTppMessages()),
+                StandardCharsets.UTF_8), JsonMapperUtil.getObjectMapper().writeValueAsString(tppMessages));
+    }
+
+    @Test
+    public void testIsJsonEquivalent() throws IOException {
+
+        Assert.assertTrue(JsonMapperUtil.isJsonEquivalent("{\"a\": 1, \"b\": [1, 2], \"c\": {\"d\": \"e\"}}",
+                "{\"c\":{\"d\":\"e\"},\"b\":[1,2],\"a\":1}"));
+        Assert.assertFalse(JsonMapperUtil.isJsonEquivalent("{\"b\": [1, 2]}", "{\"b\": [2, 1]}"));
+        Assert.assertFalse(JsonMapperUtil.isJsonEquivalent("{\"a\": \"1\"}", "{\"a\": 1}"));
+    }
+
+    private static TPPMessages getTppMessages() {
+
+        List<TPPMessage> tppMessageList = new ArrayList<>();
+        tppMessageList.add(ErrorUtil.constructTPPMessage("samplePath", TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.FORMAT_ERROR, "Text with \"quotes\" and \u00fcmlaut"));
+        tppMessageList.add(ErrorUtil.constructTPPMessage(null, TPPMessage.CategoryEnum.WARNING,
+                TPPMessage.CodeEnum.CONSENT_UNKNOWN, "sampleText"));
+
+        TPPMessages tppMessages = new TPPMessages();
+        tppMessages.setTppMessages(tppMessageList);
+        return tppMessages;
+    }
+
+    private static JSONObject parse(String json) throws ParseException {
+
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json);
+    }
+}
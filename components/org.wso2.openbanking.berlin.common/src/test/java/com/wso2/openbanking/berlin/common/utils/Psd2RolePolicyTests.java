@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.common.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.enums.Psd2RoleEnum;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This contains unit tests for Psd2RolePolicy class.
+ */
+public class Psd2RolePolicyTests {
+
+    @DataProvider
+    public Object[][] isAllowedDataProvider() {
+
+        return new Object[][]{
+                {Arrays.asList("AISP", "PISP", "CBPII"), true},
+                {Collections.singletonList("AISP"), true},
+                {Collections.emptyList(), true},
+                {Collections.singletonList("ASPSP"), false},
+                {Arrays.asList("dummy1", "dummy2"), false},
+                {Arrays.asList("AISP", "PISP", "dummy"), false},
+                {null, false},
+        };
+    }
+
+    @Test(dataProvider = "isAllowedDataProvider")
+    public void testIsAllowed(List<String> roles, boolean isAllowed) {
+
+        Psd2RolePolicy psd2RolePolicy = new Psd2RolePolicy(getAllowedScopes());
+
+        Assert.assertEquals(psd2RolePolicy.isAllowed(roles), isAllowed);
+    }
+
+    @Test
+    public void testAllowedRoles() {
+
+        Psd2RolePolicy psd2RolePolicy = new Psd2RolePolicy(getAllowedScopes());
+
+        Assert.assertEquals(psd2RolePolicy.getAllowedRoles(),
+                EnumSet.of(Psd2RoleEnum.AISP, Psd2RoleEnum.PISP, Psd2RoleEnum.CBPII));
+    }
+
+    @Test
+    public void testCustomRoleInConfiguration() {
+
+        Map<String, List<String>> allowedScopes = getAllowedScopes();
+        allowedScopes.put("custom", Collections.singletonList("PSP_XX"));
+        Psd2RolePolicy psd2RolePolicy = new Psd2RolePolicy(allowedScopes);
+
+        Assert.assertTrue(psd2RolePolicy.isAllowed(Arrays.asList("AISP", "PSP_XX")));
+        Assert.assertFalse(psd2RolePolicy.isAllowed(Collections.singletonList("PSP_YY")));
+    }
+
+    @Test
+    public void testEmptyConfiguration() {
+
+        Psd2RolePolicy psd2RolePolicy = new Psd2RolePolicy(null);
+
+        Assert.assertTrue(psd2RolePolicy.getAllowedRoles().isEmpty());
+        Assert.assertFalse(psd2RolePolicy.isAllowed(Collections.singletonList("AISP")));
+    }
+
+    private Map<String, List<String>> getAllowedScopes() {
+
+        Map<String, List<String>> allowedScopes = new HashMap<>();
+        allowedScopes.put("accounts", Arrays.asList("AISP", "PISP"));
+        allowedScopes.put("payments", Collections.singletonList("PISP"));
+        allowedScopes.put("cof", Collections.singletonList("CBPII"));
+        return allowedScopes;
+    }
+}
@@ -20,7 +20,6 @@ package org.wso2.openbanking.berlin.consent.extensions.authorize.factory;
 
 import com.wso2.openbanking.accelerator.common.util.Generated;
 import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
-import org.apache.commons.lang3.StringUtils;
 import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.common.AuthorisationStateChangeHook;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.common.impl.AccountsStateChangeHook;
@@ -39,11 +38,28 @@ import org.wso2.openbanking.berlin.consent.extensions.authorize.impl.handler.ret
 import org.wso2.openbanking.berlin.consent.extensions.authorize.impl.handler.retrieval.PISAccountListRetrievalHandler;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.impl.handler.retrieval.PaymentConsentRetrievalHandler;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Factory class to get the class based in request type.
+ *
+ * <p>The handlers are stateless, hence a single instance of each handler is built for each consent type and is shared
+ * by all requests. The handlers are built on the first request for a handler rather than when the factory is loaded,
+ * so that the consent core service of the persist handlers is taken from {@link #getConsentService()} at that
+ * time.</p>
  */
 public class AuthorizationHandlerFactory {
 
+    private static final Map<String, ConsentTypeEnum> CONSENT_TYPES = new HashMap<>();
+
+    static {
+        for (ConsentTypeEnum consentType : ConsentTypeEnum.values()) {
+            CONSENT_TYPES.put(consentType.toString(), consentType);
+        }
+    }
+
     /**
      * Method to get the account list authorize handler.
      *
@@ -52,18 +68,7 @@ public class AuthorizationHandlerFactory {
      */
     public static AccountListRetrievalHandler getAccountListRetrievalHandler(String type) {
 
-        AccountListRetrievalHandler accountListRetrievalHandler = null;
-
-        if (StringUtils.equals(ConsentTypeEnum.ACCOUNTS.toString(), type)) {
-            accountListRetrievalHandler = new AISAccountListRetrievalHandler();
-        } else if (StringUtils.equals(ConsentTypeEnum.PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.BULK_PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.PERIODIC_PAYMENTS.toString(), type)) {
-            accountListRetrievalHandler = new PISAccountListRetrievalHandler();
-        } else if (StringUtils.equals(ConsentTypeEnum.FUNDS_CONFIRMATION.toString(), type)) {
-            accountListRetrievalHandler = new PIISAccountListRetrievalHandler();
-        }
-        return accountListRetrievalHandler;
+        return getHandler(Handlers.ACCOUNT_LIST_RETRIEVAL_HANDLERS, type);
     }
 
     /**
@@ -74,18 +79,7 @@ public class AuthorizationHandlerFactory {
      */
     public static ConsentRetrievalHandler getConsentRetrievalHandler(String type) {
 
-        ConsentRetrievalHandler consentRetrievalHandler = null;
-
-        if (StringUtils.equals(ConsentTypeEnum.ACCOUNTS.toString(), type)) {
-            consentRetrievalHandler = new AccountConsentRetrievalHandler();
-        } else if (StringUtils.equals(ConsentTypeEnum.PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.BULK_PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.PERIODIC_PAYMENTS.toString(), type)) {
-            consentRetrievalHandler = new PaymentConsentRetrievalHandler();
-        } else if (StringUtils.equals(ConsentTypeEnum.FUNDS_CONFIRMATION.toString(), type)) {
-            consentRetrievalHandler = new FundsConfirmationConsentRetrievalHandler();
-        }
-        return consentRetrievalHandler;
+        return getHandler(Handlers.CONSENT_RETRIEVAL_HANDLERS, type);
     }
 
     /**
@@ -96,18 +90,7 @@ public class AuthorizationHandlerFactory {
      */
     public static ConsentPersistHandler getConsentPersistHandler(String type) {
 
-        ConsentPersistHandler consentPersistHandler = null;
-
-        if (StringUtils.equals(ConsentTypeEnum.ACCOUNTS.toString(), type)) {
-            consentPersistHandler = new AccountsConsentPersistHandler(getConsentService());
-        } else if (StringUtils.equals(ConsentTypeEnum.PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.BULK_PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.PERIODIC_PAYMENTS.toString(), type)) {
-            consentPersistHandler = new PaymentConsentPersistHandler(getConsentService());
-        } else if (StringUtils.equals(ConsentTypeEnum.FUNDS_CONFIRMATION.toString(), type)) {
-            consentPersistHandler = new FundsConfirmationsConsentPersistHandler(getConsentService());
-        }
-        return consentPersistHandler;
+        return getHandler(Handlers.CONSENT_PERSIST_HANDLERS, type);
     }
 
     /**
@@ -118,19 +101,7 @@ public class AuthorizationHandlerFactory {
      */
     public static AuthorisationStateChangeHook getAuthorisationStateChangeHook(String type) {
 
-        AuthorisationStateChangeHook authorisationStateChangeHook = null;
-
-        if (StringUtils.equals(ConsentTypeEnum.ACCOUNTS.toString(), type)) {
-            authorisationStateChangeHook = new AccountsStateChangeHook();
-        } else if (StringUtils.equals(ConsentTypeEnum.PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.BULK_PAYMENTS.toString(), type)
-                || StringUtils.equals(ConsentTypeEnum.PERIODIC_PAYMENTS.toString(), type)) {
-            authorisationStateChangeHook = new PaymentsStateChangeHook();
-        } else if (StringUtils.equals(ConsentTypeEnum.FUNDS_CONFIRMATION.toString(), type)) {
-            authorisationStateChangeHook = new FundsConfirmationsStateChangeHook();
-        }
-        return authorisationStateChangeHook;
-
+        return getHandler(Handlers.AUTHORISATION_STATE_CHANGE_HOOKS, type);
     }
 
     @Generated(message = "Excluded from coverage since this is used for testing purposes")
@@ -138,4 +109,56 @@ public class AuthorizationHandlerFactory {
 
         return new ConsentCoreServiceImpl();
     }
+
+    private static <T> T getHandler(Map<ConsentTypeEnum, T> handlers, String type) {
+
+        ConsentTypeEnum consentType = type == null ? null : CONSENT_TYPES.get(type);
+        return consentType == null ? null : handlers.get(consentType);
+    }
+
+    /**
+     * Holder of the shared handlers, which builds them when it is first used.
+     */
+    private static class Handlers {
+
+        private static final Map<ConsentTypeEnum, AccountListRetrievalHandler> ACCOUNT_LIST_RETRIEVAL_HANDLERS =
+                new EnumMap<>(ConsentTypeEnum.class);
+        private static final Map<ConsentTypeEnum, ConsentRetrievalHandler> CONSENT_RETRIEVAL_HANDLERS =
+                new EnumMap<>(ConsentTypeEnum.class);
+        private static final Map<ConsentTypeEnum, ConsentPersistHandler> CONSENT_PERSIST_HANDLERS =
+                new EnumMap<>(ConsentTypeEnum.class);
+        private static final Map<ConsentTypeEnum, AuthorisationStateChangeHook> AUTHORISATION_STATE_CHANGE_HOOKS =
+                new EnumMap<>(ConsentTypeEnum.class);
+
+        static {
+            ConsentCoreServiceImpl consentCoreService = getConsentService();
+
+            ACCOUNT_LIST_RETRIEVAL_HANDLERS.put(ConsentTypeEnum.ACCOUNTS, new AISAccountListRetrievalHandler());
+            CONSENT_RETRIEVAL_HANDLERS.put(ConsentTypeEnum.ACCOUNTS, new AccountConsentRetrievalHandler());
+            CONSENT_PERSIST_HANDLERS.put(ConsentTypeEnum.ACCOUNTS,
+                    new AccountsConsentPersistHandler(consentCoreService));
+            AUTHORISATION_STATE_CHANGE_HOOKS.put(ConsentTypeEnum.ACCOUNTS, new AccountsStateChangeHook());
+
+            AccountListRetrievalHandler pisAccountListRetrievalHandler = new PISAccountListRetrievalHandler();
+            ConsentRetrievalHandler paymentConsentRetrievalHandler = new PaymentConsentRetrievalHandler();
+            ConsentPersistHandler paymentConsentPersistHandler = new PaymentConsentPersistHandler(consentCoreService);
+            AuthorisationStateChangeHook paymentsStateChangeHook = new PaymentsStateChangeHook();
+            for (ConsentTypeEnum consentType : new ConsentTypeEnum[]{ConsentTypeEnum.PAYMENTS,
+                    ConsentTypeEnum.BULK_PAYMENTS, ConsentTypeEnum.PERIODIC_PAYMENTS}) {
+                ACCOUNT_LIST_RETRIEVAL_HANDLERS.put(consentType, pisAccountListRetrievalHandler);
+                CONSENT_RETRIEVAL_HANDLERS.put(consentType, paymentConsentRetrievalHandler);
+                CONSENT_PERSIST_HANDLERS.put(consentType, paymentConsentPersistHandler);
+                AUTHORISATION_STATE_CHANGE_HOOKS.put(consentType, paymentsStateChangeHook);
+            }
+
+            ACCOUNT_LIST_RETRIEVAL_HANDLERS.put(ConsentTypeEnum.FUNDS_CONFIRMATION,
+                    new PIISAccountListRetrievalHandler());
+            CONSENT_RETRIEVAL_HANDLERS.put(ConsentTypeEnum.FUNDS_CONFIRMATION,
+                    new FundsConfirmationConsentRetrievalHandler());
+            CONSENT_PERSIST_HANDLERS.put(ConsentTypeEnum.FUNDS_CONFIRMATION,
+                    new FundsConfirmationsConsentPersistHandler(consentCoreService));
+            AUTHORISATION_STATE_CHANGE_HOOKS.put(ConsentTypeEnum.FUNDS_CONFIRMATION,
+                    new FundsConfirmationsStateChangeHook());
+        }
+    }
 }
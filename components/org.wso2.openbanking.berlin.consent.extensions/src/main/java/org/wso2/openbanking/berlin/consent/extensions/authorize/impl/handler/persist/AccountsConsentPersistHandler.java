@@ -53,8 +53,6 @@ public class AccountsConsentPersistHandler implements ConsentPersistHandler {
     private static final Log log = LogFactory.getLog(AccountsConsentPersistHandler.class);
 
     private ConsentCoreServiceImpl consentCoreService;
-    private Map<String, ArrayList<String>> accountIdMapWithPermissions = new HashMap<>();
-    private HashMap<String, String> currencyConsentAttributes = new HashMap<>();
 
     public AccountsConsentPersistHandler(ConsentCoreServiceImpl consentCoreService) {
 
@@ -95,17 +93,18 @@ public class AccountsConsentPersistHandler implements ConsentPersistHandler {
                 .get(ConsentExtensionConstants.TRANSACTIONS_ACCOUNT_REF_OBJECTS);
 
         // Mapping account Ids with permissions
-        mapAccountIdAndCurrencyWithPermissions(staticAccountsAccountRefObjects,
+        Map<String, ArrayList<String>> accountIdMapWithPermissions = new HashMap<>();
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, staticAccountsAccountRefObjects,
                 AccessMethodEnum.ACCOUNTS.toString());
-        mapAccountIdAndCurrencyWithPermissions(checkedAccountsAccountRefObjects,
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, checkedAccountsAccountRefObjects,
                 AccessMethodEnum.ACCOUNTS.toString());
-        mapAccountIdAndCurrencyWithPermissions(staticBalancesAccountRefObjects,
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, staticBalancesAccountRefObjects,
                 AccessMethodEnum.BALANCES.toString());
-        mapAccountIdAndCurrencyWithPermissions(checkedBalancesAccountRefObjects,
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, checkedBalancesAccountRefObjects,
                 AccessMethodEnum.BALANCES.toString());
-        mapAccountIdAndCurrencyWithPermissions(staticTransactionsAccountRefObjects,
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, staticTransactionsAccountRefObjects,
                 AccessMethodEnum.TRANSACTIONS.toString());
-        mapAccountIdAndCurrencyWithPermissions(checkedTransactionsAccountRefObjects,
+        mapAccountIdAndCurrencyWithPermissions(accountIdMapWithPermissions, checkedTransactionsAccountRefObjects,
                 AccessMethodEnum.TRANSACTIONS.toString());
 
         if (accountIdMapWithPermissions.isEmpty()) {
@@ -153,10 +152,12 @@ public class AccountsConsentPersistHandler implements ConsentPersistHandler {
     /**
      * Mapping account reference info with permissions.
      *
-     * @param accountRefObjects account reference objects
-     * @param accessMethod      access method
+     * @param accountIdMapWithPermissions account Ids with permissions map of the request
+     * @param accountRefObjects           account reference objects
+     * @param accessMethod                access method
      */
-    private void mapAccountIdAndCurrencyWithPermissions(JSONArray accountRefObjects, String accessMethod) {
+    private void mapAccountIdAndCurrencyWithPermissions(Map<String, ArrayList<String>> accountIdMapWithPermissions,
+                                                        JSONArray accountRefObjects, String accessMethod) {
 
         if (accountRefObjects == null || accountRefObjects.isEmpty()) {
             return;
@@ -29,6 +29,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
+import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.AccountList;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.ConsentAuthUtil;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.DataRetrievalUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
@@ -36,7 +37,6 @@ import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionCon
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.PermissionEnum;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -136,8 +136,7 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
         JSONArray accountDetailsArray = new JSONArray();
 
         String shareableAccountsEndpoint = CommonConfigParser.getInstance().getShareableAccountsRetrieveEndpoint();
-        JSONArray bankOfferedAccounts = DataRetrievalUtil.getAccountsFromEndpoint(userId, shareableAccountsEndpoint,
-                new HashMap<>(), new HashMap<>());
+        AccountList bankOfferedAccounts = DataRetrievalUtil.getAccountList(userId, shareableAccountsEndpoint);
 
         if (bankOfferedAccounts == null) {
             log.error("No accounts found");
@@ -249,13 +248,13 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
         JSONArray accountDetailsArray = new JSONArray();
 
         String shareableAccountsEndpoint = CommonConfigParser.getInstance().getShareableAccountsRetrieveEndpoint();
-        JSONArray bankOfferedAccounts = DataRetrievalUtil.getAccountsFromEndpoint(userId, shareableAccountsEndpoint,
-                new HashMap<>(), new HashMap<>());
+        AccountList bankOfferedAccountList = DataRetrievalUtil.getAccountList(userId, shareableAccountsEndpoint);
 
-        if (bankOfferedAccounts == null) {
+        if (bankOfferedAccountList == null) {
             log.error("No accounts found");
             return null;
         }
+        JSONArray bankOfferedAccounts = bankOfferedAccountList.getAccounts();
 
         JSONArray accountsAccountRefObjects = (JSONArray) accessObject
                 .get(AccessMethodEnum.ACCOUNTS.toString());
@@ -326,13 +325,13 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
         JSONArray accountDetailsArray = new JSONArray();
 
         String shareableAccountsEndpoint = CommonConfigParser.getInstance().getShareableAccountsRetrieveEndpoint();
-        JSONArray bankOfferedAccounts = DataRetrievalUtil.getAccountsFromEndpoint(userId,
-                shareableAccountsEndpoint, new HashMap<>(), new HashMap<>());
+        AccountList bankOfferedAccountList = DataRetrievalUtil.getAccountList(userId, shareableAccountsEndpoint);
 
-        if (bankOfferedAccounts == null) {
+        if (bankOfferedAccountList == null) {
             log.error("No accounts found");
             return null;
         }
+        JSONArray bankOfferedAccounts = bankOfferedAccountList.getAccounts();
 
         JSONArray permissionArray = new JSONArray();
         JSONArray accessMethodArray = new JSONArray();
@@ -380,13 +379,13 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
         accessMethodArray.add(AccessMethodEnum.TRANSACTIONS.toString());
 
         String shareableAccountsEndpoint = CommonConfigParser.getInstance().getShareableAccountsRetrieveEndpoint();
-        JSONArray bankOfferedAccounts = DataRetrievalUtil.getAccountsFromEndpoint(userId,
-                shareableAccountsEndpoint, new HashMap<>(), new HashMap<>());
+        AccountList bankOfferedAccountList = DataRetrievalUtil.getAccountList(userId, shareableAccountsEndpoint);
 
-        if (bankOfferedAccounts == null) {
+        if (bankOfferedAccountList == null) {
             log.error("No accounts found");
             return null;
         }
+        JSONArray bankOfferedAccounts = bankOfferedAccountList.getAccounts();
 
         JSONObject object = new JSONObject();
         object.put(ConsentExtensionConstants.ACCOUNT_REF_OBJECTS, bankOfferedAccounts);
@@ -405,10 +404,10 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
      * considering accounts service related multi-currency validations.
      *
      * @param accountRefObjects account reference objects array from initiation payload
-     * @param accountArray      accounts array retrieved from bank backend
+     * @param accountList       accounts retrieved from bank backend
      * @return validated account ref objects array
      */
-    private JSONArray getValidatedAccountRefObjects(JSONArray accountRefObjects, JSONArray accountArray) {
+    private JSONArray getValidatedAccountRefObjects(JSONArray accountRefObjects, AccountList accountList) {
 
         JSONArray validatedAccountRefObjects = new JSONArray();
         for (Object accountObject : accountRefObjects) {
@@ -424,8 +423,7 @@ public class AISAccountListRetrievalHandler implements AccountListRetrievalHandl
                 continue;
             }
 
-            JSONArray filteredAccountRefObjects = ConsentAuthUtil.getFilteredAccountsForAccountNumber(accountRefObject,
-                    accountArray);
+            JSONArray filteredAccountRefObjects = accountList.getAccountsForAccountNumber(accountRefObject);
 
             if (filteredAccountRefObjects.size() > 1) {
                 // Multi currency account
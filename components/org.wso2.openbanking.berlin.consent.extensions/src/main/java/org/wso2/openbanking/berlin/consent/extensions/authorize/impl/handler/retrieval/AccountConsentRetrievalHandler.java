@@ -24,13 +24,13 @@ import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReceiptCache;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusEnum;
 
 import java.util.Map;
@@ -48,9 +48,8 @@ public class AccountConsentRetrievalHandler implements ConsentRetrievalHandler {
         String permission = consentResource.getConsentAttributes().get(ConsentExtensionConstants.PERMISSION);
 
         try {
-            String receiptString = consentResource.getReceipt();
             // This can be directly created to JSONObject since the payload is validated during initiation
-            JSONObject receiptJSON = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(receiptString);
+            JSONObject receiptJSON = ConsentReceiptCache.getReceipt(consentResource);
             return populateAccountsData(receiptJSON, permission);
         } catch (ParseException e) {
             log.error("Error while parsing retrieved consent data", e);
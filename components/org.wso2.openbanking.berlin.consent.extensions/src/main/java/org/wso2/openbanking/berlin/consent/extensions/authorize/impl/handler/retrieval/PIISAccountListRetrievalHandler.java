@@ -28,12 +28,12 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
+import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.AccountList;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.ConsentAuthUtil;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.DataRetrievalUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -49,10 +49,10 @@ public class PIISAccountListRetrievalHandler implements AccountListRetrievalHand
         JSONObject accountRefObject = (JSONObject) consentDataJSON.get(ConsentExtensionConstants.ACCOUNT_REF_OBJECT);
 
         String payableAccountsEndpoint = CommonConfigParser.getInstance().getPayableAccountsRetrieveEndpoint();
-        JSONArray userAccountsArray = DataRetrievalUtil.getAccountsFromEndpoint(consentData.getUserId(),
-                payableAccountsEndpoint, new HashMap<>(), new HashMap<>());
+        AccountList userAccountList = DataRetrievalUtil.getAccountList(consentData.getUserId(),
+                payableAccountsEndpoint);
 
-        if (userAccountsArray == null || userAccountsArray.isEmpty()) {
+        if (userAccountList == null || userAccountList.isEmpty()) {
             log.error(ErrorConstants.ACCOUNTS_NOT_FOUND_FOR_USER);
             throw new ConsentException(ResponseStatus.BAD_REQUEST,
                     ConsentAuthUtil.constructRedirectErrorJson(AuthErrorCode.INVALID_REQUEST,
@@ -68,7 +68,7 @@ public class PIISAccountListRetrievalHandler implements AccountListRetrievalHand
             // Eg: 123456xxxxxx1234, 123456xxxxxx1234 -> Both these maskedPans can belong to the same user
             validatedAccountRefObject = accountRefObject;
         } else {
-            validatedAccountRefObject = getValidatedAccountRefObject(accountRefObject, userAccountsArray);
+            validatedAccountRefObject = getValidatedAccountRefObject(accountRefObject, userAccountList);
         }
 
         if (validatedAccountRefObject == null) {
@@ -129,13 +129,12 @@ public class PIISAccountListRetrievalHandler implements AccountListRetrievalHand
      * considering funds confirmation service related multi-currency validations.
      *
      * @param accountRefObject account reference object from initiation payload
-     * @param accountArray accounts array retrieved from bank backend
+     * @param accountList accounts retrieved from bank backend
      * @return validated account ref object
      */
-    private JSONObject getValidatedAccountRefObject(JSONObject accountRefObject, JSONArray accountArray) {
+    private JSONObject getValidatedAccountRefObject(JSONObject accountRefObject, AccountList accountList) {
 
-        JSONArray filteredAccountRefObjects = ConsentAuthUtil.getFilteredAccountsForAccountNumber(accountRefObject,
-                accountArray);
+        JSONArray filteredAccountRefObjects = accountList.getAccountsForAccountNumber(accountRefObject);
 
         if (filteredAccountRefObjects.size() > 1) {
             // Multi currency account
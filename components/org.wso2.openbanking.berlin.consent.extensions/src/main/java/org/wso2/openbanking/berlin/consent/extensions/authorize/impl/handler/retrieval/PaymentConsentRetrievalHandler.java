@@ -24,7 +24,6 @@ import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -34,6 +33,7 @@ import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.AuthTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReceiptCache;
 import org.wso2.openbanking.berlin.consent.extensions.common.TransactionStatusEnum;
 
 import java.util.Map;
@@ -49,9 +49,8 @@ public class PaymentConsentRetrievalHandler implements ConsentRetrievalHandler {
     public JSONObject getConsentData(ConsentResource consentResource) throws ConsentException {
 
         try {
-            String receiptString = consentResource.getReceipt();
             // This can be directly created to JSONObject since the payload is validated during initiation
-            JSONObject receiptJSON = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(receiptString);
+            JSONObject receiptJSON = ConsentReceiptCache.getReceipt(consentResource);
 
             JSONObject consentDataJSON;
 
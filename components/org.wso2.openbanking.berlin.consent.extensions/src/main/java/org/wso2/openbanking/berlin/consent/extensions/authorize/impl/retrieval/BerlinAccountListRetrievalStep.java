@@ -38,7 +38,6 @@ import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionCon
 public class BerlinAccountListRetrievalStep implements ConsentRetrievalStep {
 
     private static final Log log = LogFactory.getLog(BerlinAccountListRetrievalStep.class);
-    AccountListRetrievalHandler accountListRetrievalHandler;
 
     @Override
     public void execute(ConsentData consentData, JSONObject jsonObject) throws ConsentException {
@@ -56,7 +55,9 @@ public class BerlinAccountListRetrievalStep implements ConsentRetrievalStep {
                             consentData.getState()));
         }
 
-        JSONObject accountDataJSON = getAccountData(consentData, consentDataJSON);
+        AccountListRetrievalHandler accountListRetrievalHandler = AuthorizationHandlerFactory
+                .getAccountListRetrievalHandler(consentData.getConsentResource().getConsentType());
+        JSONObject accountDataJSON = accountListRetrievalHandler.getAccountData(consentData, consentDataJSON);
 
         jsonObject.appendField(ConsentExtensionConstants.ACCOUNT_DATA, accountDataJSON);
         accountListRetrievalHandler.appendAccountDetailsToMetadata(consentData.getMetaDataMap(), accountDataJSON);
@@ -74,7 +75,8 @@ public class BerlinAccountListRetrievalStep implements ConsentRetrievalStep {
             throws ConsentException {
 
         String type = consentData.getConsentResource().getConsentType();
-        accountListRetrievalHandler = AuthorizationHandlerFactory.getAccountListRetrievalHandler(type);
+        AccountListRetrievalHandler accountListRetrievalHandler =
+                AuthorizationHandlerFactory.getAccountListRetrievalHandler(type);
         return accountListRetrievalHandler.getAccountData(consentData, consentDataJSON);
     }
 }
@@ -52,7 +52,6 @@ import java.util.Optional;
 public class BerlinConsentRetrievalStep implements ConsentRetrievalStep {
 
     private static final Log log = LogFactory.getLog(BerlinConsentRetrievalStep.class);
-    ConsentRetrievalHandler consentRetrievalHandler;
 
     @Override
     public void execute(ConsentData consentData, JSONObject jsonObject) throws ConsentException {
@@ -206,7 +205,7 @@ public class BerlinConsentRetrievalStep implements ConsentRetrievalStep {
             throws ConsentException {
 
         String type = consentResource.getConsentType();
-        consentRetrievalHandler = AuthorizationHandlerFactory.getConsentRetrievalHandler(type);
+        ConsentRetrievalHandler consentRetrievalHandler = AuthorizationHandlerFactory.getConsentRetrievalHandler(type);
         return consentRetrievalHandler.getConsentData(consentResource);
     }
 
@@ -217,7 +216,7 @@ public class BerlinConsentRetrievalStep implements ConsentRetrievalStep {
      */
     public boolean validateAuthorizationStatus(ConsentResource consentResource, String authType) {
 
-        consentRetrievalHandler =
+        ConsentRetrievalHandler consentRetrievalHandler =
                 AuthorizationHandlerFactory.getConsentRetrievalHandler(consentResource.getConsentType());
         return consentRetrievalHandler.validateAuthorizationStatus(consentResource, authType);
     }
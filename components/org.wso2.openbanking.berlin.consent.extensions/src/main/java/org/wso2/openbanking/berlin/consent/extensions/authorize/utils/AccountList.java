@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accounts of a PSU retrieved from the bank backend, indexed by account reference.
+ *
+ * <p>The account list may be shared between requests through the {@link AccountListCache}. The accounts are added to
+ * the consent data and metadata of the consent page, so callers receive copies of the account objects.</p>
+ */
+public class AccountList {
+
+    private final List<JSONObject> accounts;
+    private final Map<String, List<JSONObject>> accountsByReference;
+
+    /**
+     * Creates an account list from the accounts retrieved from the bank backend.
+     *
+     * @param accountArray accounts array retrieved from the bank backend
+     */
+    public AccountList(JSONArray accountArray) {
+
+        List<JSONObject> accountList = new ArrayList<>(accountArray.size());
+        Map<String, List<JSONObject>> accountIndex = new HashMap<>();
+        for (Object object : accountArray) {
+            JSONObject account = new JSONObject((JSONObject) object);
+            accountList.add(account);
+            String accountRefType = ConsentExtensionUtil.getAccountReferenceType(account);
+            if (accountRefType != null) {
+                accountIndex.computeIfAbsent(getReferenceKey(accountRefType, account.getAsString(accountRefType)),
+                        key -> new ArrayList<>()).add(account);
+            }
+        }
+        this.accounts = Collections.unmodifiableList(accountList);
+        this.accountsByReference = accountIndex;
+    }
+
+    /**
+     * Returns a copy of the accounts.
+     *
+     * @return accounts array
+     */
+    public JSONArray getAccounts() {
+
+        return copyOf(accounts);
+    }
+
+    /**
+     * Returns copies of the accounts which have the account number of the account reference object, i.e. the
+     * currency accounts of a multi-currency account. This is the same as
+     * {@link ConsentAuthUtil#getFilteredAccountsForAccountNumber(JSONObject, JSONArray)}.
+     *
+     * @param accountRefObject account reference object
+     * @return accounts array
+     */
+    public JSONArray getAccountsForAccountNumber(JSONObject accountRefObject) {
+
+        String accountRefType = ConsentExtensionUtil.getAccountReferenceType(accountRefObject);
+        if (accountRefType == null) {
+            return ConsentAuthUtil.getFilteredAccountsForAccountNumber(accountRefObject, getAccounts());
+        }
+        return copyOf(accountsByReference.getOrDefault(
+                getReferenceKey(accountRefType, accountRefObject.getAsString(accountRefType)),
+                Collections.emptyList()));
+    }
+
+    public boolean isEmpty() {
+
+        return accounts.isEmpty();
+    }
+
+    public int size() {
+
+        return accounts.size();
+    }
+
+    private static String getReferenceKey(String accountRefType, String accountNumber) {
+
+        return accountRefType + ":" + accountNumber;
+    }
+
+    private static JSONArray copyOf(List<JSONObject> accounts) {
+
+        JSONArray accountArray = new JSONArray();
+        for (JSONObject account : accounts) {
+            accountArray.add(new JSONObject(account));
+        }
+        return accountArray;
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local cache of the accounts retrieved from the bank backend for a PSU.
+ *
+ * <p>A PSU who authorises several consents in a row, or reloads the consent page, would otherwise retrieve the same
+ * accounts from the bank backend for every page. Account lists are cached by accounts endpoint and PSU ID for a
+ * short time. The PSU ID is the tenant qualified user ID of the consent data, e.g. {@code psu@wso2.com@carbon.super},
+ * so that the entries are per PSU and tenant. The cache is disabled unless an expiry is configured. The cache is
+ * created again with the configured size and expiry when the configuration is reloaded, which also drops the cached
+ * accounts, since they are indexed by the supported account reference types of the configuration.</p>
+ */
+public class AccountListCache {
+
+    private static volatile AccountListCache accountListCache;
+
+    private volatile BoundedTTLCache<AccountListKey, AccountList> cache;
+
+    AccountListCache(int maxEntries, int expirySeconds) {
+
+        cache = createCache(maxEntries, expirySeconds);
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return AccountListCache object
+     */
+    public static AccountListCache getInstance() {
+
+        if (accountListCache == null) {
+            synchronized (AccountListCache.class) {
+                if (accountListCache == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    AccountListCache cache = new AccountListCache(configParser.getAccountListCacheMaxEntries(),
+                            configParser.getAccountListCacheExpirySeconds());
+                    configParser.addReloadListener(() -> cache.reconfigure(
+                            configParser.getAccountListCacheMaxEntries(),
+                            configParser.getAccountListCacheExpirySeconds()));
+                    accountListCache = cache;
+                }
+            }
+        }
+        return accountListCache;
+    }
+
+    public boolean isEnabled() {
+
+        return cache != null;
+    }
+
+    /**
+     * Returns the cached accounts of the PSU.
+     *
+     * @param psuId       tenant qualified PSU ID
+     * @param accountsURL accounts retrieval URL
+     * @return the cached accounts, or null if the accounts are not cached
+     */
+    public AccountList get(String psuId, String accountsURL) {
+
+        BoundedTTLCache<AccountListKey, AccountList> cache = this.cache;
+        if (cache == null || StringUtils.isBlank(psuId)) {
+            return null;
+        }
+        return cache.get(new AccountListKey(psuId, accountsURL));
+    }
+
+    /**
+     * Caches the accounts of the PSU.
+     *
+     * @param psuId       tenant qualified PSU ID
+     * @param accountsURL accounts retrieval URL
+     * @param accountList accounts retrieved from the bank backend
+     */
+    public void put(String psuId, String accountsURL, AccountList accountList) {
+
+        BoundedTTLCache<AccountListKey, AccountList> cache = this.cache;
+        if (cache == null || StringUtils.isBlank(psuId)) {
+            return;
+        }
+        cache.put(new AccountListKey(psuId, accountsURL), accountList);
+    }
+
+    /**
+     * Removes the cached accounts of the PSU, i.e. when the accounts of the PSU are changed in the bank backend.
+     * The PSU ID must be qualified with the tenant domain like the user ID of the consent data. A PSU-ID header of
+     * the super tenant is qualified with {@code ConsentExtensionUtil.appendSuperTenantDomain}.
+     *
+     * @param psuId tenant qualified PSU ID, e.g. psu@wso2.com@carbon.super
+     */
+    public void invalidate(String psuId) {
+
+        BoundedTTLCache<AccountListKey, AccountList> cache = this.cache;
+        if (cache == null || StringUtils.isBlank(psuId)) {
+            return;
+        }
+        CommonConfigParser configParser = CommonConfigParser.getInstance();
+        cache.remove(new AccountListKey(psuId, configParser.getShareableAccountsRetrieveEndpoint()));
+        cache.remove(new AccountListKey(psuId, configParser.getPayableAccountsRetrieveEndpoint()));
+    }
+
+    /**
+     * Removes the cached accounts of the PSU retrieved from an accounts endpoint.
+     *
+     * @param psuId       tenant qualified PSU ID
+     * @param accountsURL accounts retrieval URL
+     */
+    public void invalidate(String psuId, String accountsURL) {
+
+        BoundedTTLCache<AccountListKey, AccountList> cache = this.cache;
+        if (cache == null || StringUtils.isBlank(psuId)) {
+            return;
+        }
+        cache.remove(new AccountListKey(psuId, accountsURL));
+    }
+
+    public void clear() {
+
+        BoundedTTLCache<AccountListKey, AccountList> cache = this.cache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Replaces the cache with an empty cache of the given size and expiry, i.e. when the configuration is reloaded.
+     *
+     * @param maxEntries    maximum number of cached account lists
+     * @param expirySeconds time in seconds the accounts are cached, the cache is disabled if not positive
+     */
+    void reconfigure(int maxEntries, int expirySeconds) {
+
+        cache = createCache(maxEntries, expirySeconds);
+    }
+
+    private static BoundedTTLCache<AccountListKey, AccountList> createCache(int maxEntries, int expirySeconds) {
+
+        return expirySeconds > 0 && maxEntries > 0
+                ? new BoundedTTLCache<>(maxEntries, TimeUnit.SECONDS.toMillis(expirySeconds)) : null;
+    }
+
+    /**
+     * Cache key of the accounts of a PSU.
+     */
+    private static class AccountListKey {
+
+        private final String psuId;
+        private final String accountsURL;
+
+        AccountListKey(String psuId, String accountsURL) {
+
+            this.psuId = psuId;
+            this.accountsURL = accountsURL;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AccountListKey)) {
+                return false;
+            }
+            AccountListKey that = (AccountListKey) o;
+            return Objects.equals(psuId, that.psuId) && Objects.equals(accountsURL, that.accountsURL);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(psuId, accountsURL);
+        }
+    }
+}
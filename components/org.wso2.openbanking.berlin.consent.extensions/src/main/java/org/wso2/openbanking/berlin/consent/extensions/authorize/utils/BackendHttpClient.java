@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
+
+import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.pool.PoolStats;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.utils.PooledHttpClient;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared client which calls the bank backend during the consent authorisation, i.e. to retrieve the accounts of the
+ * PSU and to submit payments.
+ *
+ * <p>A single long-lived client is used for all the calls, so that the connections to the bank backend are pooled
+ * and kept alive instead of being established with a new TLS handshake on every consent page. The connections use
+ * the TLS setup configured for the server, see {@link PooledHttpClient}. Every request is bounded by the configured
+ * connect and socket timeouts, including the time spent waiting for a pooled connection.
+ * The latency of each request and the pool usage are logged at debug level, and a warning is logged when requests
+ * wait for a connection because the pool is exhausted.</p>
+ */
+public class BackendHttpClient {
+
+    private static final Log log = LogFactory.getLog(BackendHttpClient.class);
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final int DEFAULT_CONNECT_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_SOCKET_TIMEOUT_SECONDS = 10;
+
+    private static volatile BackendHttpClient instance;
+
+    private final PooledHttpClient pooledHttpClient;
+
+    BackendHttpClient(PooledHttpClient pooledHttpClient) {
+
+        this.pooledHttpClient = pooledHttpClient;
+    }
+
+    /**
+     * Returns the shared client, creating it from the configuration on the first call.
+     *
+     * @return the shared backend client
+     * @throws OpenBankingException thrown if the trust store configured for the server cannot be loaded
+     */
+    public static BackendHttpClient getInstance() throws OpenBankingException {
+
+        if (instance == null) {
+            synchronized (BackendHttpClient.class) {
+                if (instance == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    instance = new BackendHttpClient(PooledHttpClient.create(
+                            positiveOrDefault(configParser.getBackendHttpClientMaxConnections(),
+                                    DEFAULT_MAX_CONNECTIONS),
+                            positiveOrDefault(configParser.getBackendHttpClientMaxConnectionsPerRoute(),
+                                    DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+                            (int) TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                                    configParser.getBackendHttpClientConnectTimeoutSeconds(),
+                                    DEFAULT_CONNECT_TIMEOUT_SECONDS)),
+                            (int) TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                                    configParser.getBackendHttpClientSocketTimeoutSeconds(),
+                                    DEFAULT_SOCKET_TIMEOUT_SECONDS))));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Executes a request against the bank backend. The response entity is consumed once the handler returns, so
+     * that the connection is returned to the pool.
+     *
+     * @param request         request to execute
+     * @param responseHandler handler which reads the response
+     * @param <T>             type of the value read from the response
+     * @return the value returned by the response handler
+     * @throws IOException thrown if the request fails or times out
+     */
+    public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler) throws IOException {
+
+        long startTime = System.nanoTime();
+        try {
+            return pooledHttpClient.getHttpClient().execute(request, responseHandler);
+        } finally {
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            PoolStats poolStats = pooledHttpClient.getPoolStats();
+            if (poolStats.getPending() > 0) {
+                log.warn(String.format("Backend connection pool is exhausted, %d requests are waiting for one of %d " +
+                        "connections", poolStats.getPending(), poolStats.getMax()));
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("%s %s completed in %d ms. Backend connections leased : %d, available : " +
+                                "%d, pending : %d, max : %d", request.getMethod(), request.getURI().getPath(),
+                        latencyMillis, poolStats.getLeased(), poolStats.getAvailable(), poolStats.getPending(),
+                        poolStats.getMax()));
+            }
+        }
+    }
+
+    /**
+     * Returns the current usage of the connection pool.
+     *
+     * @return leased, available and pending connections of the pool
+     */
+    public PoolStats getPoolStats() {
+
+        return pooledHttpClient.getPoolStats();
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+
+        return value > 0 ? value : defaultValue;
+    }
+}
@@ -21,7 +21,6 @@ package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
 import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
 import com.wso2.openbanking.accelerator.common.util.Generated;
-import com.wso2.openbanking.accelerator.common.util.HTTPClientUtils;
 import com.wso2.openbanking.accelerator.consent.extensions.common.AuthErrorCode;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ConsentException;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus;
@@ -32,10 +31,8 @@ import net.minidev.json.JSONObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.CommonConstants;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
@@ -239,13 +236,12 @@ public class ConsentAuthUtil {
             throws OpenBankingException, IOException {
 
         String paymentBackendURL = CommonConfigParser.getInstance().getPaymentsBackendURL();
-        CloseableHttpClient client = HTTPClientUtils.getHttpsClient();
         HttpPost request = new HttpPost(paymentBackendURL + "/" + submissionType + "/" + paymentId);
         request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
         request.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
         StringEntity stringEntity = new StringEntity(paymentData);
         request.setEntity(stringEntity);
-        HttpResponse response = client.execute(request);
-        return (response.getStatusLine().getStatusCode() == HttpURLConnection.HTTP_ACCEPTED);
+        return BackendHttpClient.getInstance().execute(request,
+                response -> response.getStatusLine().getStatusCode() == HttpURLConnection.HTTP_ACCEPTED);
     }
 }
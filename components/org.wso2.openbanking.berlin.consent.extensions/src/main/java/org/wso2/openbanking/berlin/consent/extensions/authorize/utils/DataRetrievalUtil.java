@@ -19,30 +19,29 @@
 package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
 
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
-import com.wso2.openbanking.accelerator.identity.util.HTTPClientUtils;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URLEncodedUtils;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicNameValuePair;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -57,22 +56,15 @@ public class DataRetrievalUtil {
     private static final Log log = LogFactory.getLog(DataRetrievalUtil.class);
 
     /**
-     * Returns the account list string after fetching from the bank backend.
+     * Returns the account list after fetching from the bank backend.
      *
      * @param accountsURL shareable accounts retrieval URL
      * @param parameters  URL params
      * @param headers     request headers
-     * @return retrieved accounts string from endpoint
-     *
+     * @return retrieved accounts from endpoint
      */
-    @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE")
-    // Suppressed content - try (CloseableHttpClient client = HTTPClientUtils.getHttpsClient())
-    // Suppression reason - False Positive : This occurs with Java 11 when using try-with-resources and when that
-    //                                       resource is being referred within the try block. This is a known issue in
-    //                                       the plugin and therefore it is being suppressed.
-    //                                       https://github.com/spotbugs/spotbugs/issues/1694
-    public static String getAccountsFromEndpoint(String accountsURL, Map<String, String> parameters,
-                                                 Map<String, String> headers) {
+    public static JSONObject getAccountsFromEndpoint(String accountsURL, Map<String, String> parameters,
+                                                     Map<String, String> headers) {
 
         String retrieveUrl = "";
         if (!accountsURL.endsWith("/")) {
@@ -88,53 +80,54 @@ public class DataRetrievalUtil {
             log.debug(String.format("Accounts retrieve endpoint : %s", retrieveUrl));
         }
 
-        BufferedReader reader = null;
-        try (CloseableHttpClient client = HTTPClientUtils.getHttpsClient()) {
-
-            /* No user input is used for constructing this "retrieverUrl". A configuration is used to get the base URL
-            for this. Therefore, the threat of HTTP_PARAMETER_POLLUTION is not present. */
-            HttpGet request = new HttpGet(retrieveUrl);
-            request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
-            if (!headers.isEmpty()) {
-                for (Map.Entry<String, String> key : headers.entrySet()) {
-                    if (key.getKey() != null && key.getValue() != null) {
-                        request.addHeader(key.getKey(), key.getValue());
-                    }
-                }
-            }
-            HttpResponse response = client.execute(request);
-
-            if (response.getStatusLine().getStatusCode() != HttpURLConnection.HTTP_OK) {
-                log.error("Retrieving sharable accounts failed");
-                return null;
-            } else {
-                reader = new BufferedReader(new InputStreamReader(response.getEntity().getContent(),
-                        StandardCharsets.UTF_8.toString()));
-                String inputLine;
-                StringBuffer buffer = new StringBuffer();
-                while ((inputLine = reader.readLine()) != null) {
-                    buffer.append(inputLine);
-                }
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Sharable accounts endpoints returned : %s", buffer));
+        /* No user input is used for constructing this "retrieverUrl". A configuration is used to get the base URL
+        for this. Therefore, the threat of HTTP_PARAMETER_POLLUTION is not present. */
+        HttpGet request = new HttpGet(retrieveUrl);
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        if (!headers.isEmpty()) {
+            for (Map.Entry<String, String> key : headers.entrySet()) {
+                if (key.getKey() != null && key.getValue() != null) {
+                    request.addHeader(key.getKey(), key.getValue());
                 }
-                return buffer.toString();
             }
+        }
+
+        try {
+            return BackendHttpClient.getInstance().execute(request, DataRetrievalUtil::readAccounts);
         } catch (IOException | OpenBankingException e) {
             log.error("Exception occurred while retrieving sharable accounts", e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    log.error("Error while closing buffered reader", e);
-                }
-            }
         }
 
         return null;
     }
 
+    /**
+     * Parses the accounts response of the bank backend directly from the response stream.
+     *
+     * @param response accounts response
+     * @return parsed accounts, or null if the accounts could not be retrieved
+     * @throws IOException thrown if an error occurs when reading the response
+     */
+    private static JSONObject readAccounts(HttpResponse response) throws IOException {
+
+        HttpEntity entity = response.getEntity();
+        if (response.getStatusLine().getStatusCode() != HttpURLConnection.HTTP_OK || entity == null) {
+            log.error("Retrieving sharable accounts failed");
+            return null;
+        }
+
+        try (Reader reader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+            JSONObject accounts = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(reader);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Sharable accounts endpoints returned : %s", accounts));
+            }
+            return accounts;
+        } catch (ParseException e) {
+            log.error(ErrorConstants.JSON_PARSE_ERROR, e);
+            return null;
+        }
+    }
+
     /**
      * Build the complete URL with query parameters sent in the map.
      *
@@ -175,45 +168,68 @@ public class DataRetrievalUtil {
         if (log.isDebugEnabled()) {
             log.debug(String.format("Getting accounts details from backend endpoint %s", accountsURL));
         }
-        String accountData = DataRetrievalUtil.getAccountsFromEndpoint(accountsURL, parameters, headers);
-        if (accountData == null) {
+        JSONObject accountJson = DataRetrievalUtil.getAccountsFromEndpoint(accountsURL, parameters, headers);
+        if (accountJson == null) {
             log.error("No account details available");
             return null;
         }
 
         JSONArray accountArray = new JSONArray();
-        try {
-            JSONObject accountJson = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(accountData);
+        JSONArray slideContent = (JSONArray) accountJson.get("accounts");
+        Iterator i = slideContent.iterator();
 
-            JSONArray slideContent = (JSONArray) accountJson.get("accounts");
-            Iterator i = slideContent.iterator();
+        while (i.hasNext()) {
+            JSONObject slide = (JSONObject) i.next();
+            String accountRefType = ConsentExtensionUtil.getAccountReferenceType(slide);
 
-            while (i.hasNext()) {
-                JSONObject slide = (JSONObject) i.next();
-                String accountRefType = ConsentExtensionUtil.getAccountReferenceType(slide);
+            if (accountRefType == null) {
+                continue;
+            }
 
-                if (accountRefType == null) {
-                    continue;
-                }
+            String accountId = (String) slide.get(accountRefType);
+
+            JSONObject accountObject = new JSONObject();
+            accountObject.put(accountRefType, accountId);
+            accountObject.put(ConsentExtensionConstants.CURRENCY,
+                    slide.get(ConsentExtensionConstants.CURRENCY));
+            accountObject.put(ConsentExtensionConstants.IS_DEFAULT,
+                    slide.get(ConsentExtensionConstants.IS_DEFAULT));
+
+            accountArray.add(accountObject);
+        }
 
-                String accountId = (String) slide.get(accountRefType);
+        // Remove currency information from non multi-currency accounts
+        return removeCurrencyInfoFromSingleCurrencyAccounts(accountArray);
+    }
 
-                JSONObject accountObject = new JSONObject();
-                accountObject.put(accountRefType, accountId);
-                accountObject.put(ConsentExtensionConstants.CURRENCY,
-                        slide.get(ConsentExtensionConstants.CURRENCY));
-                accountObject.put(ConsentExtensionConstants.IS_DEFAULT,
-                        slide.get(ConsentExtensionConstants.IS_DEFAULT));
+    /**
+     * Get the accounts of the user from endpoint, or from the account list cache if the cache is enabled and the
+     * accounts of the user were retrieved from the endpoint within the cache expiry.
+     *
+     * @param userId      user id
+     * @param accountsURL accounts base URL
+     * @return accounts of the user
+     */
+    public static AccountList getAccountList(String userId, String accountsURL) {
 
-                accountArray.add(accountObject);
+        AccountListCache accountListCache = AccountListCache.getInstance();
+        AccountList accountList = accountListCache.get(userId, accountsURL);
+        if (accountList != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Using the cached account details retrieved from %s", accountsURL));
             }
+            return accountList;
+        }
 
-            // Remove currency information from non multi-currency accounts
-            return removeCurrencyInfoFromSingleCurrencyAccounts(accountArray);
-        } catch (ParseException e) {
-            log.error(ErrorConstants.JSON_PARSE_ERROR, e);
+        JSONArray accountArray = getAccountsFromEndpoint(userId, accountsURL, new HashMap<>(), new HashMap<>());
+        if (accountArray == null) {
             return null;
         }
+        accountList = new AccountList(accountArray);
+        if (!accountList.isEmpty()) {
+            accountListCache.put(userId, accountsURL, accountList);
+        }
+        return accountList;
     }
 
     /**
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.consent.extensions.manage.util.AccountConsentUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires valid account consents in the background.
+ *
+ * <p>Consents are otherwise only expired when they are used. The sweeper applies the same rule, i.e. a recurring
+ * consent is expired once its validUntil date has passed or it has not been used for 90 days. Funds confirmation
+ * consents are not recurring and are not swept. Valid consents are
+ * read page by page in batches, and the account mappings of the consents expired in a batch are deactivated in one
+ * call. The number of consents read per run and the pause between batches are bounded, so that a sweep does not
+ * compete with the consent traffic.</p>
+ *
+ * <p>The enabled flag of the configuration is checked on every run, so that the sweeper can be enabled or disabled
+ * by reloading the configuration.</p>
+ */
+public class ConsentExpirySweeper {
+
+    private static final Log log = LogFactory.getLog(ConsentExpirySweeper.class);
+
+    private static final int DEFAULT_INTERVAL_MINUTES = 60;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_CONSENTS_PER_RUN = 10000;
+    private static final List<String> SWEPT_CONSENT_TYPES = Collections.singletonList(
+            ConsentTypeEnum.ACCOUNTS.toString());
+
+    private static volatile boolean scheduled;
+
+    private final ConsentCoreServiceImpl coreService;
+    private final int batchSize;
+    private final long batchDelayMillis;
+    private final int maxConsentsPerRun;
+
+    ConsentExpirySweeper(ConsentCoreServiceImpl coreService, int batchSize, long batchDelayMillis,
+                         int maxConsentsPerRun) {
+
+        this.coreService = coreService;
+        this.batchSize = batchSize;
+        this.batchDelayMillis = batchDelayMillis;
+        this.maxConsentsPerRun = maxConsentsPerRun;
+    }
+
+    /**
+     * Schedules the sweeper once per server if it is enabled in the configuration. The configuration is checked
+     * again on every call until the sweeper is scheduled.
+     */
+    public static void startIfEnabled() {
+
+        if (scheduled || !CommonConfigParser.getInstance().isConsentExpirySweeperEnabled()) {
+            return;
+        }
+        synchronized (ConsentExpirySweeper.class) {
+            if (!scheduled) {
+                schedule(CommonConfigParser.getInstance());
+                scheduled = true;
+            }
+        }
+    }
+
+    /**
+     * Expires the valid consents which have expired and deactivates their account mappings.
+     *
+     * @return number of expired consents
+     */
+    public int sweep() {
+
+        int offset = 0;
+        int readCount = 0;
+        int expiredCount = 0;
+        while (readCount < maxConsentsPerRun) {
+            int limit = Math.min(batchSize, maxConsentsPerRun - readCount);
+            List<DetailedConsentResource> batch;
+            try {
+                batch = coreService.searchDetailedConsents(null, null, new ArrayList<>(SWEPT_CONSENT_TYPES),
+                        new ArrayList<>(Collections.singletonList(ConsentStatusEnum.VALID.toString())), null, null,
+                        null, limit, offset);
+            } catch (ConsentManagementException e) {
+                log.error("Error while searching valid consents to expire", e);
+                break;
+            }
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            readCount += batch.size();
+            int expiredInBatch = expireBatch(batch);
+            expiredCount += expiredInBatch;
+            // Expired consents are no longer valid, so the next page starts after the consents which are kept
+            offset += batch.size() - expiredInBatch;
+            if (batch.size() < limit || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Consent expiry sweep read " + readCount + " valid consents and expired " + expiredCount);
+        }
+        return expiredCount;
+    }
+
+    /**
+     * Checks whether a valid consent has expired. This is the rule which is applied when a consent is used.
+     *
+     * @param consent valid consent
+     * @return true if the consent has expired
+     */
+    static boolean isExpired(DetailedConsentResource consent) {
+
+        return consent.isRecurringIndicator()
+                && AccountConsentUtil.isConsentExpired(consent.getValidityPeriod(), consent.getUpdatedTime());
+    }
+
+    private int expireBatch(List<DetailedConsentResource> batch) {
+
+        int expiredCount = 0;
+        ArrayList<String> mappingIds = new ArrayList<>();
+        for (DetailedConsentResource consent : batch) {
+            if (!isExpired(consent)) {
+                continue;
+            }
+            try {
+                coreService.updateConsentStatus(consent.getConsentID(), ConsentStatusEnum.EXPIRED.toString());
+            } catch (ConsentManagementException e) {
+                log.error("Error while expiring consent " + consent.getConsentID(), e);
+                continue;
+            }
+            expiredCount++;
+            if (consent.getConsentMappingResources() != null) {
+                for (ConsentMappingResource mappingResource : consent.getConsentMappingResources()) {
+                    mappingIds.add(mappingResource.getMappingID());
+                }
+            }
+        }
+
+        if (!mappingIds.isEmpty()) {
+            try {
+                coreService.deactivateAccountMappings(mappingIds);
+            } catch (ConsentManagementException e) {
+                log.error("Error while deactivating the account mappings of expired consents", e);
+            }
+        }
+        return expiredCount;
+    }
+
+    private boolean pauseBetweenBatches() {
+
+        if (batchDelayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchDelayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void schedule(CommonConfigParser configParser) {
+
+        int batchSize = configParser.getConsentExpirySweeperBatchSize();
+        int maxConsentsPerRun = configParser.getConsentExpirySweeperMaxConsentsPerRun();
+        ConsentExpirySweeper sweeper = new ConsentExpirySweeper(new ConsentCoreServiceImpl(),
+                batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE,
+                Math.max(0, configParser.getConsentExpirySweeperBatchDelayMillis()),
+                maxConsentsPerRun > 0 ? maxConsentsPerRun : DEFAULT_MAX_CONSENTS_PER_RUN);
+
+        int intervalMinutes = configParser.getConsentExpirySweeperIntervalMinutes();
+        long interval = intervalMinutes > 0 ? intervalMinutes : DEFAULT_INTERVAL_MINUTES;
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "berlin-consent-expiry-sweeper");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                if (!CommonConfigParser.getInstance().isConsentExpirySweeperEnabled()) {
+                    log.debug("Skipping the consent expiry sweep since the sweeper is disabled");
+                    return;
+                }
+                sweeper.sweep();
+            } catch (RuntimeException e) {
+                // An exception would cancel the further runs of the sweeper
+                log.error("Error while sweeping expired consents", e);
+            }
+        }, interval, interval, TimeUnit.MINUTES);
+        log.info("Scheduled the consent expiry sweeper to run every " + interval + " minutes");
+    }
+}
@@ -56,8 +56,6 @@ public class ConsentExtensionConstants {
     public static final String START_CANCELLATION_AUTH_LINK_TEMPLATE = "/%s/%s/%s/cancellation-authorisations";
     public static final String AUTHORISATION_IDS = "authorisationIds";
     public static final String IS_ERROR = "isError";
-    public static final String DATE_FORMAT = "yyyy-MM-dd";
-    public static final String UTC = "UTC";
     public static final String IMPLICIT = "implicit";
     public static final String EXPLICIT = "explicit";
     public static final String CONSENT_DATA = "consentData";
@@ -102,6 +100,7 @@ public class ConsentExtensionConstants {
     public static final String AUTH_CANCEL = "AuthCancellation";
     public static final String AUTH_CANCEL_X_REQUEST_ID = "AuthCancellationXRequestID";
     public static final String AUTH_CANCEL_CREATED_TIME = "AuthCancellationCreatedTime";
+    public static final String IDEMPOTENCY_ALLOWED_TIME_DURATION = "Consent.Idempotency.AllowedTimeDuration";
     public static final String ASPSP_SCA_APPROACH_PROPER_CASE_HEADER = "ASPSP-SCA-Approach";
     public static final String ASPSP_MULTIPLE_CONSENT_SUPPORTED = "ASPSP-Multiple-Consent-Support";
     public static final String SUPER_TENANT_DOMAIN = "@carbon.super";
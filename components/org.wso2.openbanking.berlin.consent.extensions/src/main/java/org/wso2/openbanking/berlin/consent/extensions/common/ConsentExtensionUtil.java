@@ -34,10 +34,10 @@ import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.CommonUtil;
+import org.wso2.openbanking.berlin.common.utils.DateUtil;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -427,7 +427,7 @@ public class ConsentExtensionUtil {
         LocalDate parsedDate;
 
         try {
-            parsedDate = LocalDate.parse(dateToParse, DateTimeFormatter.ISO_DATE);
+            parsedDate = DateUtil.parseDate(dateToParse);
         } catch (DateTimeParseException e) {
             log.error(errorMessage, e);
             throw new ConsentException(ResponseStatus.BAD_REQUEST, ErrorUtil.constructBerlinError(null,
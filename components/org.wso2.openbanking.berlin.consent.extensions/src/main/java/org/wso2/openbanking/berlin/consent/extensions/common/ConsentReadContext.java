@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.ConsentCoreService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request scoped view of the consent core service which memoises the consent reads of a request.
+ *
+ * <p>A context is created when a request starts to read consents and is passed to the components which take part in
+ * the request, so that a consent is read from the consent store only once per request. A consent updated within the
+ * request is invalidated, so that it is read from the store again if it is needed afterwards. Authorisations and their
+ * account mappings are memoised the same way, keyed by the authorisation ID.</p>
+ *
+ * <p>The context is used by the consent validation, i.e. BerlinConsentValidator and the submission validators, and by
+ * the idempotency validation. The consent manage handlers, the authorisation steps and persist handlers and the
+ * consent admin handler still read through the consent core service directly, since each of them reads a consent at
+ * most once per request.</p>
+ *
+ * <p>A context is confined to the thread serving the request and is not thread safe.</p>
+ */
+public class ConsentReadContext {
+
+    private final ConsentCoreService consentCoreService;
+    private final Map<String, DetailedConsentResource> detailedConsents = new HashMap<>();
+    private final Map<String, ConsentResource> consents = new HashMap<>();
+    private final Map<String, AuthorizationResource> authorizations = new HashMap<>();
+    private final Map<String, List<ConsentMappingResource>> consentMappings = new HashMap<>();
+
+    public ConsentReadContext(ConsentCoreService consentCoreService) {
+
+        this.consentCoreService = consentCoreService;
+    }
+
+    /**
+     * Creates a context which already holds a consent read earlier in the request, such as the comprehensive consent
+     * of a consent validation.
+     *
+     * @param consentCoreService consent core service
+     * @param detailedConsent    consent read earlier in the request
+     */
+    public ConsentReadContext(ConsentCoreService consentCoreService, DetailedConsentResource detailedConsent) {
+
+        this(consentCoreService);
+        if (detailedConsent != null && detailedConsent.getConsentID() != null) {
+            detailedConsents.put(detailedConsent.getConsentID(), detailedConsent);
+            seedAuthorizations(detailedConsent);
+        }
+    }
+
+    /**
+     * Returns the detailed consent of the given consent ID.
+     *
+     * @param consentId consent ID
+     * @return the detailed consent
+     * @throws ConsentManagementException if the consent cannot be read
+     */
+    public DetailedConsentResource getDetailedConsent(String consentId) throws ConsentManagementException {
+
+        DetailedConsentResource detailedConsent = detailedConsents.get(consentId);
+        if (detailedConsent == null) {
+            detailedConsent = consentCoreService.getDetailedConsent(consentId);
+            detailedConsents.put(consentId, detailedConsent);
+        }
+        return detailedConsent;
+    }
+
+    /**
+     * Returns the consent of the given consent ID without its attributes. The consent is derived from the detailed
+     * consent if the detailed consent is already read in the request.
+     *
+     * @param consentId consent ID
+     * @return the consent
+     * @throws ConsentManagementException if the consent cannot be read
+     */
+    public ConsentResource getConsent(String consentId) throws ConsentManagementException {
+
+        ConsentResource consent = consents.get(consentId);
+        if (consent == null) {
+            DetailedConsentResource detailedConsent = detailedConsents.get(consentId);
+            consent = detailedConsent != null ? toConsentResource(detailedConsent)
+                    : consentCoreService.getConsent(consentId, false);
+            consents.put(consentId, consent);
+        }
+        return consent;
+    }
+
+    /**
+     * Returns the authorisation of the given authorisation ID.
+     *
+     * @param authorizationId authorisation ID
+     * @return the authorisation
+     * @throws ConsentManagementException if the authorisation cannot be read
+     */
+    public AuthorizationResource getAuthorizationResource(String authorizationId)
+            throws ConsentManagementException {
+
+        AuthorizationResource authorization = authorizations.get(authorizationId);
+        if (authorization == null) {
+            authorization = consentCoreService.getAuthorizationResource(authorizationId);
+            authorizations.put(authorizationId, authorization);
+        }
+        return authorization;
+    }
+
+    /**
+     * Returns the account mappings of the given authorisation.
+     *
+     * @param authorizationId authorisation ID
+     * @return the account mappings of the authorisation
+     * @throws ConsentManagementException if the account mappings cannot be read
+     */
+    public List<ConsentMappingResource> getConsentMappingResources(String authorizationId)
+            throws ConsentManagementException {
+
+        List<ConsentMappingResource> mappings = consentMappings.get(authorizationId);
+        if (mappings == null) {
+            mappings = consentCoreService.getConsentMappingResources(authorizationId);
+            consentMappings.put(authorizationId, mappings);
+        }
+        return mappings;
+    }
+
+    /**
+     * Discards the reads of a consent, its authorisations and their account mappings after the consent is updated,
+     * so that they are read again if needed.
+     *
+     * @param consentId consent ID
+     */
+    public void invalidate(String consentId) {
+
+        detailedConsents.remove(consentId);
+        consents.remove(consentId);
+        authorizations.values().removeIf(authorization -> authorization != null
+                && consentId.equals(authorization.getConsentID()));
+        // The consent of account mappings read without their authorisation is not known, so they are discarded too
+        consentMappings.keySet().removeIf(authorizationId -> !authorizations.containsKey(authorizationId));
+    }
+
+    /**
+     * Holds the authorisations of a consent read earlier in the request and the account mappings of each of them.
+     */
+    private void seedAuthorizations(DetailedConsentResource detailedConsent) {
+
+        if (detailedConsent.getAuthorizationResources() == null) {
+            return;
+        }
+        for (AuthorizationResource authorization : detailedConsent.getAuthorizationResources()) {
+            authorizations.put(authorization.getAuthorizationID(), authorization);
+            consentMappings.put(authorization.getAuthorizationID(), new ArrayList<>());
+        }
+        if (detailedConsent.getConsentMappingResources() == null) {
+            return;
+        }
+        for (ConsentMappingResource mapping : detailedConsent.getConsentMappingResources()) {
+            List<ConsentMappingResource> mappings = consentMappings.get(mapping.getAuthorizationID());
+            if (mappings != null) {
+                mappings.add(mapping);
+            }
+        }
+    }
+
+    private static ConsentResource toConsentResource(DetailedConsentResource detailedConsent) {
+
+        ConsentResource consent = new ConsentResource();
+        consent.setConsentID(detailedConsent.getConsentID());
+        consent.setClientID(detailedConsent.getClientID());
+        consent.setReceipt(detailedConsent.getReceipt());
+        consent.setConsentType(detailedConsent.getConsentType());
+        consent.setCurrentStatus(detailedConsent.getCurrentStatus());
+        consent.setConsentFrequency(detailedConsent.getConsentFrequency());
+        consent.setValidityPeriod(detailedConsent.getValidityPeriod());
+        consent.setRecurringIndicator(detailedConsent.isRecurringIndicator());
+        consent.setCreatedTime(detailedConsent.getCreatedTime());
+        consent.setUpdatedTime(detailedConsent.getUpdatedTime());
+        return consent;
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local cache of parsed consent receipts.
+ *
+ * <p>The receipt of a consent does not change once the consent is created, but it is read on every consent GET and
+ * authorisation retrieval. Receipts are cached by consent ID and receipt hash, and the receipt is compared on a hit,
+ * so that a changed receipt is parsed again.</p>
+ *
+ * <p>The returned receipt is shared between requests and must not be modified. Callers which add elements to the
+ * receipt should use {@link #getReceiptCopy(ConsentResource)}.</p>
+ *
+ * <p>The size and expiry of the cache are read from the configuration when the first receipt is parsed.</p>
+ */
+public class ConsentReceiptCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int DEFAULT_EXPIRY_SECONDS = 900;
+
+    private static volatile BoundedTTLCache<ReceiptKey, ParsedReceipt> receiptCache;
+
+    private ConsentReceiptCache() {
+
+    }
+
+    /**
+     * Returns the parsed receipt of the consent. The returned receipt is shared and must not be modified.
+     *
+     * @param consentResource consent resource
+     * @return the parsed receipt
+     * @throws ParseException thrown if an error occurs when parsing the consent receipt
+     */
+    public static JSONObject getReceipt(ConsentResource consentResource) throws ParseException {
+
+        String receipt = consentResource.getReceipt();
+        ReceiptKey receiptKey = new ReceiptKey(consentResource.getConsentID(), receipt.hashCode());
+
+        BoundedTTLCache<ReceiptKey, ParsedReceipt> cache = getReceiptCache();
+        ParsedReceipt parsedReceipt = cache.get(receiptKey);
+        if (parsedReceipt == null || !parsedReceipt.receipt.equals(receipt)) {
+            parsedReceipt = new ParsedReceipt(receipt,
+                    (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(receipt));
+            cache.put(receiptKey, parsedReceipt);
+        }
+        return parsedReceipt.receiptJSON;
+    }
+
+    /**
+     * Returns a copy of the parsed receipt of the consent to which top level elements can be added. Nested elements
+     * are shared and must not be modified.
+     *
+     * @param consentResource consent resource
+     * @return a copy of the parsed receipt
+     * @throws ParseException thrown if an error occurs when parsing the consent receipt
+     */
+    public static JSONObject getReceiptCopy(ConsentResource consentResource) throws ParseException {
+
+        return new JSONObject(getReceipt(consentResource));
+    }
+
+    /**
+     * Removes all the parsed receipts from the cache.
+     */
+    static void clear() {
+
+        if (receiptCache != null) {
+            receiptCache.clear();
+        }
+    }
+
+    private static BoundedTTLCache<ReceiptKey, ParsedReceipt> getReceiptCache() {
+
+        if (receiptCache == null) {
+            synchronized (ConsentReceiptCache.class) {
+                if (receiptCache == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    receiptCache = new BoundedTTLCache<>(
+                            positiveOrDefault(configParser.getReceiptCacheMaxEntries(), DEFAULT_MAX_ENTRIES),
+                            TimeUnit.SECONDS.toMillis(positiveOrDefault(configParser.getReceiptCacheExpirySeconds(),
+                                    DEFAULT_EXPIRY_SECONDS)));
+                }
+            }
+        }
+        return receiptCache;
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+
+        return value > 0 ? value : defaultValue;
+    }
+
+    /**
+     * A parsed receipt and the receipt it is parsed from.
+     */
+    private static class ParsedReceipt {
+
+        private final String receipt;
+        private final JSONObject receiptJSON;
+
+        ParsedReceipt(String receipt, JSONObject receiptJSON) {
+
+            this.receipt = receipt;
+            this.receiptJSON = receiptJSON;
+        }
+    }
+
+    /**
+     * Cache key of a parsed receipt.
+     */
+    private static class ReceiptKey {
+
+        private final String consentId;
+        private final int receiptHash;
+
+        ReceiptKey(String consentId, int receiptHash) {
+
+            this.consentId = consentId;
+            this.receiptHash = receiptHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ReceiptKey)) {
+                return false;
+            }
+            ReceiptKey that = (ReceiptKey) o;
+            return receiptHash == that.receiptHash && Objects.equals(consentId, that.consentId);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(consentId, receiptHash);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.utils.CarbonUtils;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes consent status transitions of the consent validation behind the validation response.
+ *
+ * <p>A transition is appended to a local journal and kept in memory, so that the validation does not wait for the
+ * database. The journal is written by a single journal writer thread, which appends all the transitions recorded
+ * meanwhile with a single synchronous write, while the validations recording them wait for the write to complete.
+ * Transitions are coalesced per consent ID, i.e. only the latest status of a consent is written, and are flushed to
+ * the database in batches by a background thread. Transitions are recorded for valid consents and a transition is
+ * only written if the consent is still valid when it is flushed, so that a consent which was revoked meanwhile keeps
+ * its status. Transitions which fail are kept and written on the next flush. The journal is compacted to the
+ * transitions still pending after every flush and is replayed on start up, so that no transition is lost if the
+ * server stops before it is flushed.</p>
+ *
+ * <p>Validations on this node see a pending or recently flushed status through {@link #getStatus(String, String)},
+ * so that a consumed one off consent is not accepted again before its transition reaches the database.</p>
+ */
+public class ConsentStatusWriteBehind {
+
+    private static final Log log = LogFactory.getLog(ConsentStatusWriteBehind.class);
+
+    private static final int DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final String DEFAULT_JOURNAL_FILE = "berlin-consent-status-journal.log";
+    private static final String REPOSITORY_DIRECTORY = "repository";
+    private static final String DATA_DIRECTORY = "data";
+    private static final int FLUSHED_STATUS_CACHE_MAX_ENTRIES = 10000;
+    private static final long FLUSHED_STATUS_CACHE_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static volatile ConsentStatusWriteBehind consentStatusWriteBehind;
+
+    private final ConsentStatusWriter writer;
+    private final int maxBatchSize;
+    private final Path journalFile;
+    private final ExecutorService journalWriter;
+    private final BlockingQueue<JournalRecord> journalQueue = new LinkedBlockingQueue<>();
+    private final Map<String, String> pendingStatuses = new ConcurrentHashMap<>();
+    private final BoundedTTLCache<String, String> flushedStatuses =
+            new BoundedTTLCache<>(FLUSHED_STATUS_CACHE_MAX_ENTRIES, FLUSHED_STATUS_CACHE_EXPIRY_MILLIS);
+
+    ConsentStatusWriteBehind(ConsentStatusWriter writer, int maxBatchSize, Path journalFile) {
+
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+        this.journalFile = journalFile;
+        this.journalWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "berlin-consent-status-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return ConsentStatusWriteBehind object
+     */
+    public static ConsentStatusWriteBehind getInstance() {
+
+        if (consentStatusWriteBehind == null) {
+            synchronized (ConsentStatusWriteBehind.class) {
+                if (consentStatusWriteBehind == null) {
+                    consentStatusWriteBehind = createWriteBehind(CommonConfigParser.getInstance());
+                }
+            }
+        }
+        return consentStatusWriteBehind;
+    }
+
+    /**
+     * Records a status transition of a valid consent. The transition is journaled before this method returns and is
+     * written to the database by the next flush. If the transition cannot be journaled, it is written to the
+     * database directly.
+     *
+     * @param consentId consent ID
+     * @param status    new status of the consent
+     * @throws ConsentManagementException thrown if the transition can neither be journaled nor written
+     */
+    public void updateStatus(String consentId, String status) throws ConsentManagementException {
+
+        if (consentId == null) {
+            writer.updateConsentStatus(null, status);
+            return;
+        }
+        JournalRecord journalRecord = new JournalRecord(consentId, status);
+        journalQueue.add(journalRecord);
+        journalWriter.execute(this::appendToJournal);
+        try {
+            journalRecord.journaled.get();
+            return;
+        } catch (ExecutionException e) {
+            log.error("Error while journaling the status transition of consent " + consentId + ". Writing the "
+                    + "transition directly", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while journaling the status transition of consent " + consentId + ". Writing the "
+                    + "transition directly");
+        }
+        writer.updateConsentStatus(consentId, status);
+        flushedStatuses.put(consentId, status);
+    }
+
+    /**
+     * Returns the status of a consent, taking the transitions which are pending or were recently flushed on this
+     * node into account.
+     *
+     * @param consentId     consent ID
+     * @param currentStatus status of the consent read from the database
+     * @return the latest known status of the consent
+     */
+    public String getStatus(String consentId, String currentStatus) {
+
+        if (consentId == null) {
+            return currentStatus;
+        }
+        String status = pendingStatuses.get(consentId);
+        if (status == null) {
+            status = flushedStatuses.get(consentId);
+        }
+        return status == null ? currentStatus : status;
+    }
+
+    /**
+     * Writes pending status transitions to the database, at most the maximum batch size of them, and compacts the
+     * journal to the transitions which are still pending. The transition of a consent which is no longer valid is
+     * discarded.
+     */
+    public synchronized void flush() {
+
+        if (pendingStatuses.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, String>> batch = new ArrayList<>();
+        for (Map.Entry<String, String> pendingStatus : pendingStatuses.entrySet()) {
+            if (batch.size() >= maxBatchSize) {
+                break;
+            }
+            batch.add(new AbstractMap.SimpleImmutableEntry<>(pendingStatus));
+        }
+
+        int flushedCount = 0;
+        for (Map.Entry<String, String> transition : batch) {
+            try {
+                String currentStatus = writer.getConsentStatus(transition.getKey());
+                if (StringUtils.equals(currentStatus, ConsentStatusEnum.VALID.toString())) {
+                    writer.updateConsentStatus(transition.getKey(), transition.getValue());
+                    flushedStatuses.put(transition.getKey(), transition.getValue());
+                } else {
+                    log.warn("Discarding the status transition of consent " + transition.getKey() + " to "
+                            + transition.getValue() + " since the consent is in " + currentStatus + " status");
+                }
+            } catch (ConsentManagementException | RuntimeException e) {
+                log.error("Error while writing the status transition of consent " + transition.getKey()
+                        + ". The transition is retried on the next flush", e);
+                continue;
+            }
+            // A newer transition of the consent recorded meanwhile stays pending
+            if (pendingStatuses.remove(transition.getKey(), transition.getValue())) {
+                flushedCount++;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Flushed " + flushedCount + " consent status transitions. " + pendingStatuses.size()
+                    + " transitions are pending");
+        }
+        if (flushedCount > 0) {
+            try {
+                CompletableFuture.runAsync(this::compactJournal, journalWriter).join();
+            } catch (CompletionException e) {
+                log.error("Error while compacting the consent status journal " + journalFile, e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Loads the transitions of the journal which were not flushed before the server stopped. This is called before
+     * any transition is recorded.
+     */
+    void recover() {
+
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        List<String> journalEntries;
+        try {
+            journalEntries = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Error while reading the consent status journal " + journalFile, e);
+            return;
+        }
+
+        JSONParser parser = new JSONParser(JSONParser.MODE_PERMISSIVE);
+        for (String journalEntry : journalEntries) {
+            if (StringUtils.isBlank(journalEntry)) {
+                continue;
+            }
+            try {
+                JSONObject transition = (JSONObject) parser.parse(journalEntry);
+                String consentId = transition.getAsString(CommonConstants.CONSENT_ID);
+                String status = transition.getAsString(ConsentExtensionConstants.CONSENT_STATUS);
+                if (StringUtils.isNotBlank(consentId) && StringUtils.isNotBlank(status)) {
+                    pendingStatuses.put(consentId, status);
+                    continue;
+                }
+            } catch (ParseException | ClassCastException e) {
+                log.debug("Malformed consent status journal entry", e);
+            }
+            log.error("Discarding malformed consent status journal entry");
+        }
+        log.info("Recovered " + pendingStatuses.size() + " pending consent status transitions from "
+                + journalFile);
+    }
+
+    int getPendingCount() {
+
+        return pendingStatuses.size();
+    }
+
+    /**
+     * Appends the transitions recorded since the last append to the journal with a single synchronous write and
+     * completes them. Runs on the journal writer thread only.
+     */
+    private void appendToJournal() {
+
+        List<JournalRecord> journalRecords = new ArrayList<>();
+        journalQueue.drainTo(journalRecords);
+        if (journalRecords.isEmpty()) {
+            return;
+        }
+
+        StringBuilder journal = new StringBuilder();
+        for (JournalRecord journalRecord : journalRecords) {
+            appendTransition(journal, journalRecord.consentId, journalRecord.status);
+        }
+        try {
+            Path parent = journalFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(journalFile, journal.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException | RuntimeException e) {
+            for (JournalRecord journalRecord : journalRecords) {
+                journalRecord.journaled.completeExceptionally(e);
+            }
+            return;
+        }
+        for (JournalRecord journalRecord : journalRecords) {
+            pendingStatuses.put(journalRecord.consentId, journalRecord.status);
+            journalRecord.journaled.complete(null);
+        }
+    }
+
+    /**
+     * Replaces the journal with the transitions which are still pending. The new journal is written to a temporary
+     * file first, so that a crash during the compaction leaves either the old or the new journal. Runs on the
+     * journal writer thread only, so that no transition is appended to the journal while it is replaced.
+     */
+    private void compactJournal() {
+
+        try {
+            if (pendingStatuses.isEmpty()) {
+                Files.deleteIfExists(journalFile);
+                return;
+            }
+            StringBuilder journal = new StringBuilder();
+            for (Map.Entry<String, String> pendingStatus : pendingStatuses.entrySet()) {
+                appendTransition(journal, pendingStatus.getKey(), pendingStatus.getValue());
+            }
+            Path compactedJournal = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+            Files.write(compactedJournal, journal.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+            Files.move(compactedJournal, journalFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The journal still holds all pending transitions, flushed ones are only written again on recovery
+            log.error("Error while compacting the consent status journal " + journalFile, e);
+        }
+    }
+
+    private static void appendTransition(StringBuilder journal, String consentId, String status) {
+
+        Map<String, String> transition = new LinkedHashMap<>();
+        transition.put(CommonConstants.CONSENT_ID, consentId);
+        transition.put(ConsentExtensionConstants.CONSENT_STATUS, status);
+        journal.append(JSONObject.toJSONString(transition)).append(System.lineSeparator());
+    }
+
+    private static ConsentStatusWriteBehind createWriteBehind(CommonConfigParser configParser) {
+
+        int maxBatchSize = configParser.getConsentStatusWriteBehindMaxBatchSize();
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(new ConsentCoreStatusWriter(),
+                maxBatchSize > 0 ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE,
+                getJournalFile(configParser.getConsentStatusWriteBehindJournalFile()));
+        writeBehind.recover();
+
+        int flushIntervalMillis = configParser.getConsentStatusWriteBehindFlushIntervalMillis();
+        long flushInterval = flushIntervalMillis > 0 ? flushIntervalMillis : DEFAULT_FLUSH_INTERVAL_MILLIS;
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "berlin-consent-status-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(writeBehind::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        return writeBehind;
+    }
+
+    /**
+     * Returns the configured journal file, or the default journal file in the data directory of the server. The
+     * journal is never resolved against the working directory of the server.
+     */
+    private static Path getJournalFile(String configuredJournalFile) {
+
+        if (StringUtils.isNotBlank(configuredJournalFile)) {
+            return Paths.get(configuredJournalFile);
+        }
+        String carbonHome = CarbonUtils.getCarbonHome();
+        if (StringUtils.isBlank(carbonHome)) {
+            throw new IllegalStateException(CommonConstants.CONSENT_STATUS_WRITE_BEHIND_JOURNAL_FILE + " is not " +
+                    "configured and the server home directory is not set");
+        }
+        return Paths.get(carbonHome, REPOSITORY_DIRECTORY, DATA_DIRECTORY, DEFAULT_JOURNAL_FILE);
+    }
+
+    /**
+     * Reads and writes the status of a consent in the database.
+     */
+    public interface ConsentStatusWriter {
+
+        String getConsentStatus(String consentId) throws ConsentManagementException;
+
+        void updateConsentStatus(String consentId, String status) throws ConsentManagementException;
+    }
+
+    /**
+     * Consent status writer of the consent core service.
+     */
+    private static class ConsentCoreStatusWriter implements ConsentStatusWriter {
+
+        private final ConsentCoreServiceImpl coreService = new ConsentCoreServiceImpl();
+
+        @Override
+        public String getConsentStatus(String consentId) throws ConsentManagementException {
+
+            return coreService.getConsent(consentId, false).getCurrentStatus();
+        }
+
+        @Override
+        public void updateConsentStatus(String consentId, String status) throws ConsentManagementException {
+
+            coreService.updateConsentStatus(consentId, status);
+        }
+    }
+
+    /**
+     * A status transition waiting to be appended to the journal.
+     */
+    private static class JournalRecord {
+
+        private final String consentId;
+        private final String status;
+        private final CompletableFuture<Void> journaled = new CompletableFuture<>();
+
+        JournalRecord(String consentId, String status) {
+
+            this.consentId = consentId;
+            this.status = status;
+        }
+    }
+}
@@ -30,9 +30,21 @@ import org.wso2.openbanking.berlin.consent.extensions.manage.handler.request.imp
 
 /**
  * Factory for deciding the type of request.
+ *
+ * <p>Request handlers are stateless, hence a single instance of each handler is shared by all requests.</p>
  */
 public class RequestHandlerFactory {
 
+    private static final RequestHandler EXPLICIT_AUTH_REQUEST_HANDLER = new ExplicitAuthRequestHandler();
+    private static final RequestHandler ACCOUNT_INITIATION_REQUEST_HANDLER = new AccountInitiationRequestHandler();
+    private static final RequestHandler PAYMENT_INITIATION_REQUEST_HANDLER = new PaymentInitiationRequestHandler();
+    private static final RequestHandler BULK_PAYMENT_INITIATION_REQUEST_HANDLER =
+            new BulkPaymentInitiationRequestHandler();
+    private static final RequestHandler PERIODIC_PAYMENT_INITIATION_REQUEST_HANDLER =
+            new PeriodicPaymentInitiationRequestHandler();
+    private static final RequestHandler FUNDS_CONFIRMATION_INITIATION_REQUEST_HANDLER =
+            new FundsConfirmationInitiationRequestHandler();
+
     /**
      * Method to get the Consent Manage Request Handler.
      *
@@ -52,20 +64,20 @@ public class RequestHandlerFactory {
                 .equals(lastElement)
                 || ConsentExtensionConstants.PAYMENT_EXPLICIT_CANCELLATION_AUTHORISATION_PATH_END
                 .equals(lastElement)) {
-            return new ExplicitAuthRequestHandler();
+            return EXPLICIT_AUTH_REQUEST_HANDLER;
         }
 
         switch (ConsentExtensionUtil.getServiceDifferentiatingRequestPath(requestPath)) {
             case ConsentExtensionConstants.ACCOUNTS_CONSENT_PATH:
-                return new AccountInitiationRequestHandler();
+                return ACCOUNT_INITIATION_REQUEST_HANDLER;
             case ConsentExtensionConstants.PAYMENTS_SERVICE_PATH:
-                return new PaymentInitiationRequestHandler();
+                return PAYMENT_INITIATION_REQUEST_HANDLER;
             case ConsentExtensionConstants.BULK_PAYMENTS_SERVICE_PATH:
-                return new BulkPaymentInitiationRequestHandler();
+                return BULK_PAYMENT_INITIATION_REQUEST_HANDLER;
             case ConsentExtensionConstants.PERIODIC_PAYMENTS_SERVICE_PATH:
-                return new PeriodicPaymentInitiationRequestHandler();
+                return PERIODIC_PAYMENT_INITIATION_REQUEST_HANDLER;
             case ConsentExtensionConstants.FUNDS_CONFIRMATIONS_SERVICE_PATH:
-                return new FundsConfirmationInitiationRequestHandler();
+                return FUNDS_CONFIRMATION_INITIATION_REQUEST_HANDLER;
             default:
                 return null;
         }
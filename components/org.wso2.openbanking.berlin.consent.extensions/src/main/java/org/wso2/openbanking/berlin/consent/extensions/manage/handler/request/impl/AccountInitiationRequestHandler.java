@@ -69,7 +69,7 @@ public class AccountInitiationRequestHandler implements RequestHandler {
         boolean isSCARequired = configParser.isScaRequired();
 
         validateRequestHeaders(headersMap);
-        validateRequestPayload(requestPayload);
+        String permission = validateRequestPayload(requestPayload);
 
         boolean isExplicitAuth = HeaderValidator.isTppExplicitAuthorisationPreferred(headersMap);
 
@@ -121,7 +121,7 @@ public class AccountInitiationRequestHandler implements RequestHandler {
                 }
                 consentCoreService.storeConsentAttributes(createdConsent.getConsentID(),
                         getConsentAttributesToPersist(consentManageData, createdConsent, scaInfoMap, isExplicitAuth,
-                                recurringIndicator));
+                                recurringIndicator, permission));
             } catch (ConsentManagementException e) {
                 log.error(ErrorConstants.CONSENT_ATTRIBUTE_INITIATION_ERROR, e);
                 throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, e.getMessage());
@@ -168,12 +168,14 @@ public class AccountInitiationRequestHandler implements RequestHandler {
      * based specifications.
      *
      * @param payload request payload
+     * @return the permission of the account consent
      */
-    protected void validateRequestPayload(JSONObject payload) {
+    protected String validateRequestPayload(JSONObject payload) {
 
         CommonConfigParser configParser = CommonConfigParser.getInstance();
-        AccountConsentUtil.validateAccountInitiationPayload(payload, configParser.getConfiguredMinimumFreqPerDay(),
-                configParser.isValidUntilDateCapEnabled(), configParser.validUntilDaysCap());
+        return AccountConsentUtil.validateAccountInitiationPayload(payload,
+                configParser.getConfiguredMinimumFreqPerDay(), configParser.isValidUntilDateCapEnabled(),
+                configParser.validUntilDaysCap());
     }
 
     /**
@@ -184,19 +186,21 @@ public class AccountInitiationRequestHandler implements RequestHandler {
      * @param scaInfoMap        SCA details
      * @param isExplicitAuth    if explicit is preferred or not
      * @param recurringIndicator    if one off consent or not
+     * @param permission    permission of the account consent
      * @return map of consent attributes to store
      */
     protected Map<String, String> getConsentAttributesToPersist(ConsentManageData consentManageData,
                                                                 DetailedConsentResource createdConsent,
                                                                 Map<String, Object> scaInfoMap,
-                                                                boolean isExplicitAuth, boolean recurringIndicator) {
+                                                                boolean isExplicitAuth, boolean recurringIndicator,
+                                                                String permission) {
 
         Map<String, String> headersMap = consentManageData.getHeaders();
 
         Map<String, String> consentAttributesMap = new HashMap<>();
 
         // Storing permission
-        consentAttributesMap.put(ConsentExtensionConstants.PERMISSION, AccountConsentUtil.getPermission());
+        consentAttributesMap.put(ConsentExtensionConstants.PERMISSION, permission);
 
         // Storing consent expire attribute to expire in background
         if (recurringIndicator) {
@@ -28,9 +28,16 @@ import org.wso2.openbanking.berlin.consent.extensions.manage.handler.service.imp
 
 /**
  * Factory for deciding the banking service.
+ *
+ * <p>Service handlers are stateless, hence a single instance of each handler is shared by all requests.</p>
  */
 public class ServiceHandlerFactory {
 
+    private static final ServiceHandler ACCOUNT_SERVICE_HANDLER = new AccountServiceHandler();
+    private static final ServiceHandler PAYMENT_SERVICE_HANDLER = new PaymentServiceHandler();
+    private static final ServiceHandler FUNDS_CONFIRMATION_SERVICE_HANDLER = new FundsConfirmationServiceHandler();
+    private static final ServiceHandler AUTHORISATION_SERVICE_HANDLER = new AuthorisationServiceHandler();
+
     /**
      * Method to get the Consent Manage Service Handler.
      *
@@ -41,17 +48,17 @@ public class ServiceHandlerFactory {
 
         switch (ConsentExtensionUtil.getServiceDifferentiatingRequestPath(requestPath)) {
             case ConsentExtensionConstants.ACCOUNTS_CONSENT_PATH:
-                return new AccountServiceHandler();
+                return ACCOUNT_SERVICE_HANDLER;
             case ConsentExtensionConstants.PAYMENTS_SERVICE_PATH:
             case ConsentExtensionConstants.BULK_PAYMENTS_SERVICE_PATH:
             case ConsentExtensionConstants.PERIODIC_PAYMENTS_SERVICE_PATH:
             case ConsentExtensionConstants.PAYMENT_CONSENT_UPDATE_PATH:
-                return new PaymentServiceHandler();
+                return PAYMENT_SERVICE_HANDLER;
             case ConsentExtensionConstants.FUNDS_CONFIRMATIONS_SERVICE_PATH:
-                return new FundsConfirmationServiceHandler();
+                return FUNDS_CONFIRMATION_SERVICE_HANDLER;
             case ConsentExtensionConstants.EXPLICIT_AUTHORISATION_PATH_END:
             case ConsentExtensionConstants.PAYMENT_EXPLICIT_CANCELLATION_AUTHORISATION_PATH_END:
-                return new AuthorisationServiceHandler();
+                return AUTHORISATION_SERVICE_HANDLER;
             default:
                 return null;
         }
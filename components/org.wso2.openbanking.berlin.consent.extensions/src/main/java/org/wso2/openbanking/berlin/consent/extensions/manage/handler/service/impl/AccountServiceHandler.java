@@ -54,7 +54,6 @@ import java.util.ArrayList;
 public class AccountServiceHandler implements ServiceHandler {
 
     private static final Log log = LogFactory.getLog(AccountServiceHandler.class);
-    private RequestHandler requestHandler;
 
     @Override
     public void handlePost(ConsentManageData consentManageData) throws ConsentException {
@@ -81,7 +80,7 @@ public class AccountServiceHandler implements ServiceHandler {
             return;
         }
 
-        requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
+        RequestHandler requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
 
         if (requestHandler != null) {
             requestHandler.handle(consentManageData);
@@ -53,7 +53,6 @@ import java.util.ArrayList;
 public class FundsConfirmationServiceHandler implements ServiceHandler {
 
     private static final Log log = LogFactory.getLog(FundsConfirmationServiceHandler.class);
-    private RequestHandler requestHandler;
 
     @Override
     public void handlePost(ConsentManageData consentManageData) throws ConsentException {
@@ -80,7 +79,7 @@ public class FundsConfirmationServiceHandler implements ServiceHandler {
             return;
         }
 
-        requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
+        RequestHandler requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
 
         if (requestHandler != null) {
             requestHandler.handle(consentManageData);
@@ -46,7 +46,6 @@ import org.wso2.openbanking.berlin.consent.extensions.manage.util.CommonConsentU
 public class PaymentServiceHandler implements ServiceHandler {
 
     private static final Log log = LogFactory.getLog(PaymentServiceHandler.class);
-    private RequestHandler requestHandler;
 
     @Override
     public void handlePost(ConsentManageData consentManageData) throws ConsentException {
@@ -73,7 +72,7 @@ public class PaymentServiceHandler implements ServiceHandler {
             return;
         }
 
-        requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
+        RequestHandler requestHandler = RequestHandlerFactory.getRequestHandler(consentManageData.getRequestPath());
 
         if (requestHandler != null) {
             requestHandler.handle(consentManageData);
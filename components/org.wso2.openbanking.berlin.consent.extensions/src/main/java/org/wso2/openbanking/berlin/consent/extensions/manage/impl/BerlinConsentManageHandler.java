@@ -27,6 +27,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExpirySweeper;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.manage.handler.service.ServiceHandler;
 import org.wso2.openbanking.berlin.consent.extensions.manage.handler.service.factory.ServiceHandlerFactory;
@@ -38,7 +39,6 @@ import org.wso2.openbanking.berlin.consent.extensions.manage.util.CommonConsentU
 public class BerlinConsentManageHandler implements ConsentManageHandler {
 
     private static final Log log = LogFactory.getLog(BerlinConsentManageHandler.class);
-    private ServiceHandler serviceHandler;
 
     @Override
     public void handleGet(ConsentManageData consentManageData) throws ConsentException {
@@ -48,7 +48,7 @@ public class BerlinConsentManageHandler implements ConsentManageHandler {
         consentManageData.setResponseHeader(ConsentExtensionConstants.X_REQUEST_ID_PROPER_CASE_HEADER,
                 consentManageData.getHeaders().get(ConsentExtensionConstants.X_REQUEST_ID_HEADER));
 
-        serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
+        ServiceHandler serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
 
         if (serviceHandler != null) {
             serviceHandler.handleGet(consentManageData);
@@ -62,12 +62,15 @@ public class BerlinConsentManageHandler implements ConsentManageHandler {
     @Override
     public void handlePost(ConsentManageData consentManageData) throws ConsentException {
 
+        // Consents are initiated on every node which serves consent traffic
+        ConsentExpirySweeper.startIfEnabled();
+
         log.debug("Validating the X-Request-ID header");
         CommonConsentUtil.validateXRequestId(consentManageData.getHeaders());
         consentManageData.setResponseHeader(ConsentExtensionConstants.X_REQUEST_ID_PROPER_CASE_HEADER,
                 consentManageData.getHeaders().get(ConsentExtensionConstants.X_REQUEST_ID_HEADER));
 
-        serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
+        ServiceHandler serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
 
         if (serviceHandler != null) {
             serviceHandler.handlePost(consentManageData);
@@ -86,7 +89,7 @@ public class BerlinConsentManageHandler implements ConsentManageHandler {
         consentManageData.setResponseHeader(ConsentExtensionConstants.X_REQUEST_ID_PROPER_CASE_HEADER,
                 consentManageData.getHeaders().get(ConsentExtensionConstants.X_REQUEST_ID_HEADER));
 
-        serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
+        ServiceHandler serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
 
         if (serviceHandler != null) {
             serviceHandler.handleDelete(consentManageData);
@@ -100,7 +103,7 @@ public class BerlinConsentManageHandler implements ConsentManageHandler {
     @Override
     public void handlePut(ConsentManageData consentManageData) throws ConsentException {
 
-        serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
+        ServiceHandler serviceHandler = ServiceHandlerFactory.getServiceHandler(consentManageData.getRequestPath());
 
         if (serviceHandler != null) {
             serviceHandler.handlePut(consentManageData);
@@ -26,7 +26,6 @@ import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -38,24 +37,18 @@ import org.wso2.openbanking.berlin.common.models.ScaApproach;
 import org.wso2.openbanking.berlin.common.models.ScaMethod;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.CommonUtil;
+import org.wso2.openbanking.berlin.common.utils.DateUtil;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReceiptCache;
 import org.wso2.openbanking.berlin.consent.extensions.common.LinksConstructor;
 import org.wso2.openbanking.berlin.consent.extensions.common.PermissionEnum;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,22 +57,15 @@ import java.util.Map;
 public class AccountConsentUtil {
 
     private static final Log log = LogFactory.getLog(AccountConsentUtil.class);
-    private static String permission;
-
-    public static String getPermission() {
-        return permission;
-    }
-
-    public static void setPermission(String permission) {
-        AccountConsentUtil.permission = permission;
-    }
 
     /**
-     * Method to validate account initiation payload.
+     * Method to validate account initiation payload. The permission is derived from the access object of the payload
+     * alone, so that concurrent initiations do not share it.
      *
      * @param payload
+     * @return the permission of the account consent
      */
-    public static void validateAccountInitiationPayload(JSONObject payload, int configuredMinimumFreqPerDay,
+    public static String validateAccountInitiationPayload(JSONObject payload, int configuredMinimumFreqPerDay,
                                                         boolean isValidUntilDateCapEnabled, int validUntilDaysCap) {
         JSONObject accessObject = (JSONObject) payload.get(ConsentExtensionConstants.ACCESS);
 
@@ -122,7 +108,7 @@ public class AccountConsentUtil {
         }
 
         log.debug("Validating account permissions");
-        permission = getPermissionByValidatingAccountAccessAttribute(accessObject);
+        String permission = getPermissionByValidatingAccountAccessAttribute(accessObject);
 
         if (StringUtils.equals(permission, PermissionEnum.DEDICATED_ACCOUNTS.toString())) {
             log.debug("Validating account reference objects");
@@ -176,6 +162,7 @@ public class AccountConsentUtil {
                     null, TPPMessage.CategoryEnum.ERROR, TPPMessage.CodeEnum.SESSIONS_NOT_SUPPORTED,
                     ErrorConstants.COMBINED_SERVICE_INDICATOR_NOT_SUPPORTED));
         }
+        return permission;
     }
 
     /**
@@ -333,7 +320,7 @@ public class AccountConsentUtil {
 
         LocalDate validUntilDate = ConsentExtensionUtil.parseDateToISO(validUntil, TPPMessage.CodeEnum.FORMAT_ERROR,
                 ErrorConstants.VALID_UNTIL_DATE_INVALID);
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate today = DateUtil.getCurrentDate();
         if (validUntilDate.isBefore(today)) {
             String errorMessage = "validUntil has to be today, %s or a future date";
             log.error(String.format(errorMessage, today));
@@ -342,17 +329,14 @@ public class AccountConsentUtil {
                     String.format(errorMessage, today)));
         }
         LocalDate maximumValidUntil = LocalDate.parse(ConsentExtensionConstants.MAXIMUM_VALID_DATE);
-        if (isValidUntilDateCapEnabled &&
-                (validUntil.compareTo(today.
-                        plusDays(validUntilDaysCap).
-                        format(DateTimeFormatter.ISO_LOCAL_DATE)) > 0)) {
+        String validUntilDateCap = DateUtil.formatDate(today.plusDays(validUntilDaysCap));
+        if (isValidUntilDateCapEnabled && (validUntil.compareTo(validUntilDateCap) > 0)) {
             /*
             If the valid until date cap is enabled;
             and if now plus the valid until days cap(now + valid until days cap) is still a valid date;
             the new valid until date will be now plus the valid until days cap(now + valid until days cap)
              */
-            validUntil = LocalDateTime.now().plusDays(validUntilDaysCap).
-                    format(DateTimeFormatter.ISO_LOCAL_DATE);
+            validUntil = validUntilDateCap;
         } else if (validUntilDate.isAfter(maximumValidUntil)) {
             validUntil = ConsentExtensionConstants.MAXIMUM_VALID_DATE;
         }
@@ -369,11 +353,9 @@ public class AccountConsentUtil {
 
         LocalDate localDate = ConsentExtensionUtil.parseDateToISO(date, TPPMessage.CodeEnum.FORMAT_ERROR,
                 ErrorConstants.VALID_UNTIL_DATE_INVALID);
-        LocalDateTime localDateTime = localDate.atStartOfDay();
-        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.of(ConsentExtensionConstants.UTC));
 
         // Retrieve the UTC timestamp in long.
-        return Instant.from(zonedDateTime).getEpochSecond();
+        return DateUtil.toEpochSeconds(localDate);
     }
 
     /**
@@ -385,14 +367,10 @@ public class AccountConsentUtil {
      */
     public static boolean isConsentExpired(long validUntilDate, long updatedTimeVal) {
 
-        LocalDateTime expDateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(validUntilDate),
-                ZoneId.of(ConsentExtensionConstants.UTC));
-        LocalDate expDate = expDateTime.toLocalDate();
-        LocalDateTime updatedDateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(updatedTimeVal),
-                ZoneId.of(ConsentExtensionConstants.UTC));
-        LocalDate updatedDate = updatedDateTime.toLocalDate();
+        LocalDate expDate = DateUtil.toDate(validUntilDate);
+        LocalDate updatedDate = DateUtil.toDate(updatedTimeVal);
 
-        LocalDate currDate = LocalDate.now(ZoneOffset.UTC);
+        LocalDate currDate = DateUtil.getCurrentDate();
         LocalDate expTimeAfter90Days = updatedDate.plusDays(90);
         if (currDate.isBefore(expDate) || currDate.isEqual(expDate)) {
 
@@ -428,8 +406,8 @@ public class AccountConsentUtil {
         Map<String, Object> scaElements = CommonUtil.getScaApproachAndMethods(isRedirectPreferred,
                 isSCARequired);
         ScaApproach scaApproach = (ScaApproach) scaElements.get(CommonConstants.SCA_APPROACH_KEY);
-        ArrayList<ScaMethod> scaMethods =
-                (ArrayList<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
+        List<ScaMethod> scaMethods =
+                (List<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
         consentManageData.setResponseHeader(ConsentExtensionConstants.ASPSP_SCA_APPROACH,
                 scaApproach.getApproach().toString());
 
@@ -458,7 +436,7 @@ public class AccountConsentUtil {
      * @return the constructed initiation response without links
      */
     public static JSONObject getAccountInitiationResponse(DetailedConsentResource createdConsent,
-                                                          ArrayList<ScaMethod> scaMethods) {
+                                                          List<ScaMethod> scaMethods) {
 
         JSONObject responseObject = new JSONObject();
         responseObject.appendField(ConsentExtensionConstants.CONSENT_STATUS, createdConsent.getCurrentStatus());
@@ -502,14 +480,11 @@ public class AccountConsentUtil {
      */
     public static JSONObject getAccountConsentGetResponse(ConsentResource retrievedConsent) throws ParseException {
 
-        JSONObject consentReceipt =
-                (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(retrievedConsent.getReceipt());
+        JSONObject consentReceipt = ConsentReceiptCache.getReceiptCopy(retrievedConsent);
 
         consentReceipt.appendField(ConsentExtensionConstants.CONSENT_STATUS, retrievedConsent.getCurrentStatus());
 
-        Date currentDate = new Date(retrievedConsent.getUpdatedTime() * 1000L);
-        DateFormat dateFormat = new SimpleDateFormat(ConsentExtensionConstants.DATE_FORMAT);
-        String lastActionDate = dateFormat.format(currentDate);
+        String lastActionDate = DateUtil.formatDate(retrievedConsent.getUpdatedTime());
 
         consentReceipt.appendField(ConsentExtensionConstants.LAST_ACTION_DATE, lastActionDate);
 
@@ -18,24 +18,105 @@
 
 package org.wso2.openbanking.berlin.consent.extensions.manage.util;
 
+import com.wso2.openbanking.accelerator.common.config.OpenBankingConfigParser;
 import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
 import com.wso2.openbanking.accelerator.common.util.Generated;
 import com.wso2.openbanking.accelerator.consent.extensions.common.idempotency.IdempotencyConstants;
+import com.wso2.openbanking.accelerator.consent.extensions.common.idempotency.IdempotencyValidationException;
+import com.wso2.openbanking.accelerator.consent.extensions.common.idempotency.IdempotencyValidationResult;
 import com.wso2.openbanking.accelerator.consent.extensions.common.idempotency.IdempotencyValidator;
+import com.wso2.openbanking.accelerator.consent.extensions.manage.model.ConsentManageData;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 import net.minidev.json.JSONObject;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReadContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class to handle idempotency related operations.
+ *
+ * <p>The consent of a previous request is read once per idempotency validation and shared by the created time and
+ * payload lookups. Validated idempotent requests can also be cached for a short time, keyed by the client ID and the
+ * idempotency key, so that the retries of a TPP after a timeout are answered without the idempotency key lookup
+ * and the payload comparison. The consent read by the validation is cached with the request and returned for the
+ * cached retries without reading it again, so the returned consent status can be stale for at most the cache
+ * expiry. A cached request is only used within the allowed idempotency duration of the previous request.</p>
  */
 public class BerlinIdempotencyValidator extends IdempotencyValidator {
 
     private static final Log log = LogFactory.getLog(BerlinIdempotencyValidator.class);
+    private static final String SHA_256 = "SHA-256";
+
+    // Consent read context of the idempotency validation of the current request
+    private final ThreadLocal<ConsentReadContext> requestConsentReadContext = new ThreadLocal<>();
+    private volatile BoundedTTLCache<String, IdempotentRequest> idempotencyCache;
+    private volatile boolean idempotencyCacheInitialised;
+
+    public BerlinIdempotencyValidator() {
+
+    }
+
+    BerlinIdempotencyValidator(BoundedTTLCache<String, IdempotentRequest> idempotencyCache) {
+
+        this.idempotencyCache = idempotencyCache;
+        this.idempotencyCacheInitialised = true;
+    }
+
+    /**
+     * Validates whether the request is an idempotent request. A retry of a request validated as idempotent is
+     * answered with the consent cached in the idempotency cache if the cache is enabled, the payload of the retry is
+     * the same and the retry is within the allowed idempotency duration.
+     *
+     * @param consentManageData Consent Manage Data object
+     * @return the idempotency validation result
+     * @throws IdempotencyValidationException if the idempotency validation fails
+     */
+    @Override
+    public IdempotencyValidationResult validateIdempotency(ConsentManageData consentManageData)
+            throws IdempotencyValidationException {
+
+        BoundedTTLCache<String, IdempotentRequest> cache = getIdempotencyCache();
+        String cacheKey = cache == null ? null : getIdempotencyCacheKey(consentManageData);
+        byte[] payloadHash = cacheKey == null || consentManageData.getPayload() == null ? null
+                : getPayloadHash(consentManageData.getPayload().toString());
+
+        if (payloadHash != null) {
+            IdempotentRequest idempotentRequest = cache.get(cacheKey);
+            if (idempotentRequest != null && idempotentRequest.isSamePayload(payloadHash)) {
+                if (idempotentRequest.isWithinAllowedTime(System.currentTimeMillis())) {
+                    log.debug("Idempotent request found in the idempotency cache");
+                    return new IdempotencyValidationResult(true, true, idempotentRequest.getConsent(),
+                            idempotentRequest.getConsentId());
+                } else {
+                    cache.remove(cacheKey);
+                }
+            }
+        }
+
+        requestConsentReadContext.set(new ConsentReadContext(getConsentService()));
+        try {
+            IdempotencyValidationResult result = validateConsentIdempotency(consentManageData);
+            if (payloadHash != null && result != null && result.isIdempotent() && result.isValid()
+                    && result.getConsentId() != null) {
+                cacheIdempotentRequest(cache, cacheKey, consentManageData.getRequestPath(), result.getConsentId(),
+                        payloadHash);
+            }
+            return result;
+        } finally {
+            requestConsentReadContext.remove();
+        }
+    }
 
     /**
      * Method to get the Idempotency Key Name store in consent Attributes.
@@ -156,17 +237,149 @@ public class BerlinIdempotencyValidator extends IdempotencyValidator {
      * @return  DetailedConsentResource
      */
     private DetailedConsentResource getConsent(String consentId) {
+
+        ConsentReadContext consentReadContext = requestConsentReadContext.get();
         try {
-            return getConsentService().getDetailedConsent(consentId);
+            return consentReadContext != null ? consentReadContext.getDetailedConsent(consentId)
+                    : getConsentService().getDetailedConsent(consentId);
         } catch (ConsentManagementException e) {
             log.error(IdempotencyConstants.CONSENT_RETRIEVAL_ERROR, e);
             return null;
         }
     }
 
+    /**
+     * Caches the validated idempotent request with the consent read by the validation, until the cache entry
+     * expires or the allowed idempotency duration of the previous request ends, whichever comes first. The request
+     * is not cached if the allowed duration is not configured or the consent cannot be read.
+     */
+    private void cacheIdempotentRequest(BoundedTTLCache<String, IdempotentRequest> cache, String cacheKey,
+                                        String resourcePath, String consentId, byte[] payloadHash) {
+
+        long allowedDurationMillis = getIdempotencyAllowedDurationMillis();
+        long createdTimeSeconds = getCreatedTimeOfPreviousRequest(resourcePath, consentId);
+        DetailedConsentResource consent = getConsent(consentId);
+        if (allowedDurationMillis < 0 || createdTimeSeconds == 0L || consent == null) {
+            return;
+        }
+        cache.put(cacheKey, new IdempotentRequest(consentId, consent, payloadHash,
+                TimeUnit.SECONDS.toMillis(createdTimeSeconds) + allowedDurationMillis));
+    }
+
+    @Generated(message = "Excluded from coverage since this delegates to the accelerator validation")
+    IdempotencyValidationResult validateConsentIdempotency(ConsentManageData consentManageData)
+            throws IdempotencyValidationException {
+
+        return super.validateIdempotency(consentManageData);
+    }
+
+    /**
+     * Builds the idempotency cache key of the request from the client ID, the idempotency attribute name of the
+     * resource and the idempotency key.
+     *
+     * @param consentManageData Consent Manage Data object
+     * @return the cache key, or null if the request has no client ID or idempotency key
+     */
+    private String getIdempotencyCacheKey(ConsentManageData consentManageData) {
+
+        String idempotencyKey = consentManageData.getHeaders() == null ? null
+                : consentManageData.getHeaders().get(getIdempotencyHeaderName());
+        if (StringUtils.isBlank(consentManageData.getClientId()) || StringUtils.isBlank(idempotencyKey)
+                || consentManageData.getRequestPath() == null) {
+            return null;
+        }
+        return consentManageData.getClientId() + ":" + getIdempotencyAttributeName(consentManageData.getRequestPath())
+                + ":" + idempotencyKey;
+    }
+
+    private BoundedTTLCache<String, IdempotentRequest> getIdempotencyCache() {
+
+        if (!idempotencyCacheInitialised) {
+            synchronized (this) {
+                if (!idempotencyCacheInitialised) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    int expirySeconds = configParser.getIdempotencyCacheExpirySeconds();
+                    if (expirySeconds > 0) {
+                        idempotencyCache = new BoundedTTLCache<>(configParser.getIdempotencyCacheMaxEntries(),
+                                TimeUnit.SECONDS.toMillis(expirySeconds));
+                    }
+                    idempotencyCacheInitialised = true;
+                }
+            }
+        }
+        return idempotencyCache;
+    }
+
+    /**
+     * Returns the time after the previous request during which a request with the same idempotency key is treated
+     * as a retry, as configured for the accelerator idempotency validation.
+     *
+     * @return allowed duration in milliseconds, or -1 if the duration is not configured
+     */
+    @Generated(message = "Excluded from coverage since this reads the accelerator configuration")
+    long getIdempotencyAllowedDurationMillis() {
+
+        Object allowedDuration = OpenBankingConfigParser.getInstance().getConfiguration()
+                .get(ConsentExtensionConstants.IDEMPOTENCY_ALLOWED_TIME_DURATION);
+        if (!(allowedDuration instanceof String) || !StringUtils.isNumeric(((String) allowedDuration).trim())) {
+            return -1;
+        }
+        return TimeUnit.MINUTES.toMillis(Long.parseLong(((String) allowedDuration).trim()));
+    }
+
     @Generated(message = "Excluded from coverage since this is used for testing purposes")
     ConsentCoreServiceImpl getConsentService() {
 
         return new ConsentCoreServiceImpl();
     }
+
+    private static byte[] getPayloadHash(String payload) {
+
+        try {
+            return MessageDigest.getInstance(SHA_256).digest(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Unable to hash the payload of the idempotent request", e);
+            return null;
+        }
+    }
+
+    /**
+     * A request validated as idempotent, held in the idempotency cache with the consent returned for its retries.
+     */
+    static class IdempotentRequest {
+
+        private final String consentId;
+        private final DetailedConsentResource consent;
+        private final byte[] payloadHash;
+        private final long allowedUntilMillis;
+
+        IdempotentRequest(String consentId, DetailedConsentResource consent, byte[] payloadHash,
+                          long allowedUntilMillis) {
+
+            this.consentId = consentId;
+            this.consent = consent;
+            this.payloadHash = payloadHash;
+            this.allowedUntilMillis = allowedUntilMillis;
+        }
+
+        String getConsentId() {
+
+            return consentId;
+        }
+
+        DetailedConsentResource getConsent() {
+
+            return consent;
+        }
+
+        boolean isSamePayload(byte[] requestPayloadHash) {
+
+            return MessageDigest.isEqual(payloadHash, requestPayloadHash);
+        }
+
+        boolean isWithinAllowedTime(long currentTimeMillis) {
+
+            return currentTimeMillis <= allowedUntilMillis;
+        }
+    }
 }
@@ -178,8 +178,8 @@ public class CommonConsentUtil {
         Map<String, Object> scaElements = CommonUtil.getScaApproachAndMethods(isRedirectPreferred,
                 isSCARequired);
         ScaApproach scaApproach = (ScaApproach) scaElements.get(CommonConstants.SCA_APPROACH_KEY);
-        ArrayList<ScaMethod> scaMethods =
-                (ArrayList<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
+        List<ScaMethod> scaMethods =
+                (List<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
         consentManageData.setResponseHeader(ConsentExtensionConstants.ASPSP_SCA_APPROACH,
                 scaApproach.getApproach().toString());
 
@@ -200,7 +200,7 @@ public class CommonConsentUtil {
      * @return the constructed start authorisation response without links
      */
     public static JSONObject getStartAuthorisationResponse(AuthorizationResource createdAuthorizationResource,
-                                                           ArrayList<ScaMethod> scaMethods) {
+                                                           List<ScaMethod> scaMethods) {
 
         JSONObject responseObject = new JSONObject();
         responseObject.appendField(ConsentExtensionConstants.SCA_STATUS, createdAuthorizationResource
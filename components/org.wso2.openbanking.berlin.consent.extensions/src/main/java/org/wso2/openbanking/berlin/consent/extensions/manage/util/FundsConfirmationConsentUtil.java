@@ -26,7 +26,6 @@ import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,14 +36,16 @@ import org.wso2.openbanking.berlin.common.models.ScaApproach;
 import org.wso2.openbanking.berlin.common.models.ScaMethod;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.CommonUtil;
+import org.wso2.openbanking.berlin.common.utils.DateUtil;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReceiptCache;
 import org.wso2.openbanking.berlin.consent.extensions.common.LinksConstructor;
 
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -91,7 +92,7 @@ public class FundsConfirmationConsentUtil {
         LocalDate parsedCardExpiryDate = ConsentExtensionUtil.parseDateToISO(cardExpiryDate,
                 TPPMessage.CodeEnum.FORMAT_ERROR, ErrorConstants.CARD_EXPIRY_DATE_INVALID);
 
-        if (parsedCardExpiryDate.isBefore(LocalDate.now(ZoneOffset.UTC))) {
+        if (parsedCardExpiryDate.isBefore(DateUtil.getCurrentDate())) {
             String errorMessage = String.format("The provided card expiry date %s is a past date",
                     parsedCardExpiryDate);
             log.error(errorMessage);
@@ -127,8 +128,8 @@ public class FundsConfirmationConsentUtil {
         Map<String, Object> scaElements = CommonUtil.getScaApproachAndMethods(isRedirectPreferred,
                 isSCARequired);
         ScaApproach scaApproach = (ScaApproach) scaElements.get(CommonConstants.SCA_APPROACH_KEY);
-        ArrayList<ScaMethod> scaMethods =
-                (ArrayList<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
+        List<ScaMethod> scaMethods =
+                (List<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
         consentManageData.setResponseHeader(ConsentExtensionConstants.ASPSP_SCA_APPROACH,
                 scaApproach.getApproach().toString());
 
@@ -159,7 +160,7 @@ public class FundsConfirmationConsentUtil {
      * @return the constructed initiation response without links
      */
     public static JSONObject getFundsConfirmationInitiationResponse(DetailedConsentResource createdConsent,
-                                                                    ArrayList<ScaMethod> scaMethods) {
+                                                                    List<ScaMethod> scaMethods) {
 
         JSONObject responseObject = new JSONObject();
         responseObject.appendField(ConsentExtensionConstants.CONSENT_STATUS, createdConsent.getCurrentStatus());
@@ -189,8 +190,7 @@ public class FundsConfirmationConsentUtil {
     public static JSONObject constructFundsConfirmationConsentGetResponse(ConsentResource retrievedConsent)
             throws ParseException {
 
-        JSONObject consentReceipt =
-                (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(retrievedConsent.getReceipt());
+        JSONObject consentReceipt = ConsentReceiptCache.getReceiptCopy(retrievedConsent);
 
         consentReceipt.appendField(ConsentExtensionConstants.CONSENT_STATUS, retrievedConsent.getCurrentStatus());
 
@@ -26,7 +26,6 @@ import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -39,16 +38,18 @@ import org.wso2.openbanking.berlin.common.models.ScaApproach;
 import org.wso2.openbanking.berlin.common.models.ScaMethod;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.CommonUtil;
+import org.wso2.openbanking.berlin.common.utils.DateUtil;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.AuthTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionUtil;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReceiptCache;
 import org.wso2.openbanking.berlin.consent.extensions.common.LinksConstructor;
 
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -78,7 +79,7 @@ public class PaymentConsentUtil {
      */
     public static void validateFutureDate(LocalDate date, String errorMessage) {
 
-        if (!date.isAfter(LocalDate.now(ZoneOffset.UTC))) {
+        if (!date.isAfter(DateUtil.getCurrentDate())) {
             log.error(errorMessage);
             throw new ConsentException(ResponseStatus.BAD_REQUEST, ErrorUtil.constructBerlinError(null,
                     TPPMessage.CategoryEnum.ERROR, TPPMessage.CodeEnum.FORMAT_ERROR,
@@ -185,7 +186,7 @@ public class PaymentConsentUtil {
                                     .REQUESTED_EXECUTION_DATE), TPPMessage.CodeEnum.EXECUTION_DATE_INVALID,
                             ErrorConstants.REQUESTED_EXECUTION_DATE_INVALID);
 
-            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            LocalDate today = DateUtil.getCurrentDate();
 
             if (!requestedExecutionDate.isAfter(today)) { //Checks whether the requested execution date is a future date
                 log.error(ErrorConstants.EXECUTION_DATE_NOT_FUTURE);
@@ -230,8 +231,8 @@ public class PaymentConsentUtil {
         Map<String, Object> scaElements = CommonUtil.getScaApproachAndMethods(isRedirectPreferred,
                 isSCARequired);
         ScaApproach scaApproach = (ScaApproach) scaElements.get(CommonConstants.SCA_APPROACH_KEY);
-        ArrayList<ScaMethod> scaMethods =
-                (ArrayList<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
+        List<ScaMethod> scaMethods =
+                (List<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
         consentManageData.setResponseHeader(ConsentExtensionConstants.ASPSP_SCA_APPROACH,
                 scaApproach.getApproach().toString());
 
@@ -260,7 +261,7 @@ public class PaymentConsentUtil {
      * @return
      */
     private static JSONObject getPaymentInitiationResponse(DetailedConsentResource createdConsent,
-                                                           ArrayList<ScaMethod> scaMethods) {
+                                                           List<ScaMethod> scaMethods) {
 
         JSONObject responseObject = new JSONObject();
         responseObject.appendField(ConsentExtensionConstants.TRANSACTION_STATUS, createdConsent.getCurrentStatus());
@@ -288,8 +289,7 @@ public class PaymentConsentUtil {
      */
     public static JSONObject getConstructedPaymentsGetResponse(ConsentResource retrievedConsent) throws ParseException {
 
-        JSONObject consentReceipt =
-                (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(retrievedConsent.getReceipt());
+        JSONObject consentReceipt = ConsentReceiptCache.getReceipt(retrievedConsent);
 
         JSONObject paymentsGetResponse = new JSONObject();
         setDebtorAccountToResponse(paymentsGetResponse, consentReceipt);
@@ -310,8 +310,7 @@ public class PaymentConsentUtil {
     public static JSONObject getConstructedPeriodicPaymentGetResponse(ConsentResource retrievedConsent)
             throws ParseException {
 
-        JSONObject consentReceipt =
-                (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(retrievedConsent.getReceipt());
+        JSONObject consentReceipt = ConsentReceiptCache.getReceipt(retrievedConsent);
 
         JSONObject periodicPaymentsResponse = new JSONObject();
 
@@ -347,8 +346,7 @@ public class PaymentConsentUtil {
     public static JSONObject getConstructedBulkPaymentGetResponse(ConsentResource retrievedConsent)
             throws ParseException {
 
-        JSONObject consentReceipt =
-                (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(retrievedConsent.getReceipt());
+        JSONObject consentReceipt = ConsentReceiptCache.getReceipt(retrievedConsent);
 
         JSONObject bulkPaymentResponse = new JSONObject();
 
@@ -439,8 +437,8 @@ public class PaymentConsentUtil {
 
         Map<String, Object> scaElements = CommonUtil.getScaApproachAndMethods(true,
                 isSCARequired);
-        ArrayList<ScaMethod> scaMethods =
-                (ArrayList<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
+        List<ScaMethod> scaMethods =
+                (List<ScaMethod>) scaElements.get(CommonConstants.SCA_METHODS_KEY);
 
         paymentCancellationResponse.appendField(ConsentExtensionConstants.TRANSACTION_STATUS,
                 updatedConsent.getCurrentStatus());
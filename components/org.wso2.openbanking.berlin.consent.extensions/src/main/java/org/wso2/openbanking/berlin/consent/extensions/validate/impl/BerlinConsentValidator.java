@@ -18,6 +18,7 @@
 
 package org.wso2.openbanking.berlin.consent.extensions.validate.impl;
 
+import com.wso2.openbanking.accelerator.common.util.Generated;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ConsentException;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidateData;
@@ -25,6 +26,7 @@ import com.wso2.openbanking.accelerator.consent.extensions.validate.model.Consen
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidator;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -32,6 +34,7 @@ import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReadContext;
 import org.wso2.openbanking.berlin.consent.extensions.common.HeaderValidator;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.SubmissionValidator;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.factory.SubmissionValidatorFactory;
@@ -41,6 +44,9 @@ import java.util.ArrayList;
 
 /**
  * Consent validator implementation for Berlin.
+ *
+ * <p>The submission validators are given a consent read context which already holds the comprehensive consent of the
+ * validation, so that neither the consent nor its authorisations and account mappings are read again.</p>
  */
 public class BerlinConsentValidator implements ConsentValidator {
 
@@ -152,7 +158,8 @@ public class BerlinConsentValidator implements ConsentValidator {
                 .getSubmissionValidator(consentValidateData.getResourceParams().get("ResourcePath"));
 
         if (submissionValidator != null) {
-            submissionValidator.validate(consentValidateData, consentValidationResult);
+            submissionValidator.validate(consentValidateData, consentValidationResult,
+                    new ConsentReadContext(getConsentService(), consentResource));
         } else {
             log.error(ErrorConstants.PATH_INVALID);
             throw new ConsentException(ResponseStatus.NOT_FOUND, ErrorUtil.constructBerlinError(
@@ -160,4 +167,10 @@ public class BerlinConsentValidator implements ConsentValidator {
         }
     }
 
+    @Generated(message = "Excluded from coverage since this is used for testing purposes")
+    ConsentCoreServiceImpl getConsentService() {
+
+        return new ConsentCoreServiceImpl();
+    }
+
 }
@@ -22,6 +22,7 @@ package org.wso2.openbanking.berlin.consent.extensions.validate.validator;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ConsentException;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidateData;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidationResult;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReadContext;
 
 /**
  * Submission validator interface.
@@ -31,4 +32,19 @@ public interface SubmissionValidator {
     void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult)
             throws ConsentException;
 
+    /**
+     * Validates the submission request with the consent reads of the consent validation, so that a consent is not
+     * read again. Validators which do not read consents ignore the context.
+     *
+     * @param consentValidateData     consent validate data
+     * @param consentValidationResult consent validation result
+     * @param consentReadContext      consent read context of the consent validation
+     * @throws ConsentException thrown if the validation fails
+     */
+    default void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult,
+                          ConsentReadContext consentReadContext) throws ConsentException {
+
+        validate(consentValidateData, consentValidationResult);
+    }
+
 }
@@ -27,9 +27,16 @@ import org.wso2.openbanking.berlin.consent.extensions.validate.validator.impl.Pa
 
 /**
  * Factory for deciding the submission request validator.
+ *
+ * <p>Submission validators are stateless, hence a single instance of each validator is shared by all requests.</p>
  */
 public class SubmissionValidatorFactory {
 
+    private static final SubmissionValidator ACCOUNT_SUBMISSION_VALIDATOR = new AccountSubmissionValidator();
+    private static final SubmissionValidator FUNDS_CONFIRMATION_SUBMISSION_VALIDATOR =
+            new FundsConfirmationSubmissionValidator();
+    private static final SubmissionValidator PAYMENT_CONSENT_VALIDATOR = new PaymentConsentValidator();
+
     /**
      * Method to get the Submission Validator instance.
      *
@@ -49,17 +56,17 @@ public class SubmissionValidatorFactory {
         if (ConsentExtensionConstants.ACCOUNTS_SUBMISSION_PATH_IDENTIFIER.equals(requestPathArray[0])
                 || ConsentExtensionConstants.ACCOUNTS_SUBMISSION_PATH_IDENTIFIER.equals(requestPathArrayWithQuery[0])
                 || ConsentExtensionConstants.CARD_ACCOUNTS_SUBMISSION_PATH_IDENTIFIER.equals(requestPathArray[0])) {
-            return new AccountSubmissionValidator();
+            return ACCOUNT_SUBMISSION_VALIDATOR;
         }
 
         if (ConsentExtensionConstants.FUNDS_CONFIRMATIONS_SUBMISSION_PATH_IDENTIFIER.equals(requestPathArray[0])) {
-            return new FundsConfirmationSubmissionValidator();
+            return FUNDS_CONFIRMATION_SUBMISSION_VALIDATOR;
         }
 
         if (ConsentExtensionConstants.PAYMENTS_RETRIEVAL_PATH_IDENTIFIER.equals(requestPathArray[0])
                 || ConsentExtensionConstants.BULK_PAYMENTS_RETRIEVAL_PATH_IDENTIFIER.equals(requestPathArray[0])
                 || ConsentExtensionConstants.PERIODIC_PAYMENTS_RETRIEVAL_PATH_IDENTIFIER.equals(requestPathArray[0])) {
-            return new PaymentConsentValidator();
+            return PAYMENT_CONSENT_VALIDATOR;
         }
 
         return null;
@@ -24,22 +24,23 @@ import com.wso2.openbanking.accelerator.consent.extensions.common.ConsentExcepti
 import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidateData;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidationResult;
-import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReadContext;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusEnum;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusWriteBehind;
 import org.wso2.openbanking.berlin.consent.extensions.manage.util.AccountConsentUtil;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.SubmissionValidator;
+import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.AccountRequestPath;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.AccountValidationUtil;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.CommonValidationUtil;
 
-import java.util.ArrayList;
-
 /**
  * Validate Accounts submission requests.
  */
@@ -51,28 +52,33 @@ public class AccountSubmissionValidator implements SubmissionValidator {
     public void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult)
             throws ConsentException {
 
+        validate(consentValidateData, consentValidationResult,
+                new ConsentReadContext(getConsentService(), consentValidateData.getComprehensiveConsent()));
+    }
+
+    @Override
+    public void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult,
+                         ConsentReadContext consentReadContext) throws ConsentException {
+
         DetailedConsentResource detailedConsentResource = consentValidateData.getComprehensiveConsent();
 
         String requestPath = consentValidateData.getRequestPath();
         ConsentCoreServiceImpl coreService = getConsentService();
+        ConsentStatusWriteBehind statusWriteBehind = getStatusWriteBehind();
+        String currentStatus = statusWriteBehind == null ? detailedConsentResource.getCurrentStatus()
+                : statusWriteBehind.getStatus(detailedConsentResource.getConsentID(),
+                detailedConsentResource.getCurrentStatus());
 
         if (log.isDebugEnabled()) {
             log.debug(String.format("Checking if consent id %s is expired", detailedConsentResource.getConsentID()));
         }
-        boolean isConsentExpiredStatus = StringUtils.equals(detailedConsentResource.getCurrentStatus(),
-                ConsentStatusEnum.EXPIRED.toString());
+        boolean isConsentExpiredStatus = StringUtils.equals(currentStatus, ConsentStatusEnum.EXPIRED.toString());
         if (isConsentExpiredStatus || (detailedConsentResource.isRecurringIndicator() &&
                 AccountConsentUtil.isConsentExpired(
                         detailedConsentResource.getValidityPeriod(), detailedConsentResource.getUpdatedTime()))) {
             if (!isConsentExpiredStatus) {
-                try {
-                    coreService.updateConsentStatus(detailedConsentResource.getConsentID(),
-                            ConsentStatusEnum.EXPIRED.toString());
-                } catch (ConsentManagementException e) {
-                    log.error(ErrorConstants.CONSENT_UPDATE_ERROR, e);
-                    throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
-                            ErrorConstants.CONSENT_UPDATE_ERROR);
-                }
+                expireConsent(detailedConsentResource.getConsentID(), coreService, statusWriteBehind,
+                        consentReadContext);
             }
             log.error(ErrorConstants.CONSENT_EXPIRED);
             CommonValidationUtil.handleConsentValidationError(consentValidationResult,
@@ -82,7 +88,7 @@ public class AccountSubmissionValidator implements SubmissionValidator {
         }
 
         log.debug("Checking if consent: " + consentValidateData.getConsentId() + " is not in a valid state");
-        if (!StringUtils.equals(detailedConsentResource.getCurrentStatus(), ConsentStatusEnum.VALID.toString())) {
+        if (!StringUtils.equals(currentStatus, ConsentStatusEnum.VALID.toString())) {
             log.error(ErrorConstants.CONSENT_INVALID_STATE);
             CommonValidationUtil.handleConsentValidationError(consentValidationResult,
                     ResponseStatus.BAD_REQUEST.getStatusCode(), TPPMessage.CodeEnum.CONSENT_UNKNOWN.toString(),
@@ -90,16 +96,19 @@ public class AccountSubmissionValidator implements SubmissionValidator {
             return;
         }
 
-        if (AccountValidationUtil.isSingleAccountRetrieveRequest(requestPath)) {
+        AccountRequestPath accountRequestPath = AccountRequestPath.parse(requestPath);
+        if (accountRequestPath.isSingleAccountRetrieveRequest()) {
             log.debug("Validating single accounts retrieval for user: " + consentValidateData.getUserId());
-            AccountValidationUtil
-                    .validateAccountPermissionsForSingleAccounts(consentValidateData, consentValidationResult);
-        } else if (AccountValidationUtil.isBulkAccountRetrieveRequest(requestPath)) {
+            // The request path can be the API resource template, so the account ID is read from the resource path
+            String resourcePath = consentValidateData.getResourceParams().get("ResourcePath");
+            AccountRequestPath accountResourcePath = StringUtils.equals(resourcePath, requestPath)
+                    ? accountRequestPath : AccountRequestPath.parse(resourcePath);
+            AccountValidationUtil.validateAccountPermissionsForSingleAccounts(accountResourcePath,
+                    consentValidateData, consentValidationResult);
+        } else if (accountRequestPath.isBulkAccountRetrieveRequest()) {
             log.debug("Validating bulk accounts retrieval for user: " + consentValidateData.getUserId());
-            ArrayList<ConsentMappingResource> mappingResources = consentValidateData.getComprehensiveConsent()
-                    .getConsentMappingResources();
-
-            if (!CommonValidationUtil.hasAnyActiveMappingResource(mappingResources)) {
+            if (!CommonValidationUtil.hasAnyActiveMappingResource(
+                    detailedConsentResource.getConsentMappingResources())) {
                 log.error(ErrorConstants.NO_VALID_ACCOUNTS_FOR_CONSENT);
                 CommonValidationUtil.handleConsentValidationError(consentValidationResult,
                         ResponseStatus.UNAUTHORIZED.getStatusCode(), TPPMessage.CodeEnum.CONSENT_INVALID.toString(),
@@ -111,16 +120,38 @@ public class AccountSubmissionValidator implements SubmissionValidator {
         }
 
         if (!detailedConsentResource.isRecurringIndicator()) {
-            try {
-                log.debug("Expiring consent: " + detailedConsentResource.getConsentID() + " for one off consents " +
-                        "after one time use");
-                coreService.updateConsentStatus(detailedConsentResource.getConsentID(),
-                        ConsentStatusEnum.EXPIRED.toString());
-            } catch (ConsentManagementException e) {
-                log.error(ErrorConstants.CONSENT_UPDATE_ERROR, e);
-                throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
-                        ErrorConstants.CONSENT_UPDATE_ERROR);
+            log.debug("Expiring consent: " + detailedConsentResource.getConsentID() + " for one off consents " +
+                    "after one time use");
+            expireConsent(detailedConsentResource.getConsentID(), coreService, statusWriteBehind,
+                    consentReadContext);
+        }
+    }
+
+    /**
+     * Expires the consent. The status transition is written behind the validation response if the status write
+     * behind is enabled. The reads of the consent in the request are discarded once its status is updated.
+     *
+     * @param consentId          consent ID
+     * @param coreService        consent core service
+     * @param statusWriteBehind  status write behind, or null if it is disabled
+     * @param consentReadContext consent read context of the consent validation
+     * @throws ConsentException thrown if the status transition can not be recorded
+     */
+    private void expireConsent(String consentId, ConsentCoreServiceImpl coreService,
+                               ConsentStatusWriteBehind statusWriteBehind, ConsentReadContext consentReadContext)
+            throws ConsentException {
+
+        try {
+            if (statusWriteBehind == null) {
+                coreService.updateConsentStatus(consentId, ConsentStatusEnum.EXPIRED.toString());
+            } else {
+                statusWriteBehind.updateStatus(consentId, ConsentStatusEnum.EXPIRED.toString());
             }
+            consentReadContext.invalidate(consentId);
+        } catch (ConsentManagementException e) {
+            log.error(ErrorConstants.CONSENT_UPDATE_ERROR, e);
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
+                    ErrorConstants.CONSENT_UPDATE_ERROR);
         }
     }
 
@@ -130,4 +161,19 @@ public class AccountSubmissionValidator implements SubmissionValidator {
         return new ConsentCoreServiceImpl();
     }
 
+    ConsentStatusWriteBehind getStatusWriteBehind() {
+
+        if (!CommonConfigParser.getInstance().isConsentStatusWriteBehindEnabled()) {
+            return null;
+        }
+        try {
+            return ConsentStatusWriteBehind.getInstance();
+        } catch (RuntimeException e) {
+            // Consent status transitions are written to the database directly if the write behind cannot be started
+            log.error("Error while starting the consent status write behind. Consent status transitions are " +
+                    "written directly", e);
+            return null;
+        }
+    }
+
 }
@@ -34,6 +34,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentReadContext;
 import org.wso2.openbanking.berlin.consent.extensions.common.TransactionStatusEnum;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.SubmissionValidator;
 import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.CommonValidationUtil;
@@ -57,6 +58,14 @@ public class PaymentConsentValidator implements SubmissionValidator {
     public void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult)
             throws ConsentException {
 
+        validate(consentValidateData, consentValidationResult,
+                new ConsentReadContext(getConsentService(), consentValidateData.getComprehensiveConsent()));
+    }
+
+    @Override
+    public void validate(ConsentValidateData consentValidateData, ConsentValidationResult consentValidationResult,
+                         ConsentReadContext consentReadContext) throws ConsentException {
+
         DetailedConsentResource detailedConsentResource = consentValidateData.getComprehensiveConsent();
         String currentStatus = detailedConsentResource.getCurrentStatus();
 
@@ -71,12 +80,12 @@ public class PaymentConsentValidator implements SubmissionValidator {
             pathPaymentId = pathElements.get(pathElements.size() - 1);
         }
 
-        // Get consent resource for the payment ID provided in the path
-        ConsentCoreServiceImpl coreService = getConsentService();
+        // Get consent resource for the payment ID provided in the path. The comprehensive consent is reused when the
+        // path refers to the consent being validated.
         ConsentResource consentResourceByPathId;
 
         try {
-            consentResourceByPathId = coreService.getConsent(pathPaymentId, false);
+            consentResourceByPathId = consentReadContext.getConsent(pathPaymentId);
         } catch (ConsentManagementException e) {
             log.error(ErrorConstants.CONSENT_NOT_FOUND_ERROR, e);
             CommonValidationUtil.handleConsentValidationError(consentValidationResult,
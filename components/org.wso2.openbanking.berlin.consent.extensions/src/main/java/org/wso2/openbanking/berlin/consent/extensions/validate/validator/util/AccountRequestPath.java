@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.validate.validator.util;
+
+import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+
+/**
+ * Classification of an AIS data request path, parsed in a single pass over the path.
+ *
+ * <p>A path is classified as a single account or a bulk accounts retrieval request exactly when it matches the
+ * {@link ConsentExtensionConstants#SINGLE_ACCOUNT_ACCESS_METHODS_REGEX_LIST} or the
+ * {@link ConsentExtensionConstants#BULK_ACCOUNT_ACCESS_METHODS_REGEX_LIST}. The account ID and the access method are
+ * extracted from any path which contains an accounts or card-accounts segment, regardless of its query.</p>
+ */
+public class AccountRequestPath {
+
+    private static final String ACCOUNTS = AccessMethodEnum.ACCOUNTS.toString();
+    private static final String BALANCES = AccessMethodEnum.BALANCES.toString();
+    private static final String TRANSACTIONS = AccessMethodEnum.TRANSACTIONS.toString();
+    private static final String CARD_ACCOUNTS = ConsentExtensionConstants.CARD_ACCOUNTS;
+
+    /**
+     * Types of account retrieval requests.
+     */
+    public enum RequestType {
+        SINGLE_ACCOUNT,
+        BULK_ACCOUNTS
+    }
+
+    private final RequestType requestType;
+    private final boolean cardAccount;
+    private final String accountId;
+    private final String accessMethod;
+
+    private AccountRequestPath(RequestType requestType, boolean cardAccount, String accountId, String accessMethod) {
+
+        this.requestType = requestType;
+        this.cardAccount = cardAccount;
+        this.accountId = accountId;
+        this.accessMethod = accessMethod;
+    }
+
+    /**
+     * Parses a request path.
+     *
+     * @param path request path
+     * @return the parsed request path
+     */
+    public static AccountRequestPath parse(String path) {
+
+        if (path == null) {
+            return new AccountRequestPath(null, false, "", ACCOUNTS);
+        }
+
+        int queryIndex = path.indexOf('?');
+        int pathEnd = queryIndex == -1 ? path.length() : queryIndex;
+        boolean withoutQuery = queryIndex == -1;
+        boolean withBalance = !withoutQuery && path.length() - queryIndex - 1
+                == ConsentExtensionConstants.WITH_BALANCE.length()
+                && path.startsWith(ConsentExtensionConstants.WITH_BALANCE, queryIndex + 1);
+
+        // Locates the accounts or card-accounts segment. Only a path which starts with the segment can be an account
+        // retrieval request, otherwise the first accounts segment, or else the first card-accounts segment is used.
+        boolean isLeadingMarker = true;
+        boolean cardAccount = false;
+        int markerEnd = path.startsWith("/") ? indexOfSegmentEnd(path, 1, pathEnd) : -1;
+        if (markerEnd != -1 && isSegment(path, 1, markerEnd, CARD_ACCOUNTS)) {
+            cardAccount = true;
+        } else if (markerEnd == -1 || !isSegment(path, 1, markerEnd, ACCOUNTS)) {
+            isLeadingMarker = false;
+            markerEnd = indexOfSegment(path, ACCOUNTS, pathEnd);
+            if (markerEnd == -1) {
+                cardAccount = true;
+                markerEnd = indexOfSegment(path, CARD_ACCOUNTS, pathEnd);
+            }
+        }
+        if (markerEnd == -1) {
+            return new AccountRequestPath(null, false, "", ACCOUNTS);
+        }
+
+        if (markerEnd == pathEnd) {
+            // Bulk accounts request such as /accounts or /card-accounts
+            boolean isBulkRequest = isLeadingMarker && (withoutQuery || (withBalance && !cardAccount));
+            return new AccountRequestPath(isBulkRequest ? RequestType.BULK_ACCOUNTS : null, cardAccount, "",
+                    ACCOUNTS);
+        }
+
+        int accountIdStart = markerEnd + 1;
+        int accountIdEnd = indexOfSegmentEnd(path, accountIdStart, pathEnd);
+        String accountId = path.substring(accountIdStart, accountIdEnd);
+        if (accountIdEnd == pathEnd) {
+            // Single account request such as /accounts/{account-id}
+            boolean isSingleRequest = isLeadingMarker && (withoutQuery || (withBalance && !cardAccount));
+            return new AccountRequestPath(isSingleRequest ? RequestType.SINGLE_ACCOUNT : null, cardAccount,
+                    accountId, ACCOUNTS);
+        }
+
+        int subResourceStart = accountIdEnd + 1;
+        int subResourceEnd = indexOfSegmentEnd(path, subResourceStart, pathEnd);
+        boolean isSingleRequest = false;
+        String accessMethod = ACCOUNTS;
+        if (isSegment(path, subResourceStart, subResourceEnd, BALANCES)) {
+            accessMethod = BALANCES;
+            isSingleRequest = subResourceEnd == pathEnd && withoutQuery;
+        } else if (isSegment(path, subResourceStart, subResourceEnd, TRANSACTIONS)) {
+            accessMethod = TRANSACTIONS;
+            if (subResourceEnd == pathEnd) {
+                isSingleRequest = withoutQuery || (withBalance && !cardAccount);
+            } else {
+                // Transaction details request such as /accounts/{account-id}/transactions/{transaction-id}
+                isSingleRequest = !cardAccount && withoutQuery
+                        && indexOfSegmentEnd(path, subResourceEnd + 1, pathEnd) == pathEnd;
+            }
+        }
+        return new AccountRequestPath(isLeadingMarker && isSingleRequest ? RequestType.SINGLE_ACCOUNT : null,
+                cardAccount, accountId, accessMethod);
+    }
+
+    /**
+     * Returns the type of the account retrieval request.
+     *
+     * @return request type, or null if the path is not an account retrieval request
+     */
+    public RequestType getRequestType() {
+
+        return requestType;
+    }
+
+    public boolean isSingleAccountRetrieveRequest() {
+
+        return requestType == RequestType.SINGLE_ACCOUNT;
+    }
+
+    public boolean isBulkAccountRetrieveRequest() {
+
+        return requestType == RequestType.BULK_ACCOUNTS;
+    }
+
+    /**
+     * Returns whether the path is a card-accounts path.
+     *
+     * @return true if the path is a card-accounts path
+     */
+    public boolean isCardAccount() {
+
+        return cardAccount;
+    }
+
+    /**
+     * Returns the account ID of the path.
+     *
+     * @return account ID, or an empty string if the path does not contain an account ID
+     */
+    public String getAccountId() {
+
+        return accountId;
+    }
+
+    /**
+     * Returns the access method of the path, which is one of accounts, balances or transactions.
+     *
+     * @return access method
+     */
+    public String getAccessMethod() {
+
+        return accessMethod;
+    }
+
+    /**
+     * Returns the end index of the first occurrence of a segment in the path.
+     */
+    private static int indexOfSegment(String path, String segment, int pathEnd) {
+
+        int segmentStart = 0;
+        while (segmentStart <= pathEnd) {
+            int segmentEnd = indexOfSegmentEnd(path, segmentStart, pathEnd);
+            if (isSegment(path, segmentStart, segmentEnd, segment)) {
+                return segmentEnd;
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return -1;
+    }
+
+    private static int indexOfSegmentEnd(String path, int segmentStart, int pathEnd) {
+
+        int segmentEnd = path.indexOf('/', segmentStart);
+        return segmentEnd == -1 || segmentEnd > pathEnd ? pathEnd : segmentEnd;
+    }
+
+    private static boolean isSegment(String path, int segmentStart, int segmentEnd, String segment) {
+
+        return segmentEnd - segmentStart == segment.length() && path.startsWith(segment, segmentStart);
+    }
+}
@@ -22,18 +22,17 @@ import com.wso2.openbanking.accelerator.consent.extensions.common.ResponseStatus
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidateData;
 import com.wso2.openbanking.accelerator.consent.extensions.validate.model.ConsentValidationResult;
 import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
-import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -46,21 +45,20 @@ public class AccountValidationUtil {
     /**
      * Validates the permissions for single account retrieval requests.
      *
+     * @param resourcePath            parsed resource path of the request
      * @param consentValidateData     data required for validating the consent
      * @param consentValidationResult validation response parameters
      */
-    public static void validateAccountPermissionsForSingleAccounts(ConsentValidateData consentValidateData,
+    public static void validateAccountPermissionsForSingleAccounts(AccountRequestPath resourcePath,
+                                                                   ConsentValidateData consentValidateData,
                                                                    ConsentValidationResult consentValidationResult) {
 
-        String resourcePath = StringUtils.stripStart(consentValidateData.getResourceParams().get("ResourcePath"),
-                "/");
-        List<String> pathList = Arrays.asList(resourcePath.split("/"));
-        String accountId = AccountValidationUtil.getAccountIdFromURL(pathList);
-        String accessMethod = AccountValidationUtil.getAccessMethod(pathList);
+        String accountId = resourcePath.getAccountId();
+        String accessMethod = resourcePath.getAccessMethod();
 
         boolean isAccountIdValidationEnabled = CommonConfigParser.getInstance().isAccountIdValidationEnabled();
-        DetailedConsentResource detailedConsentResource = consentValidateData.getComprehensiveConsent();
-        ArrayList<ConsentMappingResource> mappingResources = detailedConsentResource.getConsentMappingResources();
+        ArrayList<ConsentMappingResource> mappingResources = consentValidateData.getComprehensiveConsent()
+                .getConsentMappingResources();
 
         if (StringUtils.isBlank(accountId)) {
             log.debug("The Account ID can not be null or empty");
@@ -78,8 +76,7 @@ public class AccountValidationUtil {
          *  will be validated against the account id (if block). If disabled, permissions will be validated against the
          *  consent (else block).
          */
-        if (isAccountIdValidationEnabled
-                && !pathList.contains(ConsentExtensionConstants.CARD_ACCOUNTS_SUBMISSION_PATH_IDENTIFIER)) {
+        if (isAccountIdValidationEnabled && !resourcePath.isCardAccount()) {
             if (AccountValidationUtil
                     .hasValidPermissionsForAccountId(accountId, accessMethod, mappingResources)) {
                 consentValidationResult.setValid(true);
@@ -118,23 +115,26 @@ public class AccountValidationUtil {
     public static boolean hasValidPermissionsForConsentId(String accessMethod,
                                                           ArrayList<ConsentMappingResource> mappingResources) {
 
-        boolean isValidAccessMethodForAccount = false;
+        if (mappingResources == null) {
+            return false;
+        }
 
         for (ConsentMappingResource mappingResource : mappingResources) {
-
             if (StringUtils.equals(mappingResource.getPermission(), accessMethod)
                     && StringUtils.equals(mappingResource.getMappingStatus(), ConsentExtensionConstants.ACTIVE)) {
-                isValidAccessMethodForAccount = true;
-                break;
+                return true;
             }
         }
-        return isValidAccessMethodForAccount;
+        return false;
     }
 
     /**
      * Checks if there is a consent mapping resource that matches the provided
      * account id and permission. This method should be used when account ID validation is enabled.
+     * The account ID is matched exactly against the persisted account reference or the account identifier of it,
+     * e.g. the IBAN of iban:DE12345678901234567890:EUR. Card account mappings are not matched.
      *
+     * @param accountId        account id
      * @param accessMethod     access method
      * @param mappingResources mapped consent resources
      * @return returns true if there is a consent mapping resource that matches the
@@ -143,22 +143,45 @@ public class AccountValidationUtil {
     public static boolean hasValidPermissionsForAccountId(String accountId, String accessMethod,
                                                           ArrayList<ConsentMappingResource> mappingResources) {
 
-        boolean isValidAccessMethodForAccount = false;
+        if (accountId == null || mappingResources == null) {
+            return false;
+        }
 
         for (ConsentMappingResource mappingResource : mappingResources) {
-
             String accountReference = mappingResource.getAccountID();
-            boolean isCardAccount = accountReference.contains(ConsentExtensionConstants.MASKED_PAN)
-                    || accountReference.contains(ConsentExtensionConstants.PAN);
-            if (!isCardAccount
-                    && StringUtils.equals(mappingResource.getPermission(), accessMethod)
-                    && accountReference.contains(accountId)
-                    && StringUtils.equals(mappingResource.getMappingStatus(), ConsentExtensionConstants.ACTIVE)) {
-                isValidAccessMethodForAccount = true;
-                break;
+            if (accountReference == null || accountReference.contains(ConsentExtensionConstants.MASKED_PAN)
+                    || accountReference.contains(ConsentExtensionConstants.PAN)) {
+                continue;
             }
+            if (StringUtils.equals(mappingResource.getPermission(), accessMethod)
+                    && StringUtils.equals(mappingResource.getMappingStatus(), ConsentExtensionConstants.ACTIVE)
+                    && isMatchingAccountReference(accountReference, accountId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the account ID is the persisted account reference, such as accountRefType:accountId:currency,
+     * or the account identifier of it.
+     */
+    private static boolean isMatchingAccountReference(String accountReference, String accountId) {
+
+        if (accountReference.equals(accountId)) {
+            return true;
         }
-        return isValidAccessMethodForAccount;
+        int identifierStart = accountReference.indexOf(CommonConstants.DELIMITER);
+        if (identifierStart == -1) {
+            return false;
+        }
+        identifierStart += CommonConstants.DELIMITER.length();
+        int identifierEnd = accountReference.indexOf(CommonConstants.DELIMITER, identifierStart);
+        if (identifierEnd == -1) {
+            identifierEnd = accountReference.length();
+        }
+        return identifierEnd - identifierStart == accountId.length()
+                && accountReference.startsWith(accountId, identifierStart);
     }
 
     /**
@@ -188,12 +211,7 @@ public class AccountValidationUtil {
      */
     public static boolean isSingleAccountRetrieveRequest(String url) {
 
-        for (String path : ConsentExtensionConstants.SINGLE_ACCOUNT_ACCESS_METHODS_REGEX_LIST) {
-            if (url.matches(path)) {
-                return true;
-            }
-        }
-        return false;
+        return AccountRequestPath.parse(url).isSingleAccountRetrieveRequest();
     }
 
     /**
@@ -204,12 +222,7 @@ public class AccountValidationUtil {
      */
     public static boolean isBulkAccountRetrieveRequest(String url) {
 
-        for (String path : ConsentExtensionConstants.BULK_ACCOUNT_ACCESS_METHODS_REGEX_LIST) {
-            if (url.matches(path)) {
-                return true;
-            }
-        }
-        return false;
+        return AccountRequestPath.parse(url).isBulkAccountRetrieveRequest();
     }
 
     /**
@@ -232,7 +245,9 @@ public class AccountValidationUtil {
      *
      * @param pathList list of request path strings after splitting
      * @return access method
+     * @deprecated use {@link AccountRequestPath#getAccessMethod()} instead
      */
+    @Deprecated
     public static String getAccessMethod(List<String> pathList) {
 
         for (String path : pathList) {
@@ -272,7 +287,9 @@ public class AccountValidationUtil {
      *
      * @param pathList list of request path strings after splitting
      * @return account id
+     * @deprecated use {@link AccountRequestPath#getAccountId()} instead
      */
+    @Deprecated
     public static String getAccountIdFromURL(List<String> pathList) {
 
         int accountsIndex = -1;
@@ -21,7 +21,6 @@ package org.wso2.openbanking.berlin.consent.extensions.authorize.impl.retrieval;
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
 import com.wso2.openbanking.accelerator.consent.extensions.authorize.model.ConsentData;
 import com.wso2.openbanking.accelerator.consent.extensions.common.ConsentException;
-import com.wso2.openbanking.accelerator.identity.util.HTTPClientUtils;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -30,9 +29,9 @@ import org.apache.commons.io.FileUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -48,6 +47,7 @@ import org.testng.annotations.Test;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.authorize.impl.handler.retrieval.PISAccountListRetrievalHandler;
+import org.wso2.openbanking.berlin.consent.extensions.authorize.utils.BackendHttpClient;
 import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
 import org.wso2.openbanking.berlin.consent.extensions.common.PermissionEnum;
@@ -65,7 +65,7 @@ import java.util.UUID;
 
 import static org.mockito.Mockito.doReturn;
 
-@PrepareForTest({CommonConfigParser.class, HttpClients.class, HTTPClientUtils.class})
+@PrepareForTest({CommonConfigParser.class, HttpClients.class, BackendHttpClient.class})
 @PowerMockIgnore({"com.wso2.openbanking.accelerator.consent.extensions.common.*", "net.minidev.*",
         "jdk.internal.reflect.*"})
 public class BerlinAccountListRetrievalStepTests extends PowerMockTestCase {
@@ -657,11 +657,13 @@ public class BerlinAccountListRetrievalStepTests extends PowerMockTestCase {
         Mockito.doReturn(statusLineMock).when(httpResponseMock).getStatusLine();
         Mockito.doReturn(httpEntityMock).when(httpResponseMock).getEntity();
 
-        CloseableHttpClient closeableHttpClientMock = Mockito.mock(CloseableHttpClient.class);
-        Mockito.doReturn(httpResponseMock).when(closeableHttpClientMock).execute(Mockito.any(HttpGet.class));
+        BackendHttpClient backendHttpClientMock = Mockito.mock(BackendHttpClient.class);
+        Mockito.doAnswer(invocation -> ((ResponseHandler<?>) invocation.getArguments()[1])
+                .handleResponse(httpResponseMock))
+                .when(backendHttpClientMock).execute(Mockito.any(HttpGet.class), Mockito.any(ResponseHandler.class));
 
-        PowerMockito.mockStatic(HTTPClientUtils.class);
-        PowerMockito.when(HTTPClientUtils.getHttpsClient()).thenReturn(closeableHttpClientMock);
+        PowerMockito.mockStatic(BackendHttpClient.class);
+        PowerMockito.when(BackendHttpClient.getInstance()).thenReturn(backendHttpClientMock);
     }
 
 }
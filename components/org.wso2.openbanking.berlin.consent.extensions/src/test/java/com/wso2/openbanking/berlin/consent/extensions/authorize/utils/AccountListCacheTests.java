@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
+
+/**
+ * Test class for AccountListCache and AccountList classes.
+ */
+@PrepareForTest({CommonConfigParser.class})
+@PowerMockIgnore({"net.minidev.*", "jdk.internal.reflect.*"})
+public class AccountListCacheTests extends PowerMockTestCase {
+
+    private static final String IBAN = "DE12345678901234567890";
+    private static final String OTHER_IBAN = "DE98765432109876543210";
+
+    private AccountListCache accountListCache;
+
+    @BeforeMethod
+    public void init() {
+
+        CommonConfigParser commonConfigParserMock = PowerMockito.mock(CommonConfigParser.class);
+        PowerMockito.mockStatic(CommonConfigParser.class);
+        PowerMockito.when(CommonConfigParser.getInstance()).thenReturn(commonConfigParserMock);
+        Mockito.doReturn(TestConstants.SUPPORTED_ACC_REF_TYPES).when(commonConfigParserMock)
+                .getSupportedAccountReferenceTypes();
+        Mockito.doReturn(TestConstants.PAYABLE_ACCOUNT_RETRIEVAL_ENDPOINT).when(commonConfigParserMock)
+                .getPayableAccountsRetrieveEndpoint();
+        Mockito.doReturn(TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT).when(commonConfigParserMock)
+                .getShareableAccountsRetrieveEndpoint();
+
+        accountListCache = new AccountListCache(10, 60);
+    }
+
+    @Test
+    public void testAccountsAreCachedPerPsuAndEndpoint() {
+
+        AccountList accountList = new AccountList(getAccounts());
+        accountListCache.put(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT, accountList);
+
+        Assert.assertTrue(accountListCache.isEnabled());
+        Assert.assertSame(accountListCache.get(TestConstants.USER_ID,
+                TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT), accountList);
+        Assert.assertNull(accountListCache.get(TestConstants.USER_ID,
+                TestConstants.PAYABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+        Assert.assertNull(accountListCache.get(TestConstants.DIFFERENT_USER_ID,
+                TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+    }
+
+    @Test
+    public void testCacheIsDisabledWithoutExpiry() {
+
+        AccountListCache disabledCache = new AccountListCache(10, 0);
+        disabledCache.put(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT,
+                new AccountList(getAccounts()));
+
+        Assert.assertFalse(disabledCache.isEnabled());
+        Assert.assertNull(disabledCache.get(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+    }
+
+    @Test
+    public void testReconfigureReplacesCache() {
+
+        accountListCache.put(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT,
+                new AccountList(getAccounts()));
+
+        accountListCache.reconfigure(10, 0);
+        Assert.assertFalse(accountListCache.isEnabled());
+
+        accountListCache.reconfigure(10, 60);
+        Assert.assertTrue(accountListCache.isEnabled());
+        Assert.assertNull(accountListCache.get(TestConstants.USER_ID,
+                TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+
+        AccountListCache disabledCache = new AccountListCache(10, 0);
+        disabledCache.reconfigure(10, 60);
+        AccountList accountList = new AccountList(getAccounts());
+        disabledCache.put(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT, accountList);
+        Assert.assertSame(disabledCache.get(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT),
+                accountList);
+    }
+
+    @Test
+    public void testInvalidateRemovesAllAccountsOfPsu() {
+
+        accountListCache.put(TestConstants.USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT,
+                new AccountList(getAccounts()));
+        accountListCache.put(TestConstants.USER_ID, TestConstants.PAYABLE_ACCOUNT_RETRIEVAL_ENDPOINT,
+                new AccountList(getAccounts()));
+        accountListCache.put(TestConstants.DIFFERENT_USER_ID, TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT,
+                new AccountList(getAccounts()));
+
+        accountListCache.invalidate(TestConstants.USER_ID);
+
+        Assert.assertNull(accountListCache.get(TestConstants.USER_ID,
+                TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+        Assert.assertNull(accountListCache.get(TestConstants.USER_ID,
+                TestConstants.PAYABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+        Assert.assertNotNull(accountListCache.get(TestConstants.DIFFERENT_USER_ID,
+                TestConstants.SHAREABLE_ACCOUNT_RETRIEVAL_ENDPOINT));
+    }
+
+    @Test
+    public void testAccountsForAccountNumber() {
+
+        AccountList accountList = new AccountList(getAccounts());
+
+        Assert.assertEquals(accountList.size(), 3);
+        Assert.assertEquals(accountList.getAccountsForAccountNumber(getAccountRefObject(IBAN)),
+                ConsentAuthUtil.getFilteredAccountsForAccountNumber(getAccountRefObject(IBAN), getAccounts()));
+        Assert.assertEquals(accountList.getAccountsForAccountNumber(getAccountRefObject(IBAN)).size(), 2);
+        Assert.assertEquals(accountList.getAccountsForAccountNumber(getAccountRefObject(OTHER_IBAN)).size(), 1);
+        Assert.assertTrue(accountList.getAccountsForAccountNumber(
+                new JSONObject().appendField(ConsentExtensionConstants.BBAN, IBAN)).isEmpty());
+    }
+
+    @Test
+    public void testReturnedAccountsDoNotModifyCachedAccounts() {
+
+        AccountList accountList = new AccountList(getAccounts());
+
+        JSONObject account = (JSONObject) accountList.getAccounts().get(0);
+        account.remove(ConsentExtensionConstants.CURRENCY);
+        JSONObject filteredAccount = (JSONObject) accountList.getAccountsForAccountNumber(
+                getAccountRefObject(IBAN)).get(0);
+        filteredAccount.remove(ConsentExtensionConstants.CURRENCY);
+
+        Assert.assertEquals(accountList.getAccounts(), getAccounts());
+    }
+
+    private static JSONArray getAccounts() {
+
+        JSONArray accounts = new JSONArray();
+        accounts.add(getAccountRefObject(IBAN).appendField(ConsentExtensionConstants.CURRENCY, "EUR"));
+        accounts.add(getAccountRefObject(IBAN).appendField(ConsentExtensionConstants.CURRENCY, "USD"));
+        accounts.add(getAccountRefObject(OTHER_IBAN));
+        return accounts;
+    }
+
+    private static JSONObject getAccountRefObject(String iban) {
+
+        return new JSONObject().appendField(ConsentExtensionConstants.IBAN, iban);
+    }
+}
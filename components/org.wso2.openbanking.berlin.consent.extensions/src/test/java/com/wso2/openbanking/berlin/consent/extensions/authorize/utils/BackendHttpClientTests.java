@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.authorize.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.utils.PooledHttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for BackendHttpClient class.
+ */
+public class BackendHttpClientTests {
+
+    private static final byte[] ACCOUNTS = "{\"accounts\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private String baseUrl;
+    private Set<Integer> clientPorts;
+    private CountDownLatch releaseSlowResponse;
+
+    @BeforeMethod
+    public void init() throws IOException {
+
+        clientPorts = ConcurrentHashMap.newKeySet();
+        releaseSlowResponse = new CountDownLatch(1);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/accounts", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, ACCOUNTS.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(ACCOUNTS);
+            }
+        });
+        server.createContext("/payments", exchange -> {
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_ACCEPTED, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                releaseSlowResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseSlowResponse.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConnectionIsKeptAliveBetweenRequests() throws IOException {
+
+        BackendHttpClient client = newClient(1000);
+
+        for (int i = 0; i < 3; i++) {
+            String accounts = client.execute(new HttpGet(baseUrl + "/accounts"),
+                    response -> EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+            Assert.assertEquals(accounts, "{\"accounts\":[]}");
+        }
+
+        Assert.assertEquals(clientPorts.size(), 1);
+        PoolStats poolStats = client.getPoolStats();
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getAvailable(), 1);
+        Assert.assertEquals(poolStats.getMax(), 2);
+    }
+
+    @Test
+    public void testResponseHandlerResultIsReturned() throws IOException {
+
+        BackendHttpClient client = newClient(1000);
+
+        Assert.assertTrue(client.execute(new HttpPost(baseUrl + "/payments"),
+                response -> response.getStatusLine().getStatusCode() == HttpURLConnection.HTTP_ACCEPTED));
+        Assert.assertEquals(client.getPoolStats().getLeased(), 0);
+    }
+
+    @Test(expectedExceptions = SocketTimeoutException.class)
+    public void testRequestIsBoundedBySocketTimeout() throws IOException {
+
+        BackendHttpClient client = newClient(200);
+
+        client.execute(new HttpGet(baseUrl + "/slow"), response -> response.getStatusLine().getStatusCode());
+    }
+
+    private BackendHttpClient newClient(int socketTimeoutMillis) {
+
+        return new BackendHttpClient(new PooledHttpClient(SSLConnectionSocketFactory.getSocketFactory(), 2, 2, 1000,
+                socketTimeoutMillis));
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.benchmark;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.AccountRequestPath;
+import org.wso2.openbanking.berlin.consent.extensions.validate.validator.util.AccountValidationUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the single pass account request path classification with the previous regex and split
+ * based classification of the AIS submission validation.
+ *
+ * <p>Run with the test classpath of the consent extensions module, e.g.
+ * {@code java -cp <test-classpath> org.openjdk.jmh.Main AccountRequestPathBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountRequestPathBenchmark {
+
+    private final String[] requestPaths = {
+            "/accounts",
+            "/accounts?withBalance",
+            "/accounts/DE12345678901234567890",
+            "/accounts/DE12345678901234567890/balances",
+            "/accounts/DE12345678901234567890/transactions?withBalance",
+            "/accounts/DE12345678901234567890/transactions/1234567",
+            "/card-accounts/1234-5678-9012-3456/transactions"
+    };
+
+    @Benchmark
+    public void singlePassParser(Blackhole blackhole) {
+
+        for (String requestPath : requestPaths) {
+            AccountRequestPath accountRequestPath = AccountRequestPath.parse(requestPath);
+            blackhole.consume(accountRequestPath.getRequestType());
+            blackhole.consume(accountRequestPath.getAccountId());
+            blackhole.consume(accountRequestPath.getAccessMethod());
+        }
+    }
+
+    @Benchmark
+    public void regexAndSplitParser(Blackhole blackhole) {
+
+        for (String requestPath : requestPaths) {
+            blackhole.consume(matchesAny(requestPath,
+                    ConsentExtensionConstants.SINGLE_ACCOUNT_ACCESS_METHODS_REGEX_LIST)
+                    || matchesAny(requestPath, ConsentExtensionConstants.BULK_ACCOUNT_ACCESS_METHODS_REGEX_LIST));
+            List<String> pathList = Arrays.asList(StringUtils.stripStart(requestPath, "/").split("/"));
+            blackhole.consume(AccountValidationUtil.getAccountIdFromURL(pathList));
+            blackhole.consume(AccountValidationUtil.getAccessMethod(pathList));
+        }
+    }
+
+    private static boolean matchesAny(String requestPath, List<String> regexList) {
+
+        for (String regex : regexList) {
+            if (requestPath.matches(regex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.consent.extensions.manage.util.AccountConsentUtil;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Test class for ConsentExpirySweeper class.
+ */
+public class ConsentExpirySweeperTests {
+
+    private StubConsentCoreService consentCoreService;
+
+    @BeforeMethod
+    public void init() {
+
+        consentCoreService = new StubConsentCoreService();
+    }
+
+    @Test
+    public void testExpiredConsentsAreExpiredAndTheirMappingsDeactivated() {
+
+        DetailedConsentResource pastValidUntil = addConsent(ConsentTypeEnum.ACCOUNTS, true, -2, -5);
+        DetailedConsentResource notUsedFor90Days = addConsent(ConsentTypeEnum.ACCOUNTS, true, 200, -91);
+        DetailedConsentResource valid = addConsent(ConsentTypeEnum.ACCOUNTS, true, 2, -5);
+        DetailedConsentResource oneOff = addConsent(ConsentTypeEnum.ACCOUNTS, false, -2, -5);
+        DetailedConsentResource fundsConfirmation = addConsent(ConsentTypeEnum.FUNDS_CONFIRMATION, true, -2, -5);
+        DetailedConsentResource payment = addConsent(ConsentTypeEnum.PAYMENTS, true, -2, -5);
+
+        int expiredCount = newSweeper(100, 1000).sweep();
+
+        Assert.assertEquals(expiredCount, 2);
+        assertStatus(pastValidUntil, ConsentStatusEnum.EXPIRED);
+        assertStatus(notUsedFor90Days, ConsentStatusEnum.EXPIRED);
+        assertStatus(valid, ConsentStatusEnum.VALID);
+        assertStatus(oneOff, ConsentStatusEnum.VALID);
+        assertStatus(fundsConfirmation, ConsentStatusEnum.VALID);
+        assertStatus(payment, ConsentStatusEnum.VALID);
+
+        Assert.assertEquals(consentCoreService.getDeactivationCalls(), 1);
+        Assert.assertEquals(consentCoreService.getDeactivatedMappingIds(), getMappingIds(pastValidUntil,
+                notUsedFor90Days));
+    }
+
+    @Test
+    public void testConsentsAreSweptInBatchesWithoutSkippingConsents() {
+
+        List<DetailedConsentResource> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            addConsent(ConsentTypeEnum.ACCOUNTS, true, 2, -5);
+            expired.add(addConsent(ConsentTypeEnum.ACCOUNTS, true, -2, -5));
+        }
+
+        int expiredCount = newSweeper(3, 1000).sweep();
+
+        Assert.assertEquals(expiredCount, 5);
+        for (DetailedConsentResource consent : expired) {
+            assertStatus(consent, ConsentStatusEnum.EXPIRED);
+        }
+        // Ten valid consents are read in batches of three, and each batch deactivates its mappings in one call
+        Assert.assertEquals(consentCoreService.getSearchCalls(), 4);
+        Assert.assertEquals(consentCoreService.getDeactivationCalls(), 4);
+    }
+
+    @Test
+    public void testConsentsReadPerRunAreBounded() {
+
+        for (int i = 0; i < 5; i++) {
+            addConsent(ConsentTypeEnum.ACCOUNTS, true, -2, -5);
+        }
+
+        Assert.assertEquals(newSweeper(2, 3).sweep(), 3);
+        Assert.assertEquals(newSweeper(2, 3).sweep(), 2);
+        Assert.assertEquals(newSweeper(2, 3).sweep(), 0);
+    }
+
+    @Test
+    public void testConsentWhichFailsToExpireIsKept() {
+
+        DetailedConsentResource failing = addConsent(ConsentTypeEnum.ACCOUNTS, true, -2, -5);
+        DetailedConsentResource expired = addConsent(ConsentTypeEnum.ACCOUNTS, true, -2, -5);
+        consentCoreService.failUpdatesOf(failing.getConsentID());
+
+        Assert.assertEquals(newSweeper(1, 1000).sweep(), 1);
+        assertStatus(failing, ConsentStatusEnum.VALID);
+        assertStatus(expired, ConsentStatusEnum.EXPIRED);
+        Assert.assertEquals(consentCoreService.getDeactivatedMappingIds(), getMappingIds(expired));
+    }
+
+    private ConsentExpirySweeper newSweeper(int batchSize, int maxConsentsPerRun) {
+
+        return new ConsentExpirySweeper(consentCoreService, batchSize, 0, maxConsentsPerRun);
+    }
+
+    private DetailedConsentResource addConsent(ConsentTypeEnum consentType, boolean recurringIndicator,
+                                               int validUntilDays, int updatedDays) {
+
+        String consentId = UUID.randomUUID().toString();
+        String authId = UUID.randomUUID().toString();
+        DetailedConsentResource consent = TestUtil.getSampleDetailedStoredTestConsentResource(consentId,
+                "sampleClientId", consentType.toString(), ConsentStatusEnum.VALID.toString(), authId,
+                AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID);
+        consent.setRecurringIndicator(recurringIndicator);
+        consent.setValidityPeriod(AccountConsentUtil.convertToUtcTimestamp(TestUtil.getCurrentDate(validUntilDays)));
+        consent.setUpdatedTime(AccountConsentUtil.convertToUtcTimestamp(TestUtil.getCurrentDate(updatedDays)));
+
+        ArrayList<ConsentMappingResource> mappingResources = new ArrayList<>();
+        mappingResources.add(TestUtil.getSampleTestConsentMappingResource(UUID.randomUUID().toString(), authId,
+                "DE12345678901234567890", AccessMethodEnum.ACCOUNTS.toString(), ConsentExtensionConstants.ACTIVE));
+        consent.setConsentMappingResources(mappingResources);
+
+        consentCoreService.consents.add(consent);
+        return consent;
+    }
+
+    private static void assertStatus(DetailedConsentResource consent, ConsentStatusEnum status) {
+
+        Assert.assertEquals(consent.getCurrentStatus(), status.toString(), consent.getConsentID());
+    }
+
+    private static Set<String> getMappingIds(DetailedConsentResource... consents) {
+
+        Set<String> mappingIds = new HashSet<>();
+        for (DetailedConsentResource consent : consents) {
+            for (ConsentMappingResource mappingResource : consent.getConsentMappingResources()) {
+                mappingIds.add(mappingResource.getMappingID());
+            }
+        }
+        return mappingIds;
+    }
+
+    /**
+     * Consent core service stub which pages through the consents added to it in insertion order.
+     */
+    private static class StubConsentCoreService extends ConsentCoreServiceImpl {
+
+        private final List<DetailedConsentResource> consents = new ArrayList<>();
+        private final Set<String> deactivatedMappingIds = new HashSet<>();
+        private final Set<String> failingConsentIds = new HashSet<>();
+        private int searchCalls;
+        private int deactivationCalls;
+
+        @Override
+        public ArrayList<DetailedConsentResource> searchDetailedConsents(ArrayList<String> consentIDs,
+                                                                         ArrayList<String> clientIDs,
+                                                                         ArrayList<String> consentTypes,
+                                                                         ArrayList<String> consentStatuses,
+                                                                         ArrayList<String> userIDs, Long fromTime,
+                                                                         Long toTime, Integer limit, Integer offset)
+                throws ConsentManagementException {
+
+            searchCalls++;
+            return consents.stream()
+                    .filter(consent -> consentTypes.contains(consent.getConsentType()))
+                    .filter(consent -> consentStatuses.contains(consent.getCurrentStatus()))
+                    .skip(offset)
+                    .limit(limit)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        @Override
+        public ConsentResource updateConsentStatus(String consentId, String newConsentStatus)
+                throws ConsentManagementException {
+
+            if (failingConsentIds.contains(consentId)) {
+                throw new ConsentManagementException("Error while updating the consent status");
+            }
+            for (DetailedConsentResource consent : consents) {
+                if (consent.getConsentID().equals(consentId)) {
+                    consent.setCurrentStatus(newConsentStatus);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean deactivateAccountMappings(ArrayList<String> accountMappingIDs)
+                throws ConsentManagementException {
+
+            deactivationCalls++;
+            deactivatedMappingIds.addAll(accountMappingIDs);
+            return true;
+        }
+
+        void failUpdatesOf(String consentId) {
+
+            failingConsentIds.add(consentId);
+        }
+
+        int getSearchCalls() {
+
+            return searchCalls;
+        }
+
+        int getDeactivationCalls() {
+
+            return deactivationCalls;
+        }
+
+        Set<String> getDeactivatedMappingIds() {
+
+            return deactivatedMappingIds;
+        }
+    }
+}
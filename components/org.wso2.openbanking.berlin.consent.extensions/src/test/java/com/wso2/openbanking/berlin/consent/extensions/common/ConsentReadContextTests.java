@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
+import org.wso2.openbanking.berlin.consent.extensions.util.CountingConsentCoreService;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Test class for ConsentReadContext class.
+ */
+public class ConsentReadContextTests {
+
+    private CountingConsentCoreService consentCoreService;
+    private DetailedConsentResource detailedConsent;
+    private String authorizationId;
+
+    @BeforeMethod
+    public void init() {
+
+        authorizationId = UUID.randomUUID().toString();
+        detailedConsent = TestUtil.getSampleDetailedStoredTestConsentResource(UUID.randomUUID().toString(),
+                "sampleClientId", ConsentTypeEnum.ACCOUNTS.toString(), ConsentStatusEnum.VALID.toString(),
+                authorizationId, AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID);
+        consentCoreService = new CountingConsentCoreService();
+        consentCoreService.addConsent(detailedConsent);
+    }
+
+    @Test
+    public void testDetailedConsentIsReadOnce() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+        String consentId = detailedConsent.getConsentID();
+
+        Assert.assertSame(consentReadContext.getDetailedConsent(consentId), detailedConsent);
+        Assert.assertSame(consentReadContext.getDetailedConsent(consentId), detailedConsent);
+        Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 1);
+    }
+
+    @Test
+    public void testConsentIsReadOnce() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+        String consentId = detailedConsent.getConsentID();
+
+        ConsentResource consent = consentReadContext.getConsent(consentId);
+
+        Assert.assertSame(consentReadContext.getConsent(consentId), consent);
+        Assert.assertEquals(consentCoreService.getConsentReads(), 1);
+        Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 0);
+    }
+
+    @Test
+    public void testConsentIsDerivedFromDetailedConsent() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+        String consentId = detailedConsent.getConsentID();
+
+        consentReadContext.getDetailedConsent(consentId);
+        ConsentResource consent = consentReadContext.getConsent(consentId);
+
+        Assert.assertEquals(consent.getConsentID(), consentId);
+        Assert.assertEquals(consent.getClientID(), detailedConsent.getClientID());
+        Assert.assertEquals(consent.getConsentType(), detailedConsent.getConsentType());
+        Assert.assertEquals(consent.getCurrentStatus(), detailedConsent.getCurrentStatus());
+        Assert.assertEquals(consent.getReceipt(), detailedConsent.getReceipt());
+        Assert.assertEquals(consent.getCreatedTime(), detailedConsent.getCreatedTime());
+        Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 1);
+        Assert.assertEquals(consentCoreService.getConsentReads(), 0);
+    }
+
+    @Test
+    public void testSeededConsentIsNotRead() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService, detailedConsent);
+        String consentId = detailedConsent.getConsentID();
+
+        Assert.assertSame(consentReadContext.getDetailedConsent(consentId), detailedConsent);
+        Assert.assertEquals(consentReadContext.getConsent(consentId).getConsentType(),
+                detailedConsent.getConsentType());
+        Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 0);
+        Assert.assertEquals(consentCoreService.getConsentReads(), 0);
+    }
+
+    @Test
+    public void testInvalidatedConsentIsReadAgain() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+        String consentId = detailedConsent.getConsentID();
+
+        consentReadContext.getDetailedConsent(consentId);
+        consentReadContext.getConsent(consentId);
+        consentReadContext.invalidate(consentId);
+        consentReadContext.getDetailedConsent(consentId);
+        consentReadContext.getConsent(consentId);
+
+        Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 2);
+        Assert.assertEquals(consentCoreService.getConsentReads(), 0);
+    }
+
+    @Test
+    public void testAuthorizationAndMappingsAreReadOnce() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+
+        AuthorizationResource authorization = consentReadContext.getAuthorizationResource(authorizationId);
+        List<ConsentMappingResource> mappings = consentReadContext.getConsentMappingResources(authorizationId);
+
+        Assert.assertSame(consentReadContext.getAuthorizationResource(authorizationId), authorization);
+        Assert.assertSame(consentReadContext.getConsentMappingResources(authorizationId), mappings);
+        Assert.assertEquals(mappings.size(), 1);
+        Assert.assertEquals(consentCoreService.getAuthorizationReads(), 1);
+        Assert.assertEquals(consentCoreService.getConsentMappingReads(), 1);
+    }
+
+    @Test
+    public void testSeededAuthorizationAndMappingsAreNotRead() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService, detailedConsent);
+
+        Assert.assertEquals(consentReadContext.getAuthorizationResource(authorizationId).getConsentID(),
+                detailedConsent.getConsentID());
+        Assert.assertEquals(consentReadContext.getConsentMappingResources(authorizationId),
+                detailedConsent.getConsentMappingResources());
+        Assert.assertEquals(consentCoreService.getAuthorizationReads(), 0);
+        Assert.assertEquals(consentCoreService.getConsentMappingReads(), 0);
+    }
+
+    @Test
+    public void testInvalidatedAuthorizationIsReadAgain() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService, detailedConsent);
+
+        consentReadContext.invalidate(detailedConsent.getConsentID());
+        consentReadContext.getAuthorizationResource(authorizationId);
+        consentReadContext.getConsentMappingResources(authorizationId);
+
+        Assert.assertEquals(consentCoreService.getAuthorizationReads(), 1);
+        Assert.assertEquals(consentCoreService.getConsentMappingReads(), 1);
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testFailedReadIsNotCached() throws ConsentManagementException {
+
+        ConsentReadContext consentReadContext = new ConsentReadContext(consentCoreService);
+
+        try {
+            consentReadContext.getDetailedConsent("unknownConsentId");
+        } catch (ConsentManagementException e) {
+            Assert.assertEquals(consentCoreService.getDetailedConsentReads(), 1);
+        }
+        consentReadContext.getDetailedConsent("unknownConsentId");
+    }
+}
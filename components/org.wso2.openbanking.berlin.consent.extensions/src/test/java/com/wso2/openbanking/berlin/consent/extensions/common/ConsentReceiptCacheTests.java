@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.ParseException;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestPayloads;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
+
+import java.util.UUID;
+
+/**
+ * Test class for ConsentReceiptCache class.
+ */
+@PrepareForTest({CommonConfigParser.class})
+@PowerMockIgnore({"net.minidev.*", "jdk.internal.reflect.*"})
+public class ConsentReceiptCacheTests extends PowerMockTestCase {
+
+    private String consentId;
+
+    @BeforeMethod
+    public void init() {
+
+        CommonConfigParser commonConfigParserMock = PowerMockito.mock(CommonConfigParser.class);
+        PowerMockito.mockStatic(CommonConfigParser.class);
+        PowerMockito.when(CommonConfigParser.getInstance()).thenReturn(commonConfigParserMock);
+        Mockito.doReturn(1000).when(commonConfigParserMock).getReceiptCacheMaxEntries();
+        Mockito.doReturn(900).when(commonConfigParserMock).getReceiptCacheExpirySeconds();
+
+        ConsentReceiptCache.clear();
+        consentId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testReceiptIsParsedOnce() throws ParseException {
+
+        JSONObject receipt = ConsentReceiptCache.getReceipt(getConsentResource(consentId,
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2));
+
+        Assert.assertTrue(receipt.containsKey(ConsentExtensionConstants.ACCESS));
+        Assert.assertSame(ConsentReceiptCache.getReceipt(getConsentResource(consentId,
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2)), receipt);
+    }
+
+    @Test
+    public void testChangedReceiptIsParsedAgain() throws ParseException {
+
+        JSONObject receipt = ConsentReceiptCache.getReceipt(getConsentResource(consentId,
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2));
+        JSONObject changedReceipt = ConsentReceiptCache.getReceipt(getConsentResource(consentId,
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_AVAILABLE_ACCOUNTS));
+
+        Assert.assertNotSame(changedReceipt, receipt);
+        Assert.assertTrue(((JSONObject) changedReceipt.get(ConsentExtensionConstants.ACCESS))
+                .containsKey(PermissionEnum.AVAILABLE_ACCOUNTS.toString()));
+    }
+
+    @Test
+    public void testReceiptsAreCachedPerConsent() throws ParseException {
+
+        JSONObject receipt = ConsentReceiptCache.getReceipt(getConsentResource(consentId,
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2));
+
+        Assert.assertNotSame(ConsentReceiptCache.getReceipt(getConsentResource(UUID.randomUUID().toString(),
+                TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2)), receipt);
+    }
+
+    @Test
+    public void testReceiptCopyDoesNotModifyCachedReceipt() throws ParseException {
+
+        ConsentResource consentResource = getConsentResource(consentId, TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2);
+
+        JSONObject receiptCopy = ConsentReceiptCache.getReceiptCopy(consentResource);
+        receiptCopy.appendField(ConsentExtensionConstants.CONSENT_STATUS, ConsentStatusEnum.VALID.toString());
+
+        Assert.assertFalse(ConsentReceiptCache.getReceipt(consentResource)
+                .containsKey(ConsentExtensionConstants.CONSENT_STATUS));
+        Assert.assertNotSame(ConsentReceiptCache.getReceiptCopy(consentResource), receiptCopy);
+    }
+
+    private static ConsentResource getConsentResource(String consentId, String receipt) {
+
+        return TestUtil.getSampleConsentResource(ConsentStatusEnum.VALID.toString(),
+                ConsentTypeEnum.ACCOUNTS.toString(), receipt, consentId, "sampleClientId");
+    }
+}
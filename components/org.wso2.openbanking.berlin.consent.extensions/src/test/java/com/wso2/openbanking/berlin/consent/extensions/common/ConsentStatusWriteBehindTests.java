@@ -0,0 +1,273 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.common;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for ConsentStatusWriteBehind class.
+ */
+public class ConsentStatusWriteBehindTests {
+
+    private static final String CONSENT_ID = "ee5dbd3a-6c5f-4b1b-9e1f-3d0d3f7bd0f4";
+    private static final String OTHER_CONSENT_ID = "0b7d1d4e-1f4a-4f8e-a2b4-6a8f8f0c2d11";
+    private static final String EXPIRED = ConsentStatusEnum.EXPIRED.toString();
+    private static final String VALID = ConsentStatusEnum.VALID.toString();
+
+    private Path journalFile;
+    private InMemoryConsentStore consentStore;
+
+    @BeforeMethod
+    public void init() throws IOException {
+
+        journalFile = Files.createTempDirectory("consent-status-write-behind").resolve("journal.log");
+        consentStore = new InMemoryConsentStore();
+    }
+
+    @Test
+    public void testTransitionIsJournaledAndFlushed() throws ConsentManagementException {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, journalFile);
+
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+
+        Assert.assertTrue(Files.exists(journalFile));
+        Assert.assertEquals(consentStore.getWriteCount(), 0);
+        Assert.assertEquals(writeBehind.getStatus(CONSENT_ID, VALID), EXPIRED);
+
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), EXPIRED);
+        Assert.assertEquals(writeBehind.getPendingCount(), 0);
+        Assert.assertFalse(Files.exists(journalFile));
+        // A validation which read the consent before the flush still sees the flushed status
+        Assert.assertEquals(writeBehind.getStatus(CONSENT_ID, VALID), EXPIRED);
+        Assert.assertEquals(writeBehind.getStatus(OTHER_CONSENT_ID, VALID), VALID);
+    }
+
+    @Test
+    public void testTransitionsAreCoalescedPerConsent() throws ConsentManagementException {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, journalFile);
+
+        writeBehind.updateStatus(CONSENT_ID, ConsentStatusEnum.REVOKED_BY_PSU.toString());
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getWriteCount(), 1);
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), EXPIRED);
+    }
+
+    @Test
+    public void testTransitionsAreFlushedInBatches() throws ConsentManagementException, IOException {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 2, journalFile);
+
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+        writeBehind.updateStatus(OTHER_CONSENT_ID, EXPIRED);
+        writeBehind.updateStatus("a9c4f1e2-5d3b-4c7a-8e6f-2b1d0c9e8f7a", EXPIRED);
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getWriteCount(), 2);
+        Assert.assertEquals(writeBehind.getPendingCount(), 1);
+        Assert.assertEquals(Files.readAllLines(journalFile, StandardCharsets.UTF_8).size(), 1);
+
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getWriteCount(), 3);
+        Assert.assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    public void testTransitionOfConsentWhichIsNoLongerValidIsDiscarded() throws ConsentManagementException {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, journalFile);
+
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+        // The consent is revoked before the transition is flushed
+        consentStore.setStatus(CONSENT_ID, ConsentStatusEnum.REVOKED_BY_PSU.toString());
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), ConsentStatusEnum.REVOKED_BY_PSU.toString());
+        Assert.assertEquals(consentStore.getWriteCount(), 0);
+        Assert.assertEquals(writeBehind.getPendingCount(), 0);
+        Assert.assertFalse(Files.exists(journalFile));
+        Assert.assertEquals(writeBehind.getStatus(CONSENT_ID, ConsentStatusEnum.REVOKED_BY_PSU.toString()),
+                ConsentStatusEnum.REVOKED_BY_PSU.toString());
+    }
+
+    @Test
+    public void testConcurrentTransitionsAreJournaled() throws Exception {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, journalFile);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> updates = new ArrayList<>();
+        try {
+            for (int i = 0; i < 50; i++) {
+                String consentId = UUID.randomUUID().toString();
+                updates.add(executorService.submit(() -> {
+                    writeBehind.updateStatus(consentId, EXPIRED);
+                    return null;
+                }));
+            }
+            for (Future<?> update : updates) {
+                update.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(writeBehind.getPendingCount(), 50);
+        Assert.assertEquals(Files.readAllLines(journalFile, StandardCharsets.UTF_8).size(), 50);
+        Assert.assertEquals(consentStore.getWriteCount(), 0);
+    }
+
+    @Test
+    public void testFailedTransitionIsRetriedOnNextFlush() throws ConsentManagementException {
+
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, journalFile);
+        consentStore.setRemainingFailures(1);
+
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+        writeBehind.flush();
+
+        Assert.assertNull(consentStore.getStatus(CONSENT_ID));
+        Assert.assertEquals(writeBehind.getPendingCount(), 1);
+        Assert.assertTrue(Files.exists(journalFile));
+        Assert.assertEquals(writeBehind.getStatus(CONSENT_ID, VALID), EXPIRED);
+
+        writeBehind.flush();
+
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), EXPIRED);
+        Assert.assertEquals(writeBehind.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testPendingTransitionsAreRecoveredFromJournal() throws ConsentManagementException {
+
+        new ConsentStatusWriteBehind(consentStore, 100, journalFile).updateStatus(CONSENT_ID, EXPIRED);
+
+        // The server stops before the transition is flushed
+        ConsentStatusWriteBehind recoveredWriteBehind = new ConsentStatusWriteBehind(consentStore, 100,
+                journalFile);
+        recoveredWriteBehind.recover();
+
+        Assert.assertEquals(recoveredWriteBehind.getPendingCount(), 1);
+        Assert.assertEquals(recoveredWriteBehind.getStatus(CONSENT_ID, VALID), EXPIRED);
+
+        recoveredWriteBehind.flush();
+
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), EXPIRED);
+        Assert.assertFalse(Files.exists(journalFile));
+    }
+
+    @Test
+    public void testMalformedJournalEntryIsDiscarded() throws ConsentManagementException, IOException {
+
+        new ConsentStatusWriteBehind(consentStore, 100, journalFile).updateStatus(CONSENT_ID, EXPIRED);
+        Files.write(journalFile, ("not-json" + System.lineSeparator() + "{\"consentId\":\"" + OTHER_CONSENT_ID
+                + "\"}" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        ConsentStatusWriteBehind recoveredWriteBehind = new ConsentStatusWriteBehind(consentStore, 100,
+                journalFile);
+        recoveredWriteBehind.recover();
+
+        Assert.assertEquals(recoveredWriteBehind.getPendingCount(), 1);
+        Assert.assertEquals(recoveredWriteBehind.getStatus(OTHER_CONSENT_ID, VALID), VALID);
+    }
+
+    @Test
+    public void testTransitionIsWrittenDirectlyWhenJournalIsNotWritable() throws ConsentManagementException,
+            IOException {
+
+        Path directory = Files.createTempDirectory("consent-status-write-behind");
+        ConsentStatusWriteBehind writeBehind = new ConsentStatusWriteBehind(consentStore, 100, directory);
+
+        writeBehind.updateStatus(CONSENT_ID, EXPIRED);
+
+        Assert.assertEquals(consentStore.getStatus(CONSENT_ID), EXPIRED);
+        Assert.assertEquals(writeBehind.getPendingCount(), 0);
+    }
+
+    /**
+     * In memory stub of the consent status store which fails a given number of writes. Consents are valid until
+     * their status is written.
+     */
+    private static class InMemoryConsentStore implements ConsentStatusWriteBehind.ConsentStatusWriter {
+
+        private final Map<String, String> statuses = new ConcurrentHashMap<>();
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private final AtomicInteger remainingFailures = new AtomicInteger();
+
+        @Override
+        public String getConsentStatus(String consentId) {
+
+            return statuses.getOrDefault(consentId, VALID);
+        }
+
+        @Override
+        public void updateConsentStatus(String consentId, String status) throws ConsentManagementException {
+
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new ConsentManagementException("Consent database is unavailable");
+            }
+            writeCount.incrementAndGet();
+            statuses.put(consentId, status);
+        }
+
+        void setStatus(String consentId, String status) {
+
+            statuses.put(consentId, status);
+        }
+
+        void setRemainingFailures(int failures) {
+
+            remainingFailures.set(failures);
+        }
+
+        String getStatus(String consentId) {
+
+            return statuses.get(consentId);
+        }
+
+        int getWriteCount() {
+
+            return writeCount.get();
+        }
+    }
+}
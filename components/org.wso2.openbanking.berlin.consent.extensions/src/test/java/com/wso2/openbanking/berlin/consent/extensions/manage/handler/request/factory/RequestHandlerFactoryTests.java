@@ -69,4 +69,14 @@ public class RequestHandlerFactoryTests {
         Assert.assertTrue(requestHandler instanceof FundsConfirmationInitiationRequestHandler);
     }
 
+    @Test
+    public void testRequestHandlersAreShared() {
+
+        Assert.assertSame(RequestHandlerFactory.getRequestHandler("consents"),
+                RequestHandlerFactory.getRequestHandler("consents"));
+        Assert.assertSame(RequestHandlerFactory.getRequestHandler("consents/{consentId}/authorisations"),
+                RequestHandlerFactory.getRequestHandler(
+                        "{payment-service}/{payment-product}/{paymentId}/cancellation-authorisations"));
+    }
+
 }
@@ -60,4 +60,15 @@ public class ServiceHandlerFactoryTests {
         Assert.assertNull(serviceHandler);
     }
 
+    @Test
+    public void testServiceHandlersAreShared() {
+
+        Assert.assertSame(ServiceHandlerFactory.getServiceHandler("consents"),
+                ServiceHandlerFactory.getServiceHandler("consents"));
+        Assert.assertSame(ServiceHandlerFactory.getServiceHandler("payments/{payment-product}"),
+                ServiceHandlerFactory.getServiceHandler("bulk-payments/{payment-product}"));
+        Assert.assertSame(ServiceHandlerFactory.getServiceHandler("consents/{consent-id}/authorisations"),
+                ServiceHandlerFactory.getServiceHandler("consents/{consent-id}/authorisations"));
+    }
+
 }
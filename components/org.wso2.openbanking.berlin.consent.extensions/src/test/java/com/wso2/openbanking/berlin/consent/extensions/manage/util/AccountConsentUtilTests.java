@@ -23,6 +23,7 @@ import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
+import org.apache.commons.lang3.StringUtils;
 import org.mockito.Mock;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
@@ -33,10 +34,20 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.common.PermissionEnum;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestDataProvider;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestPayloads;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.doReturn;
 
@@ -110,6 +121,49 @@ public class AccountConsentUtilTests extends PowerMockTestCase {
         Assert.assertEquals(actualPermission, expectedPermission);
     }
 
+    @Test
+    public void testPermissionIsNotSharedBetweenConcurrentInitiations() throws Exception {
+
+        final String[][] permissionTestData = {
+                {TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2, PermissionEnum.ALL_PSD2.toString()},
+                {TestPayloads.VALID_ACCOUNTS_PAYLOAD_AVAILABLE_ACCOUNTS, PermissionEnum.AVAILABLE_ACCOUNTS.toString()},
+                {TestPayloads.VALID_ACCOUNTS_PAYLOAD_AVAILABLE_ACCOUNTS_WITH_BALANCE,
+                        PermissionEnum.AVAILABLE_ACCOUNTS_WITH_BALANCES.toString()},
+                {TestPayloads.VALID_ACCOUNTS_PAYLOAD_BANK_OFFERED_CONSENT, PermissionEnum.BANK_OFFERED.toString()},
+                {TestPayloads.VALID_ACCOUNTS_PAYLOAD_DEDICATED_ACCOUNTS_CONSENT,
+                        PermissionEnum.DEDICATED_ACCOUNTS.toString()}
+        };
+        final int initiationCount = 500;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < initiationCount; i++) {
+                final String[] testData = permissionTestData[i % permissionTestData.length];
+                results.add(executorService.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+
+                        JSONObject payload = (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE)
+                                .parse(testData[0]);
+                        startLatch.await();
+                        String permission = AccountConsentUtil.validateAccountInitiationPayload(payload, 0,
+                                false, 0);
+                        return StringUtils.equals(permission, testData[1]);
+                    }
+                }));
+            }
+            startLatch.countDown();
+
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test(dataProvider = "ValidatedValidUntilTestDataProvider", dataProviderClass = TestDataProvider.class)
     public void testGetValidatedValidUntil(String validUntil, boolean isValidUntilDateCapEnabled,
                                            int validUntilDaysCap, String expectedValidUntil) {
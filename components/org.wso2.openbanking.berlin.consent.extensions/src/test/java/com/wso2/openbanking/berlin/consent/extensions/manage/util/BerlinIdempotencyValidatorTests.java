@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.manage.util;
+
+import com.wso2.openbanking.accelerator.consent.extensions.common.idempotency.IdempotencyValidationResult;
+import com.wso2.openbanking.accelerator.consent.extensions.manage.model.ConsentManageData;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+import net.minidev.json.parser.ParseException;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusEnum;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestPayloads;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for BerlinIdempotencyValidator class.
+ */
+public class BerlinIdempotencyValidatorTests {
+
+    private static final String CLIENT_ID = "sampleClientId";
+    private static final long CREATED_TIME_SECONDS = 600;
+
+    private ConsentCoreServiceImpl consentCoreServiceMock;
+    private DetailedConsentResource detailedConsentResource;
+    private String consentId;
+
+    @BeforeMethod
+    public void initMethod() throws Exception {
+
+        consentId = UUID.randomUUID().toString();
+        detailedConsentResource = TestUtil.getSampleDetailedStoredTestConsentResource(
+                consentId, CLIENT_ID, ConsentTypeEnum.PAYMENTS.toString(), ConsentStatusEnum.RECEIVED.toString(),
+                null, null, null);
+        detailedConsentResource.setCreatedTime(System.currentTimeMillis() / 1000 - CREATED_TIME_SECONDS);
+
+        consentCoreServiceMock = mock(ConsentCoreServiceImpl.class);
+        when(consentCoreServiceMock.getDetailedConsent(anyString())).thenReturn(detailedConsentResource);
+    }
+
+    @Test
+    public void testConsentIsReadOncePerValidation() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(null);
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        verify(consentCoreServiceMock, times(1)).getDetailedConsent(consentId);
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        verify(consentCoreServiceMock, times(2)).getDetailedConsent(consentId);
+        verify(validator, times(2)).validateConsentIdempotency(any(ConsentManageData.class));
+    }
+
+    @Test
+    public void testIdempotentRetryIsServedFromCache() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 60000));
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        // The consent is authorised before the retry
+        DetailedConsentResource authorisedConsent = TestUtil.getSampleDetailedStoredTestConsentResource(
+                consentId, CLIENT_ID, ConsentTypeEnum.PAYMENTS.toString(),
+                ConsentStatusEnum.VALID.toString(), null, null, null);
+        when(consentCoreServiceMock.getDetailedConsent(anyString())).thenReturn(authorisedConsent);
+        IdempotencyValidationResult retryResult = validator.validateIdempotency(getConsentManageData(CLIENT_ID,
+                "request-1", TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        // The retry is answered with the cached consent without reading it again
+        Assert.assertTrue(retryResult.isIdempotent());
+        Assert.assertTrue(retryResult.isValid());
+        Assert.assertEquals(retryResult.getConsentId(), consentId);
+        Assert.assertSame(retryResult.getConsent(), detailedConsentResource);
+        verify(validator, times(1)).validateConsentIdempotency(any(ConsentManageData.class));
+        verify(consentCoreServiceMock, times(1)).getDetailedConsent(consentId);
+    }
+
+    @Test
+    public void testRetryAfterCacheExpiryReadsConsentAgain() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 1));
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        Thread.sleep(10);
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        // The cached consent is served no longer than the cache expiry
+        verify(validator, times(2)).validateConsentIdempotency(any(ConsentManageData.class));
+        verify(consentCoreServiceMock, times(2)).getDetailedConsent(consentId);
+    }
+
+    @Test
+    public void testRetryAfterAllowedDurationIsValidatedAgain() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 60000));
+        // The previous request was created just at the end of the allowed duration
+        doReturn(TimeUnit.SECONDS.toMillis(System.currentTimeMillis() / 1000 - CREATED_TIME_SECONDS) - 1)
+                .when(validator).getIdempotencyAllowedDurationMillis();
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        verify(validator, times(2)).validateConsentIdempotency(any(ConsentManageData.class));
+    }
+
+    @Test
+    public void testRequestIsNotCachedWithoutAllowedDuration() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 60000));
+        doReturn(-1L).when(validator).getIdempotencyAllowedDurationMillis();
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        verify(validator, times(2)).validateConsentIdempotency(any(ConsentManageData.class));
+    }
+
+    @Test
+    public void testRetryWithDifferentRequestIsValidatedAgain() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 60000));
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PAYMENTS_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData("otherClientId", "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-2",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        verify(validator, times(4)).validateConsentIdempotency(any(ConsentManageData.class));
+    }
+
+    @Test
+    public void testNonIdempotentRequestIsNotCached() throws Exception {
+
+        BerlinIdempotencyValidator validator = getValidator(new BoundedTTLCache<>(100, 60000));
+        IdempotencyValidationResult nonIdempotentResult = mock(IdempotencyValidationResult.class);
+        doReturn(nonIdempotentResult).when(validator).validateConsentIdempotency(any(ConsentManageData.class));
+
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+        validator.validateIdempotency(getConsentManageData(CLIENT_ID, "request-1",
+                TestPayloads.VALID_PERIODICAL_PAYMENT_PAYLOAD));
+
+        verify(validator, times(2)).validateConsentIdempotency(any(ConsentManageData.class));
+    }
+
+    /**
+     * Creates a validator whose accelerator validation reads the created time and the payload of the previous
+     * request, as the accelerator validation does, and returns a valid idempotent result.
+     */
+    private BerlinIdempotencyValidator getValidator(BoundedTTLCache<String,
+            BerlinIdempotencyValidator.IdempotentRequest> idempotencyCache) throws Exception {
+
+        final IdempotencyValidationResult result = mock(IdempotencyValidationResult.class);
+        when(result.isIdempotent()).thenReturn(true);
+        when(result.isValid()).thenReturn(true);
+        when(result.getConsentId()).thenReturn(consentId);
+
+        final BerlinIdempotencyValidator validator = Mockito.spy(new BerlinIdempotencyValidator(idempotencyCache));
+        doReturn(consentCoreServiceMock).when(validator).getConsentService();
+        doReturn(TimeUnit.DAYS.toMillis(1)).when(validator).getIdempotencyAllowedDurationMillis();
+        doAnswer(new Answer<IdempotencyValidationResult>() {
+            @Override
+            public IdempotencyValidationResult answer(InvocationOnMock invocation) {
+
+                ConsentManageData consentManageData = (ConsentManageData) invocation.getArguments()[0];
+                validator.getCreatedTimeOfPreviousRequest(consentManageData.getRequestPath(), consentId);
+                validator.getPayloadOfPreviousRequest(consentManageData.getRequestPath(), consentId);
+                return result;
+            }
+        }).when(validator).validateConsentIdempotency(any(ConsentManageData.class));
+        return validator;
+    }
+
+    private static ConsentManageData getConsentManageData(String clientId, String requestId, String payload)
+            throws ParseException {
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ConsentExtensionConstants.X_REQUEST_ID_HEADER, requestId);
+        return TestUtil.getSampleConsentManageData(headers, TestConstants.VALID_PAYMENT_INITIATION_PATH,
+                new MockHttpServletRequest(), new MockHttpServletResponse(), clientId, "POST", payload);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.util;
+
+import com.wso2.openbanking.accelerator.common.exception.ConsentManagementException;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import com.wso2.openbanking.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Consent core service stub which serves the consents added to it, with their authorisations and account mappings,
+ * and counts the reads.
+ */
+public class CountingConsentCoreService extends ConsentCoreServiceImpl {
+
+    private final Map<String, DetailedConsentResource> detailedConsents = new HashMap<>();
+    private int consentReads;
+    private int detailedConsentReads;
+    private int authorizationReads;
+    private int consentMappingReads;
+
+    public void addConsent(DetailedConsentResource detailedConsent) {
+
+        detailedConsents.put(detailedConsent.getConsentID(), detailedConsent);
+    }
+
+    @Override
+    public ConsentResource getConsent(String consentId, boolean withAttributes) throws ConsentManagementException {
+
+        consentReads++;
+        DetailedConsentResource detailedConsent = getStoredConsent(consentId);
+        return TestUtil.getSampleConsentResource(detailedConsent.getCurrentStatus(),
+                detailedConsent.getConsentType(), detailedConsent.getReceipt(), consentId,
+                detailedConsent.getClientID());
+    }
+
+    @Override
+    public DetailedConsentResource getDetailedConsent(String consentId) throws ConsentManagementException {
+
+        detailedConsentReads++;
+        return getStoredConsent(consentId);
+    }
+
+    @Override
+    public AuthorizationResource getAuthorizationResource(String authorizationId) throws ConsentManagementException {
+
+        authorizationReads++;
+        for (DetailedConsentResource detailedConsent : detailedConsents.values()) {
+            if (detailedConsent.getAuthorizationResources() == null) {
+                continue;
+            }
+            for (AuthorizationResource authorization : detailedConsent.getAuthorizationResources()) {
+                if (authorizationId.equals(authorization.getAuthorizationID())) {
+                    return authorization;
+                }
+            }
+        }
+        throw new ConsentManagementException("Authorization not found for the authorization ID: "
+                + authorizationId);
+    }
+
+    @Override
+    public ArrayList<ConsentMappingResource> getConsentMappingResources(String authorizationId)
+            throws ConsentManagementException {
+
+        consentMappingReads++;
+        ArrayList<ConsentMappingResource> mappings = new ArrayList<>();
+        for (DetailedConsentResource detailedConsent : detailedConsents.values()) {
+            for (ConsentMappingResource mapping : detailedConsent.getConsentMappingResources()) {
+                if (authorizationId.equals(mapping.getAuthorizationID())) {
+                    mappings.add(mapping);
+                }
+            }
+        }
+        return mappings;
+    }
+
+    public int getConsentReads() {
+
+        return consentReads;
+    }
+
+    public int getDetailedConsentReads() {
+
+        return detailedConsentReads;
+    }
+
+    public int getAuthorizationReads() {
+
+        return authorizationReads;
+    }
+
+    public int getConsentMappingReads() {
+
+        return consentMappingReads;
+    }
+
+    private DetailedConsentResource getStoredConsent(String consentId) throws ConsentManagementException {
+
+        DetailedConsentResource detailedConsent = detailedConsents.get(consentId);
+        if (detailedConsent == null) {
+            throw new ConsentManagementException("Consent not found for the consent ID: " + consentId);
+        }
+        return detailedConsent;
+    }
+}
@@ -37,8 +37,10 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
 import org.wso2.openbanking.berlin.consent.extensions.common.AuthTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusEnum;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentStatusWriteBehind;
 import org.wso2.openbanking.berlin.consent.extensions.manage.util.AccountConsentUtil;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestDataProvider;
@@ -222,4 +224,40 @@ public class AccountSubmissionValidatorTests extends PowerMockTestCase {
         Assert.assertFalse(consentValidationResult.isValid());
     }
 
+    @Test
+    public void testOneOffConsentIsExpiredBehindTheValidation() throws Exception {
+
+        String oneOffConsentId = UUID.randomUUID().toString();
+        ConsentStatusWriteBehind statusWriteBehindMock = mock(ConsentStatusWriteBehind.class);
+        doReturn(ConsentStatusEnum.VALID.toString()).when(statusWriteBehindMock).getStatus(oneOffConsentId,
+                ConsentStatusEnum.VALID.toString());
+        doReturn(statusWriteBehindMock).when(accountSubmissionValidator).getStatusWriteBehind();
+
+        ConsentValidateData consentValidateData = new ConsentValidateData(
+                TestPayloads.getMandatoryValidateHeadersMap(oneOffConsentId, true),
+                (JSONObject) parser.parse(TestPayloads.VALID_ACCOUNTS_PAYLOAD_ALL_PSD2), "/accounts",
+                oneOffConsentId, TestConstants.USER_ID, clientId, new HashMap<>());
+        DetailedConsentResource detailedConsentResource = TestUtil.getSampleDetailedStoredTestConsentResource(
+                oneOffConsentId, clientId, ConsentTypeEnum.ACCOUNTS.toString(), ConsentStatusEnum.VALID.toString(),
+                UUID.randomUUID().toString(), AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID);
+        consentValidateData.setComprehensiveConsent(detailedConsentResource);
+
+        ConsentValidationResult consentValidationResult = new ConsentValidationResult();
+        accountSubmissionValidator.validate(consentValidateData, consentValidationResult);
+
+        Assert.assertTrue(consentValidationResult.isValid());
+        Mockito.verify(statusWriteBehindMock).updateStatus(oneOffConsentId, ConsentStatusEnum.EXPIRED.toString());
+        Mockito.verify(consentCoreServiceMock, Mockito.never()).updateConsentStatus(Mockito.anyString(),
+                Mockito.anyString());
+
+        // The consent is read from the database before the transition is flushed
+        doReturn(ConsentStatusEnum.EXPIRED.toString()).when(statusWriteBehindMock).getStatus(oneOffConsentId,
+                ConsentStatusEnum.VALID.toString());
+        consentValidationResult = new ConsentValidationResult();
+        accountSubmissionValidator.validate(consentValidateData, consentValidationResult);
+
+        Assert.assertFalse(consentValidationResult.isValid());
+        Assert.assertEquals(consentValidationResult.getErrorCode(), TPPMessage.CodeEnum.CONSENT_EXPIRED.toString());
+        Mockito.verify(statusWriteBehindMock).updateStatus(oneOffConsentId, ConsentStatusEnum.EXPIRED.toString());
+    }
 }
@@ -40,6 +40,7 @@ import org.wso2.openbanking.berlin.common.enums.ConsentTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.AuthTypeEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.ScaStatusEnum;
 import org.wso2.openbanking.berlin.consent.extensions.common.TransactionStatusEnum;
+import org.wso2.openbanking.berlin.consent.extensions.util.CountingConsentCoreService;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestConstants;
 import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
 
@@ -166,4 +167,62 @@ public class PaymentConsentValidatorTests extends PowerMockTestCase {
         paymentRetrievalValidator.validate(consentValidateData, consentValidationResult);
         Assert.assertTrue(consentValidationResult.isValid());
     }
+
+    @Test
+    public void testPaymentConsentOfPathIsNotReadAgain() throws ConsentManagementException {
+
+        DetailedConsentResource detailedConsentResource =
+                TestUtil.getSampleDetailedStoredTestConsentResource(consentId, clientId,
+                        ConsentTypeEnum.PAYMENTS.toString(), TransactionStatusEnum.ACCP.name(), authId,
+                        AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID);
+        CountingConsentCoreService countingConsentCoreService = new CountingConsentCoreService();
+        countingConsentCoreService.addConsent(detailedConsentResource);
+        doReturn(countingConsentCoreService).when(paymentRetrievalValidator).getConsentService();
+
+        ConsentValidateData consentValidateData = getConsentValidateData(detailedConsentResource,
+                "/payments/sepa-credit-transfers/" + consentId + "/status");
+        ConsentValidationResult consentValidationResult = new ConsentValidationResult();
+
+        paymentRetrievalValidator.validate(consentValidateData, consentValidationResult);
+        Assert.assertTrue(consentValidationResult.isValid());
+        Assert.assertEquals(countingConsentCoreService.getConsentReads(), 0);
+        Assert.assertEquals(countingConsentCoreService.getDetailedConsentReads(), 0);
+    }
+
+    @Test
+    public void testPaymentConsentOfDifferentPathIdIsReadOnce() throws ConsentManagementException {
+
+        DetailedConsentResource detailedConsentResource =
+                TestUtil.getSampleDetailedStoredTestConsentResource(consentId, clientId,
+                        ConsentTypeEnum.PAYMENTS.toString(), TransactionStatusEnum.ACCP.name(), authId,
+                        AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID);
+        String pathPaymentId = UUID.randomUUID().toString();
+        CountingConsentCoreService countingConsentCoreService = new CountingConsentCoreService();
+        countingConsentCoreService.addConsent(detailedConsentResource);
+        countingConsentCoreService.addConsent(TestUtil.getSampleDetailedStoredTestConsentResource(pathPaymentId,
+                clientId, ConsentTypeEnum.PAYMENTS.toString(), TransactionStatusEnum.ACCP.name(), authId,
+                AuthTypeEnum.AUTHORISATION.toString(), TestConstants.USER_ID));
+        doReturn(countingConsentCoreService).when(paymentRetrievalValidator).getConsentService();
+
+        ConsentValidateData consentValidateData = getConsentValidateData(detailedConsentResource,
+                "/payments/sepa-credit-transfers/" + pathPaymentId);
+        ConsentValidationResult consentValidationResult = new ConsentValidationResult();
+
+        paymentRetrievalValidator.validate(consentValidateData, consentValidationResult);
+        Assert.assertFalse(consentValidationResult.isValid());
+        Assert.assertEquals(countingConsentCoreService.getConsentReads(), 1);
+        Assert.assertEquals(countingConsentCoreService.getDetailedConsentReads(), 0);
+    }
+
+    private static ConsentValidateData getConsentValidateData(DetailedConsentResource detailedConsentResource,
+                                                              String resourcePath) {
+
+        ConsentValidateData consentValidateData = new ConsentValidateData(new JSONObject(), new JSONObject(),
+                null, detailedConsentResource.getConsentID(), null, null, new HashMap<>());
+        consentValidateData.setComprehensiveConsent(detailedConsentResource);
+        Map<String, String> resourceParams = new HashMap<>();
+        resourceParams.put("ResourcePath", resourcePath);
+        consentValidateData.setResourceParams(resourceParams);
+        return consentValidateData;
+    }
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.validate.validator.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
+import org.wso2.openbanking.berlin.consent.extensions.common.ConsentExtensionConstants;
+
+import java.util.List;
+
+/**
+ * Test class for AccountRequestPath class.
+ */
+public class AccountRequestPathTests {
+
+    @Test
+    public void testBulkAccountRequests() {
+
+        Assert.assertTrue(AccountRequestPath.parse("/accounts").isBulkAccountRetrieveRequest());
+        Assert.assertTrue(AccountRequestPath.parse("/accounts?withBalance").isBulkAccountRetrieveRequest());
+        Assert.assertTrue(AccountRequestPath.parse("/card-accounts").isBulkAccountRetrieveRequest());
+        Assert.assertFalse(AccountRequestPath.parse("/card-accounts?withBalance").isBulkAccountRetrieveRequest());
+        Assert.assertFalse(AccountRequestPath.parse("/accounts").isSingleAccountRetrieveRequest());
+    }
+
+    @Test
+    public void testSingleAccountRequests() {
+
+        AccountRequestPath accountRequestPath = AccountRequestPath.parse("/accounts/DE12345678901234567890");
+        Assert.assertEquals(accountRequestPath.getRequestType(), AccountRequestPath.RequestType.SINGLE_ACCOUNT);
+        Assert.assertEquals(accountRequestPath.getAccountId(), "DE12345678901234567890");
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.ACCOUNTS.toString());
+        Assert.assertFalse(accountRequestPath.isCardAccount());
+
+        accountRequestPath = AccountRequestPath.parse("/accounts/DE12345678901234567890/balances");
+        Assert.assertTrue(accountRequestPath.isSingleAccountRetrieveRequest());
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.BALANCES.toString());
+
+        accountRequestPath = AccountRequestPath.parse("/accounts/DE12345678901234567890/transactions?withBalance");
+        Assert.assertTrue(accountRequestPath.isSingleAccountRetrieveRequest());
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.TRANSACTIONS.toString());
+
+        Assert.assertTrue(AccountRequestPath.parse("/accounts/").isSingleAccountRetrieveRequest());
+        Assert.assertEquals(AccountRequestPath.parse("/accounts/").getAccountId(), "");
+    }
+
+    @Test
+    public void testTransactionDetailsRequests() {
+
+        AccountRequestPath accountRequestPath = AccountRequestPath.parse("/accounts/DE1234/transactions/1234567");
+        Assert.assertTrue(accountRequestPath.isSingleAccountRetrieveRequest());
+        Assert.assertEquals(accountRequestPath.getAccountId(), "DE1234");
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.TRANSACTIONS.toString());
+
+        Assert.assertFalse(AccountRequestPath.parse("/accounts/DE1234/transactions/1234567?withBalance")
+                .isSingleAccountRetrieveRequest());
+        Assert.assertFalse(AccountRequestPath.parse("/card-accounts/1234/transactions/1234567")
+                .isSingleAccountRetrieveRequest());
+        Assert.assertFalse(AccountRequestPath.parse("/accounts/DE1234/transactions/1234567/details")
+                .isSingleAccountRetrieveRequest());
+    }
+
+    @Test
+    public void testCardAccountRequests() {
+
+        AccountRequestPath accountRequestPath = AccountRequestPath.parse("/card-accounts/1234/transactions");
+        Assert.assertTrue(accountRequestPath.isSingleAccountRetrieveRequest());
+        Assert.assertTrue(accountRequestPath.isCardAccount());
+        Assert.assertEquals(accountRequestPath.getAccountId(), "1234");
+
+        Assert.assertFalse(AccountRequestPath.parse("/card-accounts/1234?withBalance")
+                .isSingleAccountRetrieveRequest());
+        Assert.assertFalse(AccountRequestPath.parse("/card-accounts/1234/transactions?withBalance")
+                .isSingleAccountRetrieveRequest());
+    }
+
+    @Test
+    public void testNonAccountRequests() {
+
+        AccountRequestPath accountRequestPath = AccountRequestPath.parse("/payments/sepa-credit-transfers");
+        Assert.assertNull(accountRequestPath.getRequestType());
+        Assert.assertEquals(accountRequestPath.getAccountId(), "");
+
+        Assert.assertNull(AccountRequestPath.parse("/accounts?bookingStatus=booked").getRequestType());
+        Assert.assertNull(AccountRequestPath.parse("/accounts/DE1234/balances?withBalance").getRequestType());
+        Assert.assertNull(AccountRequestPath.parse("/accounts/DE1234/owner").getRequestType());
+        Assert.assertNull(AccountRequestPath.parse("accounts").getRequestType());
+        Assert.assertNull(AccountRequestPath.parse(null).getRequestType());
+    }
+
+    @Test
+    public void testResourcePathWithPrefixAndQuery() {
+
+        AccountRequestPath accountRequestPath = AccountRequestPath
+                .parse("/v1/accounts/DE1234/transactions?bookingStatus=booked");
+        Assert.assertNull(accountRequestPath.getRequestType());
+        Assert.assertEquals(accountRequestPath.getAccountId(), "DE1234");
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.TRANSACTIONS.toString());
+
+        accountRequestPath = AccountRequestPath.parse("/v1/card-accounts/1234/balances");
+        Assert.assertTrue(accountRequestPath.isCardAccount());
+        Assert.assertEquals(accountRequestPath.getAccountId(), "1234");
+        Assert.assertEquals(accountRequestPath.getAccessMethod(), AccessMethodEnum.BALANCES.toString());
+    }
+
+    @Test
+    public void testClassificationMatchesAccessMethodRegexLists() {
+
+        String[] requestPaths = {"/accounts", "/accounts?withBalance", "/card-accounts", "/accounts/",
+                "/accounts/DE1234?withBalance", "/accounts/DE1234/balances", "/accounts/DE1234/transactions",
+                "/accounts/DE1234/transactions/99", "/card-accounts/1234", "/card-accounts/1234/balances",
+                "/card-accounts/1234/transactions", "/card-accounts/accounts", "/accounts/DE1234/balances/99",
+                "/accounts//transactions", "/consents/accounts", "/accounts?withBalance=true"};
+
+        for (String requestPath : requestPaths) {
+            AccountRequestPath accountRequestPath = AccountRequestPath.parse(requestPath);
+            Assert.assertEquals(accountRequestPath.isSingleAccountRetrieveRequest(),
+                    matchesAny(requestPath,
+                            ConsentExtensionConstants.SINGLE_ACCOUNT_ACCESS_METHODS_REGEX_LIST), requestPath);
+            Assert.assertEquals(accountRequestPath.isBulkAccountRetrieveRequest(),
+                    matchesAny(requestPath,
+                            ConsentExtensionConstants.BULK_ACCOUNT_ACCESS_METHODS_REGEX_LIST), requestPath);
+        }
+    }
+
+    private static boolean matchesAny(String requestPath, List<String> regexList) {
+
+        for (String regex : regexList) {
+            if (requestPath.matches(regex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.consent.extensions.validate.validator.util;
+
+import com.wso2.openbanking.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.consent.extensions.common.AccessMethodEnum;
+import org.wso2.openbanking.berlin.consent.extensions.util.TestUtil;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Test class for AccountValidationUtil class.
+ */
+public class AccountValidationUtilTests {
+
+    private static final String ACCOUNTS = AccessMethodEnum.ACCOUNTS.toString();
+    private static final String BALANCES = AccessMethodEnum.BALANCES.toString();
+    private static final String TRANSACTIONS = AccessMethodEnum.TRANSACTIONS.toString();
+
+    private String authId;
+
+    @BeforeMethod
+    public void init() {
+
+        authId = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testActiveMappingLookup() {
+
+        ArrayList<ConsentMappingResource> mappingResources = TestUtil
+                .getSampleTestConsentMappingResourcesWithPermissions(authId);
+
+        Assert.assertTrue(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567890", ACCOUNTS, mappingResources));
+        Assert.assertTrue(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567890", BALANCES, mappingResources));
+        Assert.assertTrue(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567892", TRANSACTIONS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567891", TRANSACTIONS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil.hasValidPermissionsForAccountId(null, ACCOUNTS, mappingResources));
+        Assert.assertTrue(AccountValidationUtil.hasValidPermissionsForConsentId(TRANSACTIONS, mappingResources));
+    }
+
+    @Test
+    public void testAccountIdIsMatchedExactly() {
+
+        ArrayList<ConsentMappingResource> mappingResources = new ArrayList<>();
+        mappingResources.add(getMappingResource("iban:DE12345678901234567890:EUR", ACCOUNTS, "active"));
+
+        Assert.assertTrue(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567890", ACCOUNTS, mappingResources));
+        Assert.assertTrue(AccountValidationUtil
+                .hasValidPermissionsForAccountId("iban:DE12345678901234567890:EUR", ACCOUNTS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE1234567890", ACCOUNTS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil.hasValidPermissionsForAccountId("EUR", ACCOUNTS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567890", BALANCES, mappingResources));
+    }
+
+    @Test
+    public void testInactiveAndCardAccountMappingsAreNotMatched() {
+
+        ArrayList<ConsentMappingResource> mappingResources = new ArrayList<>();
+        mappingResources.add(getMappingResource("iban:DE12345678901234567890", ACCOUNTS, "inactive"));
+        mappingResources.add(getMappingResource("maskedPan:123456xxxxxx1234", BALANCES, "active"));
+
+        Assert.assertFalse(AccountValidationUtil
+                .hasValidPermissionsForAccountId("DE12345678901234567890", ACCOUNTS, mappingResources));
+        Assert.assertFalse(AccountValidationUtil
+                .hasValidPermissionsForAccountId("123456xxxxxx1234", BALANCES, mappingResources));
+        Assert.assertFalse(AccountValidationUtil.hasValidPermissionsForConsentId(ACCOUNTS, mappingResources));
+        Assert.assertTrue(AccountValidationUtil.hasValidPermissionsForConsentId(BALANCES, mappingResources));
+        Assert.assertFalse(AccountValidationUtil.hasValidPermissionsForConsentId(BALANCES, new ArrayList<>()));
+    }
+
+    private ConsentMappingResource getMappingResource(String accountId, String permission, String mappingStatus) {
+
+        return TestUtil.getSampleTestConsentMappingResource(UUID.randomUUID().toString(), authId, accountId,
+                permission, mappingStatus);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.cache;
+
+import com.wso2.openbanking.accelerator.common.util.eidas.certificate.extractor.CertificateContent;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+
+/**
+ * Holds the parsed content of a certificate sent with the TPP-Signature-Certificate header.
+ */
+public class ParsedSigningCertificate {
+
+    private final X509Certificate certificate;
+    private final CertificateContent certificateContent;
+    private final String signatureAlgorithm;
+    private final PublicKey publicKey;
+
+    public ParsedSigningCertificate(X509Certificate certificate, CertificateContent certificateContent,
+                                    String signatureAlgorithm) {
+
+        this.certificate = certificate;
+        this.certificateContent = certificateContent;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.publicKey = certificate.getPublicKey();
+    }
+
+    public X509Certificate getCertificate() {
+
+        return certificate;
+    }
+
+    public CertificateContent getCertificateContent() {
+
+        return certificateContent;
+    }
+
+    /**
+     * Returns the JCA signature algorithm name resolved from the certificate.
+     *
+     * @return signature algorithm name
+     */
+    public String getSignatureAlgorithm() {
+
+        return signatureAlgorithm;
+    }
+
+    public PublicKey getPublicKey() {
+
+        return publicKey;
+    }
+}
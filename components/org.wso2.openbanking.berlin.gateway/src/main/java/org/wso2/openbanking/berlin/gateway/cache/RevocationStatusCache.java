@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.cache;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of signing certificate revocation statuses keyed by the SHA-256 thumbprint of the certificate.
+ *
+ * <p>Revocation checks are performed by background workers. Valid and revoked statuses are cached with their own
+ * expiry. When a cached status has expired, the last known status is served while a refresh is triggered in the
+ * background, until the status exceeds the configured maximum staleness. Concurrent lookups and refreshes of the same
+ * certificate share a single in-flight check. Only a lookup of a certificate without any cached status waits for the
+ * check, up to the configured lookup timeout.</p>
+ *
+ * <p>Only definitive results of the responder are cached. When the status cannot be determined, such as during an
+ * OCSP/CRL outage, the lookup fails but the last known status is kept. The certificate is then not checked again
+ * until the configured backoff has passed. During the backoff a lookup of a certificate without any cached status
+ * fails without waiting for the responder, and the last known status is served without a refresh until it exceeds the
+ * maximum staleness. Checks are queued in a bounded queue and a check which cannot be queued fails the same way, but
+ * without a backoff.</p>
+ */
+public class RevocationStatusCache {
+
+    private static final Log log = LogFactory.getLog(RevocationStatusCache.class);
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int DEFAULT_VALID_STATUS_EXPIRY_MINUTES = 60;
+    private static final int DEFAULT_REVOKED_STATUS_EXPIRY_MINUTES = 5;
+    private static final int DEFAULT_LOOKUP_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_REFRESH_WORKER_COUNT = 4;
+    private static final int DEFAULT_UNKNOWN_STATUS_BACKOFF_SECONDS = 30;
+
+    private static volatile RevocationStatusCache revocationStatusCache;
+
+    private final BoundedTTLCache<String, RevocationStatus> cache;
+    private final BoundedTTLCache<String, Long> unknownStatusRetryTimes;
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> inFlightChecks = new ConcurrentHashMap<>();
+    private final Executor refreshExecutor;
+    private final long validStatusExpiryMillis;
+    private final long revokedStatusExpiryMillis;
+    private final long lookupTimeoutMillis;
+    private final long unknownStatusBackoffMillis;
+
+    RevocationStatusCache(int maxEntries, long validStatusExpiryMillis, long revokedStatusExpiryMillis,
+                          long maxStaleMillis, long lookupTimeoutMillis, long unknownStatusBackoffMillis,
+                          Executor refreshExecutor) {
+
+        // Entries are removed from the underlying cache only after they exceed the maximum staleness. The refresh
+        // time of each status is tracked separately.
+        this.cache = new BoundedTTLCache<>(maxEntries,
+                Math.max(validStatusExpiryMillis, revokedStatusExpiryMillis) + maxStaleMillis);
+        this.validStatusExpiryMillis = validStatusExpiryMillis;
+        this.revokedStatusExpiryMillis = revokedStatusExpiryMillis;
+        this.unknownStatusRetryTimes = new BoundedTTLCache<>(maxEntries, unknownStatusBackoffMillis);
+        this.lookupTimeoutMillis = lookupTimeoutMillis;
+        this.unknownStatusBackoffMillis = unknownStatusBackoffMillis;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return RevocationStatusCache object
+     */
+    public static RevocationStatusCache getInstance() {
+
+        if (revocationStatusCache == null) {
+            synchronized (RevocationStatusCache.class) {
+                if (revocationStatusCache == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    int maxEntries = positiveOrDefault(configParser.getRevocationStatusCacheMaxEntries(),
+                            DEFAULT_MAX_ENTRIES);
+                    revocationStatusCache = new RevocationStatusCache(maxEntries,
+                            TimeUnit.MINUTES.toMillis(positiveOrDefault(
+                                    configParser.getRevocationStatusCacheValidStatusExpiryMinutes(),
+                                    DEFAULT_VALID_STATUS_EXPIRY_MINUTES)),
+                            TimeUnit.MINUTES.toMillis(positiveOrDefault(
+                                    configParser.getRevocationStatusCacheRevokedStatusExpiryMinutes(),
+                                    DEFAULT_REVOKED_STATUS_EXPIRY_MINUTES)),
+                            TimeUnit.MINUTES.toMillis(Math.max(0,
+                                    configParser.getRevocationStatusCacheMaxStaleMinutes())),
+                            TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                                    configParser.getRevocationStatusCacheLookupTimeoutSeconds(),
+                                    DEFAULT_LOOKUP_TIMEOUT_SECONDS)),
+                            TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                                    configParser.getRevocationStatusCacheUnknownStatusBackoffSeconds(),
+                                    DEFAULT_UNKNOWN_STATUS_BACKOFF_SECONDS)),
+                            newRefreshExecutor(positiveOrDefault(
+                                    configParser.getRevocationStatusCacheRefreshWorkerCount(),
+                                    DEFAULT_REFRESH_WORKER_COUNT), maxEntries));
+                }
+            }
+        }
+        return revocationStatusCache;
+    }
+
+    /**
+     * Returns the revocation status of the certificate. A cached status is returned without waiting for the
+     * revocation check, and is refreshed in the background if it has expired and the certificate is not in the
+     * backoff of an undetermined status.
+     *
+     * @param certificate the certificate to check
+     * @param checker     performs the revocation check if the status is not cached or has expired
+     * @return true if the certificate is not revoked, false if it is revoked or the status cannot be determined
+     * @throws CertificateEncodingException thrown if the certificate encoding is failed
+     */
+    public boolean isValid(X509Certificate certificate, RevocationStatusChecker checker)
+            throws CertificateEncodingException {
+
+        String thumbprint = DigestUtils.sha256Hex(certificate.getEncoded());
+        RevocationStatus revocationStatus = cache.get(thumbprint);
+        boolean inBackoff = isInUnknownStatusBackoff(thumbprint);
+        if (revocationStatus != null) {
+            if (revocationStatus.isRefreshDue(currentTimeMillis()) && !inBackoff) {
+                log.debug("Cached revocation status has expired. Serving the last known status while refreshing");
+                checkRevocationStatus(thumbprint, certificate, checker);
+            }
+            return revocationStatus.isValid();
+        }
+        if (inBackoff) {
+            log.error("Certificate revocation status could not be determined recently. Failing the lookup without " +
+                    "checking again until the backoff has passed");
+            return false;
+        }
+
+        try {
+            return checkRevocationStatus(thumbprint, certificate, checker)
+                    .get(lookupTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("Certificate revocation check did not complete within " + lookupTimeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            log.error("Certificate revocation check failed", e.getCause());
+        } catch (InterruptedException e) {
+            log.error("Interrupted while waiting for the certificate revocation check", e);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the in-flight revocation check of the certificate, or starts a new check if there is none.
+     *
+     * @param thumbprint  SHA-256 thumbprint of the certificate
+     * @param certificate the certificate to check
+     * @param checker     performs the revocation check
+     * @return true if the certificate is not revoked, false if it is revoked or the status cannot be determined
+     */
+    CompletableFuture<Boolean> checkRevocationStatus(String thumbprint, X509Certificate certificate,
+                                                     RevocationStatusChecker checker) {
+
+        CompletableFuture<Boolean> revocationCheck = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlightCheck = inFlightChecks.putIfAbsent(thumbprint, revocationCheck);
+        if (inFlightCheck != null) {
+            return inFlightCheck;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                // The check is removed from the in-flight checks before completing it, so that waiting lookups
+                // never observe a completed check which is still in flight
+                try {
+                    RevocationCheckResult result = checker.check(certificate);
+                    boolean valid = result == RevocationCheckResult.VALID;
+                    if (valid || result == RevocationCheckResult.REVOKED) {
+                        long expiryMillis = valid ? validStatusExpiryMillis : revokedStatusExpiryMillis;
+                        cache.put(thumbprint, new RevocationStatus(valid, currentTimeMillis() + expiryMillis));
+                        unknownStatusRetryTimes.remove(thumbprint);
+                    } else {
+                        log.warn("Certificate revocation status could not be determined. The status is not cached " +
+                                "and the certificate is not checked again for " + unknownStatusBackoffMillis + " ms");
+                        startUnknownStatusBackoff(thumbprint);
+                    }
+                    inFlightChecks.remove(thumbprint, revocationCheck);
+                    revocationCheck.complete(valid);
+                } catch (RuntimeException e) {
+                    startUnknownStatusBackoff(thumbprint);
+                    inFlightChecks.remove(thumbprint, revocationCheck);
+                    revocationCheck.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightChecks.remove(thumbprint, revocationCheck);
+            revocationCheck.completeExceptionally(e);
+        }
+        return revocationCheck;
+    }
+
+    public void clear() {
+
+        cache.clear();
+        unknownStatusRetryTimes.clear();
+    }
+
+    public int size() {
+
+        return cache.size();
+    }
+
+    public int getInFlightCheckCount() {
+
+        return inFlightChecks.size();
+    }
+
+    public long getHitCount() {
+
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+
+        return cache.getMissCount();
+    }
+
+    protected long currentTimeMillis() {
+
+        return System.currentTimeMillis();
+    }
+
+    private void startUnknownStatusBackoff(String thumbprint) {
+
+        unknownStatusRetryTimes.put(thumbprint, currentTimeMillis() + unknownStatusBackoffMillis);
+    }
+
+    private boolean isInUnknownStatusBackoff(String thumbprint) {
+
+        Long retryAt = unknownStatusRetryTimes.get(thumbprint);
+        return retryAt != null && currentTimeMillis() < retryAt;
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static ExecutorService newRefreshExecutor(int workerCount, int queueCapacity) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "berlin-revocation-refresh-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // Checks are de-duplicated per certificate, so the queue is sized to the number of cached certificates
+        return new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    /**
+     * Cached revocation status of a certificate.
+     */
+    static class RevocationStatus {
+
+        private final boolean valid;
+        private final long refreshAt;
+
+        RevocationStatus(boolean valid, long refreshAt) {
+
+            this.valid = valid;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isValid() {
+
+            return valid;
+        }
+
+        boolean isRefreshDue(long now) {
+
+            return now >= refreshAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.cache;
+
+import java.security.cert.X509Certificate;
+
+/**
+ * Performs the OCSP/CRL revocation check of a certificate on behalf of the RevocationStatusCache.
+ */
+@FunctionalInterface
+public interface RevocationStatusChecker {
+
+    /**
+     * Checks the revocation status of the certificate. This is invoked on a background worker thread.
+     *
+     * @param certificate the certificate to check
+     * @return VALID or REVOKED if the responder gave a definitive status, UNKNOWN otherwise
+     */
+    RevocationCheckResult check(X509Certificate certificate);
+}
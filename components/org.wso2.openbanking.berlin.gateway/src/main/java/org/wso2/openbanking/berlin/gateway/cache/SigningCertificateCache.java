@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.cache;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of parsed TPP-Signature-Certificate header values. The cache is keyed by the SHA-256 hash of the raw header
+ * value so that the PEM certificate is parsed only once while it is in the cache.
+ */
+public class SigningCertificateCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int DEFAULT_EXPIRY_MINUTES = 60;
+
+    private static volatile SigningCertificateCache signingCertificateCache;
+
+    private final BoundedTTLCache<String, ParsedSigningCertificate> cache;
+
+    private SigningCertificateCache(int maxEntries, int expiryMinutes) {
+
+        cache = new BoundedTTLCache<>(maxEntries > 0 ? maxEntries : DEFAULT_MAX_ENTRIES,
+                TimeUnit.MINUTES.toMillis(expiryMinutes > 0 ? expiryMinutes : DEFAULT_EXPIRY_MINUTES));
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return SigningCertificateCache object
+     */
+    public static SigningCertificateCache getInstance() {
+
+        if (signingCertificateCache == null) {
+            synchronized (SigningCertificateCache.class) {
+                if (signingCertificateCache == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    signingCertificateCache = new SigningCertificateCache(
+                            configParser.getSigningCertificateCacheMaxEntries(),
+                            configParser.getSigningCertificateCacheExpiryMinutes());
+                }
+            }
+        }
+        return signingCertificateCache;
+    }
+
+    /**
+     * Returns the parsed certificate of the provided header value.
+     *
+     * @param signatureCertificateHeader raw TPP-Signature-Certificate header value
+     * @return parsed certificate or null if not cached
+     */
+    public ParsedSigningCertificate getFromCache(String signatureCertificateHeader) {
+
+        return cache.get(getCacheKey(signatureCertificateHeader));
+    }
+
+    /**
+     * Adds the parsed certificate of the provided header value to the cache.
+     *
+     * @param signatureCertificateHeader raw TPP-Signature-Certificate header value
+     * @param parsedSigningCertificate   parsed certificate
+     */
+    public void addToCache(String signatureCertificateHeader, ParsedSigningCertificate parsedSigningCertificate) {
+
+        cache.put(getCacheKey(signatureCertificateHeader), parsedSigningCertificate);
+    }
+
+    public void clear() {
+
+        cache.clear();
+    }
+
+    public int size() {
+
+        return cache.size();
+    }
+
+    public long getHitCount() {
+
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+
+        return cache.getEvictionCount();
+    }
+
+    private static String getCacheKey(String signatureCertificateHeader) {
+
+        return DigestUtils.sha256Hex(signatureCertificateHeader);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.consent;
+
+import net.minidev.json.JSONObject;
+import net.minidev.json.JSONValue;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+
+/**
+ * Consent status update sent to the identity server when a payment is cancelled. The status code is the status code
+ * of the payment DELETE response.
+ */
+public class ConsentStatusUpdate {
+
+    private final String consentId;
+    private final String statusCode;
+
+    public ConsentStatusUpdate(String consentId, int statusCode) {
+
+        this(consentId, String.valueOf(statusCode));
+    }
+
+    private ConsentStatusUpdate(String consentId, String statusCode) {
+
+        this.consentId = consentId;
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Parses a consent status update from its JSON representation.
+     *
+     * @param json JSON representation of the update
+     * @return the parsed update, or null if the JSON is not a valid consent status update
+     */
+    public static ConsentStatusUpdate fromJson(String json) {
+
+        Object parsed = JSONValue.parse(json);
+        if (!(parsed instanceof JSONObject)) {
+            return null;
+        }
+        Object consentId = ((JSONObject) parsed).get(CommonConstants.CONSENT_ID);
+        Object statusCode = ((JSONObject) parsed).get(CommonConstants.STATUS_CODE);
+        if (!(consentId instanceof String) || !(statusCode instanceof String)) {
+            return null;
+        }
+        return new ConsentStatusUpdate((String) consentId, (String) statusCode);
+    }
+
+    public String getConsentId() {
+
+        return consentId;
+    }
+
+    public String getStatusCode() {
+
+        return statusCode;
+    }
+
+    /**
+     * Returns the JSON representation of the update, which is the payload of the consent status update request.
+     *
+     * @return JSON string
+     */
+    public String toJson() {
+
+        JSONObject json = new JSONObject();
+        json.appendField(CommonConstants.CONSENT_ID, consentId);
+        json.appendField(CommonConstants.STATUS_CODE, statusCode);
+        return json.toString();
+    }
+}
@@ -0,0 +1,523 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.consent;
+
+import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
+import com.wso2.openbanking.accelerator.common.exception.OpenBankingRuntimeException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.utils.CarbonUtils;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+import org.wso2.openbanking.berlin.common.utils.PooledHttpClient;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches consent status updates off the response thread.
+ *
+ * <p>Every accepted update is appended to a local journal before it is dispatched, and a completion record is
+ * appended once the update is delivered or rejected by the identity server. The journal is written by a single
+ * journal writer thread, which appends all records queued since its last write with one synchronous write, so that
+ * neither the response threads nor the workers wait for the journal. Updates are sent by a fixed number of
+ * background workers from a bounded queue, and a failed update is retried with an exponential backoff. An update
+ * which cannot be queued, or which still fails after the configured number of retries, stays pending in the journal
+ * and is dispatched again periodically. The journal is compacted to the pending updates only after updates are
+ * completed, and the pending updates of the previous run are recovered from it when the dispatcher is created.
+ * Updates are therefore delivered at least once.</p>
+ */
+public class ConsentStatusUpdateDispatcher {
+
+    private static final Log log = LogFactory.getLog(ConsentStatusUpdateDispatcher.class);
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final int DEFAULT_CONNECT_TIMEOUT_SECONDS = 5;
+    private static final int DEFAULT_SOCKET_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_WORKER_COUNT = 2;
+    private static final int DEFAULT_MAX_RETRY_COUNT = 5;
+    private static final int DEFAULT_INITIAL_RETRY_DELAY_SECONDS = 2;
+    private static final int DEFAULT_SPILL_REPLAY_INTERVAL_SECONDS = 60;
+    private static final String DEFAULT_SPILL_FILE = "berlin-consent-status-updates.log";
+    private static final String REPOSITORY_DIRECTORY = "repository";
+    private static final String DATA_DIRECTORY = "data";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    // Separates the update ID from the update in the journal records of accepted updates
+    private static final char RECORD_SEPARATOR = ' ';
+    // Caps the backoff at 2^10 times the initial retry delay
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private static volatile ConsentStatusUpdateDispatcher consentStatusUpdateDispatcher;
+
+    private final ConsentStatusUpdateSender sender;
+    private final Executor workers;
+    private final ScheduledExecutorService scheduler;
+    private final int maxRetryCount;
+    private final long initialRetryDelayMillis;
+    private final Path journalFile;
+    private final ExecutorService journalWriter;
+    private final BlockingQueue<JournalRecord> journalQueue = new LinkedBlockingQueue<>();
+    private final AtomicLong lastUpdateId = new AtomicLong();
+    // Accepted updates which are not yet delivered or rejected
+    private final Map<Long, ConsentStatusUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    // Pending updates which are waiting for the next replay instead of being sent or retried
+    private final Set<Long> parkedUpdateIds = ConcurrentHashMap.newKeySet();
+    // Accessed by the journal writer thread only
+    private int completedSinceCompaction;
+
+    ConsentStatusUpdateDispatcher(ConsentStatusUpdateSender sender, Executor workers,
+                                  ScheduledExecutorService scheduler, int maxRetryCount, long initialRetryDelayMillis,
+                                  Path journalFile) {
+
+        this.sender = sender;
+        this.workers = workers;
+        this.scheduler = scheduler;
+        this.maxRetryCount = maxRetryCount;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        this.journalFile = journalFile;
+        this.journalWriter = Executors.newSingleThreadExecutor(newThreadFactory(
+                "berlin-consent-status-update-journal-"));
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return ConsentStatusUpdateDispatcher object
+     */
+    public static ConsentStatusUpdateDispatcher getInstance() {
+
+        if (consentStatusUpdateDispatcher == null) {
+            synchronized (ConsentStatusUpdateDispatcher.class) {
+                if (consentStatusUpdateDispatcher == null) {
+                    consentStatusUpdateDispatcher = createDispatcher(CommonConfigParser.getInstance());
+                }
+            }
+        }
+        return consentStatusUpdateDispatcher;
+    }
+
+    /**
+     * Creates the dispatcher at server startup, so that the updates which were pending when the server stopped are
+     * dispatched again without waiting for the next payment cancellation. Nothing is started if the consent status
+     * update URL is not configured.
+     */
+    public static void start() {
+
+        if (StringUtils.isBlank(CommonConfigParser.getInstance().getConsentMgtConfigs()
+                .get(CommonConstants.PAYMENT_CONSENT_STATUS_UPDATE_URL))) {
+            if (log.isDebugEnabled()) {
+                log.debug("Consent status update URL is not configured. Consent status update dispatcher is not " +
+                        "started");
+            }
+            return;
+        }
+        getInstance();
+    }
+
+    /**
+     * Queues the consent status update to be journaled, and returns without waiting for the journal. The update is
+     * dispatched to the background workers once it is journaled, and stays pending until the next replay if the
+     * queue of the workers is full.
+     *
+     * @param consentStatusUpdate the update to send
+     */
+    public void dispatch(ConsentStatusUpdate consentStatusUpdate) {
+
+        long updateId = lastUpdateId.incrementAndGet();
+        pendingUpdates.put(updateId, consentStatusUpdate);
+        appendToJournal(new JournalRecord(updateId, consentStatusUpdate));
+    }
+
+    /**
+     * Recovers the updates which are still pending in the journal and dispatches them. Malformed journal records
+     * are discarded, and the journal is compacted to the recovered updates.
+     */
+    public void recover() {
+
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        List<String> records;
+        try {
+            records = Files.readAllLines(journalFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Error while reading pending consent status updates from " + journalFile, e);
+            return;
+        }
+        for (String record : records) {
+            recoverRecord(record);
+        }
+        parkedUpdateIds.addAll(pendingUpdates.keySet());
+        try {
+            CompletableFuture.runAsync(this::rewriteJournal, journalWriter).join();
+        } catch (CompletionException e) {
+            log.error("Error while compacting the consent status update journal " + journalFile, e.getCause());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Recovered " + pendingUpdates.size() + " pending consent status updates");
+        }
+        replayPendingUpdates();
+    }
+
+    /**
+     * Dispatches the pending updates which could not be sent or retried again, and compacts the journal to the
+     * updates which are still pending.
+     */
+    public void replayPendingUpdates() {
+
+        List<Long> updateIds = new ArrayList<>(parkedUpdateIds);
+        if (log.isDebugEnabled() && !updateIds.isEmpty()) {
+            log.debug("Dispatching " + updateIds.size() + " pending consent status updates");
+        }
+        for (Long updateId : updateIds) {
+            ConsentStatusUpdate consentStatusUpdate = pendingUpdates.get(updateId);
+            if (parkedUpdateIds.remove(updateId) && consentStatusUpdate != null) {
+                submit(updateId, consentStatusUpdate, 0);
+            }
+        }
+        journalWriter.execute(this::compactJournal);
+    }
+
+    /**
+     * Returns the delay before the given retry of a failed update.
+     *
+     * @param retryCount number of retries already done
+     * @return delay in milliseconds
+     */
+    long getRetryDelayMillis(int retryCount) {
+
+        return initialRetryDelayMillis << Math.min(retryCount, MAX_BACKOFF_EXPONENT);
+    }
+
+    /**
+     * Returns the number of updates which are not yet delivered or rejected.
+     *
+     * @return number of pending updates
+     */
+    int getPendingUpdateCount() {
+
+        return pendingUpdates.size();
+    }
+
+    private void submit(long updateId, ConsentStatusUpdate consentStatusUpdate, int retryCount) {
+
+        try {
+            workers.execute(() -> send(updateId, consentStatusUpdate, retryCount));
+        } catch (RejectedExecutionException e) {
+            log.error("Consent status update queue is full. The update is dispatched again with the next replay");
+            parkedUpdateIds.add(updateId);
+        }
+    }
+
+    private void send(long updateId, ConsentStatusUpdate consentStatusUpdate, int retryCount) {
+
+        try {
+            sender.send(consentStatusUpdate);
+        } catch (IOException | RuntimeException e) {
+            if (retryCount >= maxRetryCount) {
+                log.error("Consent status update failed after " + retryCount + " retries. The update is " +
+                        "dispatched again with the next replay", e);
+                parkedUpdateIds.add(updateId);
+                return;
+            }
+            long retryDelayMillis = getRetryDelayMillis(retryCount);
+            if (log.isDebugEnabled()) {
+                log.debug("Consent status update failed. Retrying in " + retryDelayMillis + " ms");
+            }
+            try {
+                scheduler.schedule(() -> submit(updateId, consentStatusUpdate, retryCount + 1), retryDelayMillis,
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                parkedUpdateIds.add(updateId);
+            }
+            return;
+        }
+        complete(updateId);
+    }
+
+    /**
+     * Records that the update is delivered or rejected. The completion record is queued for the journal writer
+     * without waiting for it.
+     */
+    private void complete(long updateId) {
+
+        pendingUpdates.remove(updateId);
+        parkedUpdateIds.remove(updateId);
+        appendToJournal(new JournalRecord(updateId, null));
+    }
+
+    private void appendToJournal(JournalRecord journalRecord) {
+
+        journalQueue.add(journalRecord);
+        try {
+            journalWriter.execute(this::appendToJournal);
+        } catch (RejectedExecutionException e) {
+            log.error("Consent status update journal writer is stopped. The record is not journaled", e);
+            if (journalRecord.consentStatusUpdate != null) {
+                parkedUpdateIds.add(journalRecord.updateId);
+            }
+        }
+    }
+
+    /**
+     * Appends the records queued since the last append to the journal with a single write, and then dispatches the
+     * accepted updates. The write is synced only if it contains accepted updates, since losing a completion record
+     * only sends the update again after a restart. An accepted update is still dispatched if it cannot be
+     * journaled, but it is then lost if the server stops before it is sent. The journal is removed instead once no
+     * update is pending. Runs on the journal writer thread only.
+     */
+    private void appendToJournal() {
+
+        List<JournalRecord> journalRecords = new ArrayList<>();
+        journalQueue.drainTo(journalRecords);
+        if (journalRecords.isEmpty()) {
+            return;
+        }
+
+        StringBuilder journal = new StringBuilder();
+        boolean containsAcceptedUpdates = false;
+        int completedCount = 0;
+        for (JournalRecord journalRecord : journalRecords) {
+            journal.append(journalRecord.updateId);
+            if (journalRecord.consentStatusUpdate != null) {
+                journal.append(RECORD_SEPARATOR).append(journalRecord.consentStatusUpdate.toJson());
+                containsAcceptedUpdates = true;
+            } else {
+                completedCount++;
+            }
+            journal.append(System.lineSeparator());
+        }
+        try {
+            if (pendingUpdates.isEmpty()) {
+                Files.deleteIfExists(journalFile);
+                completedSinceCompaction = 0;
+            } else {
+                createJournalDirectory();
+                if (containsAcceptedUpdates) {
+                    Files.write(journalFile, journal.toString().getBytes(StandardCharsets.UTF_8),
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+                } else {
+                    Files.write(journalFile, journal.toString().getBytes(StandardCharsets.UTF_8),
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+                completedSinceCompaction += completedCount;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Error while journaling " + journalRecords.size() + " consent status update records to "
+                    + journalFile, e);
+        }
+
+        for (JournalRecord journalRecord : journalRecords) {
+            if (journalRecord.consentStatusUpdate != null) {
+                submit(journalRecord.updateId, journalRecord.consentStatusUpdate, 0);
+            }
+        }
+    }
+
+    private void compactJournal() {
+
+        if (completedSinceCompaction > 0) {
+            rewriteJournal();
+        }
+    }
+
+    /**
+     * Rewrites the journal with the pending updates only. The journal is replaced atomically, so that the pending
+     * updates are kept if the server stops while the journal is rewritten. Runs on the journal writer thread only,
+     * so that no record is appended to the journal while it is replaced.
+     */
+    private void rewriteJournal() {
+
+        try {
+            if (pendingUpdates.isEmpty()) {
+                Files.deleteIfExists(journalFile);
+            } else {
+                createJournalDirectory();
+                Path temporaryFile = journalFile.resolveSibling(journalFile.getFileName() + TEMPORARY_FILE_SUFFIX);
+                try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<Long, ConsentStatusUpdate> pendingUpdate : pendingUpdates.entrySet()) {
+                        writer.write(pendingUpdate.getKey() + String.valueOf(RECORD_SEPARATOR) +
+                                pendingUpdate.getValue().toJson());
+                        writer.newLine();
+                    }
+                }
+                Files.move(temporaryFile, journalFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            completedSinceCompaction = 0;
+        } catch (IOException e) {
+            log.error("Error while compacting the consent status update journal " + journalFile, e);
+        }
+    }
+
+    private void recoverRecord(String record) {
+
+        if (StringUtils.isBlank(record)) {
+            return;
+        }
+        int separatorIndex = record.indexOf(RECORD_SEPARATOR);
+        try {
+            long updateId = Long.parseLong(separatorIndex < 0 ? record.trim() : record.substring(0, separatorIndex));
+            lastUpdateId.accumulateAndGet(updateId, Math::max);
+            if (separatorIndex < 0) {
+                pendingUpdates.remove(updateId);
+                return;
+            }
+            ConsentStatusUpdate consentStatusUpdate = ConsentStatusUpdate.fromJson(
+                    record.substring(separatorIndex + 1));
+            if (consentStatusUpdate != null) {
+                pendingUpdates.put(updateId, consentStatusUpdate);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below as a malformed record
+        }
+        log.error("Discarding malformed consent status update journal record");
+    }
+
+    private void createJournalDirectory() throws IOException {
+
+        Path parent = journalFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private static ConsentStatusUpdateDispatcher createDispatcher(CommonConfigParser configParser) {
+
+        PooledHttpClient pooledHttpClient;
+        try {
+            pooledHttpClient = PooledHttpClient.create(
+                    positiveOrDefault(configParser.getConsentStatusUpdateMaxConnections(), DEFAULT_MAX_CONNECTIONS),
+                    positiveOrDefault(configParser.getConsentStatusUpdateMaxConnectionsPerRoute(),
+                            DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+                    (int) TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                            configParser.getConsentStatusUpdateConnectTimeoutSeconds(),
+                            DEFAULT_CONNECT_TIMEOUT_SECONDS)),
+                    (int) TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                            configParser.getConsentStatusUpdateSocketTimeoutSeconds(),
+                            DEFAULT_SOCKET_TIMEOUT_SECONDS)));
+        } catch (OpenBankingException e) {
+            throw new OpenBankingRuntimeException("Error while creating the consent status update client", e);
+        }
+        ConsentStatusUpdateSender sender = new HttpConsentStatusUpdateSender(
+                configParser.getConsentMgtConfigs().get(CommonConstants.PAYMENT_CONSENT_STATUS_UPDATE_URL),
+                pooledHttpClient);
+
+        int workerCount = positiveOrDefault(configParser.getConsentStatusUpdateWorkerCount(), DEFAULT_WORKER_COUNT);
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(positiveOrDefault(configParser.getConsentStatusUpdateQueueSize(),
+                        DEFAULT_QUEUE_SIZE)),
+                newThreadFactory("berlin-consent-status-update-"));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                newThreadFactory("berlin-consent-status-update-retry-"));
+
+        ConsentStatusUpdateDispatcher dispatcher = new ConsentStatusUpdateDispatcher(sender, workers, scheduler,
+                Math.max(0, configParser.getConsentStatusUpdateMaxRetryCount()),
+                TimeUnit.SECONDS.toMillis(positiveOrDefault(
+                        configParser.getConsentStatusUpdateInitialRetryDelaySeconds(),
+                        DEFAULT_INITIAL_RETRY_DELAY_SECONDS)),
+                getJournalFile(configParser.getConsentStatusUpdateSpillFile()));
+        dispatcher.recover();
+
+        long replayIntervalSeconds = positiveOrDefault(
+                configParser.getConsentStatusUpdateSpillReplayIntervalSeconds(),
+                DEFAULT_SPILL_REPLAY_INTERVAL_SECONDS);
+        scheduler.scheduleWithFixedDelay(dispatcher::replayPendingUpdates, replayIntervalSeconds,
+                replayIntervalSeconds, TimeUnit.SECONDS);
+        return dispatcher;
+    }
+
+    /**
+     * Returns the configured journal file, or the default journal file in the data directory of the server. The
+     * journal is never resolved against the working directory of the server.
+     */
+    private static Path getJournalFile(String configuredJournalFile) {
+
+        if (StringUtils.isNotBlank(configuredJournalFile)) {
+            return Paths.get(configuredJournalFile);
+        }
+        String carbonHome = CarbonUtils.getCarbonHome();
+        if (StringUtils.isBlank(carbonHome)) {
+            throw new IllegalStateException(CommonConstants.CONSENT_STATUS_UPDATE_SPILL_FILE + " is not " +
+                    "configured and the server home directory is not set");
+        }
+        return Paths.get(carbonHome, REPOSITORY_DIRECTORY, DATA_DIRECTORY, DEFAULT_SPILL_FILE);
+    }
+
+    private static int positiveOrDefault(int value, int defaultValue) {
+
+        return value > 0 ? value : defaultValue;
+    }
+
+    private static ThreadFactory newThreadFactory(String threadNamePrefix) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A journal record of an accepted update, or of a completed update if the update is not set.
+     */
+    private static class JournalRecord {
+
+        private final long updateId;
+        private final ConsentStatusUpdate consentStatusUpdate;
+
+        JournalRecord(long updateId, ConsentStatusUpdate consentStatusUpdate) {
+
+            this.updateId = updateId;
+            this.consentStatusUpdate = consentStatusUpdate;
+        }
+    }
+}
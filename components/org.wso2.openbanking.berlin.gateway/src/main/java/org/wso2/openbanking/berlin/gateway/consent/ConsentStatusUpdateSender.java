@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.consent;
+
+import java.io.IOException;
+
+/**
+ * Sends a consent status update to the identity server.
+ */
+@FunctionalInterface
+public interface ConsentStatusUpdateSender {
+
+    /**
+     * Sends the consent status update.
+     *
+     * @param consentStatusUpdate the update to send
+     * @throws IOException thrown if the update could not be delivered and should be retried
+     */
+    void send(ConsentStatusUpdate consentStatusUpdate) throws IOException;
+}
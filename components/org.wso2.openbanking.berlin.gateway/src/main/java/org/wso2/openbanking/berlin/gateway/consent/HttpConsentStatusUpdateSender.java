@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.consent;
+
+import com.wso2.openbanking.accelerator.gateway.util.GatewayConstants;
+import com.wso2.openbanking.accelerator.gateway.util.GatewayUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.wso2.openbanking.berlin.common.utils.PooledHttpClient;
+
+import java.io.IOException;
+
+/**
+ * Sends consent status updates to the payment consent status update endpoint of the identity server.
+ *
+ * <p>A single pooled client is used for all the updates. The response entity is always consumed so that the
+ * connection is returned to the pool.</p>
+ */
+public class HttpConsentStatusUpdateSender implements ConsentStatusUpdateSender {
+
+    private static final Log log = LogFactory.getLog(HttpConsentStatusUpdateSender.class);
+
+    private final CloseableHttpClient httpClient;
+    private final String statusUpdateUrl;
+
+    public HttpConsentStatusUpdateSender(String statusUpdateUrl, PooledHttpClient pooledHttpClient) {
+
+        this.httpClient = pooledHttpClient.getHttpClient();
+        this.statusUpdateUrl = statusUpdateUrl;
+    }
+
+    @Override
+    public void send(ConsentStatusUpdate consentStatusUpdate) throws IOException {
+
+        HttpPut request = new HttpPut(statusUpdateUrl);
+        request.setEntity(new StringEntity(consentStatusUpdate.toJson(), ContentType.APPLICATION_JSON));
+        request.setHeader(GatewayConstants.CONTENT_TYPE_TAG, GatewayConstants.JSON_CONTENT_TYPE);
+        String userName = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME);
+        String password = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD);
+        request.setHeader(GatewayConstants.AUTH_HEADER, GatewayUtils.getBasicAuthHeader(userName, password));
+
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            EntityUtils.consume(response.getEntity());
+            if (statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                throw new IOException("Consent status update endpoint responded with status " + statusCode);
+            }
+            if (statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+                // Client errors are not resolved by retrying the same update
+                log.error("Consent status update of consent " + consentStatusUpdate.getConsentId()
+                        + " was rejected with status " + statusCode);
+            }
+        }
+    }
+}
@@ -18,33 +18,24 @@
 
 package org.wso2.openbanking.berlin.gateway.executors;
 
-import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
-import com.wso2.openbanking.accelerator.common.util.HTTPClientUtils;
 import com.wso2.openbanking.accelerator.gateway.executor.impl.consent.ConsentEnforcementExecutor;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIRequestContext;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIResponseContext;
 import com.wso2.openbanking.accelerator.gateway.util.GatewayConstants;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpHeaders;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.methods.HttpPut;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.json.JSONObject;
 import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
-import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.CommonConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.gateway.consent.ConsentStatusUpdate;
+import org.wso2.openbanking.berlin.gateway.consent.ConsentStatusUpdateDispatcher;
+import org.wso2.openbanking.berlin.gateway.executors.core.RouteTable;
 import org.wso2.openbanking.berlin.gateway.utils.GatewayUtils;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -58,19 +49,18 @@ public class BerlinConsentEnforcementExecutor extends ConsentEnforcementExecutor
     private static final Log log = LogFactory.getLog(BerlinConsentEnforcementExecutor.class);
     public static final String MESSAGE = "message";
 
-    private final List<String> allApplicablePaymentRequestTypes = Arrays.asList (
-        "/bulk-payments/{payment-product}/{paymentId}",
-        "/payments/{payment-product}/{paymentId}",
-        "/periodic-payments/{payment-product}/{paymentId}",
-        "/bulk-payments/{payment-product}/{paymentId}/status",
-        "/payments/{payment-product}/{paymentId}/status",
-        "/periodic-payments/{payment-product}/{paymentId}/status"
-    );
+    public BerlinConsentEnforcementExecutor() {
 
-    private final List<String> allApplicablePaymentRequestTypesForDelete = Arrays.asList (
-        "/bulk-payments/{payment-product}/{paymentId}",
-        "/periodic-payments/{payment-product}/{paymentId}"
-    );
+        // The executor is created at server startup, which dispatches the status updates pending from the last run.
+        // A dispatcher which cannot be started must not fail the executor chain, and is created again on the first
+        // dispatched update instead.
+        try {
+            ConsentStatusUpdateDispatcher.start();
+        } catch (RuntimeException e) {
+            log.error("Error while starting the consent status update dispatcher. The dispatcher is created with the " +
+                    "first consent status update instead", e);
+        }
+    }
 
     @Override
     public void preProcessRequest(OBAPIRequestContext obapiRequestContext) {
@@ -94,7 +84,8 @@ public class BerlinConsentEnforcementExecutor extends ConsentEnforcementExecutor
         }
 
         // Return if the request is not a payment request
-        if (!allApplicablePaymentRequestTypes.contains(msgInfo.getElectedResource())) {
+        if (!RouteTable.getInstance().getRoute(obapiRequestContext.getContextProps(), msgInfo)
+                .isPaymentRetrieval()) {
             return;
         }
 
@@ -123,60 +114,48 @@ public class BerlinConsentEnforcementExecutor extends ConsentEnforcementExecutor
         }
 
         // Return if the request is not either bulk or periodic payments
-        if (!allApplicablePaymentRequestTypesForDelete.contains(msgInfo.getElectedResource())) {
+        if (!RouteTable.getInstance().getRoute(obapiResponseContext.getContextProps(), msgInfo)
+                .isPaymentDeletion()) {
             return;
         }
 
-        try {
-           // Get the response code
-           int responseStatusCode = obapiResponseContext.getStatusCode();
-           if (HttpStatus.SC_NO_CONTENT == responseStatusCode || HttpStatus.SC_ACCEPTED == responseStatusCode) {
-               // send the request to update the consent status
-               updateConsentStatus(obapiResponseContext, responseStatusCode);
-           }
-        } catch (OpenBankingException | IOException e) {
-           log.error("Error occurred while updating consent status response data", e);
+        // Get the response code
+        int responseStatusCode = obapiResponseContext.getStatusCode();
+        if (HttpStatus.SC_NO_CONTENT == responseStatusCode || HttpStatus.SC_ACCEPTED == responseStatusCode) {
+            // send the request to update the consent status
+            updateConsentStatus(obapiResponseContext, responseStatusCode);
         }
     }
 
     /**
-     * This method constructs the request for updating the consent status according to the status code of the response
-     * of the payments DELETE request.
+     * This method dispatches the consent status update according to the status code of the response of the payments
+     * DELETE request. The update is sent in the background so that the response is not held until the consent
+     * status is updated.
      *
      * @param obapiResponseContext response context
      * @param statusCode status code of the payments DELETE response
-     * @throws OpenBankingException thrown if an error occurs while initializing the HTTP client
-     * @throws IOException thrown if any error occurs during sending the request
      */
-    private void updateConsentStatus(OBAPIResponseContext obapiResponseContext, int statusCode)
-            throws OpenBankingException, IOException  {
+    private void updateConsentStatus(OBAPIResponseContext obapiResponseContext, int statusCode) {
 
         // Extract the pre-validated payment ID from the request path
         List<String> resourceElements = Arrays.asList(obapiResponseContext.getMsgInfo().getResource()
                 .split("/"));
         // The payment ID will always be at the end of the request path
         String paymentId = resourceElements.get(resourceElements.size() - 1);
-        net.minidev.json.JSONObject json = new net.minidev.json.JSONObject();
-        json.appendField(CommonConstants.CONSENT_ID, paymentId);
-        json.appendField(CommonConstants.STATUS_CODE, String.valueOf(statusCode));
-
-        String url = CommonConfigParser.getInstance().getConsentMgtConfigs()
-                .get(CommonConstants.PAYMENT_CONSENT_STATUS_UPDATE_URL);
-        CloseableHttpClient client = HTTPClientUtils.getHttpsClient();
-        HttpPut request = new HttpPut(url);
-        request.setHeader(HttpHeaders.CONTENT_TYPE, GatewayConstants.JSON_CONTENT_TYPE);
-
-        request.setEntity(new StringEntity(json.toString()));
-        request.setHeader(GatewayConstants.CONTENT_TYPE_TAG, GatewayConstants.JSON_CONTENT_TYPE);
-        String userName = com.wso2.openbanking.accelerator.gateway.util.GatewayUtils
-                .getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME);
-        String password = com.wso2.openbanking.accelerator.gateway.util.GatewayUtils
-                .getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD);
-        request.setHeader(GatewayConstants.AUTH_HEADER, com.wso2.openbanking.accelerator
-                .gateway.util.GatewayUtils.getBasicAuthHeader(userName, password));
-        HttpResponse response = client.execute(request);
-        InputStream in = response.getEntity().getContent();
-        IOUtils.toString(in, String.valueOf(StandardCharsets.UTF_8));
+        dispatchConsentStatusUpdate(new ConsentStatusUpdate(paymentId, statusCode));
+    }
+
+    void dispatchConsentStatusUpdate(ConsentStatusUpdate consentStatusUpdate) {
+
+        ConsentStatusUpdateDispatcher consentStatusUpdateDispatcher;
+        try {
+            consentStatusUpdateDispatcher = ConsentStatusUpdateDispatcher.getInstance();
+        } catch (RuntimeException e) {
+            log.error("Error while creating the consent status update dispatcher. The status of consent " +
+                    consentStatusUpdate.getConsentId() + " is not updated", e);
+            return;
+        }
+        consentStatusUpdateDispatcher.dispatch(consentStatusUpdate);
     }
 
 
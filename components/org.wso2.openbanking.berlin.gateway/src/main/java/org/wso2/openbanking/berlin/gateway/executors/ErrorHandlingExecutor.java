@@ -28,8 +28,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.common.utils.BerlinErrorTemplate;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -39,6 +42,19 @@ public class ErrorHandlingExecutor implements OpenBankingGatewayExecutor {
 
     private static final Log log = LogFactory.getLog(ErrorHandlingExecutor.class);
 
+    private static final Map<String, TPPMessage.CodeEnum> BERLIN_ERROR_CODES_BY_OB_ERROR_CODE;
+
+    static {
+        Map<String, TPPMessage.CodeEnum> berlinErrorCodes = new HashMap<>();
+        berlinErrorCodes.put("200001", TPPMessage.CodeEnum.TOKEN_INVALID);
+        berlinErrorCodes.put("200003", TPPMessage.CodeEnum.CERTIFICATE_INVALID);
+        berlinErrorCodes.put("200004", TPPMessage.CodeEnum.ROLE_INVALID);
+        berlinErrorCodes.put("200007", TPPMessage.CodeEnum.CERTIFICATE_MISSING);
+        berlinErrorCodes.put("200008", TPPMessage.CodeEnum.CERTIFICATE_EXPIRED);
+        berlinErrorCodes.put("200009", TPPMessage.CodeEnum.CERTIFICATE_REVOKED);
+        BERLIN_ERROR_CODES_BY_OB_ERROR_CODE = Collections.unmodifiableMap(berlinErrorCodes);
+    }
+
     @Override
     public void preProcessRequest(OBAPIRequestContext obapiRequestContext) {
 
@@ -85,7 +101,7 @@ public class ErrorHandlingExecutor implements OpenBankingGatewayExecutor {
             addedHeaders.put(GatewayConstants.CONTENT_TYPE_TAG, GatewayConstants.JSON_CONTENT_TYPE);
             obapiRequestContext.setAddedHeaders(addedHeaders);
 
-            obapiRequestContext.setModifiedPayload(getErrorJSON(error).toString());
+            obapiRequestContext.setModifiedPayload(getErrorPayload(error));
             obapiRequestContext.addContextProperty(GatewayConstants.ERROR_STATUS_PROP, String.valueOf(statusCode));
         }
     }
@@ -97,44 +113,48 @@ public class ErrorHandlingExecutor implements OpenBankingGatewayExecutor {
      */
     public static JSONObject getErrorJSON(OpenBankingExecutorError error) {
 
-        // This means the error is from accelerator side
-        if (StringUtils.startsWith(error.getCode(), "2")) {
+        return ErrorUtil.constructBerlinError(null, TPPMessage.CategoryEnum.ERROR, getBerlinErrorCode(error),
+                getErrorText(error));
+    }
+
+    /**
+     * Method to render the error response payload for requests from the pre-rendered error templates.
+     *
+     * @param error executor error
+     * @return the error response as a JSON string
+     */
+    static String getErrorPayload(OpenBankingExecutorError error) {
 
-            String message;
+        return BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR, getBerlinErrorCode(error))
+                .render(getErrorText(error));
+    }
 
-            if (StringUtils.isNotBlank(error.getMessage())) {
-                message = error.getMessage();
-            } else {
-                message = error.getTitle();
-            }
+    private static TPPMessage.CodeEnum getBerlinErrorCode(OpenBankingExecutorError error) {
 
+        // This means the error is from accelerator side
+        if (isAcceleratorError(error)) {
             // Get relative Berlin error code
-            TPPMessage.CodeEnum berlinErrorCode = getBerlinErrorCodeFromOBErrorCode(error.getCode());
-            return ErrorUtil.constructBerlinError(null, TPPMessage.CategoryEnum.ERROR,
-                    berlinErrorCode, message);
-        } else {
-            // This means the error is from Berlin toolkit side
-            return ErrorUtil.constructBerlinError(null, TPPMessage.CategoryEnum.ERROR,
-                    TPPMessage.CodeEnum.valueOf(error.getCode()), error.getMessage());
+            return getBerlinErrorCodeFromOBErrorCode(error.getCode());
         }
+        // This means the error is from Berlin toolkit side
+        return TPPMessage.CodeEnum.valueOf(error.getCode());
     }
 
-    private static TPPMessage.CodeEnum getBerlinErrorCodeFromOBErrorCode(String obErrorCode) {
-        
-        if (StringUtils.equals("200003", obErrorCode)) {
-            return TPPMessage.CodeEnum.CERTIFICATE_INVALID;
-        } else if (StringUtils.equals("200004", obErrorCode)) {
-            return TPPMessage.CodeEnum.ROLE_INVALID;
-        } else if (StringUtils.equals("200001", obErrorCode)) {
-            return TPPMessage.CodeEnum.TOKEN_INVALID;
-        } else if (StringUtils.equals("200007", obErrorCode)) {
-            return TPPMessage.CodeEnum.CERTIFICATE_MISSING;
-        } else if (StringUtils.equals("200008", obErrorCode)) {
-            return TPPMessage.CodeEnum.CERTIFICATE_EXPIRED;
-        } else if (StringUtils.equals("200009", obErrorCode)) {
-            return TPPMessage.CodeEnum.CERTIFICATE_REVOKED;
-        } else {
-            return TPPMessage.CodeEnum.INTERNAL_SERVER_ERROR;
+    private static String getErrorText(OpenBankingExecutorError error) {
+
+        if (isAcceleratorError(error) && StringUtils.isBlank(error.getMessage())) {
+            return error.getTitle();
         }
+        return error.getMessage();
+    }
+
+    private static boolean isAcceleratorError(OpenBankingExecutorError error) {
+
+        return StringUtils.startsWith(error.getCode(), "2");
+    }
+
+    private static TPPMessage.CodeEnum getBerlinErrorCodeFromOBErrorCode(String obErrorCode) {
+
+        return BERLIN_ERROR_CODES_BY_OB_ERROR_CODE.getOrDefault(obErrorCode, TPPMessage.CodeEnum.INTERNAL_SERVER_ERROR);
     }
 }
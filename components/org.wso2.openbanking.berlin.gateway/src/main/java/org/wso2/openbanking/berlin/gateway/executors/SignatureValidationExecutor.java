@@ -26,15 +26,15 @@ import com.wso2.openbanking.accelerator.common.util.CertificateUtils;
 import com.wso2.openbanking.accelerator.common.util.Generated;
 import com.wso2.openbanking.accelerator.common.util.eidas.certificate.extractor.CertificateContent;
 import com.wso2.openbanking.accelerator.common.util.eidas.certificate.extractor.CertificateContentExtractor;
-import com.wso2.openbanking.accelerator.gateway.cache.CertificateRevocationCache;
-import com.wso2.openbanking.accelerator.gateway.cache.GatewayCacheKey;
 import com.wso2.openbanking.accelerator.gateway.executor.core.OpenBankingGatewayExecutor;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIRequestContext;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIResponseContext;
-import com.wso2.openbanking.accelerator.gateway.executor.service.CertValidationService;
+import com.wso2.openbanking.accelerator.gateway.executor.model.RevocationStatus;
+import com.wso2.openbanking.accelerator.gateway.executor.service.CRLValidator;
+import com.wso2.openbanking.accelerator.gateway.executor.service.OCSPValidator;
+import com.wso2.openbanking.accelerator.gateway.executor.service.RevocationValidator;
 import com.wso2.openbanking.accelerator.gateway.executor.util.CertificateValidationUtils;
 import com.wso2.openbanking.accelerator.gateway.util.GatewayConstants;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -42,13 +42,22 @@ import org.bouncycastle.jcajce.provider.asymmetric.x509.CertificateFactory;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.ErrorConstants;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.common.utils.Psd2RolePolicy;
+import org.wso2.openbanking.berlin.gateway.cache.ParsedSigningCertificate;
+import org.wso2.openbanking.berlin.gateway.cache.RevocationCheckResult;
+import org.wso2.openbanking.berlin.gateway.cache.RevocationStatusCache;
+import org.wso2.openbanking.berlin.gateway.cache.SigningCertificateCache;
 import org.wso2.openbanking.berlin.gateway.exceptions.DigestMissingException;
 import org.wso2.openbanking.berlin.gateway.exceptions.DigestValidationException;
 import org.wso2.openbanking.berlin.gateway.exceptions.SignatureCertMissingException;
 import org.wso2.openbanking.berlin.gateway.exceptions.SignatureMissingException;
 import org.wso2.openbanking.berlin.gateway.exceptions.SignatureValidationException;
 import org.wso2.openbanking.berlin.gateway.executors.core.APIRequestRouterConstants;
+import org.wso2.openbanking.berlin.gateway.signature.SignatureHeader;
+import org.wso2.openbanking.berlin.gateway.signature.SigningStringBuilder;
+import org.wso2.openbanking.berlin.gateway.utils.CryptoEngineProvider;
 import org.wso2.openbanking.berlin.gateway.utils.GatewayUtils;
+import org.wso2.openbanking.berlin.gateway.utils.PayloadDigestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
@@ -61,16 +70,10 @@ import java.security.SignatureException;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
-import java.util.Arrays;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 
 /**
  * This executor validates the message signature and digest. Also validates the signing certificate for revocation.
@@ -87,11 +90,12 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
     private static final String DATE_HEADER = "Date";
     private static final String TPP_SIGNATURE_CERTIFICATE_HEADER = "TPP-Signature-Certificate";
     private static final String SIGNATURE_HEADER = "Signature";
-    private static final String SIGNATURE_ELEMENT = "signature";
-    private static final String HEADERS_ELEMENT = "headers";
-    private static final String KEY_ID_ELEMENT = "keyId";
-    private static final String SN = "SN";
-    private static final String CA = "CA";
+
+    public SignatureValidationExecutor() {
+
+        // Initialize the hash and signature engines of the supported algorithms when the executor is loaded
+        CryptoEngineProvider.getInstance();
+    }
 
     @Override
     public void postProcessRequest(OBAPIRequestContext obapiRequestContext) {
@@ -192,15 +196,16 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
             }
 
             try {
-                X509Certificate x509Certificate = CertificateUtils.parseCertificate(signatureCertificateHeader);
-                if (x509Certificate == null) {
+                ParsedSigningCertificate signingCertificate = getSigningCertificate(signatureCertificateHeader);
+                if (signingCertificate == null) {
                     log.error(ErrorConstants.CERT_PARSE_EROR);
                     GatewayUtils.handleFailure(obapiRequestContext, TPPMessage.CodeEnum.CERTIFICATE_INVALID.toString(),
                             ErrorConstants.CERT_PARSE_EROR);
                     return;
                 }
 
-                CertificateContent signingCertificateContent = CertificateContentExtractor.extract(x509Certificate);
+                X509Certificate x509Certificate = signingCertificate.getCertificate();
+                CertificateContent signingCertificateContent = signingCertificate.getCertificateContent();
                 String signingCertOrgId = signingCertificateContent.getPspAuthorisationNumber();
 
                 /* Validate whether the provided signature certificate with TPP-Signature-Certificate header matches
@@ -261,7 +266,7 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
                 }
 
                 // Validate signature
-                if (!validateSignature(headersMap, x509Certificate)) {
+                if (!validateSignature(headersMap, signingCertificate)) {
                     log.error(ErrorConstants.SIGNATURE_VERIFICATION_FAIL);
                     GatewayUtils.handleFailure(obapiRequestContext, TPPMessage.CodeEnum.SIGNATURE_INVALID.toString(),
                             ErrorConstants.SIGNATURE_VERIFICATION_FAIL);
@@ -352,23 +357,25 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
             MessageDigest messageDigest;
             CommonConfigParser configParser = getConfigParser();
             if (configParser.getSupportedHashAlgorithms().contains(digestAlgorithm)) {
-                messageDigest = MessageDigest.getInstance(digestAlgorithm);
+                messageDigest = CryptoEngineProvider.getInstance().getMessageDigest(digestAlgorithm);
             } else {
                 log.error(ErrorConstants.INVALID_DIGEST_ALGORITHM);
                 throw new DigestValidationException(ErrorConstants.INVALID_DIGEST_ALGORITHM);
             }
 
-            byte[] digestHash;
-
-            if (StringUtils.isBlank(requestPayload)) {
-                digestHash = messageDigest.digest("{}".getBytes(StandardCharsets.UTF_8));
-            } else {
-                digestHash = messageDigest.digest(requestPayload.getBytes(StandardCharsets.UTF_8));
+            byte[] expectedDigest;
+            try {
+                expectedDigest = Base64.getDecoder().decode(digestValue);
+            } catch (IllegalArgumentException e) {
+                log.error(ErrorConstants.INVALID_DIGEST_HEADER, e);
+                throw new DigestValidationException(ErrorConstants.INVALID_DIGEST_HEADER);
             }
 
-            String generatedDigest = Base64.getEncoder()
-                    .encodeToString(new BigInteger(digestHash).toByteArray());
-            if (generatedDigest.equals(digestValue)) {
+            // The payload is hashed directly without creating an encoded copy of it
+            byte[] generatedDigest = PayloadDigestUtils.digest(messageDigest,
+                    StringUtils.isBlank(requestPayload) ? "{}" : requestPayload);
+
+            if (PayloadDigestUtils.isDigestEqual(expectedDigest, generatedDigest)) {
                 log.debug("Digest validation successfully completed");
                 return true;
             }
@@ -391,24 +398,26 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
                                         java.security.cert.X509Certificate x509Certificate)
             throws SignatureValidationException {
 
+        return validateSignature(requestHeaders, new ParsedSigningCertificate(x509Certificate, null, null));
+    }
+
+    /**
+     * Validate the signature of the request with the public key of the parsed TPP certificate.
+     *
+     * @param requestHeaders the headers passed through the request
+     * @param signingCertificate the parsed certificate passed through the TPP-Signature-Certificate header
+     * @return true if the signature validation is successful, false otherwise
+     * @throws SignatureValidationException when an error occurs during signature validation
+     */
+    protected boolean validateSignature(Map<String, String> requestHeaders,
+                                        ParsedSigningCertificate signingCertificate)
+            throws SignatureValidationException {
+
+        X509Certificate x509Certificate = signingCertificate.getCertificate();
         try {
-            // For signature validation, the order of the headers are considered.
-            // A case-insensitive treeMap is initialized since the headers need to be retrieved without considering
-            // case-sensitivity for generating signing string.
-            Map<String, String> orderedRequestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-            orderedRequestHeaders.putAll(requestHeaders);
-
-            String signatureHeader = orderedRequestHeaders.get(SIGNATURE_HEADER);
-            String[] signatureElements = signatureHeader.split("\",");
-            Map<String, String> signatureMap = getSignatureMap(signatureElements);
-
-            if ((!signatureMap.containsKey(KEY_ID_ELEMENT)) || (!signatureMap.containsKey(HEADERS_ELEMENT)) ||
-                    !signatureMap.containsKey(SIGNATURE_ELEMENT)) {
-                log.error("Provided signature does not contain the required headers");
-                throw new SignatureValidationException("Invalid signature header. Required signature header" +
-                        " elements cannot be found");
-            }
-            if (!validateKeyId(signatureMap.get(KEY_ID_ELEMENT).split(",", 2), x509Certificate)) {
+            SignatureHeader signatureHeader = SignatureHeader.parse(
+                    SigningStringBuilder.getHeader(requestHeaders, SIGNATURE_HEADER));
+            if (!validateKeyId(signatureHeader, x509Certificate)) {
                 log.error("Signature contains an invalid keyId");
                 throw new SignatureValidationException("Invalid keyId element in the Signature header");
             }
@@ -417,28 +426,27 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
             String requestSignatureAlgorithm = x509Certificate.getSigAlgName();
             CommonConfigParser configParser = getConfigParser();
             if (configParser.getSupportedSignatureAlgorithms().contains(requestSignatureAlgorithm)) {
-                // Use bouncycastle to get signature algorithm of X509CertificateObject.
-                // Signature instance is created using the algorithm from X509CertificateObject.
-                X509Certificate certificate = (X509Certificate) new CertificateFactory()
-                        .engineGenerateCertificate(new ByteArrayInputStream(x509Certificate.getEncoded()));
-                signature = Signature.getInstance(certificate.getSigAlgName());
+                String signatureAlgorithm = signingCertificate.getSignatureAlgorithm();
+                if (signatureAlgorithm == null) {
+                    signatureAlgorithm = resolveSignatureAlgorithm(x509Certificate);
+                }
+                signature = CryptoEngineProvider.getInstance().getSignature(signatureAlgorithm);
             } else {
                 log.error("Provided signature algorithm is not supported");
                 throw new SignatureValidationException("Request signature algorithm " +
                         requestSignatureAlgorithm + " is not supported");
             }
 
-            signature.initVerify(x509Certificate.getPublicKey());
-            String[] headerElements;
-            headerElements = signatureMap.get(HEADERS_ELEMENT).split(" ");
-            if (!validateHeaderElements(headerElements, orderedRequestHeaders)) {
+            signature.initVerify(signingCertificate.getPublicKey());
+            // For signature validation, the order of the headers are considered
+            List<String> headerElements = signatureHeader.getHeaders();
+            if (!validateHeaderElements(headerElements, requestHeaders)) {
                 log.error("Signature header contains invalid header/s");
                 throw new SignatureValidationException("Invalid headers element in the Signature header");
             }
 
-            byte[] decodedSignature = Base64.getDecoder()
-                    .decode(signatureMap.get(SIGNATURE_ELEMENT).getBytes(StandardCharsets.UTF_8));
-            signature.update(generateSigningString(headerElements, orderedRequestHeaders)
+            byte[] decodedSignature = Base64.getDecoder().decode(signatureHeader.getSignature());
+            signature.update(SigningStringBuilder.build(headerElements, requestHeaders)
                     .getBytes(StandardCharsets.UTF_8));
             return signature.verify(decodedSignature);
         } catch (NoSuchAlgorithmException e) {
@@ -457,49 +465,75 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
     }
 
     /**
-     * Returns a map with the signature elements.
+     * Returns the parsed certificate of the TPP-Signature-Certificate header. Parsed certificates are cached against
+     * the header value since TPPs reuse the same signing certificate across requests.
      *
-     * @param signatureElements the elements of the signature of the request
-     * @return the signature elements map
+     * @param signatureCertificateHeader the TPP-Signature-Certificate header value
+     * @return the parsed signing certificate or null if the certificate cannot be parsed
+     * @throws OpenBankingException thrown if an error occurs while parsing the certificate
+     * @throws CertificateValidationException thrown if an error occurs while extracting the certificate content
+     * @throws CertificateException thrown if an error occurs while resolving the signature algorithm
      */
-    private Map<String, String> getSignatureMap(String[] signatureElements) {
-        Map<String, String> signatureMap = new HashMap<>();
-        for (String signatureElement : signatureElements) {
-            String[] signatureAttributes = signatureElement.replaceAll("\"", "").split("=",
-                    2);
-
-            if (signatureAttributes.length == 2) {
-                String key = signatureAttributes[0].trim();
-                String value = signatureAttributes[1].trim();
-
-                if (!signatureMap.containsKey(key)) {
-                    signatureMap.put(key, value);
-                }
-            }
+    protected ParsedSigningCertificate getSigningCertificate(String signatureCertificateHeader)
+            throws OpenBankingException, CertificateValidationException, CertificateException {
+
+        SigningCertificateCache signingCertificateCache = SigningCertificateCache.getInstance();
+        ParsedSigningCertificate signingCertificate = signingCertificateCache.getFromCache(signatureCertificateHeader);
+        if (signingCertificate != null) {
+            log.debug("Parsed signing certificate retrieved from cache");
+            return signingCertificate;
         }
-        return signatureMap;
+
+        X509Certificate x509Certificate = CertificateUtils.parseCertificate(signatureCertificateHeader);
+        if (x509Certificate == null) {
+            return null;
+        }
+        signingCertificate = new ParsedSigningCertificate(x509Certificate,
+                CertificateContentExtractor.extract(x509Certificate), resolveSignatureAlgorithm(x509Certificate));
+        signingCertificateCache.addToCache(signatureCertificateHeader, signingCertificate);
+        return signingCertificate;
+    }
+
+    /**
+     * Resolves the JCA signature algorithm name of the certificate.
+     *
+     * @param x509Certificate the signature certificate
+     * @return the signature algorithm name
+     * @throws CertificateException thrown if the certificate cannot be re-generated
+     */
+    private String resolveSignatureAlgorithm(X509Certificate x509Certificate) throws CertificateException {
+
+        // Use bouncycastle to get signature algorithm of X509CertificateObject.
+        // Signature instance is created using the algorithm from X509CertificateObject.
+        X509Certificate certificate = (X509Certificate) new CertificateFactory()
+                .engineGenerateCertificate(new ByteArrayInputStream(x509Certificate.getEncoded()));
+        return certificate.getSigAlgName();
     }
 
     /**
      * Validate the keyId passed through the request with the signature certificate.
      *
-     * @param keyIdElements a map of values passed through the keyId signature header
+     * @param signatureHeader the parsed signature header of the request
      * @param x509Certificate the signature certificate
      * @return true if the keyId validation is successful, false otherwise
      */
-    private boolean validateKeyId(String[] keyIdElements, X509Certificate x509Certificate) {
-        Map<String, String> keyIdMap = Arrays.stream(keyIdElements)
-                .map(element -> element.trim().split("=", 2))
-                .collect(Collectors.toMap(keyValue -> keyValue[0].trim(), keyValue -> keyValue[1].trim(), (a, b) -> b));
+    private boolean validateKeyId(SignatureHeader signatureHeader, X509Certificate x509Certificate) {
 
-        if (keyIdMap.get(SN) == null || keyIdMap.get(CA) == null) {
+        String serialNumber = signatureHeader.getSerialNumber();
+        String certificateAuthority = signatureHeader.getCertificateAuthority();
+        if (serialNumber == null || certificateAuthority == null) {
             return false;
         }
         // validate the hexadecimal coded SN in request against the SN retrieved from the cert in the Hexadecimal coding
-        if (!new BigInteger(String.valueOf(keyIdMap.get(SN)), 16).equals(x509Certificate.getSerialNumber())) {
+        try {
+            if (!new BigInteger(serialNumber, 16).equals(x509Certificate.getSerialNumber())) {
+                return false;
+            }
+        } catch (NumberFormatException e) {
+            log.error("Serial number in the keyId is not a hexadecimal value", e);
             return false;
         }
-        return keyIdMap.get(CA).equals(x509Certificate.getIssuerX500Principal().getName());
+        return certificateAuthority.equals(x509Certificate.getIssuerX500Principal().getName());
     }
 
     /**
@@ -509,12 +543,12 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
      * @param requestHeaders request headers
      * @return true if all the required headers are included in the signature, false otherwise
      */
-    private boolean validateHeaderElements(String[] headerElements, Map<String, String> requestHeaders)
+    private boolean validateHeaderElements(List<String> headerElements, Map<String, String> requestHeaders)
             throws SignatureValidationException {
 
         // According to the spec, the headers elements defined in signature header should be lowercase
         for (String headerElement : headerElements) {
-            if (!StringUtils.isAllLowerCase(headerElement.replace("-", ""))) {
+            if (!isLowerCaseHeaderName(headerElement)) {
                 log.error("Header elements present in the signature are not lowercase");
                 throw new SignatureValidationException("The headers element of the signature element should " +
                         "contain lowercase headers");
@@ -551,35 +585,36 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
 
         // If any of the headers PSU-ID, PSU-Corporate-ID or TPP-Redirect-URI contains in the request, they need to
         // be also contained in the headers element of the Signature header
-        if ((requestHeaders.get(PSU_ID_HEADER) != null && !containsPSUIDHeader) ||
-                (requestHeaders.get(PSU_CORPORATE_ID_HEADER) != null && !containsPSUCorporateIDHeader) ||
-                (requestHeaders.get(TPP_REDIRECT_URI_HEADER) != null && !containsTPPRedirectURIHeader)) {
+        if ((SigningStringBuilder.getHeader(requestHeaders, PSU_ID_HEADER) != null && !containsPSUIDHeader) ||
+                (SigningStringBuilder.getHeader(requestHeaders, PSU_CORPORATE_ID_HEADER) != null &&
+                        !containsPSUCorporateIDHeader) ||
+                (SigningStringBuilder.getHeader(requestHeaders, TPP_REDIRECT_URI_HEADER) != null &&
+                        !containsTPPRedirectURIHeader)) {
             return false;
         }
         return true;
     }
 
     /**
-     * Generate the signing string for signature comparison.
+     * Checks whether a header name of the headers element contains only lowercase letters and hyphens.
      *
-     * @param headerElements an array of values passed through the header element in the signature
-     * @param requestHeaders the headers passed through the request
-     * @return the signing string of the request
+     * @param headerName header name of the headers element
+     * @return true if the header name contains at least one letter and all letters are lowercase, false otherwise
      */
-    private String generateSigningString(String[] headerElements, Map<String, String> requestHeaders) {
+    private boolean isLowerCaseHeaderName(String headerName) {
 
-        StringBuilder signingString = new StringBuilder();
-        for (String header : headerElements) {
-            if (requestHeaders.get(header) == null) {
-                log.error("Required header element not passed through the request header");
-                break;
+        boolean containsLetter = false;
+        for (int i = 0; i < headerName.length(); i++) {
+            char character = headerName.charAt(i);
+            if (character == '-') {
+                continue;
             }
-            signingString.append(StringUtils.lowerCase(header))
-                    .append(": ")
-                    .append((requestHeaders).get(header))
-                    .append("\n");
+            if (!Character.isLowerCase(character)) {
+                return false;
+            }
+            containsLetter = true;
         }
-        return signingString.substring(0, signingString.length() - 1);
+        return containsLetter;
     }
 
     /**
@@ -601,7 +636,8 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
 
     /**
      * Checks the certificate validity of a given certificate. For this validation, the immediate issuer
-     * of the peer certificate must be present in the trust store.
+     * of the peer certificate must be present in the trust store. The last known status is served from the
+     * revocation status cache while expired statuses are refreshed in the background.
      *
      * @param signatureCertificate the signature certificate
      * @return true if certificate is in valid status, false otherwise
@@ -611,37 +647,19 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
     private boolean isValidCertStatus(X509Certificate signatureCertificate)
             throws CertificateEncodingException {
 
-        // Initializing certificate cache and cache key
-        CertificateRevocationCache certificateRevocationCache = CertificateRevocationCache.getInstance();
-
-        // Generating the certificate thumbprint to use as cache key
-        String certificateValidationCacheKeyStr = DigestUtils.sha256Hex(signatureCertificate.getEncoded());
-        GatewayCacheKey certificateValidationCacheKey =
-                GatewayCacheKey.of(certificateValidationCacheKeyStr);
-
-        // Executing certificate revocation process or retrieve last status from cache
-        if (certificateRevocationCache.getFromCache(certificateValidationCacheKey) != null) {
-            // previous result is present in cache, return result
-            return certificateRevocationCache.getFromCache(certificateValidationCacheKey);
-        } else {
-            final boolean result = isCertRevocationSuccess(signatureCertificate);
-            if (result) {
-                // Adding result to cache
-                certificateRevocationCache.addToCache(certificateValidationCacheKey, true);
-                return true;
-            }
-        }
-        return false;
+        return RevocationStatusCache.getInstance().isValid(signatureCertificate, this::checkRevocationStatus);
     }
 
     /**
-     * Checks whether the certificate is revoked or not.
+     * Checks whether the certificate is revoked or not. OCSP is checked first and CRL is checked if OCSP does not
+     * give a definitive status.
      *
      * @param certificate signature certificate
-     * @return true is the certificate is valid, false if revoked
+     * @return VALID if the certificate is not revoked or revocation validation is skipped, REVOKED if it is revoked,
+     * UNKNOWN if the status cannot be determined
      */
     @Generated(message = "Excluding since this method is already covered from other tests")
-    private boolean isCertRevocationSuccess(X509Certificate certificate) {
+    private RevocationCheckResult checkRevocationStatus(X509Certificate certificate) {
 
         int certificateRevocationValidationRetryCount = Integer.parseInt((String) getOpenBankingConfigParser()
                 .getConfigElementFromKey(OpenBankingConstants.CERTIFICATE_REVOCATION_VALIDATION_RETRY_COUNT));
@@ -649,7 +667,6 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
         boolean isCertificateRevocationValidationEnabled = Boolean.parseBoolean((String) getOpenBankingConfigParser()
                 .getConfigElementFromKey(OpenBankingConstants.CERTIFICATE_REVOCATION_VALIDATION_ENABLED));
 
-        boolean isValid;
         // Check certificate revocation status.
         if (isCertificateRevocationValidationEnabled) {
             log.debug("Client certificate revocation validation is enabled");
@@ -658,7 +675,7 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
             if (certificate.getSubjectDN().getName().equals(certificate.getIssuerDN().getName())) {
                 log.debug("Client certificate is self signed. Hence, excluding the certificate revocation" +
                         " validation");
-                return true;
+                return RevocationCheckResult.VALID;
             }
 
             /*
@@ -677,7 +694,7 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
                 log.debug("The issuer of the client certificate has been configured to exclude from " +
                         "certificate revocation validation. Hence, excluding the certificate " +
                         "revocation validation");
-                return true;
+                return RevocationCheckResult.VALID;
             }
 
             // Get issuer certificate from the truststore to continue with the certificate validation.
@@ -689,16 +706,30 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
                 log.error("Issuer certificate retrieving failed for client certificate with" +
                         " serial number " + certificate.getSerialNumber() + " issued by the CA " +
                         certificate.getIssuerDN().toString(), e);
-                return false;
+                return RevocationCheckResult.UNKNOWN;
             }
 
-            isValid = CertValidationService.getInstance().verify(certificate, issuerCertificate,
-                    certificateRevocationValidationRetryCount);
-        } else {
-            isValid = true;
+            RevocationValidator[] revocationValidators = {
+                    new OCSPValidator(certificateRevocationValidationRetryCount),
+                    new CRLValidator(certificateRevocationValidationRetryCount)};
+            for (RevocationValidator revocationValidator : revocationValidators) {
+                try {
+                    RevocationStatus revocationStatus = revocationValidator.checkRevocationStatus(certificate,
+                            issuerCertificate);
+                    if (RevocationStatus.GOOD == revocationStatus) {
+                        return RevocationCheckResult.VALID;
+                    } else if (RevocationStatus.REVOKED == revocationStatus) {
+                        return RevocationCheckResult.REVOKED;
+                    }
+                } catch (CertificateValidationException e) {
+                    log.warn("Certificate revocation validation failed with " +
+                            revocationValidator.getClass().getSimpleName() + " for client certificate with serial " +
+                            "number " + certificate.getSerialNumber(), e);
+                }
+            }
+            return RevocationCheckResult.UNKNOWN;
         }
-        log.debug("Stored certificate validation status in cache");
-        return isValid;
+        return RevocationCheckResult.VALID;
     }
 
     /**
@@ -710,14 +741,8 @@ public class SignatureValidationExecutor implements OpenBankingGatewayExecutor {
      */
     private boolean isCertificateRolesValid(CertificateContent certificateContent) {
 
-        Set<String> allowedRoles = new HashSet<>();
         if (CommonConfigParser.getInstance().isPsd2RoleValidationEnabled()) {
-            Map<String, List<String>> definedScopes = OpenBankingConfigParser.getInstance().getAllowedScopes();
-            for (Map.Entry<String, List<String>> scope : definedScopes.entrySet()) {
-                allowedRoles.addAll(scope.getValue());
-            }
-            List<String> providedRoles = certificateContent.getPspRoles();
-            return allowedRoles.containsAll(providedRoles);
+            return Psd2RolePolicy.getInstance().isAllowed(certificateContent.getPspRoles());
         }
         return true;
     }
@@ -23,7 +23,6 @@ import com.wso2.openbanking.accelerator.gateway.executor.core.OpenBankingGateway
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIRequestContext;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIResponseContext;
 import com.wso2.openbanking.accelerator.gateway.util.GatewayConstants;
-import org.apache.commons.lang.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,54 +37,38 @@ public class APIRequestRouter extends AbstractRequestRouter {
     @Override
     public List<OpenBankingGatewayExecutor> getExecutorsForRequest(OBAPIRequestContext obapiRequestContext) {
 
-        String resource = obapiRequestContext.getMsgInfo().getResource();
-
         if (GatewayConstants.API_TYPE_CONSENT
                 .equals(obapiRequestContext.getOpenAPI().getExtensions().get(GatewayConstants.API_TYPE_CUSTOM_PROP))) {
             //add support for consent management portal APIs
             obapiRequestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
                     GatewayConstants.API_TYPE_CONSENT);
             return this.getExecutorMap().get("Consent");
-        } else if (StringUtils.contains(resource, APIRequestRouterConstants.PAYMENTS_TYPE)) {
-            obapiRequestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.PAYMENTS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.PAYMENTS);
-        } else if (StringUtils.contains(resource, APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE)
-                || StringUtils.contains(resource, APIRequestRouterConstants.CONFIRMATION_OF_FUNDS_TYPE)) {
-            obapiRequestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.FUNDS_CONFIRMATIONS);
-        } else if (StringUtils.contains(resource, APIRequestRouterConstants.ACCOUNTS_TYPE)
-                || StringUtils.contains(resource, APIRequestRouterConstants.ACCOUNTS_INITIATION_TYPE)) {
-            obapiRequestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.ACCOUNTS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.ACCOUNTS);
-        } else {
+        }
+
+        Route route = RouteTable.getInstance().resolve(obapiRequestContext.getMsgInfo());
+        if (route.getExecutorKey() == null) {
             return EMPTY_LIST;
         }
+        obapiRequestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP, route.getApiType());
+        if (route.getTemplate() != null) {
+            obapiRequestContext.addContextProperty(APIRequestRouterConstants.ROUTE_TEMPLATE_PROP,
+                    route.getTemplate());
+        }
+        return this.getExecutorMap().get(route.getExecutorKey());
     }
 
     @Override
     public List<OpenBankingGatewayExecutor> getExecutorsForResponse(OBAPIResponseContext obapiResponseContext) {
 
-        String resource = obapiResponseContext.getMsgInfo().getResource();
-
-        if (StringUtils.contains(resource, APIRequestRouterConstants.PAYMENTS_TYPE)) {
-            obapiResponseContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.PAYMENTS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.PAYMENTS);
-        } else if (StringUtils.contains(resource, APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE)
-                || StringUtils.contains(resource, APIRequestRouterConstants.CONFIRMATION_OF_FUNDS_TYPE)) {
-            obapiResponseContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.FUNDS_CONFIRMATIONS);
-        } else if (StringUtils.contains(resource, APIRequestRouterConstants.ACCOUNTS_TYPE)
-                || StringUtils.contains(resource, APIRequestRouterConstants.ACCOUNTS_INITIATION_TYPE)) {
-            obapiResponseContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
-                    APIRequestRouterConstants.ACCOUNTS_TYPE);
-            return this.getExecutorMap().get(APIRequestRouterConstants.ACCOUNTS);
-        } else {
+        Route route = RouteTable.getInstance().resolve(obapiResponseContext.getMsgInfo());
+        if (route.getExecutorKey() == null) {
             return EMPTY_LIST;
         }
+        obapiResponseContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP, route.getApiType());
+        if (route.getTemplate() != null) {
+            obapiResponseContext.addContextProperty(APIRequestRouterConstants.ROUTE_TEMPLATE_PROP,
+                    route.getTemplate());
+        }
+        return this.getExecutorMap().get(route.getExecutorKey());
     }
 }
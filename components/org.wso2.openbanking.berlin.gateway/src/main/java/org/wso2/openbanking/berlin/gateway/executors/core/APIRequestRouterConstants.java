@@ -25,6 +25,7 @@ public class APIRequestRouterConstants {
 
     public static final String API_TYPE_CUSTOM_PROP = "x-wso2-api-type";
     public static final String API_TYPE_NON_REGULATORY = "non-regulatory";
+    public static final String ROUTE_TEMPLATE_PROP = "berlin-route-template";
     public static final String DEFAULT = "Default";
     public static final String PAYMENTS = "Payments";
     public static final String ACCOUNTS = "Accounts";
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.executors.core;
+
+/**
+ * Resolved route of a Berlin API resource. A route carries everything the gateway components need to know about a
+ * resource, so that a request is classified only once.
+ */
+public class Route {
+
+    /**
+     * Route of a resource which does not belong to any Berlin API.
+     */
+    public static final Route NONE = new Route(null, null, null, false, false, false);
+
+    private final String template;
+    private final String apiType;
+    private final String executorKey;
+    private final boolean throttlingEligible;
+    private final boolean paymentRetrieval;
+    private final boolean paymentDeletion;
+
+    Route(String template, String apiType, String executorKey, boolean throttlingEligible,
+          boolean paymentRetrieval, boolean paymentDeletion) {
+
+        this.template = template;
+        this.apiType = apiType;
+        this.executorKey = executorKey;
+        this.throttlingEligible = throttlingEligible;
+        this.paymentRetrieval = paymentRetrieval;
+        this.paymentDeletion = paymentDeletion;
+    }
+
+    /**
+     * Returns the resource template of the API definition which matched the resource.
+     *
+     * @return resource template, or null if the resource was only classified by its path prefix
+     */
+    public String getTemplate() {
+
+        return template;
+    }
+
+    /**
+     * Returns the API type set as the "x-wso2-api-type" context property.
+     *
+     * @return API type, or null if the resource does not belong to a Berlin API
+     */
+    public String getApiType() {
+
+        return apiType;
+    }
+
+    /**
+     * Returns the key of the executor chain of the API in the executor map.
+     *
+     * @return executor map key, or null if the resource does not belong to a Berlin API
+     */
+    public String getExecutorKey() {
+
+        return executorKey;
+    }
+
+    /**
+     * Returns whether account retrieval requests of the resource are subjected to frequency per day throttling.
+     *
+     * @return true if the resource is eligible for throttling
+     */
+    public boolean isThrottlingEligible() {
+
+        return throttlingEligible;
+    }
+
+    /**
+     * Returns whether the resource retrieves or deletes a payment which may not be completely authorised yet.
+     *
+     * @return true if the resource addresses a payment by its ID
+     */
+    public boolean isPaymentRetrieval() {
+
+        return paymentRetrieval;
+    }
+
+    /**
+     * Returns whether a DELETE request on the resource cancels a bulk or periodic payment and requires the consent
+     * status to be updated.
+     *
+     * @return true if the resource addresses a bulk or periodic payment by its ID
+     */
+    public boolean isPaymentDeletion() {
+
+        return paymentDeletion;
+    }
+}
@@ -0,0 +1,312 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.executors.core;
+
+import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled route table of the Berlin APIs.
+ *
+ * <p>The resource templates of the Berlin API definitions are compiled once into a path segment trie. A resource is
+ * resolved to its route with a single walk of the trie without backtracking. A segment which matches a literal
+ * segment of the trie is never matched against a path parameter, so that a resource such as
+ * /funds-confirmations/{id} is not mistaken for a payment resource. The payment service path parameter is compiled
+ * into the literal payment services for the same reason. Since a path parameter segment of a template never matches
+ * a literal segment, resolving an elected resource template returns the route of exactly that template. Resources
+ * which do not match a template are classified by their longest literal prefix, so that the API type is still known
+ * for them.</p>
+ *
+ * <p>The template of the resolved route is stored as a context property by the request router, so that the
+ * executors of the request can look up the route without resolving the resource again.</p>
+ */
+public class RouteTable {
+
+    private static final char PATH_SEPARATOR = '/';
+    private static final char QUERY_SEPARATOR = '?';
+    private static final char PATH_PARAMETER_PREFIX = '{';
+    private static final String PAYMENT_SERVICE_PARAMETER = "{payment-service}";
+    private static final String[] PAYMENT_SERVICES = {"payments", "bulk-payments", "periodic-payments"};
+
+    private static final RouteTable ROUTE_TABLE = new RouteTable(getBerlinRoutes());
+
+    private final Node root = new Node();
+    private final Map<String, Route> routesByTemplate = new HashMap<>();
+
+    RouteTable(List<Route> routes) {
+
+        for (Route route : routes) {
+            addRoute(route);
+        }
+    }
+
+    /**
+     * Returns the route table of the Berlin APIs.
+     *
+     * @return RouteTable object
+     */
+    public static RouteTable getInstance() {
+
+        return ROUTE_TABLE;
+    }
+
+    /**
+     * Resolves the route of a resource path or resource template. The query component of the path is ignored.
+     *
+     * @param resource resource path or resource template
+     * @return the resolved route, or Route.NONE if the resource does not belong to a Berlin API
+     */
+    public Route resolve(String resource) {
+
+        if (resource == null) {
+            return Route.NONE;
+        }
+
+        List<String> segments = getSegments(resource);
+        Route route = match(root, segments, 0);
+        if (route != null) {
+            return route;
+        }
+
+        // Fall back to the API type of the longest literal prefix of the resource
+        Route prefixRoute = Route.NONE;
+        Node node = root;
+        for (String segment : segments) {
+            node = node.literalChildren.get(segment);
+            if (node == null) {
+                break;
+            }
+            if (node.prefixRoute != null) {
+                prefixRoute = node.prefixRoute;
+            }
+        }
+        return prefixRoute;
+    }
+
+    /**
+     * Resolves the route of a request. The elected resource template is used if available, since it identifies the
+     * route unambiguously. The resource path is used otherwise.
+     *
+     * @param msgInfo message info of the request
+     * @return the resolved route, or Route.NONE if the request does not belong to a Berlin API
+     */
+    public Route resolve(MsgInfoDTO msgInfo) {
+
+        String electedResource = msgInfo.getElectedResource();
+        return resolve(electedResource != null ? electedResource : msgInfo.getResource());
+    }
+
+    /**
+     * Returns the route stored in the context properties by the request router, or resolves the route of the
+     * request if it is not available in the context.
+     *
+     * @param contextProps context properties of the request or response
+     * @param msgInfo      message info of the request
+     * @return the route of the request
+     */
+    public Route getRoute(Map<String, String> contextProps, MsgInfoDTO msgInfo) {
+
+        if (contextProps != null) {
+            String template = contextProps.get(APIRequestRouterConstants.ROUTE_TEMPLATE_PROP);
+            if (template != null) {
+                Route route = routesByTemplate.get(template);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return resolve(msgInfo);
+    }
+
+    private void addRoute(Route route) {
+
+        List<String> segments = getSegments(route.getTemplate());
+        addRoute(route, segments, false);
+        int paymentServiceIndex = segments.indexOf(PAYMENT_SERVICE_PARAMETER);
+        if (paymentServiceIndex >= 0) {
+            // The template itself is registered with the parameter as a literal, so that it resolves to itself
+            for (String paymentService : PAYMENT_SERVICES) {
+                List<String> paymentServiceSegments = new ArrayList<>(segments);
+                paymentServiceSegments.set(paymentServiceIndex, paymentService);
+                addRoute(route, paymentServiceSegments, true);
+            }
+        }
+        routesByTemplate.put(route.getTemplate(), route);
+    }
+
+    private void addRoute(Route route, List<String> segments, boolean expanded) {
+
+        Node node = root;
+        for (String segment : segments) {
+            if (segment.charAt(0) == PATH_PARAMETER_PREFIX && !PAYMENT_SERVICE_PARAMETER.equals(segment)) {
+                if (node.parameterChild == null) {
+                    node.parameterChild = new Node();
+                }
+                node = node.parameterChild;
+            } else {
+                node = node.literalChildren.computeIfAbsent(segment, key -> new Node());
+                // The first API registered under a literal prefix owns the prefix
+                if (node.prefixRoute == null && route.getApiType() != null) {
+                    node.prefixRoute = new Route(null, route.getApiType(), route.getExecutorKey(),
+                            false, false, false);
+                }
+            }
+        }
+        // A template with a literal payment service takes precedence over the expanded payment service parameter
+        if (!expanded || node.route == null) {
+            node.route = route;
+        }
+    }
+
+    private static Route match(Node node, List<String> segments, int index) {
+
+        if (index == segments.size()) {
+            return node.route;
+        }
+
+        Node literalChild = node.literalChildren.get(segments.get(index));
+        if (literalChild != null) {
+            return match(literalChild, segments, index + 1);
+        }
+        if (node.parameterChild != null) {
+            return match(node.parameterChild, segments, index + 1);
+        }
+        return null;
+    }
+
+    private static List<String> getSegments(String resource) {
+
+        int end = resource.indexOf(QUERY_SEPARATOR);
+        if (end < 0) {
+            end = resource.length();
+        }
+
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (start < end) {
+            int separator = resource.indexOf(PATH_SEPARATOR, start);
+            if (separator < 0 || separator > end) {
+                separator = end;
+            }
+            if (separator > start) {
+                segments.add(resource.substring(start, separator));
+            }
+            start = separator + 1;
+        }
+        return segments;
+    }
+
+    private static List<Route> getBerlinRoutes() {
+
+        List<Route> routes = new ArrayList<>();
+
+        // Payment initiation service
+        addPaymentRoute(routes, "/{payment-service}/{payment-product}", false, false);
+        addPaymentRoute(routes, "/payments/{payment-product}/{paymentId}", true, false);
+        addPaymentRoute(routes, "/bulk-payments/{payment-product}/{paymentId}", true, true);
+        addPaymentRoute(routes, "/periodic-payments/{payment-product}/{paymentId}", true, true);
+        addPaymentRoute(routes, "/{payment-service}/{payment-product}/{paymentId}/status", false, false);
+        addPaymentRoute(routes, "/payments/{payment-product}/{paymentId}/status", true, false);
+        addPaymentRoute(routes, "/bulk-payments/{payment-product}/{paymentId}/status", true, false);
+        addPaymentRoute(routes, "/periodic-payments/{payment-product}/{paymentId}/status", true, false);
+        addPaymentRoute(routes, "/{payment-service}/{payment-product}/{paymentId}/authorisations", false, false);
+        addPaymentRoute(routes, "/{payment-service}/{payment-product}/{paymentId}/authorisations/{authorisationId}",
+                false, false);
+        addPaymentRoute(routes, "/{payment-service}/{payment-product}/{paymentId}/cancellation-authorisations",
+                false, false);
+        addPaymentRoute(routes,
+                "/{payment-service}/{payment-product}/{paymentId}/cancellation-authorisations/{authorisationId}",
+                false, false);
+
+        // Account information service
+        addAccountRoute(routes, "/consents", false);
+        addAccountRoute(routes, "/consents/{consentId}", false);
+        addAccountRoute(routes, "/consents/{consentId}/status", false);
+        addAccountRoute(routes, "/consents/{consentId}/authorisations", false);
+        addAccountRoute(routes, "/consents/{consentId}/authorisations/{authorisationId}", false);
+        addAccountRoute(routes, "/accounts", false);
+        addAccountRoute(routes, "/accounts/{account-id}", true);
+        addAccountRoute(routes, "/accounts/{account-id}/balances", true);
+        addAccountRoute(routes, "/accounts/{account-id}/transactions", true);
+        addAccountRoute(routes, "/accounts/{account-id}/transactions/{transactionId}", true);
+        addAccountRoute(routes, "/card-accounts", false);
+        addAccountRoute(routes, "/card-accounts/{account-id}", true);
+        addAccountRoute(routes, "/card-accounts/{account-id}/balances", true);
+        addAccountRoute(routes, "/card-accounts/{account-id}/transactions", true);
+        addAccountRoute(routes, "/card-accounts/{account-id}/transactions/{transactionId}", true);
+
+        // Confirmation of funds service
+        addFundsConfirmationRoute(routes, "/funds-confirmations");
+        addFundsConfirmationRoute(routes, "/consents/confirmation-of-funds");
+        addFundsConfirmationRoute(routes, "/consents/confirmation-of-funds/{consentId}");
+        addFundsConfirmationRoute(routes, "/consents/confirmation-of-funds/{consentId}/status");
+        addFundsConfirmationRoute(routes, "/consents/confirmation-of-funds/{consentId}/authorisations");
+        addFundsConfirmationRoute(routes,
+                "/consents/confirmation-of-funds/{consentId}/authorisations/{authorisationId}");
+
+        // Signing baskets are not routed to any executor chain, but are registered so that they are not mistaken
+        // for payment resources
+        addUnroutedRoute(routes, "/signing-baskets");
+        addUnroutedRoute(routes, "/signing-baskets/{basketId}");
+        addUnroutedRoute(routes, "/signing-baskets/{basketId}/status");
+        addUnroutedRoute(routes, "/signing-baskets/{basketId}/authorisations");
+        addUnroutedRoute(routes, "/signing-baskets/{basketId}/authorisations/{authorisationId}");
+
+        return routes;
+    }
+
+    private static void addPaymentRoute(List<Route> routes, String template, boolean paymentRetrieval,
+                                        boolean paymentDeletion) {
+
+        routes.add(new Route(template, APIRequestRouterConstants.PAYMENTS_TYPE, APIRequestRouterConstants.PAYMENTS,
+                false, paymentRetrieval, paymentDeletion));
+    }
+
+    private static void addAccountRoute(List<Route> routes, String template, boolean throttlingEligible) {
+
+        routes.add(new Route(template, APIRequestRouterConstants.ACCOUNTS_TYPE, APIRequestRouterConstants.ACCOUNTS,
+                throttlingEligible, false, false));
+    }
+
+    private static void addFundsConfirmationRoute(List<Route> routes, String template) {
+
+        routes.add(new Route(template, APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE,
+                APIRequestRouterConstants.FUNDS_CONFIRMATIONS, false, false, false));
+    }
+
+    private static void addUnroutedRoute(List<Route> routes, String template) {
+
+        routes.add(new Route(template, null, null, false, false, false));
+    }
+
+    /**
+     * Node of the path segment trie.
+     */
+    private static class Node {
+
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private Node parameterChild;
+        private Route route;
+        private Route prefixRoute;
+    }
+}
@@ -33,13 +33,18 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.mediators.AbstractMediator;
 import org.apache.synapse.transport.nhttp.NhttpConstants;
 import org.json.JSONException;
+import org.wso2.openbanking.berlin.common.cache.BoundedTTLCache;
 import org.wso2.openbanking.berlin.common.models.TPPMessage;
+import org.wso2.openbanking.berlin.common.utils.BerlinErrorTemplate;
 import org.wso2.openbanking.berlin.common.utils.ErrorUtil;
 import org.wso2.openbanking.berlin.gateway.utils.GatewayConstants;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -63,6 +68,30 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
     public static final String PERIODIC_PAYMENTS_SCHEMA_VALIDATION_REF = "/anyOf/1";
     public static final String BULK_PAYMENTS_SCHEMA_VALIDATION_REF = "/anyOf/2";
 
+    private static final Pattern PAYLOAD_PATH_PATTERN = Pattern.compile("'.*']");
+    private static final Pattern HEADER_PATH_PATTERN = Pattern.compile("'[a-zA-Z-]+'");
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\sdate");
+    private static final Pattern INVALID_RESOURCE_ENUM_PATTERN =
+            Pattern.compile("validation.request.parameter.schema.enum");
+    private static final Pattern PAYLOAD_ERROR_MESSAGE_PATTERN = Pattern.compile(".*'].*");
+    private static final Pattern PAYLOAD_ERROR_MESSAGE_SEPARATOR = Pattern.compile("']");
+    private static final String HEADER_KEY = "header";
+    private static final String PARAMETER_KEY = "parameter";
+
+    // Schema error translations of messages which do not depend on the request are cached, since a misbehaving TPP
+    // tends to repeat the same schema violation
+    private static final int TRANSLATION_CACHE_MAX_ENTRIES = 1000;
+    private static final long TRANSLATION_CACHE_EXPIRY_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final BoundedTTLCache<TranslationKey, SchemaErrorTranslation> TRANSLATION_CACHE =
+            new BoundedTTLCache<>(TRANSLATION_CACHE_MAX_ENTRIES, TRANSLATION_CACHE_EXPIRY_MILLIS);
+
+    // Auth failures with a fixed error text are rendered once
+    private static final byte[] INVALID_SCOPE_ERROR_RESPONSE = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR,
+            TPPMessage.CodeEnum.TOKEN_INVALID).renderBytes("Token does not consist of the required permissions for " +
+            "this resource");
+    private static final byte[] INVALID_CREDENTIALS_ERROR_RESPONSE = BerlinErrorTemplate.of(
+            TPPMessage.CategoryEnum.ERROR, TPPMessage.CodeEnum.TOKEN_INVALID).renderBytes("Token is not valid");
+
     public GatewayFailureResponseCreationMediator() {
 
     }
@@ -75,15 +104,16 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
             String errorMessage = (String) messageContext.getProperty(GatewayConstants.ERROR_MSG);
             String errorDetail = (String) messageContext.getProperty(GatewayConstants.ERROR_DETAIL);
 
+            String errorCodeString = Integer.toString(errorCode);
             JSONObject errorData;
 
-            if (Integer.toString(errorCode).equals(GatewayConstants.THROTTLE_FAILURE_IDENTIFIER)) {
+            if (errorCodeString.equals(GatewayConstants.THROTTLE_FAILURE_IDENTIFIER)) {
                 errorData = getThrottleFailureResponse(errorMessage, errorDetail);
-            } else if (Integer.toString(errorCode).startsWith(GatewayConstants.AUTH_FAILURE_IDENTIFIER)) {
+            } else if (errorCodeString.startsWith(GatewayConstants.AUTH_FAILURE_IDENTIFIER)) {
                 errorData = getAuthFailureResponse(errorCode, errorMessage, errorDetail);
             } else if (errorCode == HttpStatus.SC_METHOD_NOT_ALLOWED) {
                 errorData = getMethodNotAllowedFailureResponse(errorMessage);
-            } else if (Integer.toString(errorCode).startsWith("404")) {
+            } else if (errorCodeString.startsWith("404")) {
                 errorData = getResourceFailureResponse(errorMessage);
             } else if (errorDetail.startsWith(GatewayConstants.SCHEMA_VALIDATION_FAILURE_IDENTIFIER)) {
                 // Retrieving the schema validation report in order to construct Berlin specific errors
@@ -98,7 +128,7 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
                 return true;
             }
 
-            JSONObject errorResponse = (JSONObject) errorData.get(GatewayConstants.ERROR_RESPONSE);
+            byte[] errorResponse = (byte[]) errorData.get(GatewayConstants.ERROR_RESPONSE);
             int status = (int) errorData.get(GatewayConstants.STATUS_CODE);
             setFaultPayload(messageContext, errorResponse, status);
         }
@@ -120,73 +150,24 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
         List<TPPMessage> errorList = new ArrayList<>();
         JSONObject errorData = new JSONObject();
         String berlinErrorCode;
-        String errorMessage;
 
         if (schemaValidationReport != null) {
 
+            // The path of a message which does not specify a path is carried over from the previous message
             String path = StringUtils.EMPTY;
-            Pattern payloadPath = Pattern.compile("'.*']");
-            Pattern headerPath = Pattern.compile("'[a-zA-Z-]+'");
-            Pattern date = Pattern.compile("\\sdate");
-            Pattern header = Pattern.compile("header");
-            Pattern parameter = Pattern.compile("parameter");
-            String regexErrorMessage = ".*'].*";
-            Pattern invalidResourceEnum = Pattern.compile("validation.request.parameter.schema.enum");
 
             for (ValidationReport.Message message : schemaValidationReport.getMessages()) {
 
-                String key = message.getKey();
-                errorMessage = message.getMessage();
-                Matcher matchBodyPath = payloadPath.matcher(errorMessage);
-                Matcher matchHeaderPath = headerPath.matcher(errorMessage);
-                Matcher matchDate = date.matcher(errorMessage);
-                Matcher matchHeader = header.matcher(key);
-                Matcher matchParameter = parameter.matcher(key);
-                Matcher matchInvalidResourceEnum = invalidResourceEnum.matcher(key);
-
-                // Get details for header validation violation
-                if (matchHeader.find() || matchParameter.find()) {
-
-                    if (matchHeaderPath.find()) {
-                        path = GatewayConstants.PATH_HEADER + "." + matchHeaderPath.group(0)
-                                .replaceFirst("'", "");
-                    } else if (message.getContext().isPresent() && message.getContext().get().getParameter()
-                            .isPresent()) {
-                        if (GatewayConstants.PATH_QUERY.equalsIgnoreCase(message.getContext().get().getParameter()
-                                .get().getIn())) {
-                            path = GatewayConstants.PATH_QUERY + "." + message.getContext().get().getParameter()
-                                    .get().getName();
-                        } else {
-                            path = GatewayConstants.PATH_HEADER + "." + message.getContext().get().getParameter()
-                                    .get().getName();
-                        }
-                    }
-                } else {
-                    // Get details for request body validation violation
-                    if (matchBodyPath.find()) {
-                        path = matchBodyPath.group(0).replace("/", ".")
-                                .replaceFirst("\\.", "")
-                                .replace("'", "").replace("]", "");
-                    }
-                    if (message.getMessage().matches(regexErrorMessage)) {
-                        errorMessage = message.getMessage().split("']")[1];
-
-                    } else if (isPaymentInitiationRequest(message) && isSchemaFailedToMatchError(message)) {
-
-                        // Improve Error msg for payment initiation requests without mandatory payload elements
-                        // https://github.com/wso2-enterprise/financial-open-banking/issues/4437
-                        errorMessage = getImprovedErrorMessageForPaymentInitiationRequest(message);
-                    } else {
-                        errorMessage = message.getMessage();
-                    }
-
+                SchemaErrorTranslation translation = translateSchemaError(message);
+                if (translation.getPath() != null) {
+                    path = translation.getPath();
                 }
 
                 TPPMessage error = new TPPMessage();
 
-                if (matchDate.find()) {
+                if (translation.isTimestampInvalid()) {
                     berlinErrorCode = TPPMessage.CodeEnum.TIMESTAMP_INVALID.toString();
-                } else if (matchInvalidResourceEnum.find()
+                } else if (translation.isInvalidResourceEnum()
                         && GatewayConstants.PATH_PAYMENT_PRODUCT.equalsIgnoreCase(path)) {
                     berlinErrorCode = TPPMessage.CodeEnum.PRODUCT_UNKNOWN.toString();
                     errorCode = HttpStatus.SC_NOT_FOUND;
@@ -202,17 +183,88 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
 
                 error.setCategory(TPPMessage.CategoryEnum.ERROR);
                 error.setCode(TPPMessage.CodeEnum.valueOf(berlinErrorCode));
-                error.setText(errorMessage);
+                error.setText(translation.getText());
                 errorList.add(error);
             }
 
             errorData.put(GatewayConstants.STATUS_CODE, errorCode);
             // errorList won't be empty since this method is only executed if a schema error is present
-            errorData.put(GatewayConstants.ERROR_RESPONSE, ErrorUtil.constructBerlinError(errorList));
+            errorData.put(GatewayConstants.ERROR_RESPONSE, ErrorUtil.constructBerlinErrorBytes(errorList));
         }
         return errorData;
     }
 
+    /**
+     * Translates a schema validation message to the path and text of the Berlin error. Translations which depend
+     * only on the message key and text are cached.
+     *
+     * @param message schema validation message
+     * @return the translation of the message
+     */
+    static SchemaErrorTranslation translateSchemaError(ValidationReport.Message message) {
+
+        TranslationKey translationKey = new TranslationKey(message.getKey(), message.getMessage());
+        SchemaErrorTranslation translation = TRANSLATION_CACHE.get(translationKey);
+        if (translation == null) {
+            translation = computeSchemaErrorTranslation(message);
+            if (translation.isCacheable()) {
+                TRANSLATION_CACHE.put(translationKey, translation);
+            }
+        }
+        return translation;
+    }
+
+    private static SchemaErrorTranslation computeSchemaErrorTranslation(ValidationReport.Message message) {
+
+        String key = message.getKey();
+        String messageText = message.getMessage();
+        String path = null;
+        String errorMessage = messageText;
+        boolean requestDependent = false;
+
+        // Get details for header validation violation
+        if (key.contains(HEADER_KEY) || key.contains(PARAMETER_KEY)) {
+
+            Matcher matchHeaderPath = HEADER_PATH_PATTERN.matcher(messageText);
+            if (matchHeaderPath.find()) {
+                path = GatewayConstants.PATH_HEADER + "." + StringUtils.replaceOnce(matchHeaderPath.group(0),
+                        "'", "");
+            } else {
+                requestDependent = true;
+                if (message.getContext().isPresent() && message.getContext().get().getParameter().isPresent()) {
+                    if (GatewayConstants.PATH_QUERY.equalsIgnoreCase(message.getContext().get().getParameter()
+                            .get().getIn())) {
+                        path = GatewayConstants.PATH_QUERY + "." + message.getContext().get().getParameter()
+                                .get().getName();
+                    } else {
+                        path = GatewayConstants.PATH_HEADER + "." + message.getContext().get().getParameter()
+                                .get().getName();
+                    }
+                }
+            }
+        } else {
+            // Get details for request body validation violation
+            Matcher matchBodyPath = PAYLOAD_PATH_PATTERN.matcher(messageText);
+            if (matchBodyPath.find()) {
+                path = StringUtils.remove(StringUtils.remove(StringUtils.replaceOnce(matchBodyPath.group(0)
+                        .replace('/', '.'), ".", ""), '\''), ']');
+            }
+            if (PAYLOAD_ERROR_MESSAGE_PATTERN.matcher(messageText).matches()) {
+                errorMessage = PAYLOAD_ERROR_MESSAGE_SEPARATOR.split(messageText)[1];
+            } else if (isSchemaFailedToMatchError(message)) {
+                requestDependent = true;
+                if (isPaymentInitiationRequest(message)) {
+                    // Improve Error msg for payment initiation requests without mandatory payload elements
+                    // https://github.com/wso2-enterprise/financial-open-banking/issues/4437
+                    errorMessage = getImprovedErrorMessageForPaymentInitiationRequest(message);
+                }
+            }
+        }
+
+        return new SchemaErrorTranslation(path, errorMessage, DATE_PATTERN.matcher(messageText).find(),
+                INVALID_RESOURCE_ENUM_PATTERN.matcher(key).find(), !requestDependent);
+    }
+
     /**
      * Method to get the error response for auth failures.
      *
@@ -224,26 +276,19 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
     private static JSONObject getAuthFailureResponse(int errorCode, String errorMessage, String errorDetail) {
 
         JSONObject errorData = new JSONObject();
-        String berlinErrorCode;
         int status;
-        JSONObject errorResponse;
+        byte[] errorResponse;
 
         if (errorCode == GatewayConstants.INVALID_SCOPE) {
-            berlinErrorCode = TPPMessage.CodeEnum.TOKEN_INVALID.toString();
             status = HttpStatus.SC_FORBIDDEN;
-            errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                    TPPMessage.CodeEnum.valueOf(berlinErrorCode), "Token does not consist of the required" +
-                            " permissions for this resource");
+            errorResponse = INVALID_SCOPE_ERROR_RESPONSE;
         } else if (errorCode == GatewayConstants.API_AUTH_INVALID_CREDENTIALS) {
-            berlinErrorCode = TPPMessage.CodeEnum.TOKEN_INVALID.toString();
             status = HttpStatus.SC_UNAUTHORIZED;
-            errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                    TPPMessage.CodeEnum.valueOf(berlinErrorCode), "Token is not valid");
+            errorResponse = INVALID_CREDENTIALS_ERROR_RESPONSE;
         } else {
             status = HttpStatus.SC_UNAUTHORIZED;
             String errorText = (errorDetail == null) ? errorMessage : errorDetail;
-            errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                    null, errorText);
+            errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR, null).renderBytes(errorText);
         }
 
         errorData.put(GatewayConstants.STATUS_CODE, status);
@@ -256,8 +301,8 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
 
         JSONObject errorData = new JSONObject();
         String errorText = (errorDetail == null) ? errorMessage : errorDetail;
-        JSONObject errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                TPPMessage.CodeEnum.ACCESS_EXCEEDED, errorText);
+        byte[] errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.ACCESS_EXCEEDED).renderBytes(errorText);
 
         errorData.put(GatewayConstants.STATUS_CODE, 429);
         errorData.put(GatewayConstants.ERROR_RESPONSE, errorResponse);
@@ -267,11 +312,11 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
     private static JSONObject getMethodNotAllowedFailureResponse(String errorMessage) {
 
         JSONObject errorData = new JSONObject();
-        JSONObject errorResponse;
+        byte[] errorResponse;
 
         int status = HttpStatus.SC_METHOD_NOT_ALLOWED;
-        errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                TPPMessage.CodeEnum.SERVICE_INVALID_405, errorMessage);
+        errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.SERVICE_INVALID_405).renderBytes(errorMessage);
         errorData.put(GatewayConstants.STATUS_CODE, status);
         errorData.put(GatewayConstants.ERROR_RESPONSE, errorResponse);
 
@@ -287,10 +332,10 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
     private static JSONObject getResourceFailureResponse(String errorMessage) {
 
         JSONObject errorData = new JSONObject();
-        JSONObject errorResponse;
+        byte[] errorResponse;
 
-        errorResponse = ErrorUtil.constructBerlinError("", TPPMessage.CategoryEnum.ERROR,
-                TPPMessage.CodeEnum.RESOURCE_UNKNOWN_403, errorMessage);
+        errorResponse = BerlinErrorTemplate.of(TPPMessage.CategoryEnum.ERROR,
+                TPPMessage.CodeEnum.RESOURCE_UNKNOWN_403).renderBytes(errorMessage);
         errorData.put(GatewayConstants.STATUS_CODE, 403);
         errorData.put(GatewayConstants.ERROR_RESPONSE, errorResponse);
 
@@ -301,9 +346,9 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
      * set the error message to the jsonPayload to be sent back.
      *
      * @param messageContext the messageContext sent back to the user
-     * @param errorData      the details of the error for validation failure
+     * @param errorResponse  the UTF-8 encoded error response
      */
-    private static void setFaultPayload(MessageContext messageContext, JSONObject errorData, int status) {
+    private static void setFaultPayload(MessageContext messageContext, byte[] errorResponse, int status) {
 
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
@@ -311,7 +356,7 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
         axis2MessageContext.setProperty(NhttpConstants.HTTP_SC, status);
         try {
             //setting the payload as the message payload
-            JsonUtil.getNewJsonPayload(axis2MessageContext, errorData.toString(), true,
+            JsonUtil.getNewJsonPayload(axis2MessageContext, new ByteArrayInputStream(errorResponse), true,
                     true);
             messageContext.setResponse(true);
             messageContext.setProperty(GatewayConstants.RESPONSE_CAPS, GatewayConstants.TRUE);
@@ -402,4 +447,89 @@ public class GatewayFailureResponseCreationMediator extends AbstractMediator {
         return improvedError.toString();
     }
 
+    /**
+     * Translation of a schema validation message.
+     */
+    static class SchemaErrorTranslation {
+
+        private final String path;
+        private final String text;
+        private final boolean timestampInvalid;
+        private final boolean invalidResourceEnum;
+        private final boolean cacheable;
+
+        SchemaErrorTranslation(String path, String text, boolean timestampInvalid, boolean invalidResourceEnum,
+                               boolean cacheable) {
+
+            this.path = path;
+            this.text = text;
+            this.timestampInvalid = timestampInvalid;
+            this.invalidResourceEnum = invalidResourceEnum;
+            this.cacheable = cacheable;
+        }
+
+        /**
+         * Returns the path of the erroneous element.
+         *
+         * @return path, or null if the message does not specify a path
+         */
+        String getPath() {
+
+            return path;
+        }
+
+        String getText() {
+
+            return text;
+        }
+
+        boolean isTimestampInvalid() {
+
+            return timestampInvalid;
+        }
+
+        boolean isInvalidResourceEnum() {
+
+            return invalidResourceEnum;
+        }
+
+        boolean isCacheable() {
+
+            return cacheable;
+        }
+    }
+
+    /**
+     * Cache key of a schema error translation.
+     */
+    private static class TranslationKey {
+
+        private final String key;
+        private final String message;
+
+        TranslationKey(String key, String message) {
+
+            this.key = key;
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TranslationKey)) {
+                return false;
+            }
+            TranslationKey that = (TranslationKey) o;
+            return Objects.equals(key, that.key) && Objects.equals(message, that.message);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(key, message);
+        }
+    }
 }
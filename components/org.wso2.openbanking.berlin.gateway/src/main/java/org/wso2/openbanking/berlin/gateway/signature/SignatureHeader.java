@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.signature;
+
+import org.wso2.openbanking.berlin.gateway.exceptions.SignatureValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable representation of the draft-cavage HTTP Signature header sent with the request.
+ *
+ * <p>The header is tokenized in a single pass over the header value. Element values can be quoted or unquoted, the
+ * first occurrence of an element is used, and unknown elements and tokens without a value are ignored. The keyId
+ * element is further split into the SN and CA values, where the CA value is everything after the first comma of the
+ * keyId.</p>
+ */
+public class SignatureHeader {
+
+    private static final String KEY_ID_ELEMENT = "keyId";
+    private static final String ALGORITHM_ELEMENT = "algorithm";
+    private static final String HEADERS_ELEMENT = "headers";
+    private static final String SIGNATURE_ELEMENT = "signature";
+    private static final String SN = "SN";
+    private static final String CA = "CA";
+
+    private final String keyId;
+    private final String serialNumber;
+    private final String certificateAuthority;
+    private final String algorithm;
+    private final List<String> headers;
+    private final String signature;
+
+    private SignatureHeader(String keyId, String algorithm, String headers, String signature) {
+
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        this.headers = Collections.unmodifiableList(splitHeaders(headers));
+        this.signature = signature;
+
+        String serialNumberValue = null;
+        String certificateAuthorityValue = null;
+        // Only the first comma separates the keyId elements since the CA value itself contains commas. When an
+        // element is repeated, the last occurrence is used.
+        int separatorIndex = keyId.indexOf(',');
+        int elementStartIndex = 0;
+        while (elementStartIndex <= keyId.length()) {
+            int elementEndIndex = elementStartIndex == 0 && separatorIndex >= 0 ? separatorIndex : keyId.length();
+            int equalsIndex = keyId.indexOf('=', elementStartIndex);
+            if (equalsIndex >= 0 && equalsIndex < elementEndIndex) {
+                String name = keyId.substring(elementStartIndex, equalsIndex).trim();
+                String value = keyId.substring(equalsIndex + 1, elementEndIndex).trim();
+                if (SN.equals(name)) {
+                    serialNumberValue = value;
+                } else if (CA.equals(name)) {
+                    certificateAuthorityValue = value;
+                }
+            }
+            elementStartIndex = elementEndIndex + 1;
+        }
+        this.serialNumber = serialNumberValue;
+        this.certificateAuthority = certificateAuthorityValue;
+    }
+
+    /**
+     * Parses the Signature header value.
+     *
+     * @param signatureHeader the Signature header value
+     * @return the parsed signature header
+     * @throws SignatureValidationException thrown if the header is malformed or the keyId, headers or signature
+     *                                      elements are not present
+     */
+    public static SignatureHeader parse(String signatureHeader) throws SignatureValidationException {
+
+        if (signatureHeader == null) {
+            throw new SignatureValidationException("Signature header cannot be found");
+        }
+
+        String keyId = null;
+        String algorithm = null;
+        String headers = null;
+        String signature = null;
+
+        int length = signatureHeader.length();
+        int index = 0;
+        while (index < length) {
+            char character = signatureHeader.charAt(index);
+            if (character == ',' || Character.isWhitespace(character)) {
+                index++;
+                continue;
+            }
+
+            // The element name ends at the first equals sign before the next comma. Tokens without a value are
+            // skipped.
+            int equalsIndex = index;
+            while (equalsIndex < length && signatureHeader.charAt(equalsIndex) != '='
+                    && signatureHeader.charAt(equalsIndex) != ',') {
+                equalsIndex++;
+            }
+            if (equalsIndex == length || signatureHeader.charAt(equalsIndex) == ',') {
+                index = equalsIndex;
+                continue;
+            }
+            String name = signatureHeader.substring(index, equalsIndex).trim();
+            index = skipWhitespace(signatureHeader, equalsIndex + 1);
+
+            String value;
+            if (index < length && signatureHeader.charAt(index) == '"') {
+                int closingQuoteIndex = signatureHeader.indexOf('"', index + 1);
+                if (closingQuoteIndex < 0) {
+                    throw new SignatureValidationException("Invalid signature header. Value of the " + name +
+                            " element is not terminated");
+                }
+                value = signatureHeader.substring(index + 1, closingQuoteIndex).trim();
+                index = skipWhitespace(signatureHeader, closingQuoteIndex + 1);
+                if (index < length && signatureHeader.charAt(index) != ',') {
+                    throw new SignatureValidationException("Invalid signature header. Unexpected content after " +
+                            "the value of the " + name + " element");
+                }
+            } else {
+                int separatorIndex = signatureHeader.indexOf(',', index);
+                int valueEndIndex = separatorIndex < 0 ? length : separatorIndex;
+                value = signatureHeader.substring(index, valueEndIndex).trim();
+                index = valueEndIndex;
+            }
+
+            if (KEY_ID_ELEMENT.equals(name) && keyId == null) {
+                keyId = value;
+            } else if (ALGORITHM_ELEMENT.equals(name) && algorithm == null) {
+                algorithm = value;
+            } else if (HEADERS_ELEMENT.equals(name) && headers == null) {
+                headers = value;
+            } else if (SIGNATURE_ELEMENT.equals(name) && signature == null) {
+                signature = value;
+            }
+        }
+
+        if (keyId == null || headers == null || signature == null) {
+            throw new SignatureValidationException("Invalid signature header. Required signature header" +
+                    " elements cannot be found");
+        }
+        return new SignatureHeader(keyId, algorithm, headers, signature);
+    }
+
+    public String getKeyId() {
+
+        return keyId;
+    }
+
+    /**
+     * Returns the hexadecimal serial number of the signing certificate given with the keyId element.
+     *
+     * @return the serial number or null if it is not present in the keyId
+     */
+    public String getSerialNumber() {
+
+        return serialNumber;
+    }
+
+    /**
+     * Returns the issuer distinguished name of the signing certificate given with the keyId element.
+     *
+     * @return the issuer name or null if it is not present in the keyId
+     */
+    public String getCertificateAuthority() {
+
+        return certificateAuthority;
+    }
+
+    public String getAlgorithm() {
+
+        return algorithm;
+    }
+
+    /**
+     * Returns the header names of the headers element in the order they are included in the signing string.
+     *
+     * @return an unmodifiable list of header names
+     */
+    public List<String> getHeaders() {
+
+        return headers;
+    }
+
+    public String getSignature() {
+
+        return signature;
+    }
+
+    private static int skipWhitespace(String value, int index) {
+
+        while (index < value.length() && Character.isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static List<String> splitHeaders(String headers) {
+
+        List<String> headerNames = new ArrayList<>();
+        int length = headers.length();
+        int index = 0;
+        while (index < length) {
+            index = skipWhitespace(headers, index);
+            int endIndex = index;
+            while (endIndex < length && !Character.isWhitespace(headers.charAt(endIndex))) {
+                endIndex++;
+            }
+            if (endIndex > index) {
+                headerNames.add(headers.substring(index, endIndex));
+            }
+            index = endIndex;
+        }
+        return headerNames;
+    }
+}
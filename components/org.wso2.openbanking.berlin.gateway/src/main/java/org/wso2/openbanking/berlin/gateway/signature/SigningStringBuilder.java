@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.signature;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Builds the signing string of a request from the headers element of the Signature header. Request headers are
+ * looked up case-insensitively on the original header map instead of copying it into a case-insensitive map.
+ */
+public class SigningStringBuilder {
+
+    private static final Log log = LogFactory.getLog(SigningStringBuilder.class);
+
+    /**
+     * Generates the signing string for signature comparison. The headers are added in the given order and the
+     * generation stops at the first header which is not present in the request.
+     *
+     * @param headerNames    header names passed through the headers element of the signature
+     * @param requestHeaders the headers passed through the request
+     * @return the signing string of the request
+     */
+    public static String build(List<String> headerNames, Map<String, String> requestHeaders) {
+
+        StringBuilder signingString = new StringBuilder();
+        for (String headerName : headerNames) {
+            String headerValue = getHeader(requestHeaders, headerName);
+            if (headerValue == null) {
+                log.error("Required header element not passed through the request header");
+                break;
+            }
+            if (signingString.length() > 0) {
+                signingString.append('\n');
+            }
+            signingString.append(headerName.toLowerCase(Locale.ENGLISH))
+                    .append(": ")
+                    .append(headerValue);
+        }
+        return signingString.toString();
+    }
+
+    /**
+     * Returns the value of a request header ignoring the case of the header name.
+     *
+     * @param requestHeaders the headers passed through the request
+     * @param headerName     the header name
+     * @return the header value or null if the header is not present
+     */
+    public static String getHeader(Map<String, String> requestHeaders, String headerName) {
+
+        String headerValue = requestHeaders.get(headerName);
+        if (headerValue != null || isCaseInsensitive(requestHeaders)) {
+            return headerValue;
+        }
+        for (Map.Entry<String, String> requestHeader : requestHeaders.entrySet()) {
+            if (headerName.equalsIgnoreCase(requestHeader.getKey())) {
+                return requestHeader.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCaseInsensitive(Map<String, String> requestHeaders) {
+
+        return requestHeaders instanceof SortedMap &&
+                ((SortedMap<String, String>) requestHeaders).comparator() == String.CASE_INSENSITIVE_ORDER;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.common.gateway.dto.RequestContextDTO;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.gateway.executors.core.RouteTable;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -48,12 +49,6 @@ public class CustomThrottleDataPublisherImpl implements ThrottleDataPublisher {
     private static final String CONSENT_ID = "consentId";
     private static final String CONSUMER_KEY = "consumerKey";
 
-    private static final List<String> eligibleResources = Arrays.asList("/accounts/{account-id}", "/accounts/{account"
-                    + "-id}?withBalance", "/accounts/{account-id}/balances", "/accounts/{account-id}/transactions",
-            "/accounts/{account-id}/transactions?withBalance", "/accounts/{account-id}/transactions" +
-                    "/{transactionId}", "/card-accounts/{account-id}", "/card-accounts/{account-id}/balances",
-            "/card-accounts/{account-id}/transactions", "/card-accounts/{account-id}/transactions/{transactionId}");
-
     @Override
     public Map<String, Object> getCustomProperties(RequestContextDTO requestContextDTO) {
 
@@ -68,7 +63,6 @@ public class CustomThrottleDataPublisherImpl implements ThrottleDataPublisher {
         if (CommonConfigParser.getInstance().isFrequencyPerDayThrottlingEnabled()
                 && StringUtils.isBlank(requestHeaders.get(PSU_IP_ADDRESS))) {
 
-            String electedResource = requestContextDTO.getMsgInfo().getElectedResource();
             String resourceString = requestContextDTO.getMsgInfo().getResource();
             String clientId = requestContextDTO.getApiRequestInfo().getConsumerKey();
 
@@ -76,7 +70,7 @@ public class CustomThrottleDataPublisherImpl implements ThrottleDataPublisher {
                 log.debug("Checking whether the " + resourceString + " is eligible for throttling");
             }
 
-            if (eligibleResources.contains(electedResource)) {
+            if (RouteTable.getInstance().resolve(requestContextDTO.getMsgInfo()).isThrottlingEligible()) {
 
                 List<String> pathList = Arrays.asList(resourceString.split("/"));
                 String accountID = getAccountIdFromURL(pathList);
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides thread confined MessageDigest and Signature engines for the request signature validation. The JCA
+ * provider lookup for each configured algorithm is done once when the provider is initialized and each thread
+ * afterwards reuses its own engine instance, so request threads do not contend on the provider list.
+ */
+public class CryptoEngineProvider {
+
+    private static final Log log = LogFactory.getLog(CryptoEngineProvider.class);
+
+    private static volatile CryptoEngineProvider cryptoEngineProvider;
+
+    private final ConcurrentMap<String, ThreadLocal<MessageDigest>> messageDigestEngines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ThreadLocal<Signature>> signatureEngines = new ConcurrentHashMap<>();
+
+    CryptoEngineProvider(List<String> hashAlgorithms, List<String> signatureAlgorithms) {
+
+        for (String hashAlgorithm : hashAlgorithms) {
+            try {
+                registerMessageDigest(hashAlgorithm);
+            } catch (NoSuchAlgorithmException e) {
+                log.error(String.format("Configured hash algorithm %s is not available", hashAlgorithm), e);
+            }
+        }
+        for (String signatureAlgorithm : signatureAlgorithms) {
+            try {
+                registerSignature(signatureAlgorithm);
+            } catch (NoSuchAlgorithmException e) {
+                log.error(String.format("Configured signature algorithm %s is not available", signatureAlgorithm), e);
+            }
+        }
+    }
+
+    /**
+     * Singleton getInstance method to create only one object. The engines of the supported hash and signature
+     * algorithms are registered on creation.
+     *
+     * @return CryptoEngineProvider object
+     */
+    public static CryptoEngineProvider getInstance() {
+
+        if (cryptoEngineProvider == null) {
+            synchronized (CryptoEngineProvider.class) {
+                if (cryptoEngineProvider == null) {
+                    CommonConfigParser configParser = CommonConfigParser.getInstance();
+                    cryptoEngineProvider = new CryptoEngineProvider(configParser.getSupportedHashAlgorithms(),
+                            configParser.getSupportedSignatureAlgorithms());
+                }
+            }
+        }
+        return cryptoEngineProvider;
+    }
+
+    /**
+     * Returns a reset MessageDigest engine of the current thread for the provided algorithm.
+     *
+     * @param algorithm hash algorithm name
+     * @return MessageDigest engine
+     * @throws NoSuchAlgorithmException thrown if the algorithm is not available
+     */
+    public MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+
+        ThreadLocal<MessageDigest> engine = messageDigestEngines.get(getEngineKey(algorithm));
+        if (engine == null) {
+            engine = registerMessageDigest(algorithm);
+        }
+        MessageDigest messageDigest = engine.get();
+        messageDigest.reset();
+        return messageDigest;
+    }
+
+    /**
+     * Returns the Signature engine of the current thread for the provided algorithm. The returned engine should be
+     * initialized with initVerify before use, which also resets any previous state of the engine.
+     *
+     * @param algorithm signature algorithm name
+     * @return Signature engine
+     * @throws NoSuchAlgorithmException thrown if the algorithm is not available
+     */
+    public Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+
+        ThreadLocal<Signature> engine = signatureEngines.get(getEngineKey(algorithm));
+        if (engine == null) {
+            engine = registerSignature(algorithm);
+        }
+        return engine.get();
+    }
+
+    private ThreadLocal<MessageDigest> registerMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+
+        // The prototype is created eagerly so that an unavailable algorithm fails here instead of inside the
+        // thread local initializer. Thread engines are cloned from the prototype to avoid the provider lookup.
+        MessageDigest prototype = MessageDigest.getInstance(algorithm);
+        ThreadLocal<MessageDigest> engine = ThreadLocal.withInitial(() -> newMessageDigest(prototype));
+        ThreadLocal<MessageDigest> existingEngine = messageDigestEngines.putIfAbsent(getEngineKey(algorithm), engine);
+        return existingEngine != null ? existingEngine : engine;
+    }
+
+    private ThreadLocal<Signature> registerSignature(String algorithm) throws NoSuchAlgorithmException {
+
+        // Validates the availability of the algorithm. Provider selection of Signature engines is delayed until the
+        // key is provided, therefore each thread creates its own engine once.
+        Signature.getInstance(algorithm);
+        ThreadLocal<Signature> engine = ThreadLocal.withInitial(() -> newSignature(algorithm));
+        ThreadLocal<Signature> existingEngine = signatureEngines.putIfAbsent(getEngineKey(algorithm), engine);
+        return existingEngine != null ? existingEngine : engine;
+    }
+
+    private static MessageDigest newMessageDigest(MessageDigest prototype) {
+
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return MessageDigest.getInstance(prototype.getAlgorithm(), prototype.getProvider());
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("Unable to create message digest for algorithm " +
+                        prototype.getAlgorithm(), ex);
+            }
+        }
+    }
+
+    private static Signature newSignature(String algorithm) {
+
+        try {
+            return Signature.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to create signature for algorithm " + algorithm, e);
+        }
+    }
+
+    private static String getEngineKey(String algorithm) {
+
+        // JCA algorithm names are case-insensitive
+        return algorithm.toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Utility methods to calculate and compare request payload digests.
+ */
+public class PayloadDigestUtils {
+
+    private static final int ENCODE_BUFFER_SIZE = 4096;
+
+    /**
+     * Calculates the digest of the UTF-8 encoded payload. The payload is encoded in fixed size chunks which are fed
+     * to the message digest as they are encoded, so the encoded payload is never held in memory as a whole.
+     *
+     * @param messageDigest message digest engine, reset before use
+     * @param payload       the request payload
+     * @return the digest of the payload
+     */
+    public static byte[] digest(MessageDigest messageDigest, CharSequence payload) {
+
+        // Same replacement behaviour as String.getBytes(UTF_8) for malformed input
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer input = CharBuffer.wrap(payload);
+        ByteBuffer output = ByteBuffer.allocate(ENCODE_BUFFER_SIZE);
+
+        while (encoder.encode(input, output, true).isOverflow()) {
+            update(messageDigest, output);
+        }
+        while (encoder.flush(output).isOverflow()) {
+            update(messageDigest, output);
+        }
+        update(messageDigest, output);
+        return messageDigest.digest();
+    }
+
+    /**
+     * Compares two digests in constant time.
+     *
+     * @param expectedDigest the digest sent with the request
+     * @param actualDigest   the digest calculated from the payload
+     * @return true if both digests are equal, false otherwise
+     */
+    public static boolean isDigestEqual(byte[] expectedDigest, byte[] actualDigest) {
+
+        return MessageDigest.isEqual(expectedDigest, actualDigest);
+    }
+
+    private static void update(MessageDigest messageDigest, ByteBuffer buffer) {
+
+        buffer.flip();
+        messageDigest.update(buffer);
+        buffer.clear();
+    }
+}
@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.cache;
+
+import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.gateway.utils.GatewayTestUtils;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for RevocationStatusCache.
+ */
+public class RevocationStatusCacheTests {
+
+    private static final long VALID_STATUS_EXPIRY_MILLIS = 60000;
+    private static final long REVOKED_STATUS_EXPIRY_MILLIS = 5000;
+    private static final long MAX_STALE_MILLIS = 60000;
+    private static final long UNKNOWN_STATUS_BACKOFF_MILLIS = 30000;
+
+    private X509Certificate certificate;
+    private ExecutorService refreshExecutor;
+
+    @BeforeClass
+    public void initClass() throws OpenBankingException {
+
+        certificate = GatewayTestUtils.getTestSigningCertificate();
+        refreshExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentLookupsShareSingleCheck() throws Exception {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        responder.block();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, refreshExecutor);
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<Boolean>> lookups = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                lookups.add(requestThreads.submit(() -> revocationStatusCache.isValid(certificate, responder)));
+            }
+            // Wait until the single check is in flight before releasing the responder
+            Assert.assertTrue(responder.awaitRequest());
+            responder.release();
+            for (Future<Boolean> lookup : lookups) {
+                Assert.assertTrue(lookup.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            requestThreads.shutdownNow();
+        }
+        Assert.assertEquals(responder.getRequestCount(), 1);
+        Assert.assertEquals(revocationStatusCache.getInFlightCheckCount(), 0);
+    }
+
+    @Test
+    public void testExpiredStatusIsServedWhileRefreshing() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        QueuedExecutor queuedExecutor = new QueuedExecutor();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, queuedExecutor);
+
+        populate(revocationStatusCache, queuedExecutor, responder);
+
+        // The certificate is revoked at the responder after the status expires
+        responder.setValid(false);
+        revocationStatusCache.now += VALID_STATUS_EXPIRY_MILLIS;
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(revocationStatusCache.getInFlightCheckCount(), 1);
+        Assert.assertEquals(queuedExecutor.size(), 1);
+
+        queuedExecutor.runAll();
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(responder.getRequestCount(), 2);
+    }
+
+    @Test
+    public void testRevokedStatusIsCachedWithItsOwnExpiry() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(false);
+        QueuedExecutor queuedExecutor = new QueuedExecutor();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, queuedExecutor);
+
+        populate(revocationStatusCache, queuedExecutor, responder);
+        revocationStatusCache.now += REVOKED_STATUS_EXPIRY_MILLIS - 1;
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(queuedExecutor.size(), 0);
+        Assert.assertEquals(responder.getRequestCount(), 1);
+
+        revocationStatusCache.now += 1;
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(queuedExecutor.size(), 1);
+    }
+
+    @Test
+    public void testLookupTimesOutWhenResponderIsSlow() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        QueuedExecutor queuedExecutor = new QueuedExecutor();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(50, queuedExecutor);
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(revocationStatusCache.getInFlightCheckCount(), 1);
+
+        // The check completes in the background and later lookups are served from the cache
+        queuedExecutor.runAll();
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(revocationStatusCache.size(), 1);
+    }
+
+    @Test
+    public void testFailedCheckIsNotCached() throws CertificateEncodingException {
+
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, Runnable::run);
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, cert -> {
+            throw new IllegalStateException("Responder unavailable");
+        }));
+        Assert.assertEquals(revocationStatusCache.size(), 0);
+        Assert.assertEquals(revocationStatusCache.getInFlightCheckCount(), 0);
+    }
+
+    @Test
+    public void testUnknownStatusIsNotCached() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        responder.setUnavailable(true);
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, Runnable::run);
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(revocationStatusCache.size(), 0);
+
+        // A valid certificate is accepted once the backoff has passed and the responder is reachable again
+        responder.setUnavailable(false);
+        revocationStatusCache.now += UNKNOWN_STATUS_BACKOFF_MILLIS;
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(responder.getRequestCount(), 2);
+    }
+
+    @Test
+    public void testLookupFailsFastDuringUnknownStatusBackoff() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        responder.setUnavailable(true);
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, Runnable::run);
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+
+        // The responder is not queried again until the backoff has passed
+        revocationStatusCache.now += UNKNOWN_STATUS_BACKOFF_MILLIS - 1;
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(responder.getRequestCount(), 1);
+
+        revocationStatusCache.now += 1;
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(responder.getRequestCount(), 2);
+    }
+
+    @Test
+    public void testFailedCheckStartsBackoff() throws CertificateEncodingException {
+
+        AtomicInteger requestCount = new AtomicInteger();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, Runnable::run);
+        RevocationStatusChecker failingChecker = cert -> {
+            requestCount.incrementAndGet();
+            throw new IllegalStateException("Responder unavailable");
+        };
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, failingChecker));
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, failingChecker));
+        Assert.assertEquals(requestCount.get(), 1);
+    }
+
+    @Test
+    public void testUnknownStatusKeepsLastKnownStatus() throws CertificateEncodingException {
+
+        StubRevocationResponder responder = new StubRevocationResponder(true);
+        QueuedExecutor queuedExecutor = new QueuedExecutor();
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, queuedExecutor);
+
+        populate(revocationStatusCache, queuedExecutor, responder);
+
+        responder.setUnavailable(true);
+        revocationStatusCache.now += VALID_STATUS_EXPIRY_MILLIS;
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        queuedExecutor.runAll();
+
+        // The last known status is served without a refresh until the backoff has passed
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(queuedExecutor.size(), 0);
+        Assert.assertEquals(responder.getRequestCount(), 2);
+
+        revocationStatusCache.now += UNKNOWN_STATUS_BACKOFF_MILLIS;
+        Assert.assertTrue(revocationStatusCache.isValid(certificate, responder));
+        Assert.assertEquals(queuedExecutor.size(), 1);
+    }
+
+    @Test
+    public void testRejectedCheckIsNotLeftInFlight() throws CertificateEncodingException {
+
+        MutableClockRevocationStatusCache revocationStatusCache = newCache(10000, runnable -> {
+            throw new RejectedExecutionException("Queue is full");
+        });
+
+        Assert.assertFalse(revocationStatusCache.isValid(certificate, new StubRevocationResponder(true)));
+        Assert.assertEquals(revocationStatusCache.getInFlightCheckCount(), 0);
+    }
+
+    private MutableClockRevocationStatusCache newCache(long lookupTimeoutMillis, Executor executor) {
+
+        return new MutableClockRevocationStatusCache(lookupTimeoutMillis, executor);
+    }
+
+    private void populate(RevocationStatusCache revocationStatusCache, QueuedExecutor queuedExecutor,
+                          RevocationStatusChecker checker) throws CertificateEncodingException {
+
+        revocationStatusCache.checkRevocationStatus(DigestUtils.sha256Hex(certificate.getEncoded()), certificate,
+                checker);
+        queuedExecutor.runAll();
+    }
+
+    /**
+     * Revocation status cache with a controllable clock.
+     */
+    private static class MutableClockRevocationStatusCache extends RevocationStatusCache {
+
+        private long now = 0;
+
+        MutableClockRevocationStatusCache(long lookupTimeoutMillis, Executor executor) {
+
+            super(100, VALID_STATUS_EXPIRY_MILLIS, REVOKED_STATUS_EXPIRY_MILLIS, MAX_STALE_MILLIS,
+                    lookupTimeoutMillis, UNKNOWN_STATUS_BACKOFF_MILLIS, executor);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+
+            return now;
+        }
+    }
+
+    /**
+     * Stub of the OCSP/CRL responder which returns a fixed status and can hold requests.
+     */
+    private static class StubRevocationResponder implements RevocationStatusChecker {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicBoolean valid;
+        private final AtomicBoolean unavailable = new AtomicBoolean();
+        private final CountDownLatch requestReceived = new CountDownLatch(1);
+        private volatile CountDownLatch releaseLatch = new CountDownLatch(0);
+
+        StubRevocationResponder(boolean valid) {
+
+            this.valid = new AtomicBoolean(valid);
+        }
+
+        @Override
+        public RevocationCheckResult check(X509Certificate certificate) {
+
+            requestCount.incrementAndGet();
+            requestReceived.countDown();
+            try {
+                releaseLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (unavailable.get()) {
+                return RevocationCheckResult.UNKNOWN;
+            }
+            return valid.get() ? RevocationCheckResult.VALID : RevocationCheckResult.REVOKED;
+        }
+
+        void setValid(boolean valid) {
+
+            this.valid.set(valid);
+        }
+
+        void setUnavailable(boolean unavailable) {
+
+            this.unavailable.set(unavailable);
+        }
+
+        void block() {
+
+            releaseLatch = new CountDownLatch(1);
+        }
+
+        void release() {
+
+            releaseLatch.countDown();
+        }
+
+        boolean awaitRequest() throws InterruptedException {
+
+            return requestReceived.await(5, TimeUnit.SECONDS);
+        }
+
+        int getRequestCount() {
+
+            return requestCount.get();
+        }
+    }
+
+    /**
+     * Executor which holds the submitted checks until they are explicitly run.
+     */
+    private static class QueuedExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public synchronized void execute(Runnable runnable) {
+
+            tasks.add(runnable);
+        }
+
+        synchronized void runAll() {
+
+            List<Runnable> queuedTasks = new ArrayList<>(tasks);
+            tasks.clear();
+            queuedTasks.forEach(Runnable::run);
+        }
+
+        synchronized int size() {
+
+            return tasks.size();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.consent;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ConsentStatusUpdateDispatcher.
+ */
+public class ConsentStatusUpdateDispatcherTests {
+
+    private static final String CONSENT_ID = "ee5dbd3a-6c5f-4b1b-9e1f-3d0d3f7bd0f4";
+
+    private ScheduledExecutorService scheduler;
+    private Path spillFile;
+
+    @BeforeClass
+    public void initClass() {
+
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @BeforeMethod
+    public void initMethod() throws IOException {
+
+        spillFile = Files.createTempDirectory("consent-status-update").resolve("spill.log");
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testFailedUpdateIsRetriedWithBackoff() throws Exception {
+
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(2);
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(endpoint, 3);
+
+        dispatcher.dispatch(new ConsentStatusUpdate(CONSENT_ID, 204));
+
+        Assert.assertTrue(endpoint.awaitDelivery());
+        Assert.assertEquals(endpoint.getRequestCount(), 3);
+        Assert.assertEquals(endpoint.getDelivered().peek().getConsentId(), CONSENT_ID);
+        awaitJournalRemoval();
+    }
+
+    @Test
+    public void testUpdateIsJournaledBeforeItIsSent() throws Exception {
+
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(0);
+        List<String> journalAtSend = new ArrayList<>();
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(consentStatusUpdate -> {
+            journalAtSend.addAll(Files.readAllLines(spillFile, StandardCharsets.UTF_8));
+            endpoint.send(consentStatusUpdate);
+        }, 3);
+
+        dispatcher.dispatch(new ConsentStatusUpdate(CONSENT_ID, 204));
+
+        Assert.assertTrue(endpoint.awaitDelivery());
+        Assert.assertEquals(journalAtSend.size(), 1);
+        Assert.assertEquals(getJournaledUpdate(journalAtSend.get(0)).getConsentId(), CONSENT_ID);
+        awaitJournalRemoval();
+        Assert.assertEquals(dispatcher.getPendingUpdateCount(), 0);
+    }
+
+    @Test
+    public void testUpdateIsReplayedWhenRetriesAreExhausted() throws Exception {
+
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(Integer.MAX_VALUE);
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(endpoint, 2);
+
+        dispatcher.dispatch(new ConsentStatusUpdate(CONSENT_ID, 202));
+        endpoint.awaitRequestCount(3);
+        Assert.assertEquals(dispatcher.getPendingUpdateCount(), 1);
+        Assert.assertEquals(Files.readAllLines(spillFile, StandardCharsets.UTF_8).size(), 1);
+
+        // The identity server becomes available again
+        endpoint.setRemainingFailures(0);
+        awaitPendingUpdateReplay(dispatcher, endpoint);
+
+        Assert.assertEquals(endpoint.getDelivered().peek().getStatusCode(), "202");
+        awaitJournalRemoval();
+        Assert.assertEquals(dispatcher.getPendingUpdateCount(), 0);
+    }
+
+    @Test
+    public void testUpdateIsKeptWhenQueueIsFull() throws Exception {
+
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(0);
+        ConsentStatusUpdateDispatcher dispatcher = new ConsentStatusUpdateDispatcher(endpoint, runnable -> {
+            throw new RejectedExecutionException("Queue is full");
+        }, scheduler, 3, 1, spillFile);
+
+        dispatcher.dispatch(new ConsentStatusUpdate(CONSENT_ID, 204));
+
+        List<String> journal = awaitJournalRecords(1);
+        Assert.assertEquals(getJournaledUpdate(journal.get(0)).getConsentId(), CONSENT_ID);
+        Assert.assertEquals(endpoint.getRequestCount(), 0);
+
+        // The update is recovered after a restart of the server
+        newDispatcher(endpoint, 3).recover();
+
+        Assert.assertTrue(endpoint.awaitDelivery());
+        awaitJournalRemoval();
+    }
+
+    @Test
+    public void testPendingUpdatesAreRecovered() throws Exception {
+
+        String lineSeparator = System.lineSeparator();
+        Files.write(spillFile, ("1 " + new ConsentStatusUpdate("completed-consent", 202).toJson() + lineSeparator
+                + "not-json" + lineSeparator + lineSeparator
+                + "2 " + new ConsentStatusUpdate(CONSENT_ID, 204).toJson() + lineSeparator
+                + "3 {}" + lineSeparator
+                + "1" + lineSeparator).getBytes(StandardCharsets.UTF_8));
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(0);
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(endpoint, 3);
+
+        dispatcher.recover();
+
+        Assert.assertTrue(endpoint.awaitDelivery());
+        Assert.assertEquals(endpoint.getRequestCount(), 1);
+        Assert.assertEquals(endpoint.getDelivered().peek().getConsentId(), CONSENT_ID);
+        awaitJournalRemoval();
+
+        // Update IDs of the recovered journal are not reused
+        StubStatusUpdateEndpoint unavailableEndpoint = new StubStatusUpdateEndpoint(Integer.MAX_VALUE);
+        ConsentStatusUpdateDispatcher restartedDispatcher = newDispatcher(unavailableEndpoint, 0);
+        Files.write(spillFile, ("2 " + new ConsentStatusUpdate(CONSENT_ID, 204).toJson() + lineSeparator)
+                .getBytes(StandardCharsets.UTF_8));
+        restartedDispatcher.recover();
+        restartedDispatcher.dispatch(new ConsentStatusUpdate("new-consent", 202));
+        Assert.assertEquals(restartedDispatcher.getPendingUpdateCount(), 2);
+    }
+
+    @Test
+    public void testRecoveredUpdateIsKeptUntilItIsDelivered() throws Exception {
+
+        Files.write(spillFile, ("7 " + new ConsentStatusUpdate(CONSENT_ID, 204).toJson() + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8));
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(Integer.MAX_VALUE);
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(endpoint, 0);
+
+        dispatcher.recover();
+
+        Assert.assertEquals(endpoint.getRequestCount(), 1);
+        List<String> journal = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+        Assert.assertEquals(journal.size(), 1);
+        Assert.assertEquals(getJournaledUpdate(journal.get(0)).getConsentId(), CONSENT_ID);
+    }
+
+    @Test
+    public void testConcurrentUpdatesAreJournaled() throws Exception {
+
+        StubStatusUpdateEndpoint endpoint = new StubStatusUpdateEndpoint(Integer.MAX_VALUE);
+        ConsentStatusUpdateDispatcher dispatcher = newDispatcher(endpoint, 0);
+
+        ExecutorService responseThreads = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> dispatches = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String consentId = "consent-" + i;
+                dispatches.add(responseThreads.submit(() ->
+                        dispatcher.dispatch(new ConsentStatusUpdate(consentId, 204))));
+            }
+            for (Future<?> dispatch : dispatches) {
+                dispatch.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            responseThreads.shutdownNow();
+        }
+
+        // Every accepted update is journaled exactly once and stays pending while it cannot be delivered
+        List<String> journal = awaitJournalRecords(20);
+        Set<String> journaledConsentIds = new HashSet<>();
+        for (String record : journal) {
+            journaledConsentIds.add(getJournaledUpdate(record).getConsentId());
+        }
+        Assert.assertEquals(journaledConsentIds.size(), 20);
+        endpoint.awaitRequestCount(20);
+        Assert.assertEquals(dispatcher.getPendingUpdateCount(), 20);
+    }
+
+    @Test
+    public void testRetryDelayIsDoubled() {
+
+        ConsentStatusUpdateDispatcher dispatcher = new ConsentStatusUpdateDispatcher(new StubStatusUpdateEndpoint(0),
+                Runnable::run, scheduler, 3, 2000, spillFile);
+
+        Assert.assertEquals(dispatcher.getRetryDelayMillis(0), 2000);
+        Assert.assertEquals(dispatcher.getRetryDelayMillis(1), 4000);
+        Assert.assertEquals(dispatcher.getRetryDelayMillis(3), 16000);
+        Assert.assertEquals(dispatcher.getRetryDelayMillis(50), 2000L << 10);
+    }
+
+    private ConsentStatusUpdateDispatcher newDispatcher(ConsentStatusUpdateSender sender, int maxRetryCount) {
+
+        return new ConsentStatusUpdateDispatcher(sender, Runnable::run, scheduler, maxRetryCount, 1, spillFile);
+    }
+
+    private void awaitJournalRemoval() throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (Files.exists(spillFile) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(Files.exists(spillFile));
+    }
+
+    private List<String> awaitJournalRecords(int count) throws InterruptedException, IOException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while ((!Files.exists(spillFile) || Files.readAllLines(spillFile, StandardCharsets.UTF_8).size() < count)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        List<String> journal = Files.readAllLines(spillFile, StandardCharsets.UTF_8);
+        Assert.assertEquals(journal.size(), count);
+        return journal;
+    }
+
+    private void awaitPendingUpdateReplay(ConsentStatusUpdateDispatcher dispatcher,
+                                          StubStatusUpdateEndpoint endpoint) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (endpoint.getDelivered().isEmpty() && System.currentTimeMillis() < deadline) {
+            dispatcher.replayPendingUpdates();
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(endpoint.getDelivered().isEmpty());
+    }
+
+    private static ConsentStatusUpdate getJournaledUpdate(String record) {
+
+        return ConsentStatusUpdate.fromJson(record.substring(record.indexOf(' ') + 1));
+    }
+
+    /**
+     * Stub of the consent status update endpoint which fails a given number of requests before accepting updates.
+     */
+    private static class StubStatusUpdateEndpoint implements ConsentStatusUpdateSender {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicInteger remainingFailures;
+        private final Queue<ConsentStatusUpdate> delivered = new ConcurrentLinkedQueue<>();
+        private final CountDownLatch deliveryLatch = new CountDownLatch(1);
+
+        StubStatusUpdateEndpoint(int failures) {
+
+            this.remainingFailures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void send(ConsentStatusUpdate consentStatusUpdate) throws IOException {
+
+            requestCount.incrementAndGet();
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IOException("Identity server is unavailable");
+            }
+            delivered.add(consentStatusUpdate);
+            deliveryLatch.countDown();
+        }
+
+        void awaitRequestCount(int count) throws InterruptedException {
+
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            while (requestCount.get() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(requestCount.get(), count);
+        }
+
+        void setRemainingFailures(int failures) {
+
+            remainingFailures.set(failures);
+        }
+
+        boolean awaitDelivery() throws InterruptedException {
+
+            return deliveryLatch.await(5, TimeUnit.SECONDS);
+        }
+
+        int getRequestCount() {
+
+            return requestCount.get();
+        }
+
+        Queue<ConsentStatusUpdate> getDelivered() {
+
+            return delivered;
+        }
+    }
+}
@@ -21,13 +21,9 @@ package org.wso2.openbanking.berlin.gateway.executors;
 import com.wso2.openbanking.accelerator.common.config.OpenBankingConfigParser;
 import com.wso2.openbanking.accelerator.common.exception.CertificateValidationException;
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
-import com.wso2.openbanking.accelerator.common.util.HTTPClientUtils;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIRequestContext;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIResponseContext;
-import com.wso2.openbanking.accelerator.gateway.util.GatewayUtils;
-import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.impl.client.CloseableHttpClient;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -35,6 +31,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
 import org.testng.IObjectFactory;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -43,12 +40,10 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
 import org.wso2.openbanking.berlin.common.constants.CommonConstants;
+import org.wso2.openbanking.berlin.gateway.consent.ConsentStatusUpdate;
 import org.wso2.openbanking.berlin.gateway.test.TestData;
 import org.wso2.openbanking.berlin.gateway.utils.GatewayTestUtils;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.Map;
@@ -58,7 +53,7 @@ import javax.security.cert.CertificateException;
 /**
  * BerlinConsentEnforcementExecutor tests.
  */
-@PrepareForTest({CommonConfigParser.class, OpenBankingConfigParser.class, HTTPClientUtils.class, GatewayUtils.class})
+@PrepareForTest({CommonConfigParser.class, OpenBankingConfigParser.class})
 @PowerMockIgnore({"jdk.internal.reflect.*"})
 public class BerlinConsentEnforcementExecutorTests extends PowerMockTestCase {
 
@@ -136,34 +131,55 @@ public class BerlinConsentEnforcementExecutorTests extends PowerMockTestCase {
     }
 
     @Test
-    public void testPreProcessRequestSuccessScenario() throws OpenBankingException, IOException {
+    public void testPreProcessRequestSuccessScenario() {
 
+        String paymentId = UUID.randomUUID().toString();
         MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
         msgInfoDTO.setHttpMethod("DELETE");
         msgInfoDTO.setElectedResource("/bulk-payments/{payment-product}/{paymentId}");
-        msgInfoDTO.setResource("/bulk-payments/{payment-product}/" + UUID.randomUUID());
+        msgInfoDTO.setResource("/bulk-payments/{payment-product}/" + paymentId);
         PowerMockito.when(obapiResponseContextMock.getMsgInfo()).thenReturn(msgInfoDTO);
         PowerMockito.when(obapiResponseContextMock.getStatusCode()).thenReturn(204);
 
-        PowerMockito.when(CommonConfigParser.getInstance()).thenReturn(commonConfigParserMock);
-        Map<String, String> consentMgtConfigsMap = new HashMap<>();
-        consentMgtConfigsMap.put(CommonConstants.PAYMENT_CONSENT_STATUS_UPDATE_URL, "url");
-        PowerMockito.when(commonConfigParserMock.getConsentMgtConfigs()).thenReturn(consentMgtConfigsMap);
+        BerlinConsentEnforcementExecutor executor = Mockito.spy(new BerlinConsentEnforcementExecutor());
+        Mockito.doNothing().when(executor).dispatchConsentStatusUpdate(Mockito.any(ConsentStatusUpdate.class));
+        executor.postProcessResponse(obapiResponseContextMock);
+
+        ArgumentCaptor<ConsentStatusUpdate> consentStatusUpdate = ArgumentCaptor.forClass(ConsentStatusUpdate.class);
+        Mockito.verify(executor).dispatchConsentStatusUpdate(consentStatusUpdate.capture());
+        Assert.assertEquals(consentStatusUpdate.getValue().getConsentId(), paymentId);
+        Assert.assertEquals(consentStatusUpdate.getValue().getStatusCode(), "204");
+    }
 
-        CloseableHttpClient closeableHttpClientMock = Mockito.mock(CloseableHttpClient.class);
-        PowerMockito.mockStatic(HTTPClientUtils.class);
-        PowerMockito.when(HTTPClientUtils.getHttpsClient()).thenReturn(closeableHttpClientMock);
+    @Test
+    public void testConsentStatusIsNotUpdatedForSinglePaymentDelete() {
+
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setHttpMethod("DELETE");
+        msgInfoDTO.setElectedResource("/payments/{payment-product}/{paymentId}");
+        msgInfoDTO.setResource("/payments/{payment-product}/" + UUID.randomUUID());
+        PowerMockito.when(obapiResponseContextMock.getMsgInfo()).thenReturn(msgInfoDTO);
+        PowerMockito.when(obapiResponseContextMock.getStatusCode()).thenReturn(204);
+
+        BerlinConsentEnforcementExecutor executor = Mockito.spy(new BerlinConsentEnforcementExecutor());
+        executor.postProcessResponse(obapiResponseContextMock);
+
+        Mockito.verify(executor, Mockito.never()).dispatchConsentStatusUpdate(Mockito.any(ConsentStatusUpdate.class));
+    }
+
+    @Test
+    public void testExecutorIsCreatedWhenDispatcherCannotBeStarted() {
 
-        PowerMockito.mockStatic(GatewayUtils.class);
-        PowerMockito.when(GatewayUtils.getAPIMgtConfig(Mockito.anyString())).thenReturn("username");
+        // The dispatcher cannot be created without the server trust store and home directory
+        Map<String, String> consentMgtConfigs = new HashMap<>();
+        consentMgtConfigs.put(CommonConstants.PAYMENT_CONSENT_STATUS_UPDATE_URL,
+                "https://localhost:9446/api/openbanking/berlin/consent/status");
+        PowerMockito.when(commonConfigParserMock.getConsentMgtConfigs()).thenReturn(consentMgtConfigs);
+        PowerMockito.when(commonConfigParserMock.getConsentStatusUpdateSpillFile()).thenReturn(null);
 
-        CloseableHttpResponse httpResponseMock = Mockito.mock(CloseableHttpResponse.class);
-        Mockito.when(closeableHttpClientMock.execute(Mockito.any())).thenReturn(httpResponseMock);
-        HttpEntity httpEntityMock = Mockito.mock(HttpEntity.class);
-        Mockito.when(httpResponseMock.getEntity()).thenReturn(httpEntityMock);
-        InputStream inputStreamMock = new ByteArrayInputStream("response".getBytes());
-        Mockito.when(httpEntityMock.getContent()).thenReturn(inputStreamMock);
+        BerlinConsentEnforcementExecutor executor = new BerlinConsentEnforcementExecutor();
 
-        new BerlinConsentEnforcementExecutor().postProcessResponse(obapiResponseContextMock);
+        // The dispatcher is created again with the first update, which fails without failing the response
+        executor.dispatchConsentStatusUpdate(new ConsentStatusUpdate(UUID.randomUUID().toString(), 204));
     }
 }
@@ -21,11 +21,16 @@ package org.wso2.openbanking.berlin.gateway.executors;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OBAPIRequestContext;
 import com.wso2.openbanking.accelerator.gateway.executor.model.OpenBankingExecutorError;
 import com.wso2.openbanking.accelerator.gateway.util.GatewayConstants;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
 import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.common.models.TPPMessage;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -163,4 +168,35 @@ public class ErrorHandlingExecutorTests {
         Assert.assertEquals(obApiRequestContextMock.getContextProperty(GatewayConstants.ERROR_STATUS_PROP),
                 "401");
     }
+
+    @Test
+    public void testErrorPayloadMatchesErrorJSON() throws ParseException {
+
+        OpenBankingExecutorError berlinError = new OpenBankingExecutorError("CONSENT_UNKNOWN", "sampleTitle",
+                "Consent \"abc\" is unknown", "400");
+        OpenBankingExecutorError obError = new OpenBankingExecutorError("200009", "Certificate revoked",
+                null, "401");
+
+        Assert.assertEquals(parse(ErrorHandlingExecutor.getErrorPayload(berlinError)),
+                ErrorHandlingExecutor.getErrorJSON(berlinError));
+        Assert.assertEquals(parse(ErrorHandlingExecutor.getErrorPayload(obError)),
+                ErrorHandlingExecutor.getErrorJSON(obError));
+    }
+
+    @Test
+    public void testUnmappedOpenBankingErrorCode() throws ParseException {
+
+        OpenBankingExecutorError error = new OpenBankingExecutorError("200999", "sampleTitle",
+                "sampleMessage", "500");
+
+        JSONObject tppMessage = (JSONObject) ((JSONArray) parse(ErrorHandlingExecutor.getErrorPayload(error))
+                .get("tppMessages")).get(0);
+        Assert.assertEquals(tppMessage.get("code"), TPPMessage.CodeEnum.INTERNAL_SERVER_ERROR.toString());
+        Assert.assertEquals(tppMessage.get("text"), "sampleMessage");
+    }
+
+    private static JSONObject parse(String json) throws ParseException {
+
+        return (JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(json);
+    }
 }
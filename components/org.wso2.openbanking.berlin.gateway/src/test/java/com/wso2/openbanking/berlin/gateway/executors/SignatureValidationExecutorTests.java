@@ -44,6 +44,9 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.common.gateway.dto.APIRequestInfoDTO;
 import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.gateway.cache.ParsedSigningCertificate;
+import org.wso2.openbanking.berlin.gateway.cache.RevocationStatusCache;
+import org.wso2.openbanking.berlin.gateway.cache.SigningCertificateCache;
 import org.wso2.openbanking.berlin.gateway.exceptions.DigestMissingException;
 import org.wso2.openbanking.berlin.gateway.exceptions.DigestValidationException;
 import org.wso2.openbanking.berlin.gateway.exceptions.SignatureCertMissingException;
@@ -126,6 +129,9 @@ public class SignatureValidationExecutorTests extends PowerMockTestCase {
         msgInfoDTOMock = Mockito.mock(MsgInfoDTO.class);
         PowerMockito.when(obapiRequestContextMock.getMsgInfo()).thenReturn(msgInfoDTOMock);
         PowerMockito.when(msgInfoDTOMock.getHeaders()).thenReturn(TestData.VALID_ACCOUNTS_REQUEST_HEADERS_MAP);
+
+        SigningCertificateCache.getInstance().clear();
+        RevocationStatusCache.getInstance().clear();
     }
 
     @ObjectFactory
@@ -311,6 +317,16 @@ public class SignatureValidationExecutorTests extends PowerMockTestCase {
         Assert.assertFalse(new SignatureValidationExecutor().validateDigest(validSampleDigest, validRelativePayload));
     }
 
+    @Test (expectedExceptions = DigestValidationException.class)
+    public void testValidateDigestHeaderWithNonBase64Digest() throws DigestValidationException {
+
+        String invalidSampleDigest = "SHA-256=2whNzouALY3qVnIK*7qzhf8qXUQf101mrjTasBqshHg=";
+        String validRelativePayload = TestData.VALID_ACCOUNT_INITIATION_PAYLOAD;
+
+        doReturn(TestData.SUPPORTED_HASH_ALGORITHMS).when(commonConfigParserMock).getSupportedHashAlgorithms();
+        new SignatureValidationExecutor().validateDigest(invalidSampleDigest, validRelativePayload);
+    }
+
     @Test
     public void testValidateInvalidSignature() throws SignatureValidationException, OpenBankingException {
 
@@ -358,6 +374,31 @@ public class SignatureValidationExecutorTests extends PowerMockTestCase {
                 GatewayTestUtils.getTestSigningCertificate());
     }
 
+    @Test
+    public void testGetSigningCertificateFromCache() throws Exception {
+
+        PowerMockito.mockStatic(CertificateContentExtractor.class);
+        PowerMockito.when(CertificateContentExtractor.extract(Mockito.any()))
+                .thenReturn(certificateContentMock);
+
+        SignatureValidationExecutor signatureValidationExecutor = new SignatureValidationExecutor();
+        SigningCertificateCache signingCertificateCache = SigningCertificateCache.getInstance();
+        long hitCount = signingCertificateCache.getHitCount();
+        long missCount = signingCertificateCache.getMissCount();
+
+        ParsedSigningCertificate firstResult = signatureValidationExecutor
+                .getSigningCertificate(GatewayTestUtils.TEST_SIGNATURE_CERT);
+        ParsedSigningCertificate secondResult = signatureValidationExecutor
+                .getSigningCertificate(GatewayTestUtils.TEST_SIGNATURE_CERT);
+
+        Assert.assertNotNull(firstResult);
+        Assert.assertSame(secondResult, firstResult);
+        Assert.assertEquals(firstResult.getCertificateContent(), certificateContentMock);
+        Assert.assertNotNull(firstResult.getSignatureAlgorithm());
+        Assert.assertEquals(signingCertificateCache.getMissCount(), missCount + 1);
+        Assert.assertEquals(signingCertificateCache.getHitCount(), hitCount + 1);
+    }
+
     @Test
     public void testValidateCertExpiration() throws Exception {
         WhiteboxImpl.invokeMethod(new SignatureValidationExecutor(), "validateCertExpiration",
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.executors.core;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for RouteTable.
+ */
+public class RouteTableTests {
+
+    private final RouteTable routeTable = RouteTable.getInstance();
+
+    @DataProvider
+    public Object[][] apiTypeDataProvider() {
+
+        return new Object[][]{
+                {"/payments/sepa-credit-transfers", APIRequestRouterConstants.PAYMENTS_TYPE},
+                {"/bulk-payments/sepa-credit-transfers/1234/status", APIRequestRouterConstants.PAYMENTS_TYPE},
+                {"/periodic-payments/sepa-credit-transfers/1234/authorisations/5678",
+                        APIRequestRouterConstants.PAYMENTS_TYPE},
+                {"/payments", APIRequestRouterConstants.PAYMENTS_TYPE},
+                {"/consents", APIRequestRouterConstants.ACCOUNTS_TYPE},
+                {"/consents/1234/authorisations", APIRequestRouterConstants.ACCOUNTS_TYPE},
+                {"/accounts/1234/transactions?withBalance=true", APIRequestRouterConstants.ACCOUNTS_TYPE},
+                {"/card-accounts/1234/balances", APIRequestRouterConstants.ACCOUNTS_TYPE},
+                {"/funds-confirmations", APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE},
+                {"/funds-confirmations/1234", APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE},
+                {"/consents/confirmation-of-funds", APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE},
+                {"/consents/confirmation-of-funds/1234/status", APIRequestRouterConstants.FUNDS_CONFIRMATIONS_TYPE},
+                {"/signing-baskets/1234", null},
+                {"/PizzaShack", null},
+                {"/PizzaShack/menu", null},
+                {"/", null},
+        };
+    }
+
+    @Test(dataProvider = "apiTypeDataProvider")
+    public void testApiTypeResolution(String resource, String apiType) {
+
+        Assert.assertEquals(routeTable.resolve(resource).getApiType(), apiType);
+    }
+
+    @Test
+    public void testTemplateResolvesToItself() {
+
+        Assert.assertEquals(routeTable.resolve("/{payment-service}/{payment-product}/{paymentId}/status")
+                .getTemplate(), "/{payment-service}/{payment-product}/{paymentId}/status");
+        Assert.assertEquals(routeTable.resolve("/payments/{payment-product}/{paymentId}/status").getTemplate(),
+                "/payments/{payment-product}/{paymentId}/status");
+        Assert.assertEquals(routeTable.resolve("/signing-baskets/{basketId}").getTemplate(),
+                "/signing-baskets/{basketId}");
+    }
+
+    @Test
+    public void testPaymentRoutes() {
+
+        Route bulkPayment = routeTable.resolve("/bulk-payments/{payment-product}/{paymentId}");
+        Assert.assertTrue(bulkPayment.isPaymentRetrieval());
+        Assert.assertTrue(bulkPayment.isPaymentDeletion());
+        Assert.assertEquals(bulkPayment.getExecutorKey(), APIRequestRouterConstants.PAYMENTS);
+
+        Route singlePayment = routeTable.resolve("/payments/sepa-credit-transfers/1234");
+        Assert.assertTrue(singlePayment.isPaymentRetrieval());
+        Assert.assertFalse(singlePayment.isPaymentDeletion());
+
+        Assert.assertFalse(routeTable.resolve("/{payment-service}/{payment-product}/{paymentId}/status")
+                .isPaymentRetrieval());
+        Assert.assertFalse(routeTable.resolve("/{payment-service}/{payment-product}").isPaymentRetrieval());
+    }
+
+    @Test
+    public void testLiteralSegmentIsNotMatchedAgainstPathParameter() {
+
+        Route fundsConfirmation = routeTable.resolve("/funds-confirmations/1234");
+        Assert.assertNull(fundsConfirmation.getTemplate());
+        Assert.assertEquals(fundsConfirmation.getExecutorKey(), APIRequestRouterConstants.FUNDS_CONFIRMATIONS);
+        Assert.assertFalse(fundsConfirmation.isPaymentRetrieval());
+
+        Assert.assertEquals(routeTable.resolve("/payments/sepa-credit-transfers/1234/authorisations").getTemplate(),
+                "/{payment-service}/{payment-product}/{paymentId}/authorisations");
+        Assert.assertEquals(routeTable.resolve("/bulk-payments/sepa-credit-transfers/1234/status").getTemplate(),
+                "/bulk-payments/{payment-product}/{paymentId}/status");
+    }
+
+    @Test
+    public void testThrottlingEligibleRoutes() {
+
+        Assert.assertTrue(routeTable.resolve("/accounts/{account-id}").isThrottlingEligible());
+        Assert.assertTrue(routeTable.resolve("/accounts/1234?withBalance=true").isThrottlingEligible());
+        Assert.assertTrue(routeTable.resolve("/card-accounts/1234/transactions/5678").isThrottlingEligible());
+        Assert.assertFalse(routeTable.resolve("/accounts").isThrottlingEligible());
+        Assert.assertFalse(routeTable.resolve("/consents/1234").isThrottlingEligible());
+    }
+
+    @Test
+    public void testRouteFromContextProperties() {
+
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setResource("/PizzaShack");
+        Map<String, String> contextProps = new HashMap<>();
+        contextProps.put(APIRequestRouterConstants.ROUTE_TEMPLATE_PROP,
+                "/periodic-payments/{payment-product}/{paymentId}");
+
+        Assert.assertTrue(routeTable.getRoute(contextProps, msgInfoDTO).isPaymentDeletion());
+        Assert.assertSame(routeTable.getRoute(new HashMap<>(), msgInfoDTO), Route.NONE);
+    }
+
+    @Test
+    public void testElectedResourceTakesPrecedence() {
+
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setResource("/payments/sepa-credit-transfers/1234/status");
+        msgInfoDTO.setElectedResource("/{payment-service}/{payment-product}/{paymentId}/status");
+
+        Assert.assertFalse(routeTable.resolve(msgInfoDTO).isPaymentRetrieval());
+        Assert.assertTrue(routeTable.resolve(msgInfoDTO.getResource()).isPaymentRetrieval());
+    }
+}
@@ -21,7 +21,6 @@ package org.wso2.openbanking.berlin.gateway.failure;
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.report.ImmutableValidationReport;
 import com.atlassian.oai.validator.report.ValidationReport;
-import graphql.Assert;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.axiom.om.OMElement;
 import org.apache.synapse.MessageContext;
@@ -33,10 +32,12 @@ import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.openbanking.berlin.gateway.utils.GatewayConstants;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -238,6 +239,67 @@ public class GatewayFailureResponseCreationMediatorTests extends PowerMockTestCa
         Assert.assertTrue(mediator.mediate(messageContext));
     }
 
+    @Test
+    public void testSchemaErrorTranslationOfPayloadMessage() {
+
+        ValidationReport.Message message = Mockito.mock(ValidationReport.Message.class);
+        Mockito.when(message.getKey()).thenReturn("validation.request.body.schema.required");
+        Mockito.when(message.getMessage()).thenReturn("[Path '/instructedAmount'] Object has missing required " +
+                "properties ([\"currency\"])");
+
+        GatewayFailureResponseCreationMediator.SchemaErrorTranslation translation =
+                GatewayFailureResponseCreationMediator.translateSchemaError(message);
+
+        Assert.assertEquals(translation.getPath(), "instructedAmount");
+        Assert.assertEquals(translation.getText(), " Object has missing required properties ([\"currency\"])");
+        Assert.assertFalse(translation.isTimestampInvalid());
+        Assert.assertTrue(translation.isCacheable());
+        // Repeated violations are served from the cache
+        Assert.assertSame(GatewayFailureResponseCreationMediator.translateSchemaError(message), translation);
+    }
+
+    @Test
+    public void testSchemaErrorTranslationOfHeaderMessage() {
+
+        ValidationReport.Message message = Mockito.mock(ValidationReport.Message.class);
+        Mockito.when(message.getKey()).thenReturn("validation.request.parameter.header.missing");
+        Mockito.when(message.getMessage()).thenReturn("Header parameter 'X-Request-ID' is required on path " +
+                "'/consents' but not found in request.");
+
+        GatewayFailureResponseCreationMediator.SchemaErrorTranslation translation =
+                GatewayFailureResponseCreationMediator.translateSchemaError(message);
+
+        Assert.assertTrue(translation.getPath().startsWith(GatewayConstants.PATH_HEADER + ".X-Request-ID"));
+        Assert.assertTrue(translation.isCacheable());
+    }
+
+    @Test
+    public void testRequestDependentSchemaErrorTranslationIsNotCached() {
+
+        ValidationReport.Message message = Mockito.mock(ValidationReport.Message.class);
+        ValidationReport.MessageContext context = Mockito.mock(ValidationReport.MessageContext.class);
+        Parameter parameter = Mockito.mock(Parameter.class);
+        Mockito.when(message.getKey()).thenReturn("validation.request.parameter.schema.enum");
+        Mockito.when(message.getMessage()).thenReturn("Instance value (\"cat\") not found in enum");
+        Mockito.when(message.getContext()).thenReturn(Optional.of(context));
+        Mockito.when(context.getParameter()).thenReturn(Optional.of(parameter));
+        Mockito.when(parameter.getIn()).thenReturn("Query");
+        Mockito.when(parameter.getName()).thenReturn("bookingStatus");
+
+        GatewayFailureResponseCreationMediator.SchemaErrorTranslation translation =
+                GatewayFailureResponseCreationMediator.translateSchemaError(message);
+
+        Assert.assertEquals(translation.getPath(), GatewayConstants.PATH_QUERY + ".bookingStatus");
+        Assert.assertTrue(translation.isInvalidResourceEnum());
+        Assert.assertFalse(translation.isCacheable());
+
+        // The same message of another parameter is translated with the path of that parameter
+        Mockito.when(parameter.getIn()).thenReturn("Path");
+        Mockito.when(parameter.getName()).thenReturn("payment-product");
+        Assert.assertEquals(GatewayFailureResponseCreationMediator.translateSchemaError(message).getPath(),
+                GatewayConstants.PATH_HEADER + ".payment-product");
+    }
+
     private MessageContext getData() throws Exception {
 
         Map<String, Object> configs = new HashMap<>();
@@ -258,7 +320,7 @@ public class GatewayFailureResponseCreationMediatorTests extends PowerMockTestCa
 
         mockStatic(JsonUtil.class);
         OMElement omElementMock = mock(OMElement.class);
-        when(JsonUtil.getNewJsonPayload(Mockito.anyObject(), Mockito.anyString(), Mockito.anyBoolean(),
+        when(JsonUtil.getNewJsonPayload(Mockito.anyObject(), Mockito.any(InputStream.class), Mockito.anyBoolean(),
                 Mockito.anyBoolean())).thenReturn(omElementMock);
         return messageContext;
     }
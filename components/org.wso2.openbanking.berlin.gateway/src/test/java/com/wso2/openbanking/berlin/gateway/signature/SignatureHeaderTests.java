@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.signature;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.openbanking.berlin.gateway.exceptions.SignatureValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unit tests for SignatureHeader and SigningStringBuilder.
+ */
+public class SignatureHeaderTests {
+
+    private static final String CA = "1.2.840.113549.1.9.1=#16117465737440776f736f322e636f6d,CN=OpenBanking " +
+            "Pre-Production Issuing CA,O=OpenBanking,C=GB";
+
+    @Test
+    public void testParseSignatureHeader() throws SignatureValidationException {
+
+        SignatureHeader signatureHeader = SignatureHeader.parse("keyId=\"SN=de730ec5733ead1b,CA=" + CA + "\"," +
+                "algorithm=\"rsa-sha256\", headers=\"digest x-request-id date psu-id\",signature=T+SYL8VcU==");
+
+        Assert.assertEquals(signatureHeader.getKeyId(), "SN=de730ec5733ead1b,CA=" + CA);
+        Assert.assertEquals(signatureHeader.getSerialNumber(), "de730ec5733ead1b");
+        Assert.assertEquals(signatureHeader.getCertificateAuthority(), CA);
+        Assert.assertEquals(signatureHeader.getAlgorithm(), "rsa-sha256");
+        Assert.assertEquals(signatureHeader.getHeaders(), Arrays.asList("digest", "x-request-id", "date", "psu-id"));
+        Assert.assertEquals(signatureHeader.getSignature(), "T+SYL8VcU==");
+    }
+
+    @Test
+    public void testParseSignatureHeaderUsesFirstElementOccurrence() throws SignatureValidationException {
+
+        SignatureHeader signatureHeader = SignatureHeader.parse("keyId=\"SN=1a,CA=CN=First\", created=1618884473," +
+                "headers=\"digest\", headers=\"date\", signature=\"c2lnbmF0dXJl\", keyId=\"SN=2b,CA=CN=Second\"");
+
+        Assert.assertEquals(signatureHeader.getSerialNumber(), "1a");
+        Assert.assertEquals(signatureHeader.getCertificateAuthority(), "CN=First");
+        Assert.assertNull(signatureHeader.getAlgorithm());
+        Assert.assertEquals(signatureHeader.getHeaders(), Collections.singletonList("digest"));
+        Assert.assertEquals(signatureHeader.getSignature(), "c2lnbmF0dXJl");
+    }
+
+    @Test
+    public void testParseKeyIdWithoutCertificateAuthority() throws SignatureValidationException {
+
+        SignatureHeader signatureHeader = SignatureHeader.parse("keyId=\"SN=1a\",headers=\"digest\",signature=abc");
+
+        Assert.assertEquals(signatureHeader.getSerialNumber(), "1a");
+        Assert.assertNull(signatureHeader.getCertificateAuthority());
+    }
+
+    @Test
+    public void testParseSignatureHeaderSkipsTokensWithoutValue() throws SignatureValidationException {
+
+        SignatureHeader signatureHeader = SignatureHeader.parse("foo, keyId=\"SN=1a,CA=CN=Test\", bar," +
+                "headers=\"digest\",signature=abc");
+
+        Assert.assertEquals(signatureHeader.getSerialNumber(), "1a");
+        Assert.assertEquals(signatureHeader.getCertificateAuthority(), "CN=Test");
+        Assert.assertEquals(signatureHeader.getHeaders(), Collections.singletonList("digest"));
+        Assert.assertEquals(signatureHeader.getSignature(), "abc");
+    }
+
+    @Test(expectedExceptions = SignatureValidationException.class)
+    public void testParseSignatureHeaderWithoutSignatureElement()throws SignatureValidationException {
+
+        SignatureHeader.parse("keyId=\"SN=1a,CA=CN=Test\",headers=\"digest x-request-id\"");
+    }
+
+    @Test(expectedExceptions = SignatureValidationException.class)
+    public void testParseSignatureHeaderWithUnterminatedValue() throws SignatureValidationException {
+
+        SignatureHeader.parse("keyId=\"SN=1a,CA=CN=Test\",headers=\"digest x-request-id,signature=abc");
+    }
+
+    @Test(expectedExceptions = SignatureValidationException.class)
+    public void testParseSignatureHeaderWithContentAfterQuotedValue() throws SignatureValidationException {
+
+        SignatureHeader.parse("keyId=\"SN=1a,CA=CN=Test\"=123,headers=\"digest x-request-id\",signature=abc");
+    }
+
+    @Test(expectedExceptions = SignatureValidationException.class)
+    public void testParseSignatureHeaderWithoutElementValue() throws SignatureValidationException {
+
+        SignatureHeader.parse("keyId=\"SN=1a,CA=CN=Test\",headers=\"digest\",signature");
+    }
+
+    @Test
+    public void testBuildSigningString() {
+
+        Map<String, String> requestHeaders = new HashMap<>();
+        requestHeaders.put("Digest", "SHA-256=abc=");
+        requestHeaders.put("X-Request-ID", "f9a6b5f1-7b1f-4c1d-8f1c-0c5ad8e1a9c2");
+        requestHeaders.put("Date", "Sun, 17 May 2020 10:05:47 GMT");
+
+        Assert.assertEquals(SigningStringBuilder.build(Arrays.asList("digest", "x-request-id", "date"),
+                requestHeaders), "digest: SHA-256=abc=\nx-request-id: f9a6b5f1-7b1f-4c1d-8f1c-0c5ad8e1a9c2\n" +
+                "date: Sun, 17 May 2020 10:05:47 GMT");
+    }
+
+    @Test
+    public void testBuildSigningStringStopsAtMissingHeader() {
+
+        Map<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        requestHeaders.put("Digest", "SHA-256=abc=");
+        requestHeaders.put("Date", "Sun, 17 May 2020 10:05:47 GMT");
+
+        Assert.assertEquals(SigningStringBuilder.build(Arrays.asList("digest", "x-request-id", "date"),
+                requestHeaders), "digest: SHA-256=abc=");
+        Assert.assertEquals(SigningStringBuilder.build(Collections.singletonList("psu-id"), requestHeaders), "");
+    }
+
+    @Test
+    public void testGetHeaderIgnoresCase() {
+
+        Map<String, String> requestHeaders = new HashMap<>();
+        requestHeaders.put("PSU-ID", "psu@wso2.com");
+
+        Assert.assertEquals(SigningStringBuilder.getHeader(requestHeaders, "psu-id"), "psu@wso2.com");
+        Assert.assertEquals(SigningStringBuilder.getHeader(requestHeaders, "PSU-ID"), "psu@wso2.com");
+        Assert.assertNull(SigningStringBuilder.getHeader(requestHeaders, "PSU-Corporate-ID"));
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for CryptoEngineProvider.
+ */
+public class CryptoEngineProviderTests {
+
+    private final CryptoEngineProvider cryptoEngineProvider = new CryptoEngineProvider(
+            Arrays.asList("SHA-256", "SHA-512"), Collections.singletonList("SHA256withRSA"));
+
+    @Test
+    public void testMessageDigestIsReusedWithinThread() throws NoSuchAlgorithmException {
+
+        MessageDigest firstEngine = cryptoEngineProvider.getMessageDigest("SHA-256");
+        MessageDigest secondEngine = cryptoEngineProvider.getMessageDigest("sha-256");
+
+        Assert.assertSame(secondEngine, firstEngine);
+    }
+
+    @Test
+    public void testMessageDigestIsResetBeforeReuse() throws NoSuchAlgorithmException {
+
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        byte[] expectedHash = MessageDigest.getInstance("SHA-256").digest(payload);
+
+        // Leave the engine with a partial update, as would happen if a previous validation failed midway
+        cryptoEngineProvider.getMessageDigest("SHA-256").update("partial".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertTrue(Arrays.equals(cryptoEngineProvider.getMessageDigest("SHA-256").digest(payload),
+                expectedHash));
+    }
+
+    @Test
+    public void testEnginesAreNotSharedAcrossThreads() throws Exception {
+
+        MessageDigest currentThreadEngine = cryptoEngineProvider.getMessageDigest("SHA-512");
+        Signature currentThreadSignature = cryptoEngineProvider.getSignature("SHA256withRSA");
+        AtomicReference<MessageDigest> otherThreadEngine = new AtomicReference<>();
+        AtomicReference<Signature> otherThreadSignature = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> {
+            try {
+                otherThreadEngine.set(cryptoEngineProvider.getMessageDigest("SHA-512"));
+                otherThreadSignature.set(cryptoEngineProvider.getSignature("SHA256withRSA"));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertNotNull(otherThreadEngine.get());
+        Assert.assertNotSame(otherThreadEngine.get(), currentThreadEngine);
+        Assert.assertNotNull(otherThreadSignature.get());
+        Assert.assertNotSame(otherThreadSignature.get(), currentThreadSignature);
+    }
+
+    @Test
+    public void testUnregisteredAlgorithmIsRegisteredOnDemand() throws NoSuchAlgorithmException {
+
+        MessageDigest messageDigest = cryptoEngineProvider.getMessageDigest("SHA-384");
+
+        Assert.assertEquals(messageDigest.getAlgorithm(), "SHA-384");
+        Assert.assertSame(cryptoEngineProvider.getMessageDigest("SHA-384"), messageDigest);
+    }
+
+    @Test(expectedExceptions = NoSuchAlgorithmException.class)
+    public void testInvalidHashAlgorithm() throws NoSuchAlgorithmException {
+
+        cryptoEngineProvider.getMessageDigest("invalidAlgorithm");
+    }
+
+    @Test(expectedExceptions = NoSuchAlgorithmException.class)
+    public void testInvalidSignatureAlgorithm() throws NoSuchAlgorithmException {
+
+        cryptoEngineProvider.getSignature("invalidAlgorithm");
+    }
+}
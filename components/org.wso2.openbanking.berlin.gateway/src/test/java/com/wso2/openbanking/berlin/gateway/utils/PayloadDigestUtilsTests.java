@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.openbanking.berlin.gateway.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Unit tests for PayloadDigestUtils.
+ */
+public class PayloadDigestUtilsTests {
+
+    @Test
+    public void testDigestOfSmallPayload() throws NoSuchAlgorithmException {
+
+        assertDigestMatchesEncodedPayload("{\"instructedAmount\":{\"currency\":\"EUR\",\"amount\":\"123.50\"}}");
+    }
+
+    @Test
+    public void testDigestOfLargeMultiBytePayload() throws NoSuchAlgorithmException {
+
+        // Multi byte characters and surrogate pairs spanning the encode buffer boundaries
+        StringBuilder payload = new StringBuilder("{\"payments\":[");
+        for (int i = 0; i < 5000; i++) {
+            payload.append("{\"creditorName\":\"M\u00fcller \uD83D\uDCB6 ").append(i).append("\"},");
+        }
+        payload.append("{}]}");
+        assertDigestMatchesEncodedPayload(payload.toString());
+    }
+
+    @Test
+    public void testDigestOfMalformedPayload() throws NoSuchAlgorithmException {
+
+        assertDigestMatchesEncodedPayload("{\"creditorName\":\"\uD83D\"}");
+    }
+
+    @Test
+    public void testDigestOfEmptyPayload() throws NoSuchAlgorithmException {
+
+        assertDigestMatchesEncodedPayload("");
+    }
+
+    @Test
+    public void testIsDigestEqual() {
+
+        Assert.assertTrue(PayloadDigestUtils.isDigestEqual(new byte[]{1, 2, 3}, new byte[]{1, 2, 3}));
+        Assert.assertFalse(PayloadDigestUtils.isDigestEqual(new byte[]{1, 2, 3}, new byte[]{1, 2, 4}));
+        Assert.assertFalse(PayloadDigestUtils.isDigestEqual(new byte[]{0, 1, 2, 3}, new byte[]{1, 2, 3}));
+    }
+
+    private void assertDigestMatchesEncodedPayload(String payload) throws NoSuchAlgorithmException {
+
+        byte[] expectedDigest = MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8));
+        byte[] actualDigest = PayloadDigestUtils.digest(MessageDigest.getInstance("SHA-256"), payload);
+        Assert.assertTrue(Arrays.equals(actualDigest, expectedDigest));
+    }
+}
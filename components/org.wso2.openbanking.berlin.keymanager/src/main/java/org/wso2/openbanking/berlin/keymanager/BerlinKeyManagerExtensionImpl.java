@@ -18,7 +18,6 @@
 
 package org.wso2.openbanking.berlin.keymanager;
 
-import com.wso2.openbanking.accelerator.common.config.OpenBankingConfigParser;
 import com.wso2.openbanking.accelerator.common.constant.OpenBankingConstants;
 import com.wso2.openbanking.accelerator.common.exception.CertificateValidationException;
 import com.wso2.openbanking.accelerator.common.exception.OpenBankingException;
@@ -39,13 +38,12 @@ import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.openbanking.berlin.common.config.CommonConfigParser;
+import org.wso2.openbanking.berlin.common.utils.Psd2RolePolicy;
 
 import java.security.cert.X509Certificate;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -154,14 +152,8 @@ public class BerlinKeyManagerExtensionImpl implements OBKeyManagerExtensionInter
     protected boolean validateRolesFromCert(X509Certificate certificate) throws APIManagementException {
 
         CertificateContent certificateContent = extractCertificateContent(certificate);
-        Set<String> allowedRoles = new HashSet<>();
         if (CommonConfigParser.getInstance().isPsd2RoleValidationEnabled()) {
-            Map<String, List<String>> definedScopes = OpenBankingConfigParser.getInstance().getAllowedScopes();
-            for (Map.Entry<String, List<String>> scope : definedScopes.entrySet()) {
-                allowedRoles.addAll(scope.getValue());
-            }
-            List<String> providedRoles = certificateContent.getPspRoles();
-            return allowedRoles.containsAll(providedRoles);
+            return Psd2RolePolicy.getInstance().isAllowed(certificateContent.getPspRoles());
         } else {
             // Skip role validation if the role validation configuration is set to false
             if (log.isDebugEnabled()) {